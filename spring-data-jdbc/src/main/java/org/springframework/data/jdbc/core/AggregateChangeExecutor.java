@@ -91,8 +91,18 @@ class AggregateChangeExecutor {
 				executionContext.executeBatchInsert((DbAction.BatchInsert<?>) action);
 			} else if (action instanceof DbAction.UpdateRoot) {
 				executionContext.executeUpdateRoot((DbAction.UpdateRoot<?>) action);
+			} else if (action instanceof DbAction.BatchUpdateRoot<?>) {
+				executionContext.executeBatchUpdateRoot((DbAction.BatchUpdateRoot<?>) action);
+			} else if (action instanceof DbAction.UpsertRoot) {
+				executionContext.executeUpsertRoot((DbAction.UpsertRoot<?>) action);
+			} else if (action instanceof DbAction.BatchUpsertRoot<?>) {
+				executionContext.executeBatchUpsertRoot((DbAction.BatchUpsertRoot<?>) action);
+			} else if (action instanceof DbAction.Update) {
+				executionContext.executeUpdate((DbAction.Update<?>) action);
 			} else if (action instanceof DbAction.Delete) {
 				executionContext.executeDelete((DbAction.Delete<?>) action);
+			} else if (action instanceof DbAction.DeleteEntity) {
+				executionContext.executeDeleteEntity((DbAction.DeleteEntity<?>) action);
 			} else if (action instanceof DbAction.BatchDelete<?>) {
 				executionContext.executeBatchDelete((DbAction.BatchDelete<?>) action);
 			} else if (action instanceof DbAction.DeleteAll) {
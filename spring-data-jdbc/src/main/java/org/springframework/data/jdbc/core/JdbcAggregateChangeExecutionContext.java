@@ -122,6 +122,66 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(update));
 	}
 
+	<T> void executeBatchUpdateRoot(DbAction.BatchUpdateRoot<T> batchUpdateRoot) {
+
+		List<DbAction.UpdateRoot<T>> updates = batchUpdateRoot.getActions();
+		List<T> instances = updates.stream().map(DbAction.UpdateRoot::getEntity).toList();
+
+		if (batchUpdateRoot.isVersioned()) {
+
+			List<Number> previousVersions = updates.stream().map(DbAction.UpdateRoot::getPreviousVersion)
+					.collect(Collectors.toList());
+			boolean[] updated = accessStrategy.updateAllWithVersion(instances, batchUpdateRoot.getEntityType(),
+					previousVersions);
+
+			for (int i = 0; i < updated.length; i++) {
+				if (!updated[i]) {
+					throw new OptimisticLockingFailureException(
+							String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, instances.get(i)));
+				}
+			}
+		} else {
+
+			boolean[] updated = accessStrategy.updateAll(instances, batchUpdateRoot.getEntityType());
+
+			for (int i = 0; i < updated.length; i++) {
+				if (!updated[i]) {
+					throw new IncorrectUpdateSemanticsDataAccessException(
+							String.format(UPDATE_FAILED, instances.get(i), getIdFrom(updates.get(i))));
+				}
+			}
+		}
+
+		updates.forEach(update -> add(new DbActionExecutionResult(update)));
+	}
+
+	<T> void executeUpsertRoot(DbAction.UpsertRoot<T> upsert) {
+
+		accessStrategy.upsert(upsert.getEntity(), upsert.getEntityType());
+		add(new DbActionExecutionResult(upsert));
+	}
+
+	<T> void executeBatchUpsertRoot(DbAction.BatchUpsertRoot<T> batchUpsertRoot) {
+
+		List<DbAction.UpsertRoot<T>> upserts = batchUpsertRoot.getActions();
+		List<T> instances = upserts.stream().map(DbAction.UpsertRoot::getEntity).toList();
+
+		accessStrategy.upsertAll(instances, batchUpsertRoot.getEntityType());
+
+		upserts.forEach(upsert -> add(new DbActionExecutionResult(upsert)));
+	}
+
+	<T> void executeUpdate(DbAction.Update<T> update) {
+
+		Identifier identifier = getIdentifyingKeys(update);
+
+		if (!accessStrategy.update(update.getEntity(), update.getEntityType(), identifier)) {
+
+			throw new IncorrectUpdateSemanticsDataAccessException(
+					String.format(UPDATE_FAILED, update.getEntity(), identifier));
+		}
+	}
+
 	<T> void executeDeleteRoot(DbAction.DeleteRoot<T> delete) {
 
 		if (delete.getPreviousVersion() != null) {
@@ -142,6 +202,11 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath());
 	}
 
+	<T> void executeDeleteEntity(DbAction.DeleteEntity<T> delete) {
+
+		accessStrategy.delete(getIdentifyingKeys(delete), delete.getPropertyPath());
+	}
+
 	<T> void executeBatchDelete(DbAction.BatchDelete<T> batchDelete) {
 
 		List<Object> rootIds = batchDelete.getActions().stream().map(DbAction.Delete::getRootId).toList();
@@ -186,6 +251,27 @@ class JdbcAggregateChangeExecutionContext {
 		return identifier.build();
 	}
 
+	/**
+	 * The parent keys of the entity of the action, extended by its id, if it has one.
+	 */
+	private Identifier getIdentifyingKeys(DbAction.WithDependingOn<?> action) {
+
+		Identifier identifier = getParentKeys(action, converter);
+
+		RelationalPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(action.getEntityType());
+		if (!persistentEntity.hasIdProperty()) {
+			return identifier;
+		}
+
+		Object id = persistentEntity.getIdentifierAccessor(action.getEntity()).getIdentifier();
+		if (id == null) {
+			return identifier;
+		}
+
+		RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		return identifier.withPart(idProperty.getColumnName(), id, converter.getColumnType(idProperty));
+	}
+
 	private Object getParentId(DbAction.WithDependingOn<?> action) {
 
 		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, action.getPropertyPath());
@@ -257,7 +343,8 @@ class JdbcAggregateChangeExecutionContext {
 
 			Object newEntity = setIdAndCascadingProperties(action, result.getGeneratedId(), cascadingValues);
 
-			if (action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot) {
+			if (action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot
+					|| action instanceof DbAction.UpsertRoot) {
 				// noinspection unchecked
 				roots.add((T) newEntity);
 			}
@@ -274,8 +361,9 @@ class JdbcAggregateChangeExecutionContext {
 
 		if (roots.isEmpty()) {
 			throw new IllegalStateException(
-					String.format("Cannot retrieve the resulting instance(s) unless a %s or %s action was successfully executed",
-							DbAction.InsertRoot.class.getName(), DbAction.UpdateRoot.class.getName()));
+					String.format("Cannot retrieve the resulting instance(s) unless a %s, %s or %s action was successfully executed",
+							DbAction.InsertRoot.class.getName(), DbAction.UpdateRoot.class.getName(),
+							DbAction.UpsertRoot.class.getName()));
 		}
 
 		Collections.reverse(roots);
@@ -318,6 +406,10 @@ class JdbcAggregateChangeExecutionContext {
 			return pathToValue;
 		}
 
+		if (action instanceof DbAction.UpsertRoot) {
+			return pathToValue;
+		}
+
 		throw new IllegalArgumentException(String.format("DbAction of type %s is not supported", action.getClass()));
 	}
 
@@ -16,13 +16,18 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.lang.Nullable;
 
 /**
@@ -95,6 +100,28 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T update(T instance);
 
+	/**
+	 * Dedicated update function writing only the changes relative to {@literal previousState}. The aggregate root gets
+	 * updated as usual. Entities directly referenced by the root are only inserted, updated or deleted when they differ
+	 * from their counterparts in {@literal previousState}. They are matched by their key in a {@link java.util.List} or
+	 * {@link java.util.Map}, by id in other collections or by the referencing property itself.
+	 * <p>
+	 * {@literal previousState} must reflect the state of the aggregate in the database, e.g. as loaded before applying
+	 * the changes. Otherwise the database might end up in a state different from {@literal instance}.
+	 * <p>
+	 * If the underlying {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy} doesn't
+	 * {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy#supportsDifferentialUpdates() support}
+	 * differential updates, {@literal previousState} is ignored and the aggregate gets updated like by
+	 * {@link #update(Object)}.
+	 *
+	 * @param instance the aggregate root of the aggregate to be updated. Must not be {@code null}.
+	 * @param previousState the currently persisted state of the aggregate. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @since 3.1
+	 */
+	<T> T update(T instance, T previousState);
+
 	/**
 	 * Updates all aggregate instances, including all the members of each aggregate instance.
 	 *
@@ -105,6 +132,56 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> updateAll(Iterable<T> instances);
 
+	/**
+	 * Dedicated upsert function. Inserts the aggregate root or updates it if a row with the same id exists already, using
+	 * a single statement instead of checking for existence first. Referenced entities get deleted and inserted as for
+	 * {@link #update(Object)}.
+	 * <p>
+	 * The id of the aggregate root must be set. Aggregates using optimistic locking are not supported.
+	 * </p>
+	 *
+	 * @param instance the aggregate root of the aggregate to be upserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @since 3.1
+	 */
+	<T> T upsert(T instance);
+
+	/**
+	 * Upserts all aggregate instances, including all the members of each aggregate instance.
+	 *
+	 * @param instances the aggregate roots to be upserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instances.
+	 * @see #upsert(Object)
+	 * @since 3.1
+	 */
+	<T> Iterable<T> upsertAll(Iterable<T> instances);
+
+	/**
+	 * Applies the assignments of an {@link Update} to all aggregate roots matching the given {@link Query} using a single
+	 * {@code UPDATE} statement. Sorting, limit and offset of the query are not considered. Only columns of the table of
+	 * the aggregate root can be updated and no entity callbacks or lifecycle events are triggered.
+	 * <p>
+	 * The criteria of the query must only reference properties stored in the table of the aggregate root, not properties
+	 * of referenced entities. Since the statement can't increment the version of each row, aggregate roots with a
+	 * {@link org.springframework.data.annotation.Version} property are not supported.
+	 * <p>
+	 * If the underlying {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy} doesn't
+	 * {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy#supportsUpdatesAndDeletesByQuery() support}
+	 * updates by query, the matching aggregate roots get loaded and updated one by one. The assignments must then name
+	 * properties of the aggregate root.
+	 *
+	 * @param query selects the aggregate roots to update. Must not be {@literal null}.
+	 * @param update the assignments to apply. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@literal null}.
+	 * @return the number of updated aggregate roots.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the aggregate root is versioned or the
+	 *           criteria reference properties of referenced entities.
+	 * @since 3.1
+	 */
+	<T> long update(Query query, Update update, Class<T> domainType);
+
 	/**
 	 * Counts the number of aggregates of a given type.
 	 *
@@ -195,6 +272,24 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Page<T> findAll(Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Load all aggregates of a given type as a {@link Stream}. In contrast to {@link #findAll(Class)} the aggregates get
+	 * read while the {@link Stream} is consumed instead of being loaded into memory all at once. The {@link Stream}
+	 * holds an open database connection and must be closed after use, e.g. in a try-with-resources block.
+	 * <p>
+	 * Only aggregates without collections of entities get streamed. Loading such collections takes additional queries,
+	 * which can't run on a connection that is still reading a streamed result set. Aggregates with collections are
+	 * therefore loaded completely before the {@link Stream} is returned, like by {@link #findAll(Class)}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity ensuring exactly one result.
 	 *
@@ -229,6 +324,36 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream} that reads them while it gets
+	 * consumed. The {@link Stream} holds an open database connection and must be closed after use. As with
+	 * {@link #streamAll(Class)}, only aggregates without collections of entities get streamed.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	default <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return StreamSupport.stream(findAll(query, domainType).spliterator(), false);
+	}
+
+	/**
+	 * Returns a {@link KeysetWindow} of the entities matching the given {@link Query}, continuing after the given
+	 * {@link Keyset}. In contrast to paging by offset, the entities of earlier windows don't get read and skipped, so
+	 * obtaining a window takes the same effort wherever it is located in the result. The entities are sorted by the
+	 * {@link Sort} of the {@link Query} followed by the id, the size of the window is the limit of the {@link Query}. An
+	 * offset of the {@link Query} is not applied.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the entity type must not be {@literal null}.
+	 * @param keyset the position to continue after, {@link Keyset#initial()} for the first window. Must not be
+	 *          {@literal null}.
+	 * @return the {@link KeysetWindow}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	<T> KeysetWindow<T> scroll(Query query, Class<T> domainType, Keyset keyset);
+
 	/**
 	 * Deletes a single Aggregate including all entities contained in that aggregate.
 	 * <p>
@@ -257,6 +382,24 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> void deleteAllById(Iterable<?> ids, Class<T> domainType);
 
+	/**
+	 * Deletes all aggregates whose aggregate root matches the given {@link Query}, including all entities contained in
+	 * those aggregates. Uses one {@code DELETE} statement per table, selecting the rows of referenced entities by a
+	 * subselect on the aggregate roots. Sorting, limit and offset of the query are not considered and no entity callbacks
+	 * or lifecycle events are triggered. The criteria of the query must only reference properties stored in the table of
+	 * the aggregate root, not properties of referenced entities.
+	 * <p>
+	 * If the underlying {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy} doesn't
+	 * {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy#supportsUpdatesAndDeletesByQuery() support}
+	 * deletes by query, the ids of the matching aggregate roots get loaded and the aggregates deleted by id.
+	 *
+	 * @param query selects the aggregate roots of the aggregates to delete. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@literal null}.
+	 * @return the number of deleted aggregates.
+	 * @since 3.1
+	 */
+	<T> long delete(Query query, Class<T> domainType);
+
 	/**
 	 * Delete an aggregate identified by its aggregate root.
 	 *
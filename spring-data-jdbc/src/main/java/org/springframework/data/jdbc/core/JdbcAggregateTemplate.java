@@ -25,16 +25,20 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.EntityLifecycleEventDelegate;
 import org.springframework.data.relational.core.conversion.AggregateChange;
@@ -44,13 +48,19 @@ import org.springframework.data.relational.core.conversion.MutableAggregateChang
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
+import org.springframework.data.relational.core.conversion.RelationalEntityUpsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityVersionUtils;
 import org.springframework.data.relational.core.conversion.RootAggregateChange;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.mapping.event.*;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -80,6 +90,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final JdbcConverter converter;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private boolean differentialUpdatesEnabled = false;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -160,6 +171,20 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure whether updates of existing aggregates load the currently persisted state of the aggregate first and
+	 * then only write the entities that changed, instead of deleting and reinserting all entities referenced by the
+	 * aggregate root. Disabled by default. Has no effect if the {@link DataAccessStrategy} doesn't
+	 * {@link DataAccessStrategy#supportsDifferentialUpdates() support} differential updates.
+	 *
+	 * @param enabled {@code true} to enable differential updates.
+	 * @since 3.1
+	 * @see #update(Object, Object)
+	 */
+	public void setDifferentialUpdatesEnabled(boolean enabled) {
+		this.differentialUpdatesEnabled = enabled;
+	}
+
 	@Override
 	public <T> T save(T instance) {
 
@@ -235,6 +260,16 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 				new EntityAndChangeCreator<>(instance, entity -> createUpdateChange(prepareVersionForUpdate(entity))));
 	}
 
+	@Override
+	public <T> T update(T instance, T previousState) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null");
+		Assert.notNull(previousState, "Previous state must not be null");
+
+		return performSave(new EntityAndChangeCreator<>(instance,
+				entity -> createUpdateChange(prepareVersionForUpdate(entity), previousState)));
+	}
+
 	@Override
 	public <T> Iterable<T> updateAll(Iterable<T> instances) {
 
@@ -254,6 +289,49 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return performSaveAll(entityAndChangeCreators);
 	}
 
+	@Override
+	public <T> T upsert(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null");
+
+		return performSave(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
+	}
+
+	@Override
+	public <T> Iterable<T> upsertAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null");
+
+		if (!instances.iterator().hasNext()) {
+			return Collections.emptyList();
+		}
+
+		List<EntityAndChangeCreator<T>> entityAndChangeCreators = new ArrayList<>();
+		for (T instance : instances) {
+			entityAndChangeCreators.add(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
+		}
+		return performSaveAll(entityAndChangeCreators);
+	}
+
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(update, "Update must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		if (context.getRequiredPersistentEntity(domainType).hasVersionProperty()) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Updates by query can't increment the version of %s; Save the aggregates instead", domainType.getName()));
+		}
+
+		if (!accessStrategy.supportsUpdatesAndDeletesByQuery()) {
+			return updateOneByOne(query, update, domainType);
+		}
+
+		return accessStrategy.update(query, update, domainType);
+	}
+
 	@Override
 	public long count(Class<?> domainType) {
 
@@ -333,6 +411,24 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(query, domainType));
 	}
 
+	@Override
+	public <T> KeysetWindow<T> scroll(Query query, Class<T> domainType, Keyset keyset) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(keyset, "Keyset must not be null");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(domainType);
+		Sort keysetSort = KeysetScrollDelegate.getKeysetSort(query.getSort(), entity);
+
+		Iterable<T> items = triggerAfterConvert(
+				accessStrategy.findAll(KeysetScrollDelegate.createQuery(query, keyset, keysetSort), domainType));
+		List<T> result = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+
+		return KeysetScrollDelegate.createWindow(result, query.isLimited() ? query.getLimit() : -1, keysetSort, keyset,
+				entity, context);
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
 
@@ -342,6 +438,23 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterConvert(all);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.streamAll(domainType).map(this::triggerAfterConvert);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return accessStrategy.streamAll(query, domainType).map(this::triggerAfterConvert);
+	}
+
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
@@ -395,6 +508,29 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		ids.forEach(id -> triggerAfterDelete(null, id, batchingAggregateChange));
 	}
 
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> referencedEntities = new ArrayList<>(context
+				.findPersistentPropertyPaths(domainType, property -> property.isEntity() && !property.isEmbedded()) //
+				.filter(PersistentPropertyPathExtension::isWritable) //
+				.toList());
+
+		// referencing entities have to be deleted before the entities they reference
+		Collections.reverse(referencedEntities);
+
+		if (!accessStrategy.supportsUpdatesAndDeletesByQuery()) {
+			return deleteMatchingById(query, domainType, referencedEntities);
+		}
+
+		referencedEntities.forEach(path -> accessStrategy.delete(query, path));
+
+		return accessStrategy.delete(query, domainType);
+	}
+
 	@Override
 	public void deleteAll(Class<?> domainType) {
 
@@ -533,14 +669,131 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return aggregateChange;
 	}
 
+	private <T> RootAggregateChange<T> createUpsertChange(T instance) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
+
+		Assert.isTrue(!persistentEntity.hasVersionProperty(),
+				() -> String.format("Upserting versioned aggregates of type %s is not supported", persistentEntity.getType()));
+		Assert.notNull(persistentEntity.getIdentifierAccessor(instance).getIdentifier(),
+				"The id of an aggregate to upsert must not be null");
+
+		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
+		new RelationalEntityUpsertWriter<T>(context).write(instance, aggregateChange);
+		return aggregateChange;
+	}
+
 	private <T> RootAggregateChange<T> createUpdateChange(EntityAndPreviousVersion<T> entityAndVersion) {
 
+		T previousState = differentialUpdatesEnabled && accessStrategy.supportsDifferentialUpdates()
+				? loadPersistedState(entityAndVersion.entity)
+				: null;
+
+		return createUpdateChange(entityAndVersion, previousState);
+	}
+
+	private <T> RootAggregateChange<T> createUpdateChange(EntityAndPreviousVersion<T> entityAndVersion,
+			@Nullable T previousState) {
+
+		// without updates by Identifier all referenced entities get deleted and reinserted
+		T comparedState = accessStrategy.supportsDifferentialUpdates() ? previousState : null;
+
 		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(entityAndVersion.entity,
 				entityAndVersion.version);
-		new RelationalEntityUpdateWriter<T>(context).write(entityAndVersion.entity, aggregateChange);
+		new RelationalEntityUpdateWriter<T>(context, comparedState).write(entityAndVersion.entity, aggregateChange);
 		return aggregateChange;
 	}
 
+	/**
+	 * Loads the persisted state of the aggregate, unless the aggregate root doesn't reference any entities, in which case
+	 * there is nothing to compare.
+	 */
+	@Nullable
+	private <T> T loadPersistedState(T instance) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
+		Object id = persistentEntity.getIdentifierAccessor(instance).getIdentifier();
+
+		if (id == null || context
+				.findPersistentPropertyPaths(persistentEntity.getType(), p -> p.isEntity() && !p.isEmbedded()).isEmpty()) {
+			return null;
+		}
+
+		return accessStrategy.findById(id, persistentEntity.getType());
+	}
+
+	/**
+	 * Fallback for {@link DataAccessStrategy DataAccessStrategies} not supporting updates by query. Loads the matching
+	 * aggregate roots, applies the assignments to each of them and updates its row by id.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> long updateOneByOne(Query query, Update update, Class<T> domainType) {
+
+		RelationalPersistentEntity<T> persistentEntity = (RelationalPersistentEntity<T>) context
+				.getRequiredPersistentEntity(domainType);
+		long updated = 0;
+
+		for (T instance : accessStrategy.findAll(withCriteriaOnly(query), domainType)) {
+
+			ConvertingPropertyAccessor<T> accessor = new ConvertingPropertyAccessor<>(
+					converter.getPropertyAccessor(persistentEntity, instance), converter.getConversionService());
+
+			update.getAssignments().forEach((column, value) -> accessor
+					.setProperty(getRequiredPropertyToUpdate(persistentEntity, column.getReference()), value));
+
+			if (accessStrategy.update(accessor.getBean(), domainType)) {
+				updated++;
+			}
+		}
+
+		return updated;
+	}
+
+	private static RelationalPersistentProperty getRequiredPropertyToUpdate(RelationalPersistentEntity<?> entity,
+			String name) {
+
+		RelationalPersistentProperty property = entity.getPersistentProperty(name);
+
+		if (property == null || property.isEntity()) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"%s is not a property of %s stored in its table; Updates by query only assign such properties", name,
+					entity.getName()));
+		}
+
+		return property;
+	}
+
+	/**
+	 * Fallback for {@link DataAccessStrategy DataAccessStrategies} not supporting deletes by query. Loads the matching
+	 * aggregate roots and deletes the aggregates by their ids.
+	 */
+	private <T> long deleteMatchingById(Query query, Class<T> domainType,
+			List<PersistentPropertyPath<RelationalPersistentProperty>> referencedEntities) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+
+		List<Object> ids = new ArrayList<>();
+		for (T instance : accessStrategy.findAll(withCriteriaOnly(query), domainType)) {
+			ids.add(persistentEntity.getIdentifierAccessor(instance).getRequiredIdentifier());
+		}
+
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		referencedEntities.forEach(path -> accessStrategy.delete(ids, path));
+		accessStrategy.delete(ids, domainType);
+
+		return ids.size();
+	}
+
+	/**
+	 * Sorting, limit and offset are not considered by updates and deletes by query.
+	 */
+	private static Query withCriteriaOnly(Query query) {
+		return query.getCriteria().map(Query::query).orElseGet(Query::empty);
+	}
+
 	private <T> T prepareVersionForInsert(T instance) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * {@link ResultSetExtractor} reading aggregate roots in two phases. The first phase copies the rows of the root query
+ * and collects the ids of the aggregate roots. The second phase maps the copied rows while collections and maps get
+ * loaded for all collected ids at once using {@code IN} lists. This is used for root queries that can't be turned into
+ * a sub-select, e.g. because they are limited or paged.
+ *
+ * @param <T> the type of the aggregate root.
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+
+	/**
+	 * Maximum number of ids bound to a single {@code IN} list. Some databases, e.g. Oracle, don't accept larger lists.
+	 */
+	static final int MAX_IN_LIST_SIZE = 1000;
+
+	private final RelationalPersistentEntity<T> entity;
+	private final RelationalMappingContext context;
+	private final BasicJdbcConverter converter;
+	private final NamedParameterJdbcOperations operations;
+	private final SqlGeneratorSource sqlGeneratorSource;
+	private final RelationResolver delegate;
+	private final QueryProjection projection;
+	private final String idColumn;
+
+	/**
+	 * Creates a new {@link AggregateResultSetExtractor}.
+	 *
+	 * @param entity the aggregate root to read. Must have an id property.
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param sqlGeneratorSource must not be {@literal null}.
+	 * @param delegate {@link RelationResolver} to use when a relation can't be loaded in bulk. Must not be
+	 *          {@literal null}.
+	 * @param projection the properties selected by the root query. Only their collections and maps get loaded. Must not
+	 *          be {@literal null}.
+	 */
+	AggregateResultSetExtractor(RelationalPersistentEntity<T> entity, RelationalMappingContext context,
+			BasicJdbcConverter converter, NamedParameterJdbcOperations operations, SqlGeneratorSource sqlGeneratorSource,
+			RelationResolver delegate, QueryProjection projection) {
+
+		this.entity = entity;
+		this.context = context;
+		this.converter = converter;
+		this.operations = operations;
+		this.sqlGeneratorSource = sqlGeneratorSource;
+		this.delegate = delegate;
+		this.projection = projection;
+		this.idColumn = new PersistentPropertyPathExtension(context, entity) //
+				.extendBy(entity.getRequiredIdProperty()) //
+				.getColumnAlias() //
+				.getReference(sqlGeneratorSource.getDialect().getIdentifierProcessing());
+	}
+
+	@Override
+	public List<T> extractData(ResultSet resultSet) throws SQLException {
+
+		List<ResultSetAccessor> rows = new ArrayList<>();
+		List<Object> ids = new ArrayList<>();
+
+		if (resultSet.next()) {
+
+			ResultSetAccessor accessor = new ResultSetAccessor(resultSet);
+			do {
+
+				ResultSetAccessor row = accessor.snapshot();
+				rows.add(row);
+				ids.add(row.getObject(idColumn));
+			} while (resultSet.next());
+		}
+
+		if (rows.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		RelationResolver relationResolver = projection.restrict(new BulkRelationResolver(context, converter, operations,
+				sqlGeneratorSource, sqlGeneratorSource.getSqlGenerator(entity.getType())::isInRootIds, chunk(ids), delegate));
+
+		List<T> result = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			result.add(converter.mapRow(entity, rows.get(i), i, relationResolver));
+		}
+
+		return result;
+	}
+
+	private static List<SqlParameterSource> chunk(List<Object> ids) {
+
+		List<SqlParameterSource> chunks = new ArrayList<>(ids.size() / MAX_IN_LIST_SIZE + 1);
+		for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+
+			List<Object> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+			chunks.add(new MapSqlParameterSource(SqlGenerator.IDS_SQL_PARAMETER.getReference(), chunk));
+		}
+
+		return chunks;
+	}
+}
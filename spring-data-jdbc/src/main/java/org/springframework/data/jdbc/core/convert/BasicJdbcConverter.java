@@ -22,6 +22,7 @@ import java.sql.SQLException;
 import java.sql.SQLType;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -31,13 +32,13 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.jdbc.core.convert.ResultSetAccessor.ColumnIndex;
+import org.springframework.data.jdbc.core.convert.RowMappingPlan.PropertyPlan;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.jdbc.support.JdbcUtil;
-import org.springframework.data.mapping.InstanceCreatorMetadata;
 import org.springframework.data.mapping.Parameter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
 import org.springframework.data.mapping.model.ParameterValueProvider;
@@ -54,6 +55,8 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 
 /**
  * {@link RelationalConverter} that uses a {@link MappingContext} to apply basic conversion of relational values to
@@ -80,6 +83,19 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 	private final IdentifierProcessing identifierProcessing;
 
 	private final RelationResolver relationResolver;
+
+	/**
+	 * Column indexes of the result sets currently being read. Computing the index requires inspecting the result set
+	 * metadata, so it gets computed once per result set instead of once per row.
+	 */
+	private final Map<ResultSet, ColumnIndex> columnIndexes = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+
+	/**
+	 * {@link RowMappingPlan}s by the path from the aggregate root to the entity they read.
+	 */
+	private final Map<PersistentPropertyPathExtension, RowMappingPlan> mappingPlans = new ConcurrentHashMap<>();
+
 	private SpELContext spELContext;
 
 	/**
@@ -300,13 +316,58 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	@Override
 	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
-		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
-				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
+		return mapRow(entity, resultSet, key, relationResolver);
 	}
 
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
-		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key).mapRow();
+		return mapRow(path, resultSet, identifier, key, relationResolver);
+	}
+
+	@Override
+	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+
+		return mapRow(entity, getAccessor(resultSet), key, relationResolver);
+	}
+
+	/**
+	 * Read a row of a result set, that is already captured by a {@link ResultSetAccessor}, into an aggregate root.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param accessor the accessor providing the values of the row to read.
+	 * @param key primary key.
+	 * @param relationResolver the {@link RelationResolver} to use for loading referenced entities.
+	 * @param <T>
+	 * @return
+	 * @since 3.1
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSetAccessor accessor, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		return new ReadingContext<T>(getMappingPlan(new PersistentPropertyPathExtension(getMappingContext(), entity)),
+				accessor, Identifier.empty(), key, relationResolver).mapRow();
+	}
+
+	@Override
+	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		return new ReadingContext<T>(getMappingPlan(path), getAccessor(resultSet), identifier, key, relationResolver)
+				.mapRow();
+	}
+
+	private RowMappingPlan getMappingPlan(PersistentPropertyPathExtension rootPath) {
+		return mappingPlans.computeIfAbsent(rootPath,
+				it -> new RowMappingPlan(getMappingContext(), identifierProcessing, it));
+	}
+
+	private ResultSetAccessor getAccessor(ResultSet resultSet) {
+		return new ResultSetAccessor(resultSet, columnIndexes.computeIfAbsent(resultSet, ResultSetAccessor::indexColumns));
 	}
 
 	static Object[] requireObjectArray(Object source) {
@@ -348,59 +409,35 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	private class ReadingContext<T> {
 
+		private final RowMappingPlan plan;
 		private final RelationalPersistentEntity<T> entity;
-
-		private final PersistentPropertyPathExtension rootPath;
-		private final PersistentPropertyPathExtension path;
 		private final Identifier identifier;
 		private final Object key;
 
-		private final JdbcPropertyValueProvider propertyValueProvider;
-		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
 		private final ResultSetAccessor accessor;
+		private final int[] columns;
+		private final RelationResolver relationResolver;
 
 		@SuppressWarnings("unchecked")
-		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
-				Object key) {
-			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
-
-			Assert.notNull(entity, "The rootPath must point to an entity");
-
-			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = new PersistentPropertyPathExtension(getMappingContext(), this.entity);
-			this.identifier = identifier;
-			this.key = key;
-			this.propertyValueProvider = new JdbcPropertyValueProvider(identifierProcessing, path, accessor);
-			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(identifierProcessing, path,
-					accessor);
-			this.accessor = accessor;
-		}
+		private ReadingContext(RowMappingPlan plan, ResultSetAccessor accessor, Identifier identifier, Object key,
+				RelationResolver relationResolver) {
 
-		private ReadingContext(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
-				PersistentPropertyPathExtension path, Identifier identifier, Object key,
-				JdbcPropertyValueProvider propertyValueProvider,
-				JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider, ResultSetAccessor accessor) {
-			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = path;
+			this.plan = plan;
+			this.entity = (RelationalPersistentEntity<T>) plan.getEntity();
 			this.identifier = identifier;
 			this.key = key;
-			this.propertyValueProvider = propertyValueProvider;
-			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
 			this.accessor = accessor;
+			this.columns = accessor.getColumnIndexes(plan.getColumnNames());
+			this.relationResolver = relationResolver;
 		}
 
-		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
-			return new ReadingContext<>(
-					(RelationalPersistentEntity<S>) getMappingContext().getRequiredPersistentEntity(property.getActualType()),
-					rootPath.extendBy(property), path.extendBy(property), identifier, key,
-					propertyValueProvider.extendBy(property), backReferencePropertyValueProvider.extendBy(property), accessor);
+		private <S> ReadingContext<S> extendBy(PropertyPlan property) {
+			return new ReadingContext<>(property.getNested(), accessor, identifier, key, relationResolver);
 		}
 
 		T mapRow() {
 
-			RelationalPersistentProperty idProperty = entity.getIdProperty();
+			PropertyPlan idProperty = plan.getIdProperty();
 
 			Object idValue = idProperty == null ? null : readFrom(idProperty);
 
@@ -410,101 +447,106 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private T populateProperties(T instance, @Nullable Object idValue) {
 
 			PersistentPropertyAccessor<T> propertyAccessor = getPropertyAccessor(entity, instance);
-			InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata = entity.getInstanceCreatorMetadata();
 
-			entity.doWithAll(property -> {
+			for (PropertyPlan property : plan.getProperties()) {
 
-				if (creatorMetadata != null && creatorMetadata.isCreatorParameter(property)) {
-					return;
+				if (property.isCreatorParameter()) {
+					continue;
 				}
 
 				// skip absent simple properties
-				if (isSimpleProperty(property)) {
+				if (property.isSimple() && columns[property.getValueColumn()] < 0) {
+					continue;
+				}
 
-					if (!propertyValueProvider.hasProperty(property)) {
-						return;
-					}
+				// skip relations that can't be resolved, since the id isn't part of a partial select
+				if (property.getKind() == RowMappingPlan.Kind.RELATION && isIdAbsent(idValue)) {
+					continue;
 				}
 
 				Object value = readOrLoadProperty(idValue, property);
-				propertyAccessor.setProperty(property, value);
-			});
+				propertyAccessor.setProperty(property.getProperty(), value);
+			}
 
 			return propertyAccessor.getBean();
 		}
 
 		@Nullable
-		private Object readOrLoadProperty(@Nullable Object id, RelationalPersistentProperty property) {
+		private Object readOrLoadProperty(@Nullable Object id, PropertyPlan property) {
+
+			switch (property.getKind()) {
 
-			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+				case RELATION:
 
-				Iterable<Object> allByPath = resolveRelation(id, property);
+					if (isIdAbsent(id)) {
+						return null;
+					}
 
-				return property.isMap() //
-						? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
-						: allByPath;
+					Iterable<Object> allByPath = resolveRelation(id, property);
 
-			} else if (property.isEmbedded()) {
-				return readEmbeddedEntityFrom(id, property);
-			} else {
-				return readFrom(property);
+					return property.getProperty().isMap() //
+							? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
+							: allByPath;
+
+				case EMBEDDED:
+					return readEmbeddedEntityFrom(id, property);
+
+				default:
+					return readFrom(property);
 			}
 		}
 
-		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
+		private boolean isIdAbsent(@Nullable Object id) {
 
-			Identifier identifier = id == null //
-					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
-					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
+			PropertyPlan idProperty = plan.getIdProperty();
+			return id == null && idProperty != null && columns[idProperty.getValueColumn()] < 0;
+		}
+
+		private Iterable<Object> resolveRelation(@Nullable Object id, PropertyPlan property) {
 
-			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
-					.getRequiredPersistentPropertyPath();
+			Identifier identifier = id == null //
+					? this.identifier.withPart(plan.getQualifierColumn(), key, Object.class) //
+					: Identifier.of(property.getReverseColumnName(), id, Object.class);
 
-			return relationResolver.findAllByPath(identifier, propertyPath);
+			return relationResolver.findAllByPath(identifier, property.getPropertyPath());
 		}
 
 		/**
 		 * Read a single value or a complete Entity from the {@link ResultSet} passed as an argument.
 		 *
-		 * @param property the {@link RelationalPersistentProperty} for which the value is intended. Must not be
+		 * @param property the {@link PropertyPlan} of the property for which the value is intended. Must not be
 		 *          {@code null}.
 		 * @return the value read from the {@link ResultSet}. May be {@code null}.
 		 */
 		@Nullable
-		private Object readFrom(RelationalPersistentProperty property) {
+		private Object readFrom(PropertyPlan property) {
 
-			if (property.isEntity()) {
+			if (property.getKind() == RowMappingPlan.Kind.ENTITY) {
 				return readEntityFrom(property);
 			}
 
-			Object value = propertyValueProvider.getPropertyValue(property);
-			return value != null ? readValue(value, property.getTypeInformation()) : null;
+			Object value = accessor.getObject(columns[property.getValueColumn()]);
+			return value != null ? readValue(value, property.getProperty().getTypeInformation()) : null;
 		}
 
 		@Nullable
-		private Object readEmbeddedEntityFrom(@Nullable Object idValue, RelationalPersistentProperty property) {
+		private Object readEmbeddedEntityFrom(@Nullable Object idValue, PropertyPlan property) {
 
 			ReadingContext<?> newContext = extendBy(property);
 
-			if (shouldCreateEmptyEmbeddedInstance(property) || newContext.hasInstanceValues(idValue)) {
+			if (property.getProperty().shouldCreateEmptyEmbedded() || newContext.hasInstanceValues(idValue)) {
 				return newContext.createInstanceInternal(idValue);
 			}
 
 			return null;
 		}
 
-		private boolean shouldCreateEmptyEmbeddedInstance(RelationalPersistentProperty property) {
-			return property.shouldCreateEmptyEmbedded();
-		}
-
 		private boolean hasInstanceValues(@Nullable Object idValue) {
 
-			RelationalPersistentEntity<?> persistentEntity = path.getRequiredLeafEntity();
-
-			for (RelationalPersistentProperty embeddedProperty : persistentEntity) {
+			for (PropertyPlan embeddedProperty : plan.getPersistentProperties()) {
 
 				// if the embedded contains Lists, Sets or Maps we consider it non-empty
-				if (embeddedProperty.isQualified() || embeddedProperty.isAssociation()) {
+				if (embeddedProperty.getProperty().isQualified() || embeddedProperty.getProperty().isAssociation()) {
 					return true;
 				}
 
@@ -518,19 +560,17 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		}
 
 		@Nullable
-		@SuppressWarnings("unchecked")
-		private Object readEntityFrom(RelationalPersistentProperty property) {
+		private Object readEntityFrom(PropertyPlan property) {
 
 			ReadingContext<?> newContext = extendBy(property);
-			RelationalPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(property.getActualType());
-			RelationalPersistentProperty idProperty = entity.getIdProperty();
+			PropertyPlan idProperty = newContext.plan.getIdProperty();
 
 			Object idValue;
 
 			if (idProperty != null) {
 				idValue = newContext.readFrom(idProperty);
 			} else {
-				idValue = backReferencePropertyValueProvider.getPropertyValue(property);
+				idValue = accessor.getObject(columns[property.getBackReferenceColumn()]);
 			}
 
 			if (idValue == null) {
@@ -542,38 +582,35 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private T createInstanceInternal(@Nullable Object idValue) {
 
-			InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata = entity.getInstanceCreatorMetadata();
 			ParameterValueProvider<RelationalPersistentProperty> provider;
 
-			if (creatorMetadata != null && creatorMetadata.hasParameters()) {
+			if (plan.hasCreatorParameters()) {
 
 				SpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(accessor, spELContext);
 				provider = new SpELExpressionParameterValueProvider<>(expressionEvaluator, getConversionService(),
-						new ResultSetParameterValueProvider(idValue, entity));
+						new ResultSetParameterValueProvider(idValue));
 			} else {
 				provider = NoOpParameterValueProvider.INSTANCE;
 			}
 
 			T instance = createInstance(entity, provider::getParameterValue);
 
-			return entity.requiresPropertyPopulation() ? populateProperties(instance, idValue) : instance;
+			return plan.requiresPropertyPopulation() ? populateProperties(instance, idValue) : instance;
 		}
 
 		/**
 		 * {@link ParameterValueProvider} that reads a simple property or materializes an object for a
 		 * {@link RelationalPersistentProperty}.
 		 *
-		 * @see #readOrLoadProperty(Object, RelationalPersistentProperty)
+		 * @see #readOrLoadProperty(Object, PropertyPlan)
 		 * @since 2.1
 		 */
 		private class ResultSetParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
 
 			private final @Nullable Object idValue;
-			private final RelationalPersistentEntity<?> entity;
 
-			public ResultSetParameterValueProvider(@Nullable Object idValue, RelationalPersistentEntity<?> entity) {
+			public ResultSetParameterValueProvider(@Nullable Object idValue) {
 				this.idValue = idValue;
-				this.entity = entity;
 			}
 
 			@Override
@@ -584,16 +621,11 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 				Assert.notNull(parameterName, "A constructor parameter name must not be null to be used with Spring Data JDBC");
 
-				RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameterName);
-				return (T) readOrLoadProperty(idValue, property);
+				return (T) readOrLoadProperty(idValue, plan.getRequiredProperty(parameterName));
 			}
 		}
 	}
 
-	private boolean isSimpleProperty(RelationalPersistentProperty property) {
-		return !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded();
-	}
-
 	enum NoOpParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
 
 		INSTANCE;
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.function.IntFunction;
+
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
@@ -33,4 +35,20 @@ interface BatchInsertStrategy {
 	 * @since 2.4
 	 */
 	Object[] execute(String sql, SqlParameterSource[] sqlParameterSources);
+
+	/**
+	 * Executes the batch insert, possibly combining multiple records into multi-row inserts. The default implementation
+	 * ignores {@code multiRowSql} and delegates to {@link #execute(String, SqlParameterSource[])}.
+	 *
+	 * @param sql the insert sql for a single record. Must not be {@code null}.
+	 * @param multiRowSql creates the insert sql for the given number of records, using bind parameters named as
+	 *          returned by {@link SqlGenerator#getRowParameterName(String, int)}. Must not be {@code null}.
+	 * @param sqlParameterSources the sql parameters for each record to be inserted. Must not be {@code null}.
+	 * @return the ids corresponding to each record that was inserted, if ids were generated. If ids were not generated,
+	 *         elements will be {@code null}.
+	 * @since 3.1
+	 */
+	default Object[] execute(String sql, IntFunction<String> multiRowSql, SqlParameterSource[] sqlParameterSources) {
+		return execute(sql, sqlParameterSources);
+	}
 }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RelationResolver} scoped to a single read operation. The first time the entities of a property path get
+ * requested, the entities for all aggregate roots of the read operation are selected with a single statement and
+ * distributed to the referencing entities by their back references. Subsequent requests for the same path are served
+ * from the loaded entities, so loading an aggregate costs one statement per collection or map valued property path
+ * instead of one statement per referencing row.
+ * <p>
+ * The aggregate roots of the read operation are identified by a root condition applied to the column referencing the
+ * aggregate root, e.g. an {@code IN} condition based on a sub-select of the root query. If the root condition comes
+ * with multiple sets of bindings, e.g. for chunks of an {@code IN} list of ids, the statement gets executed once per
+ * set of bindings.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class BulkRelationResolver implements RelationResolver {
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final NamedParameterJdbcOperations operations;
+	private final SqlGeneratorSource sqlGeneratorSource;
+	private final IdentifierProcessing identifierProcessing;
+	private final Function<Column, Condition> rootCondition;
+	private final List<SqlParameterSource> rootParameters;
+	private final RelationResolver delegate;
+
+	private final Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, LoadedPath> loadedPaths = new HashMap<>();
+
+	/**
+	 * Creates a new {@link BulkRelationResolver}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param sqlGeneratorSource must not be {@literal null}.
+	 * @param rootCondition condition selecting the aggregate roots of the read operation. Must not be {@literal null}.
+	 * @param rootParameters bindings for the {@literal rootCondition}. Must not be {@literal null}.
+	 * @param delegate {@link RelationResolver} to use when a request can't be served in bulk. Must not be
+	 *          {@literal null}.
+	 */
+	BulkRelationResolver(RelationalMappingContext context, JdbcConverter converter,
+			NamedParameterJdbcOperations operations, SqlGeneratorSource sqlGeneratorSource,
+			Function<Column, Condition> rootCondition, SqlParameterSource rootParameters, RelationResolver delegate) {
+		this(context, converter, operations, sqlGeneratorSource, rootCondition, Collections.singletonList(rootParameters),
+				delegate);
+	}
+
+	/**
+	 * Creates a new {@link BulkRelationResolver} executing each statement once for every element of
+	 * {@literal rootParameters}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param sqlGeneratorSource must not be {@literal null}.
+	 * @param rootCondition condition selecting the aggregate roots of the read operation. Must not be {@literal null}.
+	 * @param rootParameters sets of bindings for the {@literal rootCondition}. Must not be {@literal null}.
+	 * @param delegate {@link RelationResolver} to use when a request can't be served in bulk. Must not be
+	 *          {@literal null}.
+	 */
+	BulkRelationResolver(RelationalMappingContext context, JdbcConverter converter,
+			NamedParameterJdbcOperations operations, SqlGeneratorSource sqlGeneratorSource,
+			Function<Column, Condition> rootCondition, List<SqlParameterSource> rootParameters,
+			RelationResolver delegate) {
+
+		this.context = context;
+		this.converter = converter;
+		this.operations = operations;
+		this.sqlGeneratorSource = sqlGeneratorSource;
+		this.identifierProcessing = sqlGeneratorSource.getDialect().getIdentifierProcessing();
+		this.rootCondition = rootCondition;
+		this.rootParameters = rootParameters;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		LoadedPath loadedPath = loadedPaths.get(path);
+
+		if (loadedPath == null) {
+
+			loadedPath = load(identifier, path);
+
+			// register the path after loading it, since loading might trigger the loading of nested paths.
+			loadedPaths.put(path, loadedPath);
+		}
+
+		if (!loadedPath.isApplicable(identifier)) {
+			return delegate.findAllByPath(identifier, path);
+		}
+
+		return loadedPath.get(identifier);
+	}
+
+	private LoadedPath load(Identifier identifier, PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		LoadedPath loadedPath = new LoadedPath(identifier);
+
+		PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(context, path);
+
+		String sql = sqlGeneratorSource.getSqlGenerator(extPath.getActualType()) //
+				.getFindAllByPath(path, loadedPath.columns, rootCondition);
+
+		ResultSetExtractor<Void> extractor = resultSet -> {
+
+			while (resultSet.next()) {
+				loadedPath.add(resultSet, extPath);
+			}
+			return null;
+		};
+
+		for (SqlParameterSource parameters : rootParameters) {
+			operations.query(sql, parameters, extractor);
+		}
+
+		return loadedPath;
+	}
+
+	/**
+	 * The entities of a single property path grouped by the values of the back reference columns.
+	 */
+	private class LoadedPath {
+
+		private final List<SqlIdentifier> columns = new ArrayList<>();
+		private final List<TypeInformation<?>> types = new ArrayList<>();
+		private final Map<List<Object>, List<Object>> entities = new HashMap<>();
+
+		LoadedPath(Identifier identifier) {
+
+			identifier.forEach((name, value, targetType) -> {
+
+				columns.add(name);
+				Class<?> type = value == null ? Object.class : ClassUtils.getUserClass(value);
+				types.add(TypeInformation.of(type));
+			});
+		}
+
+		boolean isApplicable(Identifier identifier) {
+			return columns.equals(new ArrayList<>(identifier.toMap().keySet()));
+		}
+
+		List<Object> get(Identifier identifier) {
+
+			List<Object> key = new ArrayList<>(columns.size());
+			identifier.forEach((name, value, targetType) -> key.add(value));
+
+			return entities.getOrDefault(key, Collections.emptyList());
+		}
+
+		void add(ResultSet resultSet, PersistentPropertyPathExtension path) throws SQLException {
+
+			Map<SqlIdentifier, Object> parentKeys = new LinkedHashMap<>(columns.size());
+			for (int i = 0; i < columns.size(); i++) {
+
+				SqlIdentifier column = columns.get(i);
+				Object value = converter.readValue(resultSet.getObject(column.getReference(identifierProcessing)),
+						types.get(i));
+				parentKeys.put(column, value);
+			}
+
+			List<Object> siblings = entities.computeIfAbsent(new ArrayList<>(parentKeys.values()),
+					it -> new ArrayList<>());
+
+			Identifier parentIdentifier = Identifier.empty();
+			for (Map.Entry<SqlIdentifier, Object> entry : parentKeys.entrySet()) {
+				parentIdentifier = parentIdentifier.withPart(entry.getKey(), entry.getValue(), Object.class);
+			}
+
+			if (path.isMap()) {
+
+				SqlIdentifier keyColumn = path.getQualifierColumn();
+				Object key = resultSet.getObject(keyColumn.getReference(identifierProcessing));
+				siblings.add(new AbstractMap.SimpleEntry<>(key,
+						converter.mapRow(path, resultSet, parentIdentifier, key, BulkRelationResolver.this)));
+			} else {
+				siblings.add(converter.mapRow(path, resultSet, parentIdentifier, siblings.size(), BulkRelationResolver.this));
+			}
+		}
+	}
+}
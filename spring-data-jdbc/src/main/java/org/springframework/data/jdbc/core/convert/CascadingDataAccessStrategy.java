@@ -19,9 +19,12 @@ import static java.lang.Boolean.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -29,11 +32,14 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 
 /**
  * Delegates each method to the {@link DataAccessStrategy}s passed to the constructor in turn until the first that does
- * not throw an exception.
+ * not throw an exception. Strategies that threw an {@link UnsupportedOperationException} before another strategy
+ * succeeded are considered to not support the method for the domain type or property path at hand and get skipped on
+ * further invocations of that method for the same domain type or property path.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -47,6 +53,7 @@ import org.springframework.data.relational.core.sql.LockMode;
 public class CascadingDataAccessStrategy implements DataAccessStrategy {
 
 	private final List<DataAccessStrategy> strategies;
+	private final Map<Route, List<DataAccessStrategy>> routes = new ConcurrentHashMap<>();
 
 	public CascadingDataAccessStrategy(List<DataAccessStrategy> strategies) {
 		this.strategies = new ArrayList<>(strategies);
@@ -54,145 +61,273 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
-		return collect(das -> das.insert(instance, domainType, identifier, idValueSource));
+		return collect("insert", domainType, das -> das.insert(instance, domainType, identifier, idValueSource));
 	}
 
 	@Override
 	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType, IdValueSource idValueSource) {
-		return collect(das -> das.insert(insertSubjects, domainType, idValueSource));
+		return collect("insertAll", domainType, das -> das.insert(insertSubjects, domainType, idValueSource));
 	}
 
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
-		return collect(das -> das.update(instance, domainType));
+		return collect("update", domainType, das -> das.update(instance, domainType));
+	}
+
+	@Override
+	public boolean supportsDifferentialUpdates() {
+		return strategies.stream().anyMatch(DataAccessStrategy::supportsDifferentialUpdates);
+	}
+
+	@Override
+	public <T> boolean update(T instance, Class<T> domainType, Identifier identifier) {
+		return collect("updateWithIdentifier", domainType, das -> das.update(instance, domainType, identifier));
 	}
 
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
-		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
+		return collect("updateWithVersion", domainType, das -> das.updateWithVersion(instance, domainType, previousVersion));
+	}
+
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return collect("updateAll", domainType, das -> das.updateAll(instances, domainType));
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return collect("updateAllWithVersion", domainType,
+				das -> das.updateAllWithVersion(instances, domainType, previousVersions));
+	}
+
+	@Override
+	public boolean supportsUpdatesAndDeletesByQuery() {
+		return strategies.stream().anyMatch(DataAccessStrategy::supportsUpdatesAndDeletesByQuery);
+	}
+
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+		return collect("updateByQuery", domainType, das -> das.update(query, update, domainType));
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		collectVoid("upsert", domainType, das -> das.upsert(instance, domainType));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		collectVoid("upsertAll", domainType, das -> das.upsertAll(instances, domainType));
 	}
 
 	@Override
 	public void delete(Object id, Class<?> domainType) {
-		collectVoid(das -> das.delete(id, domainType));
+		collectVoid("delete", domainType, das -> das.delete(id, domainType));
 	}
 
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
-		collectVoid(das -> das.delete(ids, domainType));
+		collectVoid("deleteAllById", domainType, das -> das.delete(ids, domainType));
 	}
 
 	@Override
 	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
-		collectVoid(das -> das.deleteWithVersion(id, domainType, previousVersion));
+		collectVoid("deleteWithVersion", domainType, das -> das.deleteWithVersion(id, domainType, previousVersion));
 	}
 
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		collectVoid(das -> das.delete(rootId, propertyPath));
+		collectVoid("deleteByRootId", propertyPath, das -> das.delete(rootId, propertyPath));
+	}
+
+	@Override
+	public void delete(Identifier identifier, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		collectVoid("deleteByIdentifier", propertyPath, das -> das.delete(identifier, propertyPath));
 	}
 
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		collectVoid(das -> das.delete(rootIds, propertyPath));
+		collectVoid("deleteByRootIds", propertyPath, das -> das.delete(rootIds, propertyPath));
 	}
 
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
-		collectVoid(das -> das.deleteAll(domainType));
+		collectVoid("deleteAll", domainType, das -> das.deleteAll(domainType));
 	}
 
 	@Override
 	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		collectVoid(das -> das.deleteAll(propertyPath));
+		collectVoid("deleteAllByPath", propertyPath, das -> das.deleteAll(propertyPath));
+	}
+
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+		return collect("deleteByQuery", domainType, das -> das.delete(query, domainType));
+	}
+
+	@Override
+	public void delete(Query query, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		collectVoid("deleteByQueryAndPath", propertyPath, das -> das.delete(query, propertyPath));
 	}
 
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
-		collectVoid(das -> das.acquireLockById(id, lockMode, domainType));
+		collectVoid("acquireLockById", domainType, das -> das.acquireLockById(id, lockMode, domainType));
 	}
 
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
-		collectVoid(das -> das.acquireLockAll(lockMode, domainType));
+		collectVoid("acquireLockAll", domainType, das -> das.acquireLockAll(lockMode, domainType));
 	}
 
 	@Override
 	public long count(Class<?> domainType) {
-		return collect(das -> das.count(domainType));
+		return collect("count", domainType, das -> das.count(domainType));
 	}
 
 	@Override
 	public <T> T findById(Object id, Class<T> domainType) {
-		return collect(das -> das.findById(id, domainType));
+		return collect("findById", domainType, das -> das.findById(id, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return collect(das -> das.findAll(domainType));
+		return collect("findAll", domainType, das -> das.findAll(domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
-		return collect(das -> das.findAllById(ids, domainType));
+		return collect("findAllById", domainType, das -> das.findAllById(ids, domainType));
 	}
 
 	@Override
 	public Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
-		return collect(das -> das.findAllByPath(identifier, path));
+		return collect("findAllByPath", path, das -> das.findAllByPath(identifier, path));
 	}
 
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
-		return collect(das -> das.existsById(id, domainType));
+		return collect("existsById", domainType, das -> das.existsById(id, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return collect(das -> das.findAll(domainType, sort));
+		return collect("findAllSorted", domainType, das -> das.findAll(domainType, sort));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return collect(das -> das.findAll(domainType, pageable));
+		return collect("findAllPaged", domainType, das -> das.findAll(domainType, pageable));
 	}
 
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
-		return collect(das -> das.findOne(query, domainType));
+		return collect("findOneByQuery", domainType, das -> das.findOne(query, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType) {
-		return collect(das -> das.findAll(query, domainType));
+		return collect("findAllByQuery", domainType, das -> das.findAll(query, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
-		return collect(das -> das.findAll(query, domainType, pageable));
+		return collect("findAllByQueryPaged", domainType, das -> das.findAll(query, domainType, pageable));
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return collect("streamAll", domainType, das -> das.streamAll(domainType));
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return collect("streamAllByQuery", domainType, das -> das.streamAll(query, domainType));
 	}
 
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
-		return collect(das -> das.exists(query, domainType));
+		return collect("existsByQuery", domainType, das -> das.exists(query, domainType));
 	}
 
 	@Override
 	public <T> long count(Query query, Class<T> domainType) {
-		return collect(das -> das.count(query, domainType));
+		return collect("countByQuery", domainType, das -> das.count(query, domainType));
 	}
 
-	private <T> T collect(Function<DataAccessStrategy, T> function) {
-
-		return strategies.stream().collect(new FunctionCollector<>(function));
+	/**
+	 * Invokes the function on the strategies in turn until the first one does not throw an exception. If all strategies
+	 * tried before the successful one threw an {@link UnsupportedOperationException}, further invocations of the same
+	 * operation on the same target start with the successful strategy.
+	 *
+	 * @param operation identifies the invoked method.
+	 * @param target the domain type or property path the operation is performed on.
+	 * @param function invokes the operation on a strategy.
+	 */
+	private <T> T collect(String operation, Object target, Function<DataAccessStrategy, T> function) {
+
+		Route route = new Route(operation, target);
+		List<DataAccessStrategy> candidates = routes.getOrDefault(route, strategies);
+
+		return candidates.stream().collect(new FunctionCollector<>(new RoutingFunction<>(route, candidates, function)));
 	}
 
-	private void collectVoid(Consumer<DataAccessStrategy> consumer) {
+	private void collectVoid(String operation, Object target, Consumer<DataAccessStrategy> consumer) {
 
-		collect(das -> {
+		collect(operation, target, das -> {
 			consumer.accept(das);
 			return TRUE;
 		});
 	}
+
+	/**
+	 * Identifies an operation performed on a domain type or property path.
+	 */
+	private record Route(String operation, Object target) {
+	}
+
+	/**
+	 * Applies a function to the candidate strategies of a {@link Route} one after the other and records the route once
+	 * a strategy succeeds after all previous candidates reported not to support the operation.
+	 */
+	private class RoutingFunction<T> implements Function<DataAccessStrategy, T> {
+
+		private final Route route;
+		private final List<DataAccessStrategy> candidates;
+		private final Function<DataAccessStrategy, T> function;
+
+		private int unsupported = 0;
+		private boolean routable = true;
+
+		RoutingFunction(Route route, List<DataAccessStrategy> candidates, Function<DataAccessStrategy, T> function) {
+
+			this.route = route;
+			this.candidates = candidates;
+			this.function = function;
+		}
+
+		@Override
+		public T apply(DataAccessStrategy das) {
+
+			try {
+
+				T result = function.apply(das);
+
+				if (routable && unsupported > 0) {
+					routes.putIfAbsent(route, List.copyOf(candidates.subList(unsupported, candidates.size())));
+				}
+
+				return result;
+			} catch (UnsupportedOperationException ex) {
+
+				unsupported++;
+				throw ex;
+			} catch (RuntimeException ex) {
+
+				routable = false;
+				throw ex;
+			}
+		}
+	}
 }
@@ -18,7 +18,10 @@ package org.springframework.data.jdbc.core.convert;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -27,6 +30,7 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.lang.Nullable;
 
@@ -84,6 +88,42 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean update(T instance, Class<T> domainType);
 
+	/**
+	 * Returns whether this strategy implements {@link #update(Object, Class, Identifier)} and
+	 * {@link #delete(Identifier, PersistentPropertyPath)}, which are required to update only the changed entities of an
+	 * aggregate. If it doesn't, updates of aggregates delete and reinsert all referenced entities instead.
+	 * <p>
+	 * The default implementation returns {@literal false}.
+	 *
+	 * @return {@literal true} if updates by {@link Identifier} are supported.
+	 * @since 3.1
+	 */
+	default boolean supportsDifferentialUpdates() {
+		return false;
+	}
+
+	/**
+	 * Updates the data of a single entity that is not an aggregate root. The row to update is identified by the given
+	 * {@link Identifier}. If the {@link Identifier} contains the id of the entity, the row gets identified by that id
+	 * alone and the other parts of the {@link Identifier} get written, so the entity may change its key in a
+	 * {@link java.util.List} or {@link java.util.Map}. Referenced entities don't get handled.
+	 * <p>
+	 * Only invoked if {@link #supportsDifferentialUpdates()} returns {@literal true}. The default implementation throws
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param identifier the reference to the parent, the key in a {@link java.util.List} or {@link java.util.Map} and, if
+	 *          present, the id of the entity to be updated. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @since 3.1
+	 */
+	default <T> boolean update(T instance, Class<T> domainType, Identifier identifier) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support updates of entities by identifier", getClass().getName()));
+	}
+
 	/**
 	 * Updates the data of a single entity in the database and enforce optimistic record locking using the
 	 * {@code previousVersion} property. Referenced entities don't get handled.
@@ -102,6 +142,130 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the data of multiple entities in the database, typically using a single batch. Referenced entities don't
+	 * get handled.
+	 * <p>
+	 * The default implementation updates the instances one by one using {@link #update(Object, Class)}.
+	 *
+	 * @param instances the instances to save. Must not be {@code null}.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, whether the update actually updated a row.
+	 * @since 3.1
+	 */
+	default <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = update(instances.get(i), domainType);
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Updates the data of multiple entities in the database, typically using a single batch, and enforce optimistic
+	 * record locking using the {@code previousVersions} of the instances. Referenced entities don't get handled.
+	 * <p>
+	 * Instances failing the version check are reported as not updated, so the caller can raise an exception for the
+	 * affected entity. The default implementation updates the instances one by one using
+	 * {@link #updateWithVersion(Object, Class, Number)}.
+	 *
+	 * @param instances the instances to save. Must not be {@code null}.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param previousVersions the previous versions assigned to the instances, in the order of {@code instances}. Must
+	 *          not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, whether the update actually updated a row, i.e. whether the version check succeeded.
+	 * @throws IncorrectUpdateSemanticsDataAccessException if it can't be told whether an instance got updated, e.g.
+	 *           because the driver doesn't report update counts of batches.
+	 * @since 3.1
+	 */
+	default <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < updated.length; i++) {
+
+			try {
+				updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+			} catch (OptimisticLockingFailureException e) {
+				updated[i] = false;
+			}
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Returns whether this strategy implements {@link #update(Query, Update, Class)}, {@link #delete(Query, Class)} and
+	 * {@link #delete(Query, PersistentPropertyPath)}. If it doesn't, {@link JdbcAggregateOperations} loads the matching
+	 * aggregate roots and updates or deletes them by id instead.
+	 * <p>
+	 * The default implementation returns {@literal false}.
+	 *
+	 * @return {@literal true} if updates and deletes by {@link Query} are supported.
+	 * @since 3.1
+	 */
+	default boolean supportsUpdatesAndDeletesByQuery() {
+		return false;
+	}
+
+	/**
+	 * Applies the assignments of the given {@link Update} to all rows of the table representing the given domain type
+	 * that match the given {@link Query}, using a single statement. The criteria of the query must only reference
+	 * properties stored in that table. A version property is not incremented.
+	 * <p>
+	 * Only invoked if {@link #supportsUpdatesAndDeletesByQuery()} returns {@literal true}. The default implementation
+	 * throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param query the query selecting the rows to update. Must not be {@code null}.
+	 * @param update the assignments to apply. Must not be {@code null}.
+	 * @param domainType the domain type of the entities to be updated. Must not be {@code null}.
+	 * @return the number of updated rows.
+	 * @since 3.1
+	 */
+	default <T> long update(Query query, Update update, Class<T> domainType) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support updates by query", getClass().getName()));
+	}
+
+	/**
+	 * Inserts the data of a single entity or updates it if a row with the same id exists already. Referenced entities
+	 * don't get handled. The id of the entity must be set.
+	 * <p>
+	 * The default implementation tries {@link #update(Object, Class)} first and inserts the entity with its provided id
+	 * if that didn't update a row. Unlike a native upsert this takes two statements and isn't atomic, so a concurrent
+	 * insert of the same id makes the insert fail.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @since 3.1
+	 */
+	default <T> void upsert(T instance, Class<T> domainType) {
+
+		if (!update(instance, domainType)) {
+			insert(instance, domainType, Identifier.empty(), IdValueSource.PROVIDED);
+		}
+	}
+
+	/**
+	 * Inserts or updates the data of multiple entities, typically using a single batch. Referenced entities don't get
+	 * handled.
+	 * <p>
+	 * The default implementation upserts the instances one by one using {@link #upsert(Object, Class)}.
+	 *
+	 * @param instances the instances to save. Must not be {@code null}.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @see #upsert(Object, Class)
+	 * @since 3.1
+	 */
+	default <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		instances.forEach(instance -> upsert(instance, domainType));
+	}
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -151,6 +315,22 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes the single entity reachable via {@literal propertyPath} that matches the given {@link Identifier}.
+	 * <p>
+	 * Only invoked if {@link #supportsDifferentialUpdates()} returns {@literal true}. The default implementation throws
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @param identifier the reference to the parent, the key in a {@link java.util.List} or {@link java.util.Map} and,
+	 *          if present, the id of the entity to be deleted. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the entity to be deleted. Must not be {@code null}.
+	 * @since 3.1
+	 */
+	default void delete(Identifier identifier, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support deletes of entities by identifier", getClass().getName()));
+	}
+
 	/**
 	 * Deletes all entities reachable via {@literal propertyPath} from the instances identified by {@literal rootIds}.
 	 *
@@ -175,6 +355,39 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes all rows of the table representing the given domain type that match the given {@link Query}. Does not
+	 * handle cascading deletes. The criteria of the query must only reference properties stored in that table.
+	 * <p>
+	 * Only invoked if {@link #supportsUpdatesAndDeletesByQuery()} returns {@literal true}. The default implementation
+	 * throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param query the query selecting the rows to delete. Must not be {@code null}.
+	 * @param domainType the domain type of the entities to be deleted. Must not be {@code null}.
+	 * @return the number of deleted rows.
+	 * @since 3.1
+	 */
+	default <T> long delete(Query query, Class<T> domainType) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support deletes by query", getClass().getName()));
+	}
+
+	/**
+	 * Deletes all entities reachable via {@literal propertyPath} from the aggregate roots matching the given
+	 * {@link Query}. The criteria of the query must only reference properties stored in the table of the aggregate root.
+	 * <p>
+	 * Only invoked if {@link #supportsUpdatesAndDeletesByQuery()} returns {@literal true}. The default implementation
+	 * throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param query the query selecting the aggregate roots. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the entities to be deleted. Must not be {@code null}.
+	 * @since 3.1
+	 */
+	default void delete(Query query, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support deletes by query", getClass().getName()));
+	}
+
 	/**
 	 * Acquire a lock on the aggregate specified by id.
 	 *
@@ -322,4 +535,36 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Loads all entities of the given type as a {@link Stream} that reads the rows of the underlying result set while it
+	 * gets consumed. The {@link Stream} holds an open database connection and must be closed after use, e.g. in a
+	 * try-with-resources block.
+	 * <p>
+	 * The default implementation streams the result of {@link #findAll(Class)}, which is loaded completely.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream} that reads the rows of the
+	 * underlying result set while it gets consumed. The {@link Stream} holds an open database connection and must be
+	 * closed after use.
+	 * <p>
+	 * The default implementation streams the result of {@link #findAll(Query, Class)}, which is loaded completely.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 3.1
+	 */
+	default <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return StreamSupport.stream(findAll(query, domainType).spliterator(), false);
+	}
+
 }
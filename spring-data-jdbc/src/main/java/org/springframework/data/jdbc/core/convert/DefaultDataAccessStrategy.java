@@ -17,12 +17,21 @@ package org.springframework.data.jdbc.core.convert;
 
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -33,12 +42,22 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -70,6 +89,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final SqlParametersFactory sqlParametersFactory;
 	private final InsertStrategyFactory insertStrategyFactory;
 
+	private int streamFetchSize = 0;
+
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
 	 *
@@ -98,6 +119,35 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.insertStrategyFactory = insertStrategyFactory;
 	}
 
+	/**
+	 * Configures the fetch size applied to the statements backing the {@link Stream streams} returned by
+	 * {@link #streamAll(Class)} and {@link #streamAll(Query, Class)}. Many JDBC drivers read the complete result set
+	 * into memory unless a fetch size is set. Defaults to {@code 0} which uses the fetch size of the underlying
+	 * {@link org.springframework.jdbc.core.JdbcOperations}. Aggregates referencing collections of entities are not
+	 * streamed, since their collections get loaded by separate queries, and are therefore not affected.
+	 *
+	 * @param streamFetchSize the number of rows to fetch at once. Must not be negative.
+	 * @since 3.1
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+
+		Assert.isTrue(streamFetchSize >= 0, "Stream fetch size must not be negative");
+
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Returns hit and miss counts of the caches for statements rendered for dynamic arguments, combined over all domain
+	 * types.
+	 *
+	 * @return the statistics of the statement caches. Guaranteed to be not {@literal null}.
+	 * @see SqlGeneratorSource#getStatementCacheStatistics()
+	 * @since 3.1
+	 */
+	public StatementCacheStatistics getStatementCacheStatistics() {
+		return sqlGeneratorSource.getStatementCacheStatistics();
+	}
+
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
 
@@ -119,10 +169,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 						insertSubject.getIdentifier(), idValueSource))
 				.toArray(SqlIdentifierParameterSource[]::new);
 
-		String insertSql = sql(domainType).getInsert(sqlParameterSources[0].getIdentifiers());
+		SqlGenerator sqlGenerator = sql(domainType);
+		Set<SqlIdentifier> columns = sqlParameterSources[0].getIdentifiers();
+		String insertSql = sqlGenerator.getInsert(columns);
 
 		return insertStrategyFactory.batchInsertStrategy(idValueSource, getIdColumn(domainType)).execute(insertSql,
-				sqlParameterSources);
+				rows -> sqlGenerator.getInsert(columns, rows), sqlParameterSources);
 	}
 
 	@Override
@@ -135,6 +187,31 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return operations.update(sql(domainType).getUpdate(), parameterSource) != 0;
 	}
 
+	@Override
+	public boolean supportsDifferentialUpdates() {
+		return true;
+	}
+
+	@Override
+	public <T> boolean update(T instance, Class<T> domainType, Identifier identifier) {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forUpdate(instance, domainType, identifier);
+		Set<SqlIdentifier> identifyingColumns = new LinkedHashSet<>(identifier.toMap().keySet());
+		Set<SqlIdentifier> additionalColumns = Collections.emptySet();
+
+		// an entity with an id keeps its row, even when its key in a List or Map changes
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		if (persistentEntity.hasIdProperty() && identifyingColumns.contains(persistentEntity.getIdColumn())) {
+
+			additionalColumns = identifyingColumns;
+			identifyingColumns = Collections.singleton(persistentEntity.getIdColumn());
+		}
+
+		String updateSql = sql(domainType).getUpdate(identifyingColumns, additionalColumns);
+
+		return operations.update(updateSql, parameterSource) != 0;
+	}
+
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
 
@@ -155,6 +232,93 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return true;
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		SqlIdentifierParameterSource[] parameterSources = instances.stream()
+				.map(instance -> sqlParametersFactory.forUpdate(instance, domainType))
+				.toArray(SqlIdentifierParameterSource[]::new);
+
+		boolean[] updated = new boolean[parameterSources.length];
+
+		if (parameterSources.length == 0 || parameterSources[0].size() <= 1) {
+
+			Arrays.fill(updated, true); // conceptually the rows were correctly updated, see update(Object, Class)
+			return updated;
+		}
+
+		int[] updateCounts = operations.batchUpdate(sql(domainType).getUpdate(), parameterSources);
+
+		for (int i = 0; i < updated.length; i++) {
+
+			// Statement.SUCCESS_NO_INFO is taken as success, just like update(Object, Class) doesn't check unversioned updates
+			updated[i] = updateCounts[i] == Statement.SUCCESS_NO_INFO || updateCounts[i] != 0;
+		}
+
+		return updated;
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		Assert.isTrue(instances.size() == previousVersions.size(),
+				"There must be exactly one previous version for each instance");
+
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[instances.size()];
+		for (int i = 0; i < parameterSources.length; i++) {
+
+			parameterSources[i] = sqlParametersFactory.forUpdate(instances.get(i), domainType);
+			parameterSources[i].addValue(VERSION_SQL_PARAMETER, previousVersions.get(i));
+		}
+
+		String updateSql = sql(domainType).getUpdateWithVersion();
+		int[] updateCounts = operations.batchUpdate(updateSql, parameterSources);
+
+		boolean[] updated = new boolean[updateCounts.length];
+
+		for (int i = 0; i < updated.length; i++) {
+
+			if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+				throw new IncorrectUpdateSemanticsDataAccessException(String.format(
+						"Unknown update count of versioned update for %s; Can't tell whether the version matched",
+						instances.get(i)));
+			}
+
+			updated[i] = updateCounts[i] != 0;
+		}
+
+		return updated;
+	}
+
+	@Override
+	public boolean supportsUpdatesAndDeletesByQuery() {
+		return true;
+	}
+
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String statement = sql(domainType).updateByQuery(query, update, parameterSource);
+
+		return operations.update(statement, parameterSource);
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		operations.update(sql(domainType).getUpsert(), forUpsert(instance, domainType));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+
+		SqlIdentifierParameterSource[] parameterSources = instances.stream()
+				.map(instance -> forUpsert(instance, domainType)) //
+				.toArray(SqlIdentifierParameterSource[]::new);
+
+		operations.batchUpdate(sql(domainType).getUpsert(), parameterSources);
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
@@ -205,6 +369,15 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		operations.update(delete, parameters);
 	}
 
+	@Override
+	public void delete(Identifier identifier, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		Class<?> actualType = propertyPath.getRequiredLeafProperty().getActualType();
+		String delete = sql(actualType).getDelete(identifier.toMap().keySet());
+
+		operations.update(delete, sqlParametersFactory.forQueryByIdentifier(identifier));
+	}
+
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
@@ -231,6 +404,24 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		operations.getJdbcOperations().update(sql(getBaseType(propertyPath)).createDeleteAllSql(propertyPath));
 	}
 
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String statement = sql(domainType).deleteByQuery(query, parameterSource);
+
+		return operations.update(statement, parameterSource);
+	}
+
+	@Override
+	public void delete(Query query, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String statement = sql(getBaseType(propertyPath)).deleteByQuery(query, parameterSource, propertyPath);
+
+		operations.update(statement, parameterSource);
+	}
+
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
 
@@ -264,7 +455,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlIdentifierParameterSource parameter = sqlParametersFactory.forQueryById(id, domainType, ID_SQL_PARAMETER);
 
 		try {
-			return operations.queryForObject(findOneSql, parameter, getEntityRowMapper(domainType));
+			return operations.queryForObject(findOneSql, parameter,
+					getEntityRowMapper(domainType, sql(domainType)::isRootId, parameter));
 		} catch (EmptyResultDataAccessException e) {
 			return null;
 		}
@@ -272,7 +464,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), getEntityRowMapper(domainType));
+		return operations.query(sql(domainType).getFindAll(),
+				getEntityRowMapper(domainType, Column::isNotNull, EmptySqlParameterSource.INSTANCE));
 	}
 
 	@Override
@@ -286,7 +479,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		String findAllInListSql = sql(domainType).getFindAllInList();
 
-		return operations.query(findAllInListSql, parameterSource, getEntityRowMapper(domainType));
+		return operations.query(findAllInListSql, parameterSource,
+				getEntityRowMapper(domainType, sql(domainType)::isInRootIds, parameterSource));
 	}
 
 	@Override
@@ -324,12 +518,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), getEntityRowMapper(domainType));
+		return operations.query(sql(domainType).getFindAll(sort),
+				getEntityRowMapper(domainType, Column::isNotNull, EmptySqlParameterSource.INSTANCE));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), getEntityRowMapper(domainType));
+		return queryAggregates(sql(domainType).getFindAll(pageable), EmptySqlParameterSource.INSTANCE, domainType, 0,
+				QueryProjection.ALL);
 	}
 
 	@Override
@@ -340,7 +536,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		try {
 			return Optional.ofNullable(
-					operations.queryForObject(sqlQuery, parameterSource, getEntityRowMapper(domainType)));
+					operations.queryForObject(sqlQuery, parameterSource, getEntityRowMapper(domainType, query)));
 		} catch (EmptyResultDataAccessException e) {
 			return Optional.empty();
 		}
@@ -352,7 +548,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+		if (query.getLimit() > 0 || query.getOffset() > 0) {
+			return queryAggregates(sqlQuery, parameterSource, domainType, query.getFetchSize(),
+					QueryProjection.of(query));
+		}
+
+		return query(sqlQuery, parameterSource,
+				new RowMapperResultSetExtractor<>(getEntityRowMapper(domainType, query)), query.getFetchSize());
 	}
 
 	@Override
@@ -361,7 +563,33 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource, pageable);
 
-		return operations.query(sqlQuery, parameterSource, getEntityRowMapper(domainType));
+		return queryAggregates(sqlQuery, parameterSource, domainType, query.getFetchSize(),
+				QueryProjection.of(query));
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		if (referencesCollections(domainType)) {
+			return StreamSupport.stream(findAll(domainType).spliterator(), false);
+		}
+
+		return queryForStream(sql(domainType).getFindAll(), EmptySqlParameterSource.INSTANCE,
+				getEntityRowMapper(domainType), streamFetchSize);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		if (referencesCollections(domainType)) {
+			return StreamSupport.stream(findAll(query, domainType).spliterator(), false);
+		}
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
+
+		return queryForStream(sqlQuery, parameterSource, getEntityRowMapper(domainType, QueryProjection.of(query)),
+				query.getFetchSize() > 0 ? query.getFetchSize() : streamFetchSize);
 	}
 
 	@Override
@@ -394,6 +622,150 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
 	}
 
+	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType, QueryProjection projection) {
+
+		return projection.isPartial() //
+				? new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter, projection.restrict(this)) //
+				: getEntityRowMapper(domainType);
+	}
+
+	/**
+	 * Creates an {@link EntityRowMapper} for aggregate roots of the given type. If bulk loading is enabled, collections
+	 * and maps get loaded for all aggregate roots matching the {@code rootCondition} at once.
+	 *
+	 * @param domainType the type of the aggregate root.
+	 * @param rootCondition condition selecting the aggregate roots that get read.
+	 * @param rootParameters the bindings for the {@code rootCondition}.
+	 */
+	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType, Function<Column, Condition> rootCondition,
+			SqlParameterSource rootParameters) {
+		return getEntityRowMapper(domainType, rootCondition, rootParameters, QueryProjection.ALL);
+	}
+
+	/**
+	 * Creates an {@link EntityRowMapper} for aggregate roots of the given type, which only loads the collections and maps
+	 * selected by the given {@link QueryProjection}.
+	 *
+	 * @see #getEntityRowMapper(Class, Function, SqlParameterSource)
+	 */
+	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType, Function<Column, Condition> rootCondition,
+			SqlParameterSource rootParameters, QueryProjection projection) {
+
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+
+		if (!context.isBulkLoadingEnabled() || !entity.hasIdProperty()) {
+			return getEntityRowMapper(domainType, projection);
+		}
+
+		return new EntityRowMapper<>(entity, converter, projection.restrict(new BulkRelationResolver(context, converter,
+				operations, sqlGeneratorSource, rootCondition, rootParameters, this)));
+	}
+
+	private <T> EntityRowMapper<T> getEntityRowMapper(Class<T> domainType, Query query) {
+
+		QueryProjection projection = QueryProjection.of(query);
+
+		// restricting the roots by a limited sub-select isn't supported by all databases.
+		if (!context.isBulkLoadingEnabled() || query.getLimit() > 0 || query.getOffset() > 0) {
+			return getEntityRowMapper(domainType, projection);
+		}
+
+		MapSqlParameterSource rootParameters = new MapSqlParameterSource();
+		Function<Column, Condition> rootCondition = sql(domainType).getRootCondition(query, rootParameters);
+
+		return getEntityRowMapper(domainType, rootCondition, rootParameters, projection);
+	}
+
+	/**
+	 * Reads the aggregate roots selected by a root query that can't be used as a sub-select, e.g. because it is limited
+	 * or paged. If bulk loading is enabled, the rows of the root query get copied first, so collections and maps can get
+	 * loaded for the ids of all selected aggregate roots at once.
+	 *
+	 * @param sql the root query.
+	 * @param parameters the bindings for the root query.
+	 * @param domainType the type of the aggregate root.
+	 * @param fetchSize the fetch size for the root query, {@code 0} for the default.
+	 * @param projection the properties selected by the root query.
+	 */
+	private <T> List<T> queryAggregates(String sql, SqlParameterSource parameters, Class<T> domainType, int fetchSize,
+			QueryProjection projection) {
+
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+
+		if (!context.isBulkLoadingEnabled() || !entity.hasIdProperty() || !(converter instanceof BasicJdbcConverter)) {
+			return query(sql, parameters, new RowMapperResultSetExtractor<>(getEntityRowMapper(domainType, projection)),
+					fetchSize);
+		}
+
+		return query(sql, parameters, new AggregateResultSetExtractor<>(entity, context, (BasicJdbcConverter) converter,
+				operations, sqlGeneratorSource, this, projection), fetchSize);
+	}
+
+	private <T> T query(String sql, SqlParameterSource parameters, ResultSetExtractor<T> extractor, int fetchSize) {
+
+		T result = fetchSize == 0 //
+				? operations.query(sql, parameters, extractor) //
+				: operations.getJdbcOperations().query(createPreparedStatementCreator(sql, parameters, fetchSize), extractor);
+
+		Assert.state(result != null, "The result of a query must not be null");
+
+		return result;
+	}
+
+	/**
+	 * Executes the query returning a {@link Stream} backed by the open result set. Collections and maps don't get bulk
+	 * loaded since that requires all aggregate roots to be read upfront, but are loaded for each row when it gets
+	 * consumed.
+	 *
+	 * @param sql the query.
+	 * @param parameters the bindings for the query.
+	 * @param rowMapper the {@link RowMapper} to apply to each row.
+	 * @param fetchSize the fetch size for the query, {@code 0} for the default.
+	 */
+	private <T> Stream<T> queryForStream(String sql, SqlParameterSource parameters, RowMapper<T> rowMapper,
+			int fetchSize) {
+
+		if (fetchSize == 0) {
+			return operations.queryForStream(sql, parameters, rowMapper);
+		}
+
+		return operations.getJdbcOperations().queryForStream(createPreparedStatementCreator(sql, parameters, fetchSize),
+				rowMapper);
+	}
+
+	/**
+	 * Whether loading an aggregate of the given type requires additional queries for collections of entities. Such
+	 * queries can't run while the result set of a stream is open, because many drivers don't allow another statement on
+	 * a connection that is still reading a streamed result set.
+	 */
+	private boolean referencesCollections(Class<?> domainType) {
+
+		return !context.findPersistentPropertyPaths(domainType, property -> property.isEntity() //
+				&& !property.isEmbedded() //
+				&& (property.isCollectionLike() || property.isMap())).isEmpty();
+	}
+
+	/**
+	 * Creates a {@link PreparedStatementCreator} for a query with named parameters that applies the given fetch size,
+	 * since {@link NamedParameterJdbcOperations} only supports the fetch size configured for all statements.
+	 */
+	private static PreparedStatementCreator createPreparedStatementCreator(String sql, SqlParameterSource parameters,
+			int fetchSize) {
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		PreparedStatementCreator creator = new PreparedStatementCreatorFactory(
+				NamedParameterUtils.substituteNamedParameters(parsedSql, parameters),
+				NamedParameterUtils.buildSqlParameterList(parsedSql, parameters))
+				.newPreparedStatementCreator(NamedParameterUtils.buildValueArray(parsedSql, parameters, null));
+
+		return connection -> {
+
+			PreparedStatement statement = creator.createPreparedStatement(connection);
+			statement.setFetchSize(fetchSize);
+			return statement;
+		};
+	}
+
 	private EntityRowMapper<?> getEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
 		return new EntityRowMapper<>(path, converter, identifier);
 	}
@@ -406,6 +778,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new MapEntityRowMapper<>(path, converter, identifier, keyColumn, getIdentifierProcessing());
 	}
 
+	private <T> SqlIdentifierParameterSource forUpsert(T instance, Class<T> domainType) {
+		return sqlParametersFactory.forInsert(instance, domainType, Identifier.empty(), IdValueSource.PROVIDED);
+	}
+
 	private IdentifierProcessing getIdentifierProcessing() {
 		return sqlGeneratorSource.getDialect().getIdentifierProcessing();
 	}
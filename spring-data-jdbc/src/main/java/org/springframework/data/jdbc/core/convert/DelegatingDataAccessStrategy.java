@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,6 +25,7 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.util.Assert;
 
@@ -66,17 +68,62 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.update(instance, domainType);
 	}
 
+	@Override
+	public boolean supportsDifferentialUpdates() {
+		return delegate.supportsDifferentialUpdates();
+	}
+
+	@Override
+	public <T> boolean update(T instance, Class<T> domainType, Identifier identifier) {
+		return delegate.update(instance, domainType, identifier);
+	}
+
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number nextVersion) {
 		return delegate.updateWithVersion(instance, domainType, nextVersion);
 
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return delegate.updateAll(instances, domainType);
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return delegate.updateAllWithVersion(instances, domainType, previousVersions);
+	}
+
+	@Override
+	public boolean supportsUpdatesAndDeletesByQuery() {
+		return delegate.supportsUpdatesAndDeletesByQuery();
+	}
+
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+		return delegate.update(query, update, domainType);
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		delegate.upsert(instance, domainType);
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		delegate.upsertAll(instances, domainType);
+	}
+
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		delegate.delete(rootId, propertyPath);
 	}
 
+	@Override
+	public void delete(Identifier identifier, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		delegate.delete(identifier, propertyPath);
+	}
+
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		delegate.delete(rootIds, propertyPath);
@@ -107,6 +154,16 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.deleteAll(propertyPath);
 	}
 
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+		return delegate.delete(query, domainType);
+	}
+
+	@Override
+	public void delete(Query query, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		delegate.delete(query, propertyPath);
+	}
+
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
 		delegate.acquireLockById(id, lockMode, domainType);
@@ -176,6 +233,16 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(query, domainType, pageable);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return delegate.streamAll(domainType);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return delegate.streamAll(query, domainType);
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
 		return delegate.exists(query, domainType);
@@ -20,6 +20,7 @@ import java.sql.ResultSet;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
@@ -38,27 +39,67 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final PersistentPropertyPathExtension path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final @Nullable RelationResolver relationResolver;
 
-	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
+		this(path, converter, identifier, null);
+	}
+
+	/**
+	 * Creates a new {@link EntityRowMapper} for the entity referenced by {@code path} resolving collections and maps
+	 * through the given {@link RelationResolver}.
+	 *
+	 * @param path the path to the entity to map.
+	 * @param converter the converter to use.
+	 * @param identifier the identifier of the referencing entity.
+	 * @param relationResolver the {@link RelationResolver} to use. If {@literal null} the {@link RelationResolver} of
+	 *          the {@link JdbcConverter} gets used.
+	 * @since 3.1
+	 */
+	@SuppressWarnings("unchecked")
+	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier,
+			@Nullable RelationResolver relationResolver) {
 
 		this.entity = (RelationalPersistentEntity<T>) path.getLeafEntity();
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.relationResolver = relationResolver;
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
+		this(entity, converter, null);
+	}
+
+	/**
+	 * Creates a new {@link EntityRowMapper} for an aggregate root resolving collections and maps through the given
+	 * {@link RelationResolver}.
+	 *
+	 * @param entity the aggregate root to map.
+	 * @param converter the converter to use.
+	 * @param relationResolver the {@link RelationResolver} to use. If {@literal null} the {@link RelationResolver} of
+	 *          the {@link JdbcConverter} gets used.
+	 * @since 3.1
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			@Nullable RelationResolver relationResolver) {
 
 		this.entity = entity;
 		this.path = null;
 		this.converter = converter;
 		this.identifier = null;
+		this.relationResolver = relationResolver;
 	}
 
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
 
+		if (relationResolver != null) {
+			return path == null //
+					? converter.mapRow(entity, resultSet, rowNumber, relationResolver) //
+					: converter.mapRow(path, resultSet, identifier, rowNumber, relationResolver);
+		}
+
 		return path == null //
 				? converter.mapRow(entity, resultSet, rowNumber) //
 				: converter.mapRow(path, resultSet, identifier, rowNumber);
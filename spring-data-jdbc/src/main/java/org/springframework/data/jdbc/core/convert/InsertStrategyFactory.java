@@ -70,6 +70,11 @@ public class InsertStrategyFactory {
 					new IdGeneratingInsertStrategy(dialect, namedParameterJdbcOperations, idColumn), dialect, batchJdbcOperations,
 					idColumn);
 		}
+
+		if (dialect.getMaxRowsPerInsert() > 1) {
+			return new MultiRowBatchInsertStrategy(namedParameterJdbcOperations, dialect);
+		}
+
 		return new DefaultBatchInsertStrategy(namedParameterJdbcOperations);
 	}
 
@@ -70,6 +70,41 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity} using the
+	 * given {@link RelationResolver} to load referenced collections and maps.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param relationResolver the {@link RelationResolver} to use for this row. Must not be {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 3.1
+	 */
+	default <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(entity, resultSet, key);
+	}
+
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity}
+	 * using the given {@link RelationResolver} to load referenced collections and maps.
+	 *
+	 * @param path path to the owning property.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key primary key.
+	 * @param relationResolver the {@link RelationResolver} to use for this row. Must not be {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 3.1
+	 */
+	default <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(path, resultSet, identifier, key);
+	}
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.function.IntFunction;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * A {@link BatchInsertStrategy} for inserts that don't generate ids, combining records into multi-row
+ * {@code INSERT … VALUES (…), (…)} statements. The records get split into chunks, limited by
+ * {@link Dialect#getMaxRowsPerInsert()} and by {@link Dialect#getMaxBindParameters()}, and each chunk gets inserted by
+ * a single statement.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class MultiRowBatchInsertStrategy implements BatchInsertStrategy {
+
+	private final NamedParameterJdbcOperations jdbcOperations;
+	private final Dialect dialect;
+
+	MultiRowBatchInsertStrategy(NamedParameterJdbcOperations jdbcOperations, Dialect dialect) {
+
+		this.jdbcOperations = jdbcOperations;
+		this.dialect = dialect;
+	}
+
+	@Override
+	public Object[] execute(String sql, SqlParameterSource[] sqlParameterSources) {
+
+		jdbcOperations.batchUpdate(sql, sqlParameterSources);
+		return new Object[sqlParameterSources.length];
+	}
+
+	@Override
+	public Object[] execute(String sql, IntFunction<String> multiRowSql, SqlParameterSource[] sqlParameterSources) {
+
+		int rowsPerInsert = getRowsPerInsert(sqlParameterSources);
+
+		if (rowsPerInsert < 2) {
+			return execute(sql, sqlParameterSources);
+		}
+
+		String fullChunkSql = null;
+		for (int from = 0; from < sqlParameterSources.length; from += rowsPerInsert) {
+
+			int rows = Math.min(rowsPerInsert, sqlParameterSources.length - from);
+
+			if (rows == 1) {
+				jdbcOperations.update(sql, sqlParameterSources[from]);
+				continue;
+			}
+
+			String chunkSql;
+			if (rows == rowsPerInsert) {
+
+				if (fullChunkSql == null) {
+					fullChunkSql = multiRowSql.apply(rows);
+				}
+				chunkSql = fullChunkSql;
+			} else {
+				chunkSql = multiRowSql.apply(rows);
+			}
+
+			jdbcOperations.update(chunkSql, combine(sqlParameterSources, from, rows));
+		}
+
+		return new Object[sqlParameterSources.length];
+	}
+
+	private int getRowsPerInsert(SqlParameterSource[] sqlParameterSources) {
+
+		if (sqlParameterSources.length < 2) {
+			return 1;
+		}
+
+		String[] parameterNames = sqlParameterSources[0].getParameterNames();
+		if (parameterNames == null || parameterNames.length == 0) {
+			return 1; // inserts of default values can't be combined
+		}
+
+		return Math.min(dialect.getMaxRowsPerInsert(), dialect.getMaxBindParameters() / parameterNames.length);
+	}
+
+	private static SqlParameterSource combine(SqlParameterSource[] sqlParameterSources, int from, int rows) {
+
+		MapSqlParameterSource combined = new MapSqlParameterSource();
+
+		for (int row = 0; row < rows; row++) {
+
+			SqlParameterSource source = sqlParameterSources[from + row];
+
+			for (String name : source.getParameterNames()) {
+
+				String rowName = SqlGenerator.getRowParameterName(name, row);
+				combined.addValue(rowName, source.getValue(name), source.getSqlType(name));
+
+				String typeName = source.getTypeName(name);
+				if (typeName != null) {
+					combined.registerTypeName(rowName, typeName);
+				}
+			}
+		}
+
+		return combined;
+	}
+}
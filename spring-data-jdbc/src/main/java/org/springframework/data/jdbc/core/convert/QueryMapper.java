@@ -39,6 +39,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.query.CriteriaDefinition.Comparator;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.query.ValueFunction;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.util.Pair;
@@ -166,6 +167,65 @@ public class QueryMapper {
 		return unroll(criteria, table, entity, parameterSource);
 	}
 
+	/**
+	 * Map the assignments of an {@link Update} into {@link Assignment assignments} and consider value/{@code NULL}
+	 * bindings.
+	 *
+	 * @param parameterSource bind parameterSource object, must not be {@literal null}.
+	 * @param update update definition to map, must not be {@literal null}.
+	 * @param table must not be {@literal null}.
+	 * @param entity related {@link RelationalPersistentEntity}, can be {@literal null}.
+	 * @return the mapped {@link Assignment assignments}.
+	 * @since 3.1
+	 */
+	public List<Assignment> getMappedObject(MapSqlParameterSource parameterSource, Update update, Table table,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(parameterSource, "MapSqlParameterSource must not be null");
+		Assert.notNull(update, "Update must not be null");
+		Assert.notNull(table, "Table must not be null");
+
+		List<Assignment> assignments = new ArrayList<>();
+		update.getAssignments().forEach(
+				(column, value) -> assignments.add(getAssignment(column, value, parameterSource, table, entity)));
+
+		return assignments;
+	}
+
+	private Assignment getAssignment(SqlIdentifier columnName, @Nullable Object value,
+			MapSqlParameterSource parameterSource, Table table, @Nullable RelationalPersistentEntity<?> entity) {
+
+		Field propertyField = createPropertyField(entity, columnName);
+		Column column = table.column(propertyField.getMappedColumnName());
+
+		Object mappedValue;
+		SQLType sqlType;
+
+		if (value instanceof JdbcValue settableValue) {
+
+			mappedValue = convertValue(settableValue.getValue(), propertyField.getTypeHint());
+			sqlType = getTypeHint(mappedValue, propertyField.getTypeHint().getRequiredActualType().getType(),
+					settableValue);
+		} else if (propertyField instanceof MetadataBackedField metadataBackedField //
+				&& metadataBackedField.property != null //
+				&& value != null) {
+
+			JdbcValue jdbcValue = getWriteValue(metadataBackedField.property, value);
+			mappedValue = jdbcValue.getValue();
+			sqlType = jdbcValue.getJdbcType() != null ? jdbcValue.getJdbcType() : propertyField.getSqlType();
+		} else {
+
+			mappedValue = convertValue(value, propertyField.getTypeHint());
+			sqlType = propertyField.getSqlType();
+		}
+
+		if (mappedValue == null) {
+			return Assignments.value(column, SQL.nullLiteral());
+		}
+
+		return Assignments.value(column, bind(mappedValue, sqlType, parameterSource, column.getName().getReference()));
+	}
+
 	private Condition unroll(CriteriaDefinition criteria, Table table, @Nullable RelationalPersistentEntity<?> entity,
 			MapSqlParameterSource parameterSource) {
 
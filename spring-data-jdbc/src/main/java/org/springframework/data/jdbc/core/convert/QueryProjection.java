@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * The properties of an aggregate root selected by the {@link Query#getColumns() columns} of a {@link Query}. A column
+ * selects the property with the same name or column name. The id property is always part of the projection, since it
+ * is required to load referenced entities and to tell aggregate roots apart. A {@link Query} without columns selects
+ * all properties.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class QueryProjection {
+
+	/**
+	 * {@link QueryProjection} selecting all properties.
+	 */
+	static final QueryProjection ALL = new QueryProjection(Collections.emptySet());
+
+	private final Set<String> names;
+
+	private QueryProjection(Set<String> names) {
+		this.names = names;
+	}
+
+	/**
+	 * Creates the {@link QueryProjection} of the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	static QueryProjection of(Query query) {
+
+		if (query.getColumns().isEmpty()) {
+			return ALL;
+		}
+
+		Set<String> names = new HashSet<>();
+		for (SqlIdentifier column : query.getColumns()) {
+			names.add(column.getReference());
+		}
+
+		return new QueryProjection(names);
+	}
+
+	/**
+	 * @return {@literal true} if only some of the properties are selected.
+	 */
+	boolean isPartial() {
+		return !names.isEmpty();
+	}
+
+	/**
+	 * @param property a property of the aggregate root. Must not be {@literal null}.
+	 * @return {@literal true} if the property is selected by this projection.
+	 */
+	boolean includes(RelationalPersistentProperty property) {
+
+		return names.isEmpty() //
+				|| property.isIdProperty() //
+				|| names.contains(property.getName()) //
+				|| names.contains(property.getColumnName().getReference());
+	}
+
+	/**
+	 * Restricts the given {@link RelationResolver} to the properties selected by this projection. Relations of other
+	 * properties resolve to no entities without executing a statement.
+	 *
+	 * @param relationResolver must not be {@literal null}.
+	 * @return guaranteed to be not {@literal null}.
+	 */
+	RelationResolver restrict(RelationResolver relationResolver) {
+
+		if (!isPartial()) {
+			return relationResolver;
+		}
+
+		return (identifier, path) -> includes(path.getBaseProperty()) //
+				? relationResolver.findAllByPath(identifier, path) //
+				: Collections.emptyList();
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core.convert;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
@@ -25,6 +26,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
 /**
@@ -40,17 +42,46 @@ class ResultSetAccessor {
 
 	private static final Log LOG = LogFactory.getLog(ResultSetAccessor.class);
 
-	private final ResultSet resultSet;
+	@Nullable private final ResultSet resultSet;
 
-	private final Map<String, Integer> indexLookUp;
+	private final ColumnIndex columnIndex;
+
+	@Nullable private final Object[] values;
 
 	ResultSetAccessor(ResultSet resultSet) {
+		this(resultSet, indexColumns(resultSet));
+	}
+
+	/**
+	 * Creates a {@link ResultSetAccessor} using a column index previously obtained through {@link #indexColumns(ResultSet)}
+	 * for the same {@link ResultSet}. This avoids inspecting the result set metadata for each row.
+	 *
+	 * @param resultSet the result set to read from.
+	 * @param columnIndex the column index of the {@literal resultSet}.
+	 * @since 3.1
+	 */
+	ResultSetAccessor(ResultSet resultSet, ColumnIndex columnIndex) {
 
 		this.resultSet = resultSet;
-		this.indexLookUp = indexColumns(resultSet);
+		this.columnIndex = columnIndex;
+		this.values = null;
 	}
 
-	private static Map<String, Integer> indexColumns(ResultSet resultSet) {
+	private ResultSetAccessor(ColumnIndex columnIndex, Object[] values) {
+
+		this.resultSet = null;
+		this.columnIndex = columnIndex;
+		this.values = values;
+	}
+
+	/**
+	 * Creates a case-insensitive lookup from column labels to column indexes for the given {@link ResultSet}.
+	 *
+	 * @param resultSet the result set to inspect.
+	 * @return the column index.
+	 * @since 3.1
+	 */
+	static ColumnIndex indexColumns(ResultSet resultSet) {
 
 		try {
 
@@ -71,7 +102,7 @@ class ResultSetAccessor {
 				index.put(label, i);
 			}
 
-			return index;
+			return new ColumnIndex(index, columnCount);
 		} catch (SQLException se) {
 			throw new MappingException("Cannot obtain result metadata", se);
 		}
@@ -86,18 +117,64 @@ class ResultSetAccessor {
 	 */
 	@Nullable
 	public Object getObject(String columnName) {
+		return getObject(columnIndex.indexOf(columnName));
+	}
 
-		try {
+	/**
+	 * Returns the value of the column at {@code index}.
+	 *
+	 * @param index the column index as obtained from {@link #getColumnIndexes(String[])}. Negative for absent columns.
+	 * @return the value of the column or {@literal null} if the column is absent.
+	 * @since 3.1
+	 */
+	@Nullable
+	Object getObject(int index) {
+
+		if (index < 0) {
+			return null;
+		}
 
-			int index = findColumnIndex(columnName);
-			return index > 0 ? JdbcUtils.getResultSetValue(resultSet, index) : null;
+		if (values != null) {
+			return values[index - 1];
+		}
+
+		try {
+			return JdbcUtils.getResultSetValue(resultSet, index);
 		} catch (SQLException o_O) {
-			throw new MappingException(String.format("Could not read value %s from result set", columnName), o_O);
+			throw new MappingException(String.format("Could not read value at index %d from result set", index), o_O);
 		}
 	}
 
-	private int findColumnIndex(String columnName) {
-		return indexLookUp.getOrDefault(columnName, -1);
+	/**
+	 * Resolves column labels to column indexes. The result is cached per result set and {@code columnNames} array, so
+	 * callers should pass the same array instance for all rows.
+	 *
+	 * @param columnNames the column labels. Elements may be {@literal null}.
+	 * @return the column indexes in the order of {@code columnNames}. Absent columns are represented by {@literal -1}.
+	 * @since 3.1
+	 */
+	int[] getColumnIndexes(String[] columnNames) {
+		return columnIndex.indexesOf(columnNames);
+	}
+
+	/**
+	 * Copies the values of the current row into a {@link ResultSetAccessor} that is detached from the underlying
+	 * {@link ResultSet}, so the row can still be read after the {@link ResultSet} was advanced or closed. The column
+	 * index is shared with this accessor.
+	 *
+	 * @return a detached copy of the current row.
+	 * @since 3.1
+	 */
+	ResultSetAccessor snapshot() {
+
+		Assert.state(resultSet != null, "Cannot create a snapshot of a snapshot");
+
+		Object[] row = new Object[columnIndex.columnCount];
+		for (int i = 1; i <= row.length; i++) {
+			row[i - 1] = getObject(i);
+		}
+
+		return new ResultSetAccessor(columnIndex, row);
 	}
 
 	/**
@@ -107,6 +184,41 @@ class ResultSetAccessor {
 	 * @return
 	 */
 	public boolean hasValue(String columnName) {
-		return indexLookUp.containsKey(columnName);
+		return columnIndex.indexOf(columnName) > 0;
+	}
+
+	/**
+	 * The columns of a {@link ResultSet}, shared by all rows of that {@link ResultSet}. Since a {@link ResultSet} is read
+	 * by a single thread, instances are not thread-safe.
+	 *
+	 * @since 3.1
+	 */
+	static final class ColumnIndex {
+
+		private final Map<String, Integer> indexLookUp;
+		private final int columnCount;
+		private final Map<String[], int[]> resolvedIndexes = new IdentityHashMap<>();
+
+		private ColumnIndex(Map<String, Integer> indexLookUp, int columnCount) {
+
+			this.indexLookUp = indexLookUp;
+			this.columnCount = columnCount;
+		}
+
+		private int indexOf(@Nullable String columnName) {
+			return columnName == null ? -1 : indexLookUp.getOrDefault(columnName, -1);
+		}
+
+		private int[] indexesOf(String[] columnNames) {
+
+			return resolvedIndexes.computeIfAbsent(columnNames, it -> {
+
+				int[] indexes = new int[it.length];
+				for (int i = 0; i < it.length; i++) {
+					indexes[i] = indexOf(it[i]);
+				}
+				return indexes;
+			});
+		}
 	}
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Precomputed information required to read an entity from a row of a {@link java.sql.ResultSet}, created once per
+ * position of the entity within an aggregate. Reading a row based on a plan does not need to construct property paths
+ * or to derive column aliases. The column labels of a plan get resolved to column indexes once per
+ * {@link java.sql.ResultSet} by {@link ResultSetAccessor#getColumnIndexes(String[])}.
+ * <p>
+ * Plans for embedded entities and entities referenced by single valued properties get created lazily, when they are
+ * first needed.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class RowMappingPlan {
+
+	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
+	private final IdentifierProcessing identifierProcessing;
+	private final RelationalPersistentEntity<?> entity;
+	private final PersistentPropertyPathExtension rootPath;
+	private final PersistentPropertyPathExtension path;
+	private final Lazy<SqlIdentifier> qualifierColumn;
+	private final boolean hasCreatorParameters;
+	private final boolean requiresPropertyPopulation;
+
+	private final List<String> columnNames = new ArrayList<>();
+	private final String[] columnNamesArray;
+	private final List<PropertyPlan> properties = new ArrayList<>();
+	private final List<PropertyPlan> persistentProperties = new ArrayList<>();
+	private final Map<String, PropertyPlan> propertiesByName = new HashMap<>();
+	private final @Nullable PropertyPlan idProperty;
+
+	/**
+	 * Creates a {@link RowMappingPlan} for reading the entities at the end of {@literal rootPath}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param identifierProcessing used to turn column aliases into column labels. Must not be {@literal null}.
+	 * @param rootPath the path from the aggregate root to the entity to read. Must not be {@literal null}.
+	 */
+	RowMappingPlan(MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			IdentifierProcessing identifierProcessing, PersistentPropertyPathExtension rootPath) {
+
+		this(context, identifierProcessing, getRequiredLeafEntity(rootPath), rootPath,
+				new PersistentPropertyPathExtension(context, getRequiredLeafEntity(rootPath)));
+	}
+
+	private RowMappingPlan(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			IdentifierProcessing identifierProcessing, RelationalPersistentEntity<?> entity,
+			PersistentPropertyPathExtension rootPath, PersistentPropertyPathExtension path) {
+
+		this.context = context;
+		this.identifierProcessing = identifierProcessing;
+		this.entity = entity;
+		this.rootPath = rootPath;
+		this.path = path;
+		this.qualifierColumn = Lazy.of(rootPath::getQualifierColumn);
+
+		InstanceCreatorMetadata<RelationalPersistentProperty> creatorMetadata = entity.getInstanceCreatorMetadata();
+		this.hasCreatorParameters = creatorMetadata != null && creatorMetadata.hasParameters();
+		this.requiresPropertyPopulation = entity.requiresPropertyPopulation();
+
+		Map<RelationalPersistentProperty, PropertyPlan> plans = new HashMap<>();
+
+		entity.doWithAll(property -> {
+
+			PropertyPlan plan = new PropertyPlan(property,
+					creatorMetadata != null && creatorMetadata.isCreatorParameter(property));
+
+			plans.put(property, plan);
+			properties.add(plan);
+			propertiesByName.put(property.getName(), plan);
+		});
+
+		for (RelationalPersistentProperty property : entity) {
+			persistentProperties.add(plans.computeIfAbsent(property, it -> new PropertyPlan(it, false)));
+		}
+
+		RelationalPersistentProperty id = entity.getIdProperty();
+		this.idProperty = id == null ? null : plans.computeIfAbsent(id, it -> new PropertyPlan(it, false));
+		this.columnNamesArray = columnNames.toArray(new String[0]);
+	}
+
+	private static RelationalPersistentEntity<?> getRequiredLeafEntity(PersistentPropertyPathExtension rootPath) {
+
+		RelationalPersistentEntity<?> entity = rootPath.getLeafEntity();
+
+		Assert.notNull(entity, "The rootPath must point to an entity");
+
+		return entity;
+	}
+
+	RelationalPersistentEntity<?> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * @return the column labels read by this plan. The indexes of the {@link PropertyPlan}s refer to this array.
+	 */
+	String[] getColumnNames() {
+		return columnNamesArray;
+	}
+
+	/**
+	 * @return the qualifier column of the {@literal rootPath}, i.e. the key or index column of the collection containing
+	 *         the entity.
+	 */
+	SqlIdentifier getQualifierColumn() {
+		return qualifierColumn.get();
+	}
+
+	boolean hasCreatorParameters() {
+		return hasCreatorParameters;
+	}
+
+	boolean requiresPropertyPopulation() {
+		return requiresPropertyPopulation;
+	}
+
+	/**
+	 * @return the plans for all properties and associations in the order of
+	 *         {@link RelationalPersistentEntity#doWithAll(org.springframework.data.mapping.PropertyHandler)}.
+	 */
+	List<PropertyPlan> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @return the plans for the persistent properties in the order of {@link RelationalPersistentEntity#iterator()}.
+	 */
+	List<PropertyPlan> getPersistentProperties() {
+		return persistentProperties;
+	}
+
+	@Nullable
+	PropertyPlan getIdProperty() {
+		return idProperty;
+	}
+
+	PropertyPlan getRequiredProperty(String name) {
+
+		PropertyPlan plan = propertiesByName.get(name);
+
+		Assert.state(plan != null, () -> String.format("Required property %s not found for %s", name, entity.getType()));
+
+		return plan;
+	}
+
+	private int addColumn(SqlIdentifier columnAlias) {
+
+		columnNames.add(columnAlias.getReference(identifierProcessing));
+		return columnNames.size() - 1;
+	}
+
+	/**
+	 * How a property gets read.
+	 */
+	enum Kind {
+
+		/**
+		 * A simple value or a collection of simple values read from a single column.
+		 */
+		VALUE,
+
+		/**
+		 * A collection or map of entities loaded by a {@link RelationResolver}.
+		 */
+		RELATION,
+
+		/**
+		 * An embedded entity read from the same row.
+		 */
+		EMBEDDED,
+
+		/**
+		 * A single referenced entity read from the same row.
+		 */
+		ENTITY
+	}
+
+	/**
+	 * Precomputed information for reading a single property.
+	 */
+	class PropertyPlan {
+
+		private final RelationalPersistentProperty property;
+		private final Kind kind;
+		private final boolean simple;
+		private final boolean creatorParameter;
+		private final int valueColumn;
+		private final int backReferenceColumn;
+		private final Lazy<SqlIdentifier> reverseColumnName;
+		private final Lazy<PersistentPropertyPath<? extends RelationalPersistentProperty>> propertyPath;
+		private final Lazy<RowMappingPlan> nested;
+
+		private PropertyPlan(RelationalPersistentProperty property, boolean creatorParameter) {
+
+			this.property = property;
+			this.creatorParameter = creatorParameter;
+			this.simple = !property.isCollectionLike() && !property.isEntity() && !property.isMap()
+					&& !property.isEmbedded();
+
+			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+				this.kind = Kind.RELATION;
+			} else if (property.isEmbedded()) {
+				this.kind = Kind.EMBEDDED;
+			} else if (property.isEntity()) {
+				this.kind = Kind.ENTITY;
+			} else {
+				this.kind = Kind.VALUE;
+			}
+
+			this.valueColumn = kind == Kind.VALUE ? addColumn(path.extendBy(property).getColumnAlias()) : -1;
+			this.backReferenceColumn = kind == Kind.ENTITY
+					? addColumn(path.extendBy(property).getReverseColumnNameAlias())
+					: -1;
+
+			this.reverseColumnName = Lazy.of(() -> rootPath.extendBy(property).getReverseColumnName());
+			this.propertyPath = Lazy.of(() -> path.extendBy(property).getRequiredPersistentPropertyPath());
+			this.nested = Lazy.of(() -> new RowMappingPlan(context, identifierProcessing,
+					context.getRequiredPersistentEntity(property.getActualType()), rootPath.extendBy(property),
+					path.extendBy(property)));
+		}
+
+		RelationalPersistentProperty getProperty() {
+			return property;
+		}
+
+		Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * @return {@literal true} for properties that are neither entities nor collections, maps or embedded.
+		 */
+		boolean isSimple() {
+			return simple;
+		}
+
+		boolean isCreatorParameter() {
+			return creatorParameter;
+		}
+
+		/**
+		 * @return the index of the column holding the value of a {@link Kind#VALUE} property within
+		 *         {@link #getColumnNames()}.
+		 */
+		int getValueColumn() {
+			return valueColumn;
+		}
+
+		/**
+		 * @return the index of the column referencing the parent of a {@link Kind#ENTITY} property within
+		 *         {@link #getColumnNames()}.
+		 */
+		int getBackReferenceColumn() {
+			return backReferenceColumn;
+		}
+
+		/**
+		 * @return the column referencing the entity owning a {@link Kind#RELATION} property.
+		 */
+		SqlIdentifier getReverseColumnName() {
+			return reverseColumnName.get();
+		}
+
+		/**
+		 * @return the path of a {@link Kind#RELATION} property, relative to the entity read by the enclosing plan.
+		 */
+		PersistentPropertyPath<? extends RelationalPersistentProperty> getPropertyPath() {
+			return propertyPath.get();
+		}
+
+		/**
+		 * @return the plan for reading a {@link Kind#EMBEDDED} or {@link Kind#ENTITY} property.
+		 */
+		RowMappingPlan getNested() {
+			return nested.get();
+		}
+	}
+}
@@ -17,12 +17,17 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
@@ -82,11 +87,13 @@ class SqlGenerator {
 
 	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
 	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
+	private final Lazy<String> upsertSql = Lazy.of(this::createUpsertSql);
 
 	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteByIdSql);
 	private final Lazy<String> deleteByIdInSql = Lazy.of(this::createDeleteByIdInSql);
 	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
 	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final StatementCache statementCache = new StatementCache();
 	private final QueryMapper queryMapper;
 	private final Dialect dialect;
 
@@ -160,6 +167,25 @@ class SqlGenerator {
 		return SQL.bindMarker(":" + BindParameterNameSanitizer.sanitize(renderReference(columnName)));
 	}
 
+	private BindMarker getBindMarker(SqlIdentifier columnName, int row) {
+
+		String parameterName = BindParameterNameSanitizer.sanitize(renderReference(columnName));
+		return SQL.bindMarker(":" + getRowParameterName(parameterName, row));
+	}
+
+	/**
+	 * Returns the name of the bind parameter used for {@literal parameterName} in the given row of a multi-row insert.
+	 * The separator never appears in sanitized parameter names, so the names of different rows can't collide.
+	 *
+	 * @param parameterName the name of the parameter in a single row insert.
+	 * @param row the index of the row, starting with {@literal 0}.
+	 * @return the name of the bind parameter for the row. Guaranteed to be not {@literal null}.
+	 * @see #getInsert(Set, int)
+	 */
+	static String getRowParameterName(String parameterName, int row) {
+		return parameterName + "$" + row;
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 * Results are filtered using an {@code IN}-clause on the id column.
@@ -186,7 +212,9 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+
+		return statementCache.get("findAllSorted",
+				() -> render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build()), sort);
 	}
 
 	/**
@@ -196,7 +224,13 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+
+		// limit and offset get rendered as literals
+		return statementCache.get("findAllPaged",
+				() -> render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build()), //
+				pageable.getSort(), pageable.isPaged(), //
+				pageable.isPaged() ? pageable.getPageSize() : null, //
+				pageable.isPaged() ? pageable.getOffset() : null);
 	}
 
 	/**
@@ -237,6 +271,16 @@ class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided");
 
+		List<SqlIdentifier> backReferenceColumns = new ArrayList<>(parentIdentifier.toMap().keySet());
+
+		return statementCache.get("findAllByProperty",
+				() -> createFindAllByPropertySql(backReferenceColumns, keyColumn, ordered), backReferenceColumns, keyColumn,
+				ordered);
+	}
+
+	private String createFindAllByPropertySql(List<SqlIdentifier> backReferenceColumns,
+			@Nullable SqlIdentifier keyColumn, boolean ordered) {
+
 		Table table = getTable();
 
 		SelectBuilder.SelectWhere builder = selectBuilder( //
@@ -245,7 +289,7 @@ class SqlGenerator {
 						: Collections.singleton(keyColumn) //
 		);
 
-		Condition condition = buildConditionForBackReference(parentIdentifier, table);
+		Condition condition = buildConditionForColumns(backReferenceColumns, table);
 		SelectBuilder.SelectWhereAndOr withWhereClause = builder.where(condition);
 
 		Select select = ordered //
@@ -255,10 +299,106 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
+	/**
+	 * Returns a query for selecting all simple properties of the entities reachable via {@literal propertyPath},
+	 * including those for one-to-one relationships, for all aggregate roots matching the {@literal rootCondition}. The
+	 * {@literal backReferenceColumns} and the key column of the path get selected as well so that each row can be
+	 * assigned to the entity referencing it. This is used to load a complex property ({@link Set}, {@link Map} ...) for
+	 * many referencing entities with a single statement.
+	 *
+	 * @param propertyPath the path from the aggregate root to the entities to select. Must not be {@literal null}.
+	 * @param backReferenceColumns the columns identifying the referencing entity. The first column references the id of
+	 *          the nearest ancestor that has an id. Must not be {@literal null} or empty.
+	 * @param rootCondition the condition on a column referencing the id of the aggregate root. Must not be
+	 *          {@literal null}.
+	 * @return a SQL String.
+	 * @since 3.1
+	 */
+	String getFindAllByPath(PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath,
+			Collection<SqlIdentifier> backReferenceColumns, Function<Column, Condition> rootCondition) {
+
+		Assert.notNull(propertyPath, "propertyPath must not be null");
+		Assert.notEmpty(backReferenceColumns, "backReferenceColumns must not be empty");
+		Assert.notNull(rootCondition, "rootCondition must not be null");
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(mappingContext, propertyPath);
+		SqlIdentifier keyColumn = path.getQualifierColumn();
+
+		Set<SqlIdentifier> additionalColumns = new LinkedHashSet<>(backReferenceColumns);
+		if (keyColumn != null) {
+			additionalColumns.add(keyColumn);
+		}
+
+		Table table = getTable();
+		Column filterColumn = table.column(backReferenceColumns.iterator().next());
+
+		Condition condition = path.getLength() == 1 //
+				? rootCondition.apply(filterColumn) //
+				: getSubselectCondition(path, rootCondition, filterColumn);
+
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(additionalColumns).where(condition);
+
+		Select select = path.isOrdered() //
+				? withWhereClause.orderBy(table.column(keyColumn).as(keyColumn)).build() //
+				: withWhereClause.build();
+
+		return render(select);
+	}
+
+	/**
+	 * Creates a condition restricting a column referencing the aggregate root to the id bound as
+	 * {@link #ID_SQL_PARAMETER}.
+	 *
+	 * @param column the column referencing the aggregate root. Must not be {@literal null}.
+	 * @return the condition. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	Condition isRootId(Column column) {
+		return column.isEqualTo(getBindMarker(ID_SQL_PARAMETER));
+	}
+
+	/**
+	 * Creates a condition restricting a column referencing the aggregate root to the ids bound as
+	 * {@link #IDS_SQL_PARAMETER}.
+	 *
+	 * @param column the column referencing the aggregate root. Must not be {@literal null}.
+	 * @return the condition. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	Condition isInRootIds(Column column) {
+		return column.in(getBindMarker(IDS_SQL_PARAMETER));
+	}
+
+	/**
+	 * Creates a function that restricts a column referencing the aggregate root to the ids of the aggregate roots
+	 * matching the criteria of the given {@link Query}. Sorting, limit and offset of the query are not considered.
+	 * Bindings for the criteria are stored into the <code>parameterSource</code>.
+	 *
+	 * @param query the query to base the restriction on. Must not be {@literal null}.
+	 * @param parameterSource the source for holding the bindings. Must not be {@literal null}.
+	 * @return the function creating the condition. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	Function<Column, Condition> getRootCondition(Query query, MapSqlParameterSource parameterSource) {
+
+		Assert.notNull(parameterSource, "parameterSource must not be null");
+
+		Table table = getTable();
+		SelectBuilder.SelectWhere baseSelect = (SelectBuilder.SelectWhere) addJoins(
+				StatementBuilder.select(getIdColumn()).from(table));
+
+		Select select = query.getCriteria() //
+				.map(criteria -> applyCriteria(criteria, baseSelect, parameterSource, table)) //
+				.orElse(baseSelect) //
+				.build();
+
+		return column -> column.in(select);
+	}
+
+	private Condition buildConditionForColumns(Collection<SqlIdentifier> columns, Table table) {
 
 		Condition condition = null;
-		for (SqlIdentifier backReferenceColumn : parentIdentifier.toMap().keySet()) {
+		for (SqlIdentifier backReferenceColumn : columns) {
 
 			Assert.isTrue(!SqlIdentifier.EMPTY.equals(backReferenceColumn),
 					"An empty SqlIdentifier can't be used in condition. Make sure that all composite primary keys are defined in the query");
@@ -297,7 +437,7 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockById(LockMode lockMode) {
-		return this.createAcquireLockById(lockMode);
+		return statementCache.get("acquireLockById", () -> createAcquireLockById(lockMode), lockMode);
 	}
 
 	/**
@@ -307,7 +447,7 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockAll(LockMode lockMode) {
-		return this.createAcquireLockAll(lockMode);
+		return statementCache.get("acquireLockAll", () -> createAcquireLockAll(lockMode), lockMode);
 	}
 
 	/**
@@ -316,7 +456,29 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return getInsertSql(additionalColumns, 1);
+	}
+
+	/**
+	 * Create a multi-row {@code INSERT INTO … (…) VALUES (…), (…)} statement. The bind parameters of each row are named
+	 * as returned by {@link #getRowParameterName(String, int)}.
+	 *
+	 * @param additionalColumns the columns to insert in addition to the insertable columns of the entity.
+	 * @param rows the number of rows to insert. Must be greater than one.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Assert.isTrue(rows > 1, "A multi-row insert must insert more than one row");
+
+		return getInsertSql(additionalColumns, rows);
+	}
+
+	private String getInsertSql(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Set<SqlIdentifier> columns = new HashSet<>(additionalColumns);
+		return statementCache.get("insert", () -> createInsertSql(columns, rows), columns, rows);
 	}
 
 	/**
@@ -328,6 +490,46 @@ class SqlGenerator {
 		return updateSql.get();
 	}
 
+	/**
+	 * Create a statement inserting a row with the id and all insertable columns of the entity or updating the updatable
+	 * columns of the row with the same id if it exists already. The actual syntax depends on the {@link Dialect}.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getUpsert() {
+		return upsertSql.get();
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE …} statement for an entity that gets identified by the given columns instead
+	 * of just its id, e.g. by the reference to its parent and its key in a {@link java.util.List}.
+	 *
+	 * @param identifyingColumns the columns used to identify the row to update. Must not be empty.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getUpdate(Set<SqlIdentifier> identifyingColumns) {
+		return getUpdate(identifyingColumns, Collections.emptySet());
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE …} statement for an entity that gets identified by the given columns and that
+	 * additionally writes the given columns that aren't part of the entity, e.g. a changed key in a
+	 * {@link java.util.List}.
+	 *
+	 * @param identifyingColumns the columns used to identify the row to update. Must not be empty.
+	 * @param additionalColumns further columns to be set by the statement. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getUpdate(Set<SqlIdentifier> identifyingColumns, Set<SqlIdentifier> additionalColumns) {
+
+		Set<SqlIdentifier> columns = new LinkedHashSet<>(identifyingColumns);
+		Set<SqlIdentifier> additional = new LinkedHashSet<>(additionalColumns);
+		return statementCache.get("updateByColumns", () -> createUpdateSql(columns, additional), columns, additional);
+	}
+
 	/**
 	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement.
 	 *
@@ -364,6 +566,20 @@ class SqlGenerator {
 		return deleteByIdInSql.get();
 	}
 
+	/**
+	 * Create a {@code DELETE FROM … WHERE …} statement for a single entity that gets identified by the given columns, e.g.
+	 * by the reference to its parent and its key in a {@link java.util.Map}.
+	 *
+	 * @param identifyingColumns the columns used to identify the row to delete. Must not be empty.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	String getDelete(Set<SqlIdentifier> identifyingColumns) {
+
+		Set<SqlIdentifier> columns = new LinkedHashSet<>(identifyingColumns);
+		return statementCache.get("deleteByColumns", () -> createDeleteSql(columns), columns);
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = … and :___oldOptimisticLockingVersion = ...} statement.
 	 *
@@ -389,6 +605,10 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return statementCache.get("deleteAll", () -> doCreateDeleteAllSql(path), path);
+	}
+
+	private String doCreateDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		Table table = getTable();
 
@@ -409,8 +629,11 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
-		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
-				filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)));
+
+		return statementCache.get("deleteByPath",
+				() -> createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
+						filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER))),
+				path);
 	}
 
 	/**
@@ -422,8 +645,21 @@ class SqlGenerator {
 	 */
 	String createDeleteInByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
-		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
-				filterColumn -> filterColumn.in(getBindMarker(IDS_SQL_PARAMETER)));
+		return statementCache.get("deleteInByPath",
+				() -> createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
+						filterColumn -> filterColumn.in(getBindMarker(IDS_SQL_PARAMETER))),
+				path);
+	}
+
+	/**
+	 * Returns hit and miss counts of the statements rendered for dynamic arguments like a {@link Sort} or additional
+	 * columns.
+	 *
+	 * @return the statistics of the statement cache. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	StatementCacheStatistics getStatementCacheStatistics() {
+		return statementCache.getStatistics();
 	}
 
 	private String createFindOneSql() {
@@ -470,6 +706,16 @@ class SqlGenerator {
 	}
 
 	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns) {
+		return selectBuilder(keyColumns, property -> true);
+	}
+
+	/**
+	 * Creates a select for the columns of the properties of the aggregate root accepted by {@code includeProperty}.
+	 * Single valued references get joined even when they are not included, since criteria or sorting might reference
+	 * their columns.
+	 */
+	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns,
+			Predicate<RelationalPersistentProperty> includeProperty) {
 
 		Table table = getTable();
 
@@ -487,6 +733,10 @@ class SqlGenerator {
 				joinTables.add(join);
 			}
 
+			if (!includeProperty.test(path.getBaseProperty())) {
+				continue;
+			}
+
 			Column column = getColumn(extPath);
 			if (column != null) {
 				columnExpressions.add(column);
@@ -507,6 +757,15 @@ class SqlGenerator {
 		return (SelectBuilder.SelectWhere) baseSelect;
 	}
 
+	private SelectBuilder.SelectWhere selectBuilder(Query query) {
+
+		QueryProjection projection = QueryProjection.of(query);
+
+		return projection.isPartial() //
+				? selectBuilder(Collections.emptyList(), projection::includes) //
+				: selectBuilder();
+	}
+
 	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort,
 			Pageable pageable) {
 
@@ -621,7 +880,7 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
+	private String createInsertSql(Set<SqlIdentifier> additionalColumns, int rows) {
 
 		Table table = getTable();
 
@@ -641,16 +900,71 @@ class SqlGenerator {
 
 		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
 		for (SqlIdentifier cn : columnNamesForInsert) {
-			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
+			insertWithValues = (insertWithValues == null ? insert : insertWithValues)
+					.values(rows == 1 ? getBindMarker(cn) : getBindMarker(cn, 0));
+		}
+
+		for (int row = 1; row < rows; row++) {
+
+			insertWithValues = insertWithValues.nextRow();
+			for (SqlIdentifier cn : columnNamesForInsert) {
+				insertWithValues = insertWithValues.values(getBindMarker(cn, row));
+			}
 		}
 
 		return render(insertWithValues.build());
 	}
 
+	private String createUpsertSql() {
+
+		Table table = getTable();
+
+		Set<SqlIdentifier> columnNamesForUpsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForUpsert.addAll(columns.getInsertableColumns());
+		columnNamesForUpsert.add(entity.getIdColumn());
+
+		List<Column> upsertColumns = columnNamesForUpsert.stream().map(table::column).collect(Collectors.toList());
+		List<Expression> values = columnNamesForUpsert.stream().map(this::getBindMarker).collect(Collectors.toList());
+		List<Column> updateColumns = columns.getUpdatableColumns().stream().map(table::column)
+				.collect(Collectors.toList());
+
+		Upsert upsert = Upsert.builder() //
+				.into(table) //
+				.columns(upsertColumns) //
+				.values(values) //
+				.onConflict(table.column(entity.getIdColumn())) //
+				.update(updateColumns) //
+				.build();
+
+		return render(upsert);
+	}
+
 	private String createUpdateSql() {
 		return render(createBaseUpdate().build());
 	}
 
+	private String createUpdateSql(Set<SqlIdentifier> identifyingColumns, Set<SqlIdentifier> additionalColumns) {
+
+		Table table = getTable();
+
+		Set<SqlIdentifier> assignedColumns = new LinkedHashSet<>(columns.getUpdatableColumns());
+		assignedColumns.addAll(additionalColumns);
+
+		List<AssignValue> assignments = assignedColumns //
+				.stream() //
+				.filter(columnName -> !identifyingColumns.contains(columnName)) //
+				.map(columnName -> Assignments.value( //
+						table.column(columnName), //
+						getBindMarker(columnName))) //
+				.collect(Collectors.toList());
+
+		return render(Update.builder() //
+				.table(table) //
+				.set(assignments) //
+				.where(buildConditionForColumns(identifyingColumns, table)) //
+				.build());
+	}
+
 	private String createUpdateWithVersionSql() {
 
 		Update update = createBaseUpdate() //
@@ -731,6 +1045,15 @@ class SqlGenerator {
 		return render(delete);
 	}
 
+	private String createDeleteSql(Set<SqlIdentifier> identifyingColumns) {
+
+		Table table = getTable();
+
+		return render(Delete.builder().from(table) //
+				.where(buildConditionForColumns(identifyingColumns, table)) //
+				.build());
+	}
+
 	private String createDeleteByListSql() {
 
 		Table table = getTable();
@@ -751,6 +1074,10 @@ class SqlGenerator {
 		return this.sqlRenderer.render(insert);
 	}
 
+	private String render(Upsert upsert) {
+		return this.sqlRenderer.render(upsert);
+	}
+
 	private String render(Update update) {
 		return this.sqlRenderer.render(update);
 	}
@@ -826,7 +1153,9 @@ class SqlGenerator {
 
 	/**
 	 * Constructs a single sql query that performs select based on the provided query. Additional the bindings for the
-	 * where clause are stored after execution into the <code>parameterSource</code>
+	 * where clause are stored after execution into the <code>parameterSource</code>. If the query defines
+	 * {@link Query#getColumns() columns} only the id column and the columns of the properties named by them get
+	 * selected.
 	 *
 	 * @param query the query to base the select on. Must not be null
 	 * @param parameterSource the source for holding the bindings
@@ -836,9 +1165,9 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		SelectBuilder.SelectWhere selectBuilder = selectBuilder(query);
 
-		Select select = applyQueryOnSelect(query, parameterSource, selectBuilder) //
+		Select select = applyLock(query, applyQueryOnSelect(query, parameterSource, selectBuilder)) //
 				.build();
 
 		return render(select);
@@ -857,7 +1186,7 @@ class SqlGenerator {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		SelectBuilder.SelectWhere selectBuilder = selectBuilder(query);
 
 		// first apply query and then pagination. This means possible query sorting and limiting might be overwritten by the
 		// pagination. This is desired.
@@ -865,7 +1194,7 @@ class SqlGenerator {
 		selectOrdered = applyPagination(pageable, selectOrdered);
 		selectOrdered = selectOrdered.orderBy(extractOrderByFields(pageable.getSort()));
 
-		Select select = selectOrdered.build();
+		Select select = applyLock(query, selectOrdered).build();
 		return render(select);
 	}
 
@@ -906,6 +1235,137 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	/**
+	 * Constructs a single sql statement updating all rows of the table matching the criteria of the provided query with
+	 * the assignments of the provided update. Sorting, limit and offset of the query are not considered. Additional the
+	 * bindings for the where clause and the assignments are stored after execution into the <code>parameterSource</code>
+	 *
+	 * @param query the query selecting the rows to update. Must not be null.
+	 * @param update the assignments to apply. Must not be null.
+	 * @param parameterSource the source for holding the bindings.
+	 * @return a non null statement string.
+	 * @since 3.1
+	 */
+	public String updateByQuery(Query query, org.springframework.data.relational.core.query.Update update,
+			MapSqlParameterSource parameterSource) {
+
+		Assert.notNull(update, "Update must not be null");
+		Assert.isTrue(!update.getAssignments().isEmpty(), "Update must contain at least one assignment");
+
+		Table table = getTable();
+
+		UpdateBuilder.UpdateWhere updateWhere = Update.builder() //
+				.table(table) //
+				.set(queryMapper.getMappedObject(parameterSource, update, table, entity));
+
+		Condition condition = getQueryCondition(query, parameterSource, table);
+
+		return render(condition == null ? updateWhere.build() : updateWhere.where(condition).build());
+	}
+
+	/**
+	 * Constructs a single sql statement deleting all rows of the table matching the criteria of the provided query.
+	 * Sorting, limit and offset of the query are not considered. Rows of tables referencing the deleted rows are not
+	 * deleted. Additional the bindings for the where clause are stored after execution into the
+	 * <code>parameterSource</code>
+	 *
+	 * @param query the query selecting the rows to delete. Must not be null.
+	 * @param parameterSource the source for holding the bindings.
+	 * @return a non null statement string.
+	 * @since 3.1
+	 */
+	public String deleteByQuery(Query query, MapSqlParameterSource parameterSource) {
+
+		Table table = getTable();
+
+		DeleteBuilder.DeleteWhere delete = Delete.builder().from(table);
+		Condition condition = getQueryCondition(query, parameterSource, table);
+
+		return render(condition == null ? delete.build() : delete.where(condition).build());
+	}
+
+	/**
+	 * Constructs a single sql statement deleting the entities referenced via the provided path from all aggregate roots
+	 * matching the criteria of the provided query. The aggregate roots get selected by a subselect. Additional the
+	 * bindings for the where clause are stored after execution into the <code>parameterSource</code>
+	 *
+	 * @param query the query selecting the aggregate roots. Must not be null.
+	 * @param parameterSource the source for holding the bindings.
+	 * @param path the path from the aggregate root to the entities to delete. Must not be null.
+	 * @return a non null statement string.
+	 * @since 3.1
+	 */
+	public String deleteByQuery(Query query, MapSqlParameterSource parameterSource,
+			PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		Table table = getTable();
+		Condition condition = getQueryCondition(query, parameterSource, table);
+
+		if (condition == null) {
+			return createDeleteAllSql(path);
+		}
+
+		Select rootIds = Select.builder() //
+				.select(getIdColumn()) //
+				.from(table) //
+				.where(condition) //
+				.build();
+
+		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
+				filterColumn -> filterColumn.in(rootIds));
+	}
+
+	@Nullable
+	private Condition getQueryCondition(Query query, MapSqlParameterSource parameterSource, Table table) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(parameterSource, "parameterSource must not be null");
+
+		return query.getCriteria() //
+				.filter(criteria -> !criteria.isEmpty()) //
+				.map(criteria -> {
+
+					assertNoReferencedEntityProperties(criteria);
+					return queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+				}) //
+				.orElse(null);
+	}
+
+	/**
+	 * Update and delete statements don't join the tables of referenced entities, so criteria on their properties would
+	 * render columns missing from the statement.
+	 */
+	private void assertNoReferencedEntityProperties(CriteriaDefinition criteria) {
+
+		if (criteria.isGroup()) {
+			criteria.getGroup().forEach(this::assertNoReferencedEntityProperties);
+		} else if (!criteria.isEmpty() && criteria.getColumn() != null) {
+
+			String propertyName = criteria.getColumn().getReference();
+			PersistentPropertyPath<RelationalPersistentProperty> path;
+
+			try {
+				path = mappingContext.getPersistentPropertyPath(PropertyPath.from(propertyName, entity.getTypeInformation()));
+			} catch (PropertyReferenceException | InvalidPersistentPropertyPath e) {
+				path = null; // not a property but a plain column name
+			}
+
+			if (path != null) {
+				for (RelationalPersistentProperty property : path) {
+					if (property.isEntity() && !property.isEmbedded()) {
+						throw new InvalidDataAccessApiUsageException(String.format("Criteria of updates and deletes by query"
+								+ " can't reference properties of referenced entities like %s of %s", propertyName,
+								entity.getType().getName()));
+					}
+				}
+			}
+		}
+
+		if (criteria.hasPrevious()) {
+			assertNoReferencedEntityProperties(criteria.getPrevious());
+		}
+	}
+
 	/**
 	 * Generates a {@link org.springframework.data.relational.core.sql.SelectBuilder.SelectJoin} with a
 	 * <code>COUNT(...)</code> where the <code>countExpressions</code> are the parameters of the count.
@@ -921,19 +1381,7 @@ class SqlGenerator {
 				.select(dialect.getExistsFunction()) //
 				.from(table);
 
-		// add possible joins
-		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
-				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
-
-			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
-
-			// add a join if necessary
-			Join join = getJoin(extPath);
-			if (join != null) {
-				baseSelect = baseSelect.leftOuterJoin(join.joinTable).on(join.joinColumn).equals(join.parentId);
-			}
-		}
-		return baseSelect;
+		return addJoins(baseSelect);
 	}
 
 	/**
@@ -955,6 +1403,11 @@ class SqlGenerator {
 				.select(Functions.count(countExpressions)) //
 				.from(table);
 
+		return addJoins(baseSelect);
+	}
+
+	private SelectBuilder.SelectJoin addJoins(SelectBuilder.SelectJoin baseSelect) {
+
 		// add possible joins
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
 				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
@@ -997,6 +1450,12 @@ class SqlGenerator {
 		return (SelectBuilder.SelectOrdered) limitable;
 	}
 
+	private static SelectBuilder.BuildSelect applyLock(Query query, SelectBuilder.SelectOrdered selectOrdered) {
+
+		LockMode lockMode = query.getLockMode();
+		return lockMode == null ? selectOrdered : selectOrdered.lock(lockMode, query.getLockWaitPolicy());
+	}
+
 	SelectBuilder.SelectOrdered applyCriteria(@Nullable CriteriaDefinition criteria,
 			SelectBuilder.SelectWhere whereBuilder, MapSqlParameterSource parameterSource, Table table) {
 
@@ -56,6 +56,35 @@ public class SqlGeneratorSource {
 		return dialect;
 	}
 
+	/**
+	 * Returns hit and miss counts of the statements the {@link SqlGenerator} for the given domain type rendered for
+	 * dynamic arguments like a {@link org.springframework.data.domain.Sort} or additional columns.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return the statistics of the statement cache. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	public StatementCacheStatistics getStatementCacheStatistics(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return getSqlGenerator(domainType).getStatementCacheStatistics();
+	}
+
+	/**
+	 * Returns the combined hit and miss counts of the statement caches of all {@link SqlGenerator} instances created so
+	 * far.
+	 *
+	 * @return the statistics of all statement caches. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	public StatementCacheStatistics getStatementCacheStatistics() {
+
+		return CACHE.values().stream() //
+				.map(SqlGenerator::getStatementCacheStatistics) //
+				.reduce(StatementCacheStatistics.EMPTY, StatementCacheStatistics::plus);
+	}
+
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
 		return CACHE.computeIfAbsent(domainType,
@@ -99,6 +99,24 @@ public class SqlParametersFactory {
 				RelationalPersistentProperty::isInsertOnly, dialect.getIdentifierProcessing());
 	}
 
+	/**
+	 * Creates the parameters for a SQL update operation of an entity identified by an {@link Identifier}.
+	 *
+	 * @param instance the entity to be updated. Must not be {@code null}.
+	 * @param domainType the type of the instance. Must not be {@code null}.
+	 * @param identifier the values identifying the row to update. Must not be {@code null}.
+	 * @return the {@link SqlIdentifierParameterSource} for the update. Guaranteed to not be {@code null}.
+	 * @since 3.1
+	 */
+	<T> SqlIdentifierParameterSource forUpdate(T instance, Class<T> domainType, Identifier identifier) {
+
+		SqlIdentifierParameterSource parameterSource = forUpdate(instance, domainType);
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		return parameterSource;
+	}
+
 	/**
 	 * Creates the parameters for a SQL query by id.
 	 *
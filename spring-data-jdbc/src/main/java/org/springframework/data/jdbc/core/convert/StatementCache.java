@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded, thread safe cache for rendered SQL statements. Statements are identified by a name and the arguments they
+ * got rendered for. Once the capacity is reached the least recently used statement gets evicted, so arguments with an
+ * unbounded range of values, like the offset of a page, can't exhaust the memory.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class StatementCache {
+
+	static final int DEFAULT_CAPACITY = 256;
+
+	private final ConcurrentLruCache<StatementKey, String> cache;
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	StatementCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	StatementCache(int capacity) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero");
+
+		this.cache = new ConcurrentLruCache<>(capacity, this::render);
+	}
+
+	/**
+	 * Returns the statement identified by {@literal statement} and {@literal arguments}, rendering it using the given
+	 * {@link Supplier} if it isn't cached yet.
+	 *
+	 * @param statement the name of the kind of statement. Must not be {@literal null}.
+	 * @param renderer renders the statement on a cache miss. Must not be {@literal null}.
+	 * @param arguments everything the rendered statement depends on. Must implement {@code equals} and
+	 *          {@code hashCode} and must not be modified after being passed to this method.
+	 * @return the rendered statement. Guaranteed to be not {@literal null}.
+	 */
+	String get(String statement, Supplier<String> renderer, @Nullable Object... arguments) {
+
+		requests.increment();
+		return cache.get(new StatementKey(statement, Arrays.asList(arguments), renderer));
+	}
+
+	/**
+	 * @return the current hit and miss counts of this cache. Guaranteed to be not {@literal null}.
+	 */
+	StatementCacheStatistics getStatistics() {
+
+		long missCount = misses.sum();
+		return new StatementCacheStatistics(requests.sum() - missCount, missCount, cache.size(), cache.capacity());
+	}
+
+	private String render(StatementKey key) {
+
+		misses.increment();
+		return key.renderer.get();
+	}
+
+	/**
+	 * Identifies a statement. The renderer is deliberately not part of {@link #equals(Object)} and {@link #hashCode()}.
+	 */
+	private static final class StatementKey {
+
+		private final String statement;
+		private final List<Object> arguments;
+		private final Supplier<String> renderer;
+		private final int hashCode;
+
+		StatementKey(String statement, List<Object> arguments, Supplier<String> renderer) {
+
+			this.statement = statement;
+			this.arguments = arguments;
+			this.renderer = renderer;
+			this.hashCode = 31 * statement.hashCode() + arguments.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			return o instanceof StatementKey that //
+					&& hashCode == that.hashCode //
+					&& statement.equals(that.statement) //
+					&& arguments.equals(that.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
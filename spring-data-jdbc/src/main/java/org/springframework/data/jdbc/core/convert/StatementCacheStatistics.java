@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+/**
+ * Snapshot of the usage of the caches holding the SQL statements rendered for dynamic arguments like a
+ * {@link org.springframework.data.domain.Sort} or additional columns.
+ *
+ * @param hits number of statements served from the cache.
+ * @param misses number of statements that had to be rendered.
+ * @param size number of statements currently cached.
+ * @param capacity maximum number of statements cached.
+ * @since 3.1
+ */
+public record StatementCacheStatistics(long hits, long misses, int size, int capacity) {
+
+	/**
+	 * Statistics of no cache at all.
+	 */
+	public static final StatementCacheStatistics EMPTY = new StatementCacheStatistics(0, 0, 0, 0);
+
+	/**
+	 * Combines these statistics with the ones of another cache.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return the sum of both statistics. Guaranteed to be not {@literal null}.
+	 */
+	public StatementCacheStatistics plus(StatementCacheStatistics other) {
+		return new StatementCacheStatistics(hits + other.hits, misses + other.misses, size + other.size,
+				capacity + other.capacity);
+	}
+}
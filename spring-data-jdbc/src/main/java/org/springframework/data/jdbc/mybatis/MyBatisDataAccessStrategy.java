@@ -17,15 +17,27 @@ package org.springframework.data.jdbc.mybatis;
 
 import static java.util.Arrays.*;
 
+import java.io.IOException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.*;
@@ -36,10 +48,12 @@ import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -49,7 +63,15 @@ import org.springframework.util.Assert;
  * argument, the relevant entity is that of the root of the path, and the path itself gets as dot separated String
  * appended to the statement name. Each statement gets an instance of {@link MyBatisContext}, which at least has the
  * entityType set. For methods taking a {@link PropertyPath} the entityType if the context is set to the class of the
- * leaf type.
+ * leaf type. Invoking a method for which no statement is mapped fails with the exception reported by MyBatis. Only
+ * the strategy created by
+ * {@link #createCombinedAccessStrategy(RelationalMappingContext, JdbcConverter, NamedParameterJdbcOperations, SqlSession, NamespaceStrategy, Dialect)}
+ * checks for a mapped statement upfront and throws an {@link UnsupportedOperationException}, so the
+ * {@link CascadingDataAccessStrategy} falls back to the {@link DefaultDataAccessStrategy}.
+ * <p>
+ * Methods operating on multiple entities execute the statement for each entity and then flush the statements of the
+ * {@link SqlSession}. With a {@link SqlSession} using {@link ExecutorType#BATCH} the statements therefore get sent to
+ * the database as a single JDBC batch, and generated ids and update counts are taken from the result of the flush.
  *
  * @author Jens Schauder
  * @author Kazuki Shimizu
@@ -67,6 +89,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 	private final SqlSession sqlSession;
 	private NamespaceStrategy namespaceStrategy = NamespaceStrategy.DEFAULT_INSTANCE;
+	private boolean rejectUnmappedStatements = false;
 
 	/**
 	 * Create a {@link DataAccessStrategy} that first checks for queries defined by MyBatis and if it doesn't find one
@@ -108,6 +131,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		MyBatisDataAccessStrategy myBatisDataAccessStrategy = new MyBatisDataAccessStrategy(sqlSession,
 				dialect.getIdentifierProcessing());
 		myBatisDataAccessStrategy.setNamespaceStrategy(namespaceStrategy);
+		myBatisDataAccessStrategy.rejectUnmappedStatements = true;
 
 		CascadingDataAccessStrategy cascadingDataAccessStrategy = new CascadingDataAccessStrategy(
 				asList(myBatisDataAccessStrategy, delegatingDataAccessStrategy));
@@ -149,7 +173,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier, IdValueSource idValueSource) {
 
 		MyBatisContext myBatisContext = new MyBatisContext(identifier, instance, domainType);
-		sqlSession().insert(namespace(domainType) + ".insert", myBatisContext);
+		sqlSession().insert(mappedStatement(namespace(domainType) + ".insert"), myBatisContext);
 
 		return myBatisContext.getId();
 	}
@@ -157,44 +181,126 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType, IdValueSource idValueSource) {
 
-		return insertSubjects.stream().map(
-				insertSubject -> insert(insertSubject.getInstance(), domainType, insertSubject.getIdentifier(), idValueSource))
-				.toArray();
+		String statement = mappedStatement(namespace(domainType) + ".insert");
+
+		List<MyBatisContext> parameters = new ArrayList<>(insertSubjects.size());
+		for (InsertSubject<T> insertSubject : insertSubjects) {
+
+			MyBatisContext parameter = new MyBatisContext(insertSubject.getIdentifier(), insertSubject.getInstance(),
+					domainType);
+			sqlSession().insert(statement, parameter);
+			parameters.add(parameter);
+		}
+
+		// generated keys of batched statements get set on the parameters when flushing
+		sqlSession().flushStatements();
+
+		return parameters.stream().map(MyBatisContext::getId).toArray();
 	}
 
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
 
-		return sqlSession().update(namespace(domainType) + ".update",
+		return sqlSession().update(mappedStatement(namespace(domainType) + ".update"),
 				new MyBatisContext(null, instance, domainType, Collections.emptyMap())) != 0;
 	}
 
+	@Override
+	public boolean supportsDifferentialUpdates() {
+		return true;
+	}
+
+	@Override
+	public <T> boolean update(T instance, Class<T> domainType, Identifier identifier) {
+
+		return sqlSession().update(mappedStatement(namespace(domainType) + ".update"),
+				new MyBatisContext(identifier, instance, domainType)) != 0;
+	}
+
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
 
-		String statement = namespace(domainType) + ".updateWithVersion";
+		String statement = mappedStatement(namespace(domainType) + ".updateWithVersion");
 		MyBatisContext parameter = new MyBatisContext(null, instance, domainType,
 				Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersion));
 		return sqlSession().update(statement, parameter) != 0;
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		String statement = mappedStatement(namespace(domainType) + ".update");
+
+		List<MyBatisContext> parameters = new ArrayList<>(instances.size());
+		for (T instance : instances) {
+			parameters.add(new MyBatisContext(null, instance, domainType, Collections.emptyMap()));
+		}
+
+		return updateAll(statement, parameters);
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		String statement = mappedStatement(namespace(domainType) + ".updateWithVersion");
+
+		List<MyBatisContext> parameters = new ArrayList<>(instances.size());
+		for (int i = 0; i < instances.size(); i++) {
+			parameters.add(new MyBatisContext(null, instances.get(i), domainType,
+					Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersions.get(i))));
+		}
+
+		return updateAll(statement, parameters);
+	}
+
+	@Override
+	public <T> long update(Query query, Update update, Class<T> domainType) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		sqlSession().insert(mappedStatement(namespace(domainType) + ".upsert"),
+				new MyBatisContext(null, instance, domainType, Collections.emptyMap()));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+
+		String statement = mappedStatement(namespace(domainType) + ".upsert");
+
+		for (T instance : instances) {
+			sqlSession().insert(statement, new MyBatisContext(null, instance, domainType, Collections.emptyMap()));
+		}
+
+		sqlSession().flushStatements();
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
-		String statement = namespace(domainType) + ".delete";
+		String statement = mappedStatement(namespace(domainType) + ".delete");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
 	}
 
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
-		ids.forEach(id -> delete(id, domainType));
+
+		String statement = mappedStatement(namespace(domainType) + ".delete");
+
+		for (Object id : ids) {
+			sqlSession().delete(statement, new MyBatisContext(id, null, domainType, Collections.emptyMap()));
+		}
+
+		sqlSession().flushStatements();
 	}
 
 	@Override
 	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
 
-		String statement = namespace(domainType) + ".deleteWithVersion";
+		String statement = mappedStatement(namespace(domainType) + ".deleteWithVersion");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType,
 				Collections.singletonMap(VERSION_SQL_PARAMETER_NAME_OLD, previousVersion));
 		sqlSession().delete(statement, parameter);
@@ -204,22 +310,42 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
 		Class<?> ownerType = getOwnerTyp(propertyPath);
-		String statement = namespace(ownerType) + ".delete-" + toDashPath(propertyPath);
+		String statement = mappedStatement(namespace(ownerType) + ".delete-" + toDashPath(propertyPath));
 		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
 		MyBatisContext parameter = new MyBatisContext(rootId, null, leafType, Collections.emptyMap());
 
 		sqlSession().delete(statement, parameter);
 	}
 
+	@Override
+	public void delete(Identifier identifier, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		Class<?> ownerType = getOwnerTyp(propertyPath);
+		String statement = mappedStatement(namespace(ownerType) + ".deleteByIdentifier-" + toDashPath(propertyPath));
+		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
+		MyBatisContext parameter = new MyBatisContext(identifier, null, leafType);
+
+		sqlSession().delete(statement, parameter);
+	}
+
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		rootIds.forEach(rootId -> delete(rootId, propertyPath));
+
+		Class<?> ownerType = getOwnerTyp(propertyPath);
+		String statement = mappedStatement(namespace(ownerType) + ".delete-" + toDashPath(propertyPath));
+		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
+
+		for (Object rootId : rootIds) {
+			sqlSession().delete(statement, new MyBatisContext(rootId, null, leafType, Collections.emptyMap()));
+		}
+
+		sqlSession().flushStatements();
 	}
 
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".deleteAll";
+		String statement = mappedStatement(namespace(domainType) + ".deleteAll");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
 	}
@@ -229,15 +355,26 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		Class<?> leafType = propertyPath.getRequiredLeafProperty().getTypeInformation().getType();
 
-		String statement = namespace(getOwnerTyp(propertyPath)) + ".deleteAll-" + toDashPath(propertyPath);
+		String statement = mappedStatement(
+				namespace(getOwnerTyp(propertyPath)) + ".deleteAll-" + toDashPath(propertyPath));
 		MyBatisContext parameter = new MyBatisContext(null, null, leafType, Collections.emptyMap());
 		sqlSession().delete(statement, parameter);
 	}
 
+	@Override
+	public <T> long delete(Query query, Class<T> domainType) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
+	@Override
+	public void delete(Query query, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".acquireLockById";
+		String statement = mappedStatement(namespace(domainType) + ".acquireLockById");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 
 		long result = sqlSession().selectOne(statement, parameter);
@@ -251,7 +388,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".acquireLockAll";
+		String statement = mappedStatement(namespace(domainType) + ".acquireLockAll");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 
 		sqlSession().selectOne(statement, parameter);
@@ -260,7 +397,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> T findById(Object id, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".findById";
+		String statement = mappedStatement(namespace(domainType) + ".findById");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 		return sqlSession().selectOne(statement, parameter);
 	}
@@ -268,14 +405,14 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".findAll";
+		String statement = mappedStatement(namespace(domainType) + ".findAll");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 		return sqlSession().selectList(statement, parameter);
 	}
 
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
-		return sqlSession().selectList(namespace(domainType) + ".findAllById",
+		return sqlSession().selectList(mappedStatement(namespace(domainType) + ".findAllById"),
 				new MyBatisContext(ids, null, domainType, Collections.emptyMap()));
 	}
 
@@ -283,7 +420,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	public Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
 
-		String statementName = namespace(getOwnerTyp(path)) + ".findAllByPath-" + path.toDotPath();
+		String statementName = mappedStatement(namespace(getOwnerTyp(path)) + ".findAllByPath-" + path.toDotPath());
 
 		return sqlSession().selectList(statementName,
 				new MyBatisContext(identifier, null, path.getRequiredLeafProperty().getType()));
@@ -292,7 +429,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
-		String statement = namespace(domainType) + ".existsById";
+		String statement = mappedStatement(namespace(domainType) + ".existsById");
 		MyBatisContext parameter = new MyBatisContext(id, null, domainType, Collections.emptyMap());
 		return sqlSession().selectOne(statement, parameter);
 	}
@@ -302,7 +439,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		Map<String, Object> additionalContext = new HashMap<>();
 		additionalContext.put("sort", sort);
-		return sqlSession().selectList(namespace(domainType) + ".findAllSorted",
+		return sqlSession().selectList(mappedStatement(namespace(domainType) + ".findAllSorted"),
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
@@ -311,7 +448,7 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 		Map<String, Object> additionalContext = new HashMap<>();
 		additionalContext.put("pageable", pageable);
-		return sqlSession().selectList(namespace(domainType) + ".findAllPaged",
+		return sqlSession().selectList(mappedStatement(namespace(domainType) + ".findAllPaged"),
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
@@ -330,6 +467,40 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	/**
+	 * Streams the results of the {@code findAll} statement from a MyBatis {@link Cursor}, which requires the
+	 * {@link SqlSession} to stay open while the {@link Stream} is consumed. A {@link SqlSessionTemplate} only keeps its
+	 * session open within a transaction, so outside of one the results get read completely before the {@link Stream} is
+	 * returned. Statements using nested result maps must be {@code resultOrdered} to be read from a {@link Cursor}.
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		String statement = mappedStatement(namespace(domainType) + ".findAll");
+		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
+
+		if (sqlSession() instanceof SqlSessionTemplate && !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return sqlSession().<T> selectList(statement, parameter).stream();
+		}
+
+		Cursor<T> cursor = sqlSession().selectCursor(statement, parameter);
+		return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> close(cursor));
+	}
+
+	private static void close(Cursor<?> cursor) {
+
+		try {
+			cursor.close();
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException("Could not close MyBatis cursor", e);
+		}
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> probeType) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> probeType) {
 		throw new UnsupportedOperationException("Not implemented");
@@ -343,15 +514,83 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public long count(Class<?> domainType) {
 
-		String statement = namespace(domainType) + ".count";
+		String statement = mappedStatement(namespace(domainType) + ".count");
 		MyBatisContext parameter = new MyBatisContext(null, null, domainType, Collections.emptyMap());
 		return sqlSession().selectOne(statement, parameter);
 	}
 
+	/**
+	 * Executes the update statement for each parameter and flushes the statements afterwards. Update counts reported by
+	 * the flush replace the placeholder values a batching {@link SqlSession} returns for the individual statements.
+	 * <p>
+	 * Statements whose update count stays unknown, because the driver reported {@link Statement#SUCCESS_NO_INFO} or the
+	 * flush didn't report the statement at all, can't be verified afterwards since repeating a versioned update fails
+	 * once the first execution succeeded. They are reported by an {@link IncorrectUpdateSemanticsDataAccessException}.
+	 *
+	 * @param statement the fully qualified name of the statement.
+	 * @param parameters the parameters to execute the statement with.
+	 * @return for each parameter, if the statement updated a row.
+	 * @throws IncorrectUpdateSemanticsDataAccessException if the update count of any statement is unknown.
+	 */
+	private boolean[] updateAll(String statement, List<MyBatisContext> parameters) {
+
+		int[] updateCounts = new int[parameters.size()];
+		Map<Object, Integer> indexes = new IdentityHashMap<>(parameters.size());
+		for (int i = 0; i < updateCounts.length; i++) {
+
+			updateCounts[i] = sqlSession().update(statement, parameters.get(i));
+			indexes.put(parameters.get(i), i);
+		}
+
+		for (BatchResult batchResult : sqlSession().flushStatements()) {
+
+			List<Object> parameterObjects = batchResult.getParameterObjects();
+			for (int i = 0; i < parameterObjects.size(); i++) {
+
+				Integer index = indexes.get(parameterObjects.get(i));
+				if (index != null) {
+					updateCounts[index] = batchResult.getUpdateCounts()[i];
+				}
+			}
+		}
+
+		boolean[] updated = new boolean[updateCounts.length];
+		for (int i = 0; i < updateCounts.length; i++) {
+
+			if (updateCounts[i] == Statement.SUCCESS_NO_INFO || updateCounts[i] == BatchExecutor.BATCH_UPDATE_RETURN_VALUE) {
+				throw new IncorrectUpdateSemanticsDataAccessException(String.format(
+						"Unknown update count of statement '%s' for %s; Can't tell whether the row got updated", statement,
+						parameters.get(i).getInstance()));
+			}
+
+			updated[i] = updateCounts[i] != 0;
+		}
+
+		return updated;
+	}
+
 	private String namespace(Class<?> domainType) {
 		return this.namespaceStrategy.getNamespace(domainType);
 	}
 
+	/**
+	 * Checks that a statement of the given name is mapped when used as part of a combined strategy. A missing statement
+	 * gets reported by an {@link UnsupportedOperationException}, which tells the {@link CascadingDataAccessStrategy} to
+	 * use another strategy for the operation from now on, instead of the
+	 * {@link org.springframework.dao.DataAccessException} MyBatis raises when executing a missing statement.
+	 *
+	 * @param statement the fully qualified name of the statement.
+	 * @return the name of the statement.
+	 */
+	private String mappedStatement(String statement) {
+
+		if (rejectUnmappedStatements && !sqlSession().getConfiguration().hasStatement(statement)) {
+			throw new UnsupportedOperationException(String.format("No statement '%s' mapped", statement));
+		}
+
+		return statement;
+	}
+
 	private SqlSession sqlSession() {
 		return this.sqlSession;
 	}
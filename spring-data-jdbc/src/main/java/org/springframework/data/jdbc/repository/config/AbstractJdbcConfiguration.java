@@ -204,9 +204,29 @@ public class AbstractJdbcConfiguration implements ApplicationContextAware {
 	@Bean
 	public DataAccessStrategy dataAccessStrategyBean(NamedParameterJdbcOperations operations, JdbcConverter jdbcConverter,
 			JdbcMappingContext context, Dialect dialect) {
-		return new DefaultDataAccessStrategy(new SqlGeneratorSource(context, jdbcConverter, dialect), context,
-				jdbcConverter, operations, new SqlParametersFactory(context, jdbcConverter, dialect),
+
+		DefaultDataAccessStrategy dataAccessStrategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, jdbcConverter, dialect), context, jdbcConverter, operations,
+				new SqlParametersFactory(context, jdbcConverter, dialect),
 				new InsertStrategyFactory(operations, new BatchJdbcOperations(operations.getJdbcOperations()), dialect));
+		dataAccessStrategy.setStreamFetchSize(getStreamFetchSize());
+
+		return dataAccessStrategy;
+	}
+
+	/**
+	 * Returns the fetch size for the statements backing the {@link java.util.stream.Stream streams} returned by
+	 * {@link JdbcAggregateOperations#streamAll(Class)} and the {@code streamAll} methods of repositories. Override this
+	 * method to read large results in chunks, since many JDBC drivers load the complete result set into memory unless a
+	 * fetch size is set.
+	 *
+	 * @return the number of rows to fetch at once, {@code 0} to use the fetch size of the
+	 *         {@link NamedParameterJdbcOperations}.
+	 * @see DefaultDataAccessStrategy#setStreamFetchSize(int)
+	 * @since 3.1
+	 */
+	protected int getStreamFetchSize() {
+		return 0;
 	}
 
 	/**
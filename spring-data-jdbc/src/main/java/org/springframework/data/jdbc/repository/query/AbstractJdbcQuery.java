@@ -22,15 +22,24 @@ import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Base class for queries based on a repository method. It holds the infrastructure for executing a query and knows how
@@ -47,8 +56,13 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
+	private static final int PARSED_SQL_CACHE_CAPACITY = 64;
+
 	private final JdbcQueryMethod queryMethod;
 	private final NamedParameterJdbcOperations operations;
+	private final @Nullable QueryHints queryHints;
+	private final ConcurrentLruCache<String, ParsedSql> parsedSqlCache = new ConcurrentLruCache<>(
+			PARSED_SQL_CACHE_CAPACITY, NamedParameterUtils::parseSqlStatement);
 
 	/**
 	 * Creates a new {@link AbstractJdbcQuery} for the given {@link JdbcQueryMethod} and
@@ -64,6 +78,7 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		this.queryMethod = queryMethod;
 		this.operations = operations;
+		this.queryHints = queryMethod.lookupQueryHintsAnnotation().orElse(null);
 	}
 
 	@Override
@@ -114,7 +129,9 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		return (query, parameters) -> {
 
-			int updatedCount = operations.update(query, parameters);
+			int updatedCount = queryHints == null //
+					? operations.update(query, parameters) //
+					: execute(query, parameters, (jdbcOperations, sql, setter) -> jdbcOperations.update(sql, setter));
 			Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
 
 			return (returnedObjectType == boolean.class || returnedObjectType == Boolean.class) //
@@ -127,7 +144,10 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		return (query, parameters) -> {
 			try {
-				return operations.queryForObject(query, parameters, rowMapper);
+				return queryHints == null //
+						? operations.queryForObject(query, parameters, rowMapper) //
+						: DataAccessUtils.nullableSingleResult(execute(query, parameters,
+								(jdbcOperations, sql, setter) -> jdbcOperations.query(sql, setter, rowMapper)));
 			} catch (EmptyResultDataAccessException e) {
 				return null;
 			}
@@ -158,11 +178,59 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	}
 
 	private <T> JdbcQueryExecution<Stream<T>> streamQuery(RowMapper<T> rowMapper) {
-		return (query, parameters) -> operations.queryForStream(query, parameters, rowMapper);
+
+		return (query, parameters) -> queryHints == null //
+				? operations.queryForStream(query, parameters, rowMapper) //
+				: execute(query, parameters,
+						(jdbcOperations, sql, setter) -> jdbcOperations.queryForStream(sql, setter, rowMapper));
 	}
 
 	private <T> JdbcQueryExecution<T> createSingleReadingQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
-		return (query, parameters) -> operations.query(query, parameters, resultSetExtractor);
+
+		return (query, parameters) -> queryHints == null //
+				? operations.query(query, parameters, resultSetExtractor) //
+				: execute(query, parameters,
+						(jdbcOperations, sql, setter) -> jdbcOperations.query(sql, setter, resultSetExtractor));
+	}
+
+	/**
+	 * Executes a query with named parameters, applying the {@link QueryHints} to its statement. The hints get applied by
+	 * the {@link PreparedStatementSetter}, which runs after the {@link JdbcTemplate} applied its own settings, so the
+	 * configured {@link NamedParameterJdbcOperations} are used as they are. Queries get parsed once per query string.
+	 */
+	private <T> T execute(String query, SqlParameterSource parameters, HintedStatementExecution<T> execution) {
+
+		Assert.state(queryHints != null, "Query hints must not be null");
+
+		ParsedSql parsedSql = parsedSqlCache.get(query);
+		String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameters);
+		PreparedStatementSetter parameterSetter = new PreparedStatementCreatorFactory(sql,
+				NamedParameterUtils.buildSqlParameterList(parsedSql, parameters))
+				.newPreparedStatementSetter(NamedParameterUtils.buildValueArray(parsedSql, parameters, null));
+
+		QueryHints hints = queryHints;
+		return execution.execute(operations.getJdbcOperations(), sql, statement -> {
+
+			parameterSetter.setValues(statement);
+
+			if (hints.fetchSize() >= 0) {
+				statement.setFetchSize(hints.fetchSize());
+			}
+			if (hints.maxRows() >= 0) {
+				statement.setMaxRows(hints.maxRows());
+			}
+			if (hints.timeout() >= 0) {
+				statement.setQueryTimeout(hints.timeout());
+			}
+		});
+	}
+
+	/**
+	 * Executes a statement with positional parameters on {@link JdbcOperations}.
+	 */
+	@FunctionalInterface
+	private interface HintedStatementExecution<T> {
+		T execute(JdbcOperations operations, String sql, PreparedStatementSetter setter);
 	}
 
 	/**
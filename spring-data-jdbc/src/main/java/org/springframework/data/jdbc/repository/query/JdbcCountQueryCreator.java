@@ -25,6 +25,7 @@ import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SelectTemplate;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
@@ -59,6 +60,11 @@ class JdbcCountQueryCreator extends JdbcQueryCreator {
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
 	}
 
+	@Override
+	String render(SelectTemplate template) {
+		return template.render();
+	}
+
 	@Override
 	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
 		return Select.builder().select(Functions.count(Expressions.asterisk())).from(table);
@@ -33,6 +33,8 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
@@ -41,7 +43,7 @@ import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
-import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.relational.core.sql.render.SelectTemplate;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
@@ -74,6 +76,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final boolean isSliceQuery;
 	private final ReturnedType returnedType;
 	private final Optional<Lock> lockMode;
+	private @Nullable SelectTemplate queryTemplate;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -154,6 +157,35 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		}
 	}
 
+	/**
+	 * Creates a {@link ParametrizedQuery} reusing a {@link SelectTemplate} that was rendered before for arguments of the
+	 * same shape. Only the parameter values, and limit and offset of paged queries, get bound in that case.
+	 *
+	 * @param dynamicSort sort option to be applied to query, must not be {@literal null}.
+	 * @param queryTemplate {@link #getQueryTemplate() template} previously rendered by a {@link JdbcQueryCreator} for the
+	 *          same query method and arguments of the same shape. May be {@literal null} in which case the SQL gets
+	 *          rendered.
+	 * @return instance of {@link ParametrizedQuery}
+	 * @since 3.1
+	 */
+	ParametrizedQuery createQuery(Sort dynamicSort, @Nullable SelectTemplate queryTemplate) {
+
+		this.queryTemplate = queryTemplate;
+		return createQuery(dynamicSort);
+	}
+
+	/**
+	 * Returns the {@link SelectTemplate} used by the last invocation of {@link #createQuery(Sort, SelectTemplate)}. It
+	 * can be reused for other invocations with arguments of the same shape, including other pages of paged queries.
+	 *
+	 * @return the template or {@literal null} if no query was created.
+	 * @since 3.1
+	 */
+	@Nullable
+	SelectTemplate getQueryTemplate() {
+		return queryTemplate;
+	}
+
 	/**
 	 * Creates {@link ParametrizedQuery} applying the given {@link Criteria} and {@link Sort} definition.
 	 *
@@ -168,6 +200,22 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		Table table = Table.create(entityMetadata.getTableName());
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 
+		Keyset keyset = accessor.getKeyset();
+		if (keyset != null) {
+
+			sort = KeysetScrollDelegate.getKeysetSort(sort, entity);
+			criteria = KeysetScrollDelegate.combine(criteria, KeysetScrollDelegate.createCriteria(sort, keyset));
+		}
+
+		if (queryTemplate != null) {
+
+			if (criteria != null) {
+				queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+			}
+
+			return new ParametrizedQuery(render(queryTemplate), parameterSource);
+		}
+
 		SelectBuilder.SelectLimitOffset limitOffsetBuilder = createSelectClause(entity, table);
 		SelectBuilder.SelectWhere whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
 		SelectBuilder.SelectOrdered selectOrderBuilder = applyCriteria(criteria, entity, table, parameterSource,
@@ -176,14 +224,33 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
 		SelectBuilder.BuildSelect completedBuildSelect = selectOrderBuilder;
 		if (this.lockMode.isPresent()) {
-			completedBuildSelect = selectOrderBuilder.lock(this.lockMode.get().value());
+			completedBuildSelect = selectOrderBuilder.lock(this.lockMode.get().value(), this.lockMode.get().waitPolicy());
 		}
 
 		Select select = completedBuildSelect.build();
 
-		String sql = SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
+		this.queryTemplate = SelectTemplate.of(select, renderContextFactory.createRenderContext());
+
+		return new ParametrizedQuery(render(queryTemplate), parameterSource);
+	}
+
+	/**
+	 * Renders the SQL of the given {@link SelectTemplate} for the requested page.
+	 *
+	 * @param template the template of the query. Must not be {@literal null}.
+	 * @return the SQL to execute.
+	 */
+	String render(SelectTemplate template) {
+
+		Pageable pageable = accessor.getPageable();
+
+		return pageable.isPaged() //
+				? template.render(getLimit(pageable), pageable.getOffset()) //
+				: template.render();
+	}
 
-		return new ParametrizedQuery(sql, parameterSource);
+	private long getLimit(Pageable pageable) {
+		return isSliceQuery ? pageable.getPageSize() + 1 : pageable.getPageSize();
 	}
 
 	SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
@@ -207,13 +274,15 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		if (tree.isExistsProjection()) {
 			limitOffsetBuilder = limitOffsetBuilder.limit(1);
 		} else if (tree.isLimiting()) {
-			limitOffsetBuilder = limitOffsetBuilder.limit(tree.getMaxResults());
+
+			// keyset queries read one more row, which tells whether there is a next window
+			limitOffsetBuilder = limitOffsetBuilder
+					.limit(accessor.getKeyset() != null ? tree.getMaxResults() + 1 : tree.getMaxResults());
 		}
 
 		Pageable pageable = accessor.getPageable();
 		if (pageable.isPaged()) {
-			limitOffsetBuilder = limitOffsetBuilder.limit(isSliceQuery ? pageable.getPageSize() + 1 : pageable.getPageSize())
-					.offset(pageable.getOffset());
+			limitOffsetBuilder = limitOffsetBuilder.limit(getLimit(pageable)).offset(pageable.getOffset());
 		}
 
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
@@ -253,6 +253,16 @@ public class JdbcQueryMethod extends QueryMethod {
 		return doFindAnnotation(Lock.class);
 	}
 
+	/**
+	 * Looks up the {@link QueryHints} annotation from the query method.
+	 *
+	 * @return the {@link Optional} wrapped {@link QueryHints} annotation.
+	 * @since 3.1
+	 */
+	Optional<QueryHints> lookupQueryHintsAnnotation() {
+		return doFindAnnotation(QueryHints.class);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A extends Annotation> Optional<A> doFindAnnotation(Class<A> annotationType) {
 
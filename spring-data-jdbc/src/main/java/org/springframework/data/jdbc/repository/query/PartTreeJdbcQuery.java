@@ -17,10 +17,13 @@ package org.springframework.data.jdbc.repository.query;
 
 import static org.springframework.data.jdbc.repository.query.JdbcQueryExecution.*;
 
+import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.LongSupplier;
 
 import org.springframework.core.convert.converter.Converter;
@@ -31,6 +34,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
+import org.springframework.data.relational.core.query.KeysetWindow;
+import org.springframework.data.relational.core.sql.render.SelectTemplate;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
@@ -45,6 +53,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * An {@link AbstractJdbcQuery} implementation based on a {@link PartTree}.
@@ -57,12 +66,18 @@ import org.springframework.util.Assert;
  */
 public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
+	private static final int QUERY_CACHE_CAPACITY = 64;
+
 	private final RelationalMappingContext context;
 	private final Parameters<?, ?> parameters;
 	private final Dialect dialect;
 	private final JdbcConverter converter;
 	private final RowMapperFactory rowMapperFactory;
 	private final PartTree tree;
+	private final ConcurrentLruCache<QueryShape, AtomicReference<SelectTemplate>> queryCache = new ConcurrentLruCache<>(
+			QUERY_CACHE_CAPACITY, shape -> new AtomicReference<>());
+	private final ConcurrentLruCache<QueryShape, AtomicReference<SelectTemplate>> countQueryCache = new ConcurrentLruCache<>(
+			QUERY_CACHE_CAPACITY, shape -> new AtomicReference<>());
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -134,6 +149,19 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		ResultSetExtractor<Boolean> extractor = tree.isExistsProjection() ? (ResultSet::next) : null;
 
+		Keyset keyset = accessor.getKeyset();
+		if (keyset != null) {
+
+			Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
+					this.converter.getMappingContext(), this.converter.getEntityInstantiators());
+			RelationalPersistentEntity<?> entity = getQueryMethod().getEntityInformation().getTableEntity();
+			RowMapper<Object> entityRowMapper = rowMapperFactory.create(processor.getReturnedType().getDomainType());
+
+			return new KeysetQueryExecution<>(collectionQuery(entityRowMapper), tree.isLimiting() ? tree.getMaxResults() : -1,
+					KeysetScrollDelegate.getKeysetSort(tree.getSort().and(getDynamicSort(accessor)), entity), keyset, entity,
+					context, resultProcessingConverter);
+		}
+
 		RowMapper<Object> rowMapper;
 
 		if (tree.isCountProjection() || tree.isExistsProjection()) {
@@ -162,7 +190,11 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 						JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect,
 								entityMetadata, accessor, false, processor.getReturnedType(), getQueryMethod().lookupLockAnnotation());
 
-						ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted());
+						AtomicReference<SelectTemplate> cached = countQueryCache
+								.get(QueryShape.of(accessor.getValues(), processor.getReturnedType()));
+						ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted(), cached.get());
+						cacheTemplate(cached, queryCreator);
+
 						Object count = singleObjectQuery((rs, i) -> rs.getLong(1)).execute(countQuery.getQuery(),
 								countQuery.getParameterSource());
 
@@ -179,7 +211,20 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
 				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation());
-		return queryCreator.createQuery(getDynamicSort(accessor));
+
+		AtomicReference<SelectTemplate> cached = queryCache.get(QueryShape.of(accessor.getValues(), returnedType));
+		ParametrizedQuery query = queryCreator.createQuery(getDynamicSort(accessor), cached.get());
+		cacheTemplate(cached, queryCreator);
+
+		return query;
+	}
+
+	private static void cacheTemplate(AtomicReference<SelectTemplate> cached, JdbcQueryCreator queryCreator) {
+
+		SelectTemplate template = queryCreator.getQueryTemplate();
+		if (template != null) {
+			cached.compareAndSet(null, template);
+		}
 	}
 
 	private JdbcQueryExecution<?> getJdbcQueryExecution(@Nullable ResultSetExtractor<Boolean> extractor, RowMapper<Object> rowMapper) {
@@ -258,4 +303,98 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		}
 
 	}
+
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link KeysetWindow}. The elements are read as entities, so the keyset can
+	 * be obtained from the last one, and converted into the returned type afterwards.
+	 *
+	 * @param <T>
+	 */
+	static class KeysetQueryExecution<T> implements JdbcQueryExecution<KeysetWindow<Object>> {
+
+		private final JdbcQueryExecution<? extends Collection<T>> delegate;
+		private final int limit;
+		private final Sort keysetSort;
+		private final Keyset keyset;
+		private final RelationalPersistentEntity<?> entity;
+		private final RelationalMappingContext context;
+		private final Converter<Object, Object> resultProcessingConverter;
+
+		KeysetQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, int limit, Sort keysetSort,
+				Keyset keyset, RelationalPersistentEntity<?> entity, RelationalMappingContext context,
+				Converter<Object, Object> resultProcessingConverter) {
+
+			this.delegate = delegate;
+			this.limit = limit;
+			this.keysetSort = keysetSort;
+			this.keyset = keyset;
+			this.entity = entity;
+			this.context = context;
+			this.resultProcessingConverter = resultProcessingConverter;
+		}
+
+		@Override
+		public KeysetWindow<Object> execute(String query, SqlParameterSource parameter) {
+
+			Collection<T> result = delegate.execute(query, parameter);
+
+			return KeysetScrollDelegate
+					.createWindow(result instanceof List ? (List<T>) result : new ArrayList<>(result), limit, keysetSort, keyset,
+							entity, context) //
+					.map(resultProcessingConverter::convert);
+		}
+	}
+
+	/**
+	 * The properties of the arguments of a query method invocation that determine the rendered SQL. These are the
+	 * arguments being {@literal null}, the number of elements of collections and arrays, since each element gets bound
+	 * to its own bind marker, {@link Sort} and dynamic projection arguments, whether a {@link Pageable} is paged and its
+	 * {@link Sort}, the properties of a {@link Keyset}, and the returned type. Invocations with the same
+	 * {@link QueryShape} render the same SQL, apart from limit and offset of paged queries which get bound per
+	 * invocation.
+	 */
+	private record QueryShape(List<Object> arguments, Class<?> returnedType) {
+
+		static QueryShape of(Object[] values, ReturnedType returnedType) {
+
+			List<Object> arguments = new ArrayList<>(values.length);
+			for (Object value : values) {
+				arguments.add(shapeOf(value));
+			}
+
+			return new QueryShape(arguments, returnedType.getReturnedType());
+		}
+
+		@Nullable
+		private static Object shapeOf(@Nullable Object value) {
+
+			if (value == null || value instanceof Sort || value instanceof Class) {
+				return value;
+			}
+
+			if (value instanceof Pageable pageable) {
+				return new PageableArgument(pageable.isPaged(), pageable.getSort());
+			}
+
+			if (value instanceof Collection<?> collection) {
+				return new SizedArgument(value.getClass(), collection.size());
+			}
+
+			if (value.getClass().isArray()) {
+				return new SizedArgument(value.getClass(), Array.getLength(value));
+			}
+
+			if (value instanceof Keyset keyset) {
+				return Set.copyOf(keyset.getKeys().keySet());
+			}
+
+			return value.getClass();
+		}
+	}
+
+	private record SizedArgument(Class<?> type, int size) {
+	}
+
+	private record PageableArgument(boolean paged, Sort sort) {
+	}
 }
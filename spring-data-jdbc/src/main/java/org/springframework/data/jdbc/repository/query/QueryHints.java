@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Settings applied to the JDBC statement executing the query of a repository method. Attributes that aren't set keep
+ * the value configured on the {@link org.springframework.jdbc.core.JdbcTemplate} used by the repository.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ * @see java.sql.Statement
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface QueryHints {
+
+	/**
+	 * The number of rows to fetch from the database at once.
+	 *
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	int fetchSize() default -1;
+
+	/**
+	 * The maximum number of rows returned, {@code 0} for no limit.
+	 *
+	 * @see java.sql.Statement#setMaxRows(int)
+	 */
+	int maxRows() default -1;
+
+	/**
+	 * The query timeout in seconds, {@code 0} for no timeout.
+	 *
+	 * @see java.sql.Statement#setQueryTimeout(int)
+	 */
+	int timeout() default -1;
+}
@@ -21,7 +21,9 @@ import java.lang.reflect.Constructor;
 import java.sql.SQLType;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.BeanFactory;
@@ -34,13 +36,15 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParameters;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
-import org.springframework.data.repository.query.Parameter;
-import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.ResultProcessor;
-import org.springframework.data.repository.query.SpelEvaluator;
 import org.springframework.data.repository.query.SpelQueryContext;
+import org.springframework.data.spel.ExpressionDependencies;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -68,10 +72,13 @@ import org.springframework.util.ObjectUtils;
 public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 
 	private static final String PARAMETER_NEEDS_TO_BE_NAMED = "For queries with named parameters you need to provide names for method parameters; Use @Param for query method parameters, or when on Java 8+ use the javac flag -parameters";
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
 	private final JdbcConverter converter;
 	private final RowMapperFactory rowMapperFactory;
 	private BeanFactory beanFactory;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
+	private final Lazy<ParsedQuery> parsedQuery;
+	private final List<ParameterBinding> parameterBindings;
 
 	/**
 	 * Creates a new {@link StringBasedJdbcQuery} for the given {@link JdbcQueryMethod}, {@link RelationalMappingContext}
@@ -117,6 +124,20 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 			throw new UnsupportedOperationException(
 					"Page queries are not supported using string-based queries; Offending method: " + queryMethod);
 		}
+
+		this.parsedQuery = Lazy.of(() -> ParsedQuery.parse(determineQuery()));
+		this.parameterBindings = createParameterBindings(queryMethod.getParameters());
+	}
+
+	private static List<ParameterBinding> createParameterBindings(RelationalParameters parameters) {
+
+		List<ParameterBinding> bindings = new ArrayList<>();
+
+		for (RelationalParameters.RelationalParameter parameter : parameters.getBindableParameters()) {
+			bindings.add(new ParameterBinding(parameter));
+		}
+
+		return bindings;
 	}
 
 	@Override
@@ -129,14 +150,9 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 
 		JdbcQueryExecution<?> queryExecution = createJdbcQueryExecution(accessor, processor, converter);
 
+		ParsedQuery query = parsedQuery.get();
 		MapSqlParameterSource parameterMap = this.bindParameters(accessor);
 
-		String query = determineQuery();
-
-		if (ObjectUtils.isEmpty(query)) {
-			throw new IllegalStateException(String.format("No query specified on %s", getQueryMethod().getName()));
-		}
-
 		return queryExecution.execute(processSpelExpressions(objects, parameterMap, query), parameterMap);
 	}
 
@@ -154,49 +170,45 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 		}
 	}
 
-	private String processSpelExpressions(Object[] objects, MapSqlParameterSource parameterMap, String query) {
+	private String processSpelExpressions(Object[] objects, MapSqlParameterSource parameterMap, ParsedQuery query) {
 
-		SpelQueryContext.EvaluatingSpelQueryContext queryContext = SpelQueryContext
-				.of((counter, expression) -> String.format("__$synthetic$__%d", counter + 1), String::concat)
-				.withEvaluationContextProvider(evaluationContextProvider);
+		if (!query.expressions.isEmpty()) {
 
-		SpelEvaluator spelEvaluator = queryContext.parse(query, getQueryMethod().getParameters());
+			EvaluationContext evaluationContext = evaluationContextProvider
+					.getEvaluationContext(getQueryMethod().getParameters(), objects, query.dependencies);
 
-		spelEvaluator.evaluate(objects).forEach(parameterMap::addValue);
+			query.expressions.forEach((name, expression) -> parameterMap.addValue(name,
+					expression.getValue(evaluationContext)));
+		}
 
-		return spelEvaluator.getQueryString();
+		return query.query;
 	}
 
 	private MapSqlParameterSource bindParameters(RelationalParameterAccessor accessor) {
 
 		MapSqlParameterSource parameters = new MapSqlParameterSource();
 
-		Parameters<?, ?> bindableParameters = accessor.getBindableParameters();
-
-		for (Parameter bindableParameter : bindableParameters) {
-			convertAndAddParameter(parameters, bindableParameter, accessor.getBindableValue(bindableParameter.getIndex()));
+		for (ParameterBinding binding : parameterBindings) {
+			convertAndAddParameter(parameters, binding, accessor.getBindableValue(binding.index));
 		}
 
 		return parameters;
 	}
 
-	private void convertAndAddParameter(MapSqlParameterSource parameters, Parameter p, Object value) {
-
-		String parameterName = p.getName().orElseThrow(() -> new IllegalStateException(PARAMETER_NEEDS_TO_BE_NAMED));
+	private void convertAndAddParameter(MapSqlParameterSource parameters, ParameterBinding binding, Object value) {
 
-		RelationalParameters.RelationalParameter parameter = getQueryMethod().getParameters().getParameter(p.getIndex());
-		TypeInformation<?> typeInformation = parameter.getTypeInformation();
+		if (binding.name == null) {
+			throw new IllegalStateException(PARAMETER_NEEDS_TO_BE_NAMED);
+		}
 
 		JdbcValue jdbcValue;
-		if (typeInformation.isCollectionLike() && value instanceof Collection<?>) {
+		if (binding.collectionLike && value instanceof Collection<?>) {
 
 			List<Object> mapped = new ArrayList<>();
 			SQLType jdbcType = null;
 
-			TypeInformation<?> actualType = typeInformation.getRequiredActualType();
 			for (Object o : (Iterable<?>) value) {
-				JdbcValue elementJdbcValue = converter.writeJdbcValue(o, actualType.getType(),
-						JdbcUtil.targetSqlTypeFor(JdbcColumnTypes.INSTANCE.resolvePrimitiveType(actualType.getType())));
+				JdbcValue elementJdbcValue = converter.writeJdbcValue(o, binding.actualType, binding.actualSqlType);
 				if (jdbcType == null) {
 					jdbcType = elementJdbcValue.getJdbcType();
 				}
@@ -206,16 +218,15 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 
 			jdbcValue = JdbcValue.of(mapped, jdbcType);
 		} else {
-			jdbcValue = converter.writeJdbcValue(value, typeInformation.getType(),
-					JdbcUtil.targetSqlTypeFor(JdbcColumnTypes.INSTANCE.resolvePrimitiveType(typeInformation.getType())));
+			jdbcValue = converter.writeJdbcValue(value, binding.type, binding.sqlType);
 		}
 
 		SQLType jdbcType = jdbcValue.getJdbcType();
 		if (jdbcType == null) {
 
-			parameters.addValue(parameterName, jdbcValue.getValue());
+			parameters.addValue(binding.name, jdbcValue.getValue());
 		} else {
-			parameters.addValue(parameterName, jdbcValue.getValue(), jdbcType.getVendorTypeNumber());
+			parameters.addValue(binding.name, jdbcValue.getValue(), jdbcType.getVendorTypeNumber());
 		}
 	}
 
@@ -301,4 +312,74 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	public void setBeanFactory(BeanFactory beanFactory) {
 		this.beanFactory = beanFactory;
 	}
+
+	/**
+	 * The declared query with SpEL expressions replaced by synthetic named parameters. Parsed once per query method so
+	 * that executions only evaluate the pre-parsed expressions. The resulting query string is the same instance for all
+	 * executions, so the {@link NamedParameterJdbcOperations} can reuse its parsed representation.
+	 */
+	private static class ParsedQuery {
+
+		private final String query;
+		private final Map<String, Expression> expressions;
+		private final ExpressionDependencies dependencies;
+
+		private ParsedQuery(String query, Map<String, Expression> expressions) {
+
+			this.query = query;
+			this.expressions = expressions;
+
+			List<ExpressionDependencies> dependencies = new ArrayList<>(expressions.size());
+			for (Expression expression : expressions.values()) {
+				dependencies.add(ExpressionDependencies.discover(expression));
+			}
+
+			this.dependencies = ExpressionDependencies.merged(dependencies);
+		}
+
+		static ParsedQuery parse(String query) {
+
+			Map<String, Expression> expressions = new LinkedHashMap<>();
+
+			SpelQueryContext queryContext = SpelQueryContext.of((counter, expression) -> {
+
+				String parameterName = String.format("__$synthetic$__%d", counter + 1);
+				expressions.put(parameterName, PARSER.parseExpression(expression));
+				return parameterName;
+			}, String::concat);
+
+			return new ParsedQuery(queryContext.parse(query).getQueryString(), expressions);
+		}
+	}
+
+	/**
+	 * Name and type information of a bindable method parameter, resolved once per query method.
+	 */
+	private static class ParameterBinding {
+
+		private final int index;
+		private final @Nullable String name;
+		private final boolean collectionLike;
+		private final Class<?> type;
+		private final SQLType sqlType;
+		private final @Nullable Class<?> actualType;
+		private final @Nullable SQLType actualSqlType;
+
+		ParameterBinding(RelationalParameters.RelationalParameter parameter) {
+
+			TypeInformation<?> typeInformation = parameter.getTypeInformation();
+
+			this.index = parameter.getIndex();
+			this.name = parameter.getName().orElse(null);
+			this.collectionLike = typeInformation.isCollectionLike();
+			this.type = typeInformation.getType();
+			this.sqlType = JdbcUtil.targetSqlTypeFor(JdbcColumnTypes.INSTANCE.resolvePrimitiveType(type));
+
+			TypeInformation<?> actualTypeInformation = collectionLike ? typeInformation.getActualType() : null;
+			this.actualType = actualTypeInformation != null ? actualTypeInformation.getType() : null;
+			this.actualSqlType = actualType != null
+					? JdbcUtil.targetSqlTypeFor(JdbcColumnTypes.INSTANCE.resolvePrimitiveType(actualType))
+					: null;
+		}
+	}
 }
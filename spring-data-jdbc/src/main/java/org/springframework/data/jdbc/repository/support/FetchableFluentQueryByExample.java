@@ -87,8 +87,7 @@ class FetchableFluentQueryByExample<S, R> extends FluentQuerySupport<S, R> {
 	@Override
 	public Stream<R> stream() {
 
-		return StreamSupport
-				.stream(this.entityOperations.findAll(createQuery().sort(getSort()), getExampleType()).spliterator(), false)
+		return this.entityOperations.streamAll(createQuery().sort(getSort()), getExampleType())
 				.map(item -> this.getConversionFunction().apply(item));
 	}
 
@@ -62,6 +62,7 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	private int streamFetchSize;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -141,6 +142,21 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures the fetch size for streaming queries of the {@link DataAccessStrategy} created when none is configured
+	 * or available as a bean.
+	 *
+	 * @param streamFetchSize the number of rows to fetch at once. Must not be negative.
+	 * @see DefaultDataAccessStrategy#setStreamFetchSize(int)
+	 * @since 3.1
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+
+		Assert.isTrue(streamFetchSize >= 0, "Stream fetch size must not be negative");
+
+		this.streamFetchSize = streamFetchSize;
+	}
+
 	@Autowired
 	public void setConverter(JdbcConverter converter) {
 
@@ -185,8 +201,11 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 								this.dialect);
 						InsertStrategyFactory insertStrategyFactory = new InsertStrategyFactory(this.operations,
 								new BatchJdbcOperations(this.operations.getJdbcOperations()), this.dialect);
-						return new DefaultDataAccessStrategy(sqlGeneratorSource, this.mappingContext, this.converter,
-								this.operations, sqlParametersFactory, insertStrategyFactory);
+						DefaultDataAccessStrategy defaultDataAccessStrategy = new DefaultDataAccessStrategy(sqlGeneratorSource,
+								this.mappingContext, this.converter, this.operations, sqlParametersFactory, insertStrategyFactory);
+						defaultDataAccessStrategy.setStreamFetchSize(this.streamFetchSize);
+
+						return defaultDataAccessStrategy;
 					});
 		}
 
@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.repository.support;
 
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.repository.query.RelationalExampleMapper;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -89,6 +91,36 @@ public class SimpleJdbcRepository<T, ID>
 		return entityOperations.findAll(entity.getType());
 	}
 
+	/**
+	 * Loads all aggregates as a {@link Stream} that reads them while it gets consumed. Declare
+	 * {@code Stream<T> streamAll()} in a repository interface to make it available. The {@link Stream} holds an open
+	 * database connection and must be closed after use.
+	 *
+	 * @return Guaranteed to be not {@literal null}.
+	 * @see JdbcAggregateOperations#streamAll(Class)
+	 * @since 3.1
+	 */
+	public Stream<T> streamAll() {
+		return entityOperations.streamAll(entity.getType());
+	}
+
+	/**
+	 * Loads all aggregates in the given order as a {@link Stream} that reads them while it gets consumed. Declare
+	 * {@code Stream<T> streamAll(Sort sort)} in a repository interface to make it available. The {@link Stream} holds an
+	 * open database connection and must be closed after use.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @return Guaranteed to be not {@literal null}.
+	 * @see JdbcAggregateOperations#streamAll(Query, Class)
+	 * @since 3.1
+	 */
+	public Stream<T> streamAll(Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null");
+
+		return entityOperations.streamAll(Query.empty().sort(sort), entity.getType());
+	}
+
 	@Override
 	public Iterable<T> findAllById(Iterable<ID> ids) {
 		return entityOperations.findAllById(ids, entity.getType());
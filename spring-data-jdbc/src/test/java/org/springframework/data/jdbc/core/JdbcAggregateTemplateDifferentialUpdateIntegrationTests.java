@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.testing.TestConfiguration;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Runs the {@link JdbcAggregateTemplateIntegrationTests} with
+ * {@link JdbcAggregateTemplate#setDifferentialUpdatesEnabled(boolean) differential updates} enabled.
+ *
+ * @author Jens Schauder
+ */
+@ContextConfiguration(inheritLocations = false)
+class JdbcAggregateTemplateDifferentialUpdateIntegrationTests extends JdbcAggregateTemplateIntegrationTests {
+
+	@Configuration
+	@Import(TestConfiguration.class)
+	static class Config {
+
+		@Bean
+		Class<?> testClass() {
+			return JdbcAggregateTemplateIntegrationTests.class;
+		}
+
+		@Bean
+		JdbcAggregateOperations operations(ApplicationEventPublisher publisher, RelationalMappingContext context,
+				DataAccessStrategy dataAccessStrategy, JdbcConverter converter) {
+
+			JdbcAggregateTemplate template = new JdbcAggregateTemplate(publisher, context, converter, dataAccessStrategy);
+			template.setDifferentialUpdatesEnabled(true);
+
+			return template;
+		}
+	}
+}
@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
@@ -68,6 +69,11 @@ import org.springframework.data.relational.core.mapping.InsertOnlyProperty;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetWindow;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
@@ -229,6 +235,65 @@ class JdbcAggregateTemplateIntegrationTests {
 				.containsExactly(tuple(legoSet.getId(), legoSet.getManual().getId(), legoSet.getManual().getContent()));
 	}
 
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void streamAllEntitiesWithReferencedEntity() {
+
+		template.save(legoSet);
+
+		try (Stream<LegoSet> reloadedLegoSets = template.streamAll(LegoSet.class)) {
+
+			assertThat(reloadedLegoSets) //
+					.extracting("id", "manual.id", "manual.content") //
+					.containsExactly(tuple(legoSet.getId(), legoSet.getManual().getId(), legoSet.getManual().getContent()));
+		}
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void streamAllEntitiesWithListOfReferencedEntities() {
+
+		for (String name : asList("Lava", "Star")) {
+
+			ListParent entity = new ListParent();
+			entity.name = name;
+
+			for (int i = 0; i < 3; i++) {
+
+				ElementNoId element = new ElementNoId();
+				element.content = name + i;
+				entity.content.add(element);
+			}
+
+			template.save(entity);
+		}
+
+		try (Stream<ListParent> reloaded = template.streamAll(Query.empty().sort(Sort.by("name")), ListParent.class)) {
+
+			assertThat(reloaded) //
+					.extracting(parent -> parent.content.stream().map(e -> e.content).toList()) //
+					.containsExactly(asList("Lava0", "Lava1", "Lava2"), asList("Star0", "Star1", "Star2"));
+		}
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void streamAllEntitiesMatchingQuery() {
+
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+		template.save(createLegoSet("Frozen"));
+
+		Query query = Query.query(Criteria.where("name").not("Star")).sort(Sort.by("name"));
+
+		try (Stream<LegoSet> reloadedLegoSets = template.streamAll(query, LegoSet.class)) {
+
+			assertThat(reloadedLegoSets) //
+					.extracting("name") //
+					.containsExactly("Frozen", "Lava");
+		}
+	}
+
 	@Test // DATAJDBC-101
 	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
 	void saveAndLoadManyEntitiesWithReferencedEntitySorted() {
@@ -598,6 +663,214 @@ class JdbcAggregateTemplateIntegrationTests {
 		assertThat(reloaded.content).extracting(e -> e.content).containsExactly("content");
 	}
 
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void loadPagedAndLimitedEntitiesWithListsOfElements() {
+
+		for (String name : asList("one", "two", "three")) {
+
+			ListParent entity = new ListParent();
+			entity.name = name;
+
+			for (int i = 0; i < 3; i++) {
+
+				ElementNoId element = new ElementNoId();
+				element.content = name + i;
+				entity.content.add(element);
+			}
+
+			template.save(entity);
+		}
+
+		Iterable<ListParent> page = template.findAll(ListParent.class, PageRequest.of(0, 2, Sort.by("name")));
+
+		assertThat(page).extracting(p -> p.name).containsExactly("one", "three");
+		assertThat(page).flatExtracting(p -> p.content).extracting(e -> e.content) //
+				.containsExactly("one0", "one1", "one2", "three0", "three1", "three2");
+
+		Iterable<ListParent> limited = template.findAll(Query.empty().sort(Sort.by("name")).limit(1).offset(2),
+				ListParent.class);
+
+		assertThat(limited).extracting(p -> p.name).containsExactly("two");
+		assertThat(limited).flatExtracting(p -> p.content).extracting(e -> e.content) //
+				.containsExactly("two0", "two1", "two2");
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void scrollsThroughEntitiesByKeyset() {
+
+		for (String name : asList("delta", "alpha", "charlie", "bravo", "bravo")) {
+
+			ListParent entity = new ListParent();
+			entity.name = name;
+
+			ElementNoId element = new ElementNoId();
+			element.content = name;
+			entity.content.add(element);
+
+			template.save(entity);
+		}
+
+		Query query = Query.query(Criteria.where("name").not("delta")).sort(Sort.by("name")).limit(2);
+
+		KeysetWindow<ListParent> first = template.scroll(query, ListParent.class, Keyset.initial());
+
+		assertThat(first.getContent()).extracting(p -> p.name).containsExactly("alpha", "bravo");
+		assertThat(first.hasNext()).isTrue();
+
+		KeysetWindow<ListParent> second = template.scroll(query, ListParent.class, first.nextKeyset());
+
+		assertThat(second.getContent()).extracting(p -> p.name).containsExactly("bravo", "charlie");
+		assertThat(second.getContent()).flatExtracting(p -> p.content).extracting(e -> e.content) //
+				.containsExactly("bravo", "charlie");
+		assertThat(second.hasNext()).isFalse();
+
+		KeysetWindow<ListParent> last = template.scroll(query, ListParent.class, second.nextKeyset());
+
+		assertThat(last.isEmpty()).isTrue();
+		assertThat(last.nextKeyset()).isEqualTo(second.nextKeyset());
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void findAllWithColumnsReadsOnlyProjectedProperties() {
+
+		LegoSet saved = template.save(createLegoSet("Lava"));
+
+		Iterable<LegoSet> reloaded = template.findAll(Query.query(Criteria.where("name").is("Lava")).columns("name"),
+				LegoSet.class);
+
+		assertThat(reloaded).hasSize(1);
+		assertThat(reloaded).extracting(LegoSet::getId, LegoSet::getName, LegoSet::getManual) //
+				.containsExactly(tuple(saved.getId(), "Lava", null));
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void findAllWithColumnsLoadsOnlyProjectedCollections() {
+
+		ListParent entity = new ListParent();
+		entity.name = "parent";
+		ElementNoId element = new ElementNoId();
+		element.content = "element";
+		entity.content.add(element);
+		template.save(entity);
+
+		Iterable<ListParent> withoutContent = template.findAll(Query.empty().columns("name"), ListParent.class);
+
+		assertThat(withoutContent).extracting(p -> p.name).containsExactly("parent");
+		assertThat(withoutContent).flatExtracting(p -> p.content).isEmpty();
+
+		Iterable<ListParent> withContent = template.findAll(Query.empty().columns("name", "content").limit(10),
+				ListParent.class);
+
+		assertThat(withContent).flatExtracting(p -> p.content).extracting(e -> e.content).containsExactly("element");
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void updatesEntitiesMatchingQuery() {
+
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+		template.save(createLegoSet("Frozen"));
+
+		long updated = template.update(Query.query(Criteria.where("name").not("Star")), Update.update("name", "Retired"),
+				LegoSet.class);
+
+		assertThat(updated).isEqualTo(2);
+		assertThat(template.findAll(LegoSet.class)) //
+				.extracting(LegoSet::getName) //
+				.containsExactlyInAnyOrder("Retired", "Retired", "Star");
+		assertThat(template.findAll(LegoSet.class)) //
+				.extracting(l -> l.getManual().getContent()) //
+				.containsOnly("Accelerates to 99% of light speed; Destroys almost everything. See https://what-if.xkcd.com/1/");
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void deletesAggregatesMatchingQuery() {
+
+		NoIdListChain4 deleted = template.save(createNoIdTree());
+
+		NoIdListChain4 other = createNoIdTree();
+		other.fourValue = "w";
+		other = template.save(other);
+
+		long count = template.delete(Query.query(Criteria.where("fourValue").is("v")), NoIdListChain4.class);
+
+		assertThat(count).isEqualTo(1);
+		assertThat(template.findById(deleted.four, NoIdListChain4.class)).isNull();
+		assertThat(template.findById(other.four, NoIdListChain4.class)).isEqualTo(other);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(count("NO_ID_LIST_CHAIN4")).describedAs("Chain4 elements got deleted").isEqualTo(1);
+			softly.assertThat(count("NO_ID_LIST_CHAIN3")).describedAs("Chain3 elements got deleted").isEqualTo(2);
+			softly.assertThat(count("NO_ID_LIST_CHAIN2")).describedAs("Chain2 elements got deleted").isEqualTo(4);
+			softly.assertThat(count("NO_ID_LIST_CHAIN1")).describedAs("Chain1 elements got deleted").isEqualTo(8);
+			softly.assertThat(count("NO_ID_LIST_CHAIN0")).describedAs("Chain0 elements got deleted").isEqualTo(16);
+		});
+	}
+
+	@Test
+	void updateWithPreviousStateWritesChangedListElements() {
+
+		ListParent entity = new ListParent();
+		entity.name = "parent";
+		for (String content : asList("zero", "one", "two")) {
+
+			ElementNoId element = new ElementNoId();
+			element.content = content;
+			entity.content.add(element);
+		}
+		template.save(entity);
+
+		ListParent previous = template.findById(entity.id, ListParent.class);
+
+		entity.content.get(1).content = "changed";
+		ElementNoId added = new ElementNoId();
+		added.content = "added";
+		entity.content.add(added);
+
+		template.update(entity, previous);
+
+		assertThat(template.findById(entity.id, ListParent.class).content).extracting(e -> e.content) //
+				.containsExactly("zero", "changed", "two", "added");
+
+		previous = template.findById(entity.id, ListParent.class);
+		entity.content.remove(3);
+		entity.content.remove(0);
+
+		template.update(entity, previous);
+
+		assertThat(template.findById(entity.id, ListParent.class).content).extracting(e -> e.content) //
+				.containsExactly("changed", "two");
+	}
+
+	@Test
+	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
+	void updateWithPreviousStateWritesChangedReferences() {
+
+		Manual alternative = new Manual();
+		alternative.setContent("alternative");
+		legoSet.setAlternativeInstructions(alternative);
+		template.save(legoSet);
+
+		LegoSet previous = template.findById(legoSet.getId(), LegoSet.class);
+
+		legoSet.getManual().setContent("new content");
+		legoSet.setAlternativeInstructions(null);
+
+		template.update(legoSet, previous);
+
+		LegoSet reloaded = template.findById(legoSet.getId(), LegoSet.class);
+		assertThat(reloaded.getManual().getId()).isEqualTo(legoSet.getManual().getId());
+		assertThat(reloaded.getManual().getContent()).isEqualTo("new content");
+		assertThat(reloaded.getAlternativeInstructions()).isNull();
+	}
+
 	@Test // GH-498 DATAJDBC-273
 	@EnabledOnFeature(SUPPORTS_QUOTED_IDS)
 	void saveAndLoadAnEntityWithListOfElementsInConstructor() {
@@ -1038,6 +1311,48 @@ class JdbcAggregateTemplateIntegrationTests {
 		assertThat(loaded.testTime).isEqualTo(entity.testTime);
 	}
 
+	@Test
+	void upsertInsertsAndThenUpdatesAggregateRoot() {
+
+		WithLocalDateTime entity = new WithLocalDateTime();
+		entity.id = 23L;
+		entity.testTime = LocalDateTime.of(2005, 5, 5, 5, 5, 5);
+
+		template.upsert(entity);
+
+		assertThat(template.findById(23L, WithLocalDateTime.class).testTime).isEqualTo(entity.testTime);
+
+		entity.testTime = LocalDateTime.of(2006, 6, 6, 6, 6, 6);
+
+		template.upsert(entity);
+
+		assertThat(template.count(WithLocalDateTime.class)).isEqualTo(1);
+		assertThat(template.findById(23L, WithLocalDateTime.class).testTime).isEqualTo(entity.testTime);
+	}
+
+	@Test
+	void upsertAllInsertsNewAndUpdatesExistingAggregateRoots() {
+
+		WithLocalDateTime existing = new WithLocalDateTime();
+		existing.id = 23L;
+		existing.testTime = LocalDateTime.of(2005, 5, 5, 5, 5, 5);
+		template.insert(existing);
+
+		existing.testTime = LocalDateTime.of(2006, 6, 6, 6, 6, 6);
+
+		WithLocalDateTime added = new WithLocalDateTime();
+		added.id = 42L;
+		added.testTime = LocalDateTime.of(2007, 7, 7, 7, 7, 7);
+
+		template.upsertAll(asList(existing, added));
+
+		assertThat(template.findAll(WithLocalDateTime.class)) //
+				.extracting(e -> e.id, e -> e.testTime) //
+				.containsExactlyInAnyOrder( //
+						tuple(23L, existing.testTime), //
+						tuple(42L, added.testTime));
+	}
+
 	@Test // GH-777
 	void insertWithIdOnly() {
 
@@ -24,6 +24,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,14 +34,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.Identifier;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.mapping.Column;
@@ -49,6 +55,8 @@ import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 
 /**
  * Unit tests for {@link JdbcAggregateTemplate}.
@@ -290,6 +298,30 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).containsExactly(alfred2, neumann2);
 	}
 
+	@Test
+	void callbackOnStreamedLoad() {
+
+		SampleEntity alfred1 = new SampleEntity(23L, "Alfred");
+		SampleEntity alfred2 = new SampleEntity(23L, "Alfred E.");
+
+		SampleEntity neumann1 = new SampleEntity(42L, "Neumann");
+		SampleEntity neumann2 = new SampleEntity(42L, "Alfred E. Neumann");
+
+		when(dataAccessStrategy.streamAll(SampleEntity.class)).thenReturn(Stream.of(alfred1, neumann1));
+
+		when(callbacks.callback(any(Class.class), eq(alfred1), any(Object[].class))).thenReturn(alfred2);
+		when(callbacks.callback(any(Class.class), eq(neumann1), any(Object[].class))).thenReturn(neumann2);
+
+		Stream<SampleEntity> all = template.streamAll(SampleEntity.class);
+
+		verifyNoInteractions(callbacks);
+
+		assertThat(all).containsExactly(alfred2, neumann2);
+
+		verify(callbacks).callback(AfterConvertCallback.class, alfred1);
+		verify(callbacks).callback(AfterConvertCallback.class, neumann1);
+	}
+
 	@Test // DATAJDBC-101
 	public void callbackOnLoadPaged() {
 
@@ -332,6 +364,56 @@ public class JdbcAggregateTemplateUnitTests {
 		template.deleteAll(emptyList());
 	}
 
+	@Test
+	void updateByQueryRejectsVersionedAggregates() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(
+				() -> template.update(Query.empty(), Update.update("name", "Alfred"), EntityWithVersion.class));
+
+		verifyNoInteractions(dataAccessStrategy);
+	}
+
+	@Test
+	void updateByQueryUpdatesMatchingAggregatesByIdIfNotSupportedByDataAccessStrategy() {
+
+		when(dataAccessStrategy.findAll(any(Query.class), eq(SampleEntity.class)))
+				.thenReturn(asList(new SampleEntity(1L, "Bruce"), new SampleEntity(2L, "Dick")));
+		when(dataAccessStrategy.update(any(), any())).thenReturn(true);
+
+		long updated = template.update(Query.empty(), Update.update("name", "Alfred"), SampleEntity.class);
+
+		assertThat(updated).isEqualTo(2);
+		verify(dataAccessStrategy).update(new SampleEntity(1L, "Alfred"), SampleEntity.class);
+		verify(dataAccessStrategy).update(new SampleEntity(2L, "Alfred"), SampleEntity.class);
+		verify(dataAccessStrategy, never()).update(any(Query.class), any(Update.class), any());
+	}
+
+	@Test
+	void deleteByQueryDeletesMatchingAggregatesByIdIfNotSupportedByDataAccessStrategy() {
+
+		when(dataAccessStrategy.findAll(any(Query.class), eq(SampleEntity.class)))
+				.thenReturn(asList(new SampleEntity(1L, "Bruce"), new SampleEntity(2L, "Dick")));
+
+		long deleted = template.delete(Query.empty(), SampleEntity.class);
+
+		assertThat(deleted).isEqualTo(2);
+		verify(dataAccessStrategy).delete(List.<Object> of(1L, 2L), SampleEntity.class);
+		verify(dataAccessStrategy, never()).delete(any(Query.class), eq(SampleEntity.class));
+	}
+
+	@Test
+	void updateWithPreviousStateReinsertsEntitiesIfDifferentialUpdatesAreNotSupported() {
+
+		when(dataAccessStrategy.update(any(), any())).thenReturn(true);
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class))).thenAnswer(i -> i.getArgument(1));
+
+		EntityWithElements previousState = new EntityWithElements(1L, singletonList(new Element(23L, "one")));
+		template.update(new EntityWithElements(1L, emptyList()), previousState);
+
+		verify(dataAccessStrategy).delete(eq(1L), any(PersistentPropertyPath.class));
+		verify(dataAccessStrategy, never()).delete(any(Identifier.class), any(PersistentPropertyPath.class));
+	}
+
 	@Test // GH-1401
 	public void deleteAllByIdWithEmptyListDoesNothing() {
 		template.deleteAllById(emptyList(), SampleEntity.class);
@@ -346,6 +428,24 @@ public class JdbcAggregateTemplateUnitTests {
 		private String name;
 	}
 
+	@Data
+	@AllArgsConstructor
+	private static class EntityWithElements {
+
+		@Id private Long id;
+
+		private List<Element> elements;
+	}
+
+	@Data
+	@AllArgsConstructor
+	private static class Element {
+
+		@Id private Long id;
+
+		private String name;
+	}
+
 	@Data
 	@RequiredArgsConstructor
 	private static class EntityWithVersion {
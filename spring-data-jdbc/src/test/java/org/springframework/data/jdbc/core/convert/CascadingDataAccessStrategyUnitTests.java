@@ -85,4 +85,52 @@ public class CascadingDataAccessStrategyUnitTests {
 		assertThat(findAll).containsExactly("success");
 	}
 
+	@Test
+	public void skipsUnsupportingStrategyAfterFirstSuccess() {
+
+		DataAccessStrategy unsupported = mock(DataAccessStrategy.class, i -> {
+			throw new UnsupportedOperationException("Not supported");
+		});
+		doReturn("success").when(succeeds).findById(any(), eq(String.class));
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(unsupported, succeeds, mayNotCall));
+
+		access.findById(23L, String.class);
+		access.findById(42L, String.class);
+
+		verify(unsupported, times(1)).findById(any(), any());
+		verify(succeeds, times(2)).findById(any(), eq(String.class));
+	}
+
+	@Test
+	public void routesPerOperationAndDomainType() {
+
+		DataAccessStrategy unsupported = mock(DataAccessStrategy.class, i -> {
+			throw new UnsupportedOperationException("Not supported");
+		});
+		doReturn("success").when(succeeds).findById(any(), any());
+		doReturn(true).when(succeeds).existsById(any(), any());
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(unsupported, succeeds));
+
+		access.findById(23L, String.class);
+		access.findById(23L, Integer.class);
+		access.existsById(23L, String.class);
+
+		verify(unsupported).findById(23L, String.class);
+		verify(unsupported).findById(23L, Integer.class);
+		verify(unsupported).existsById(23L, String.class);
+	}
+
+	@Test
+	public void keepsAskingStrategyFailingWithOtherException() {
+
+		DataAccessStrategy failing = mock(DataAccessStrategy.class);
+		doThrow(new IllegalStateException("Temporarily broken")).when(failing).findById(any(), any());
+		doReturn("success").when(succeeds).findById(any(), any());
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(failing, succeeds));
+
+		access.findById(23L, String.class);
+		access.findById(23L, String.class);
+
+		verify(failing, times(2)).findById(23L, String.class);
+	}
 }
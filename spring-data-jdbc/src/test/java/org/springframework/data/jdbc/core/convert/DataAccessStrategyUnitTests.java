@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+
+/**
+ * Unit tests for the default methods of {@link DataAccessStrategy}.
+ */
+class DataAccessStrategyUnitTests {
+
+	DataAccessStrategy strategy = mock(DataAccessStrategy.class, CALLS_REAL_METHODS);
+
+	@Test
+	void upsertUpdatesExistingRow() {
+
+		doReturn(true).when(strategy).update("entity", String.class);
+
+		strategy.upsert("entity", String.class);
+
+		verify(strategy, never()).insert(any(), any(), any(Identifier.class), any(IdValueSource.class));
+	}
+
+	@Test
+	void upsertInsertsWithProvidedIdIfNoRowGotUpdated() {
+
+		doReturn(false).when(strategy).update("entity", String.class);
+
+		strategy.upsert("entity", String.class);
+
+		verify(strategy).insert("entity", String.class, Identifier.empty(), IdValueSource.PROVIDED);
+	}
+}
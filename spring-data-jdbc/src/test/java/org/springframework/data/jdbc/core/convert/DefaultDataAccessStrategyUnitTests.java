@@ -15,23 +15,40 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import lombok.RequiredArgsConstructor;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -115,6 +132,113 @@ class DefaultDataAccessStrategyUnitTests {
 		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.GENERATED, null);
 	}
 
+	@Test
+	void streamAllUsesFetchSizeOfJdbcOperationsByDefault() {
+
+		when(namedJdbcOperations.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		accessStrategy.streamAll(DummyEntity.class);
+
+		verify(namedJdbcOperations).queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(namedJdbcOperations, never()).getJdbcOperations();
+	}
+
+	@Test
+	void streamAllAppliesConfiguredFetchSize() throws SQLException {
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		accessStrategy.setStreamFetchSize(100);
+		accessStrategy.streamAll(DummyEntity.class);
+
+		ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcOperations).queryForStream(creator.capture(), any(RowMapper.class));
+		creator.getValue().createPreparedStatement(connection);
+
+		verify(statement).setFetchSize(100);
+	}
+
+	@Test
+	void streamAllReadsAggregatesWithCollectionsCompletely() {
+
+		when(namedJdbcOperations.query(anyString(), any(RowMapper.class))).thenReturn(emptyList());
+
+		accessStrategy.setStreamFetchSize(100);
+		accessStrategy.streamAll(EntityWithList.class);
+
+		verify(namedJdbcOperations).query(anyString(), any(RowMapper.class));
+		verify(namedJdbcOperations, never()).queryForStream(anyString(), any(SqlParameterSource.class),
+				any(RowMapper.class));
+		verify(namedJdbcOperations, never()).getJdbcOperations();
+	}
+
+	@Test
+	void findAllByQueryAppliesFetchSizeOfQuery() throws SQLException {
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+				.thenReturn(emptyList());
+
+		accessStrategy.findAll(Query.empty().withFetchSize(50), DummyEntity.class);
+
+		ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcOperations).query(creator.capture(), any(ResultSetExtractor.class));
+		creator.getValue().createPreparedStatement(connection);
+
+		verify(statement).setFetchSize(50);
+	}
+
+	@Test
+	void updateAllTakesUpdatesReportedAsSuccessNoInfoAsUpdated() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenReturn(updateParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 1, Statement.SUCCESS_NO_INFO, 0 });
+
+		boolean[] updated = accessStrategy.updateAll(
+				asList(new EntityWithName(1L, "a"), new EntityWithName(2L, "b"), new EntityWithName(3L, "c")),
+				EntityWithName.class);
+
+		assertThat(updated).containsExactly(true, true, false);
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void updateAllWithVersionRejectsUpdatesReportedAsSuccessNoInfo() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenReturn(updateParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 1, Statement.SUCCESS_NO_INFO });
+
+		// a concurrent writer already moved the row to the version the batch would have written, so repeating the
+		// update guarded by that version would match their row and overwrite their changes
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+
+		assertThatExceptionOfType(IncorrectUpdateSemanticsDataAccessException.class)
+				.isThrownBy(() -> accessStrategy.updateAllWithVersion(
+						asList(new VersionedEntity(1L, 2L), new VersionedEntity(2L, 2L)), VersionedEntity.class,
+						asList(1L, 1L)));
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	private static SqlIdentifierParameterSource updateParameterSource() {
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(
+				HsqlDbDialect.INSTANCE.getIdentifierProcessing());
+		parameterSource.addValue(SqlIdentifier.quoted("ID"), ORIGINAL_ID);
+		parameterSource.addValue(SqlIdentifier.quoted("NAME"), "name");
+		return parameterSource;
+	}
+
 	@RequiredArgsConstructor
 	private static class DummyEntity {
 
@@ -126,4 +250,25 @@ class DefaultDataAccessStrategyUnitTests {
 
 		private final Long id;
 	}
+
+	@RequiredArgsConstructor
+	private static class EntityWithName {
+
+		@Id private final Long id;
+		private final String name;
+	}
+
+	@RequiredArgsConstructor
+	private static class EntityWithList {
+
+		@Id private final Long id;
+		private final List<DummyEntity> elements;
+	}
+
+	@RequiredArgsConstructor
+	private static class VersionedEntity {
+
+		@Id private final Long id;
+		@Version private final Long version;
+	}
 }
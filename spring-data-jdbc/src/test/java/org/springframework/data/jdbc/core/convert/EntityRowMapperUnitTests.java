@@ -104,6 +104,27 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
 	}
 
+	@Test
+	void resultSetMetadataGetsInspectedOncePerResultSet() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				ID_FOR_ENTITY_REFERENCING_LIST, "beta");
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		List<Trivial> extracted = new ArrayList<>();
+		while (rs.next()) {
+			extracted.add(rowMapper.mapRow(rs, extracted.size()));
+		}
+
+		assertThat(extracted) //
+				.extracting(e -> e.id, e -> e.name) //
+				.containsExactly( //
+						tuple(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha"), //
+						tuple(ID_FOR_ENTITY_REFERENCING_LIST, "beta"));
+		verify(rs, times(1)).getMetaData();
+	}
+
 	@Test // DATAJDBC-181
 	void namingStrategyGetsHonored() throws SQLException {
 
@@ -225,6 +246,20 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 2);
 	}
 
+	@Test
+	void collectionReferenceGetsSkippedWhenIdIsNotSelected() throws SQLException {
+
+		ResultSet rs = mockResultSet(singletonList("NAME"), "alpha");
+		rs.next();
+
+		OneToSet extracted = createRowMapper(OneToSet.class).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.name, e -> e.children) //
+				.containsExactly(null, "alpha", null);
+	}
+
 	@Test // DATAJDBC-131
 	void mapReferenceGetsLoadedWithAdditionalSelect() throws SQLException {
 
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.relational.core.dialect.AbstractDialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.relational.core.dialect.LockClause;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link MultiRowBatchInsertStrategy}.
+ *
+ * @author Jens Schauder
+ */
+class MultiRowBatchInsertStrategyTest {
+
+	IdentifierProcessing identifierProcessing = IdentifierProcessing.ANSI;
+	NamedParameterJdbcOperations jdbcOperations = mock(NamedParameterJdbcOperations.class);
+	String sql = "single row sql";
+
+	@Test
+	void insertsChunksLimitedByMaxRowsPerInsert() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, createDialect(2, 100));
+		SqlParameterSource[] sources = createSources(5);
+
+		Object[] ids = strategy.execute(sql, rows -> "sql for " + rows, sources);
+
+		ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(jdbcOperations, times(2)).update(eq("sql for 2"), captor.capture());
+		verify(jdbcOperations).update(sql, sources[4]);
+		verifyNoMoreInteractions(jdbcOperations);
+
+		List<SqlParameterSource> chunks = captor.getAllValues();
+		assertThat(chunks.get(0).getValue("name$0")).isEqualTo("name0");
+		assertThat(chunks.get(0).getValue("name$1")).isEqualTo("name1");
+		assertThat(chunks.get(1).getValue("name$0")).isEqualTo("name2");
+		assertThat(chunks.get(1).getValue("name$1")).isEqualTo("name3");
+		assertThat(ids).hasSize(5).containsOnlyNulls();
+	}
+
+	@Test
+	void insertsChunksLimitedByMaxBindParameters() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, createDialect(1000, 6));
+
+		strategy.execute(sql, rows -> "sql for " + rows, createSources(8));
+
+		verify(jdbcOperations, times(2)).update(eq("sql for 3"), any(SqlParameterSource.class));
+		verify(jdbcOperations).update(eq("sql for 2"), any(SqlParameterSource.class));
+		verifyNoMoreInteractions(jdbcOperations);
+	}
+
+	@Test
+	void insertsChunksOfWideRowsWithinBindParameterLimitOfMySql() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, MySqlDialect.INSTANCE);
+
+		strategy.execute(sql, rows -> "sql for " + rows, createSources(1000, 100));
+
+		// 65535 bind parameters allow 655 rows of 100 columns
+		ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(jdbcOperations).update(eq("sql for 655"), captor.capture());
+		verify(jdbcOperations).update(eq("sql for 345"), any(SqlParameterSource.class));
+		verifyNoMoreInteractions(jdbcOperations);
+
+		assertThat(captor.getValue().getParameterNames()).hasSize(65_500);
+	}
+
+	@Test
+	void usesBatchUpdateWithoutMultiRowSql() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, createDialect(1000, 100));
+		SqlParameterSource[] sources = createSources(3);
+
+		strategy.execute(sql, sources);
+
+		verify(jdbcOperations).batchUpdate(sql, sources);
+	}
+
+	@Test
+	void usesBatchUpdateForInsertsWithoutColumns() {
+
+		BatchInsertStrategy strategy = new MultiRowBatchInsertStrategy(jdbcOperations, createDialect(1000, 100));
+		SqlParameterSource[] sources = new SqlParameterSource[] { new SqlIdentifierParameterSource(identifierProcessing),
+				new SqlIdentifierParameterSource(identifierProcessing) };
+
+		strategy.execute(sql, rows -> "sql for " + rows, sources);
+
+		verify(jdbcOperations).batchUpdate(sql, sources);
+	}
+
+	private SqlParameterSource[] createSources(int count) {
+
+		SqlParameterSource[] sources = new SqlParameterSource[count];
+		for (int i = 0; i < count; i++) {
+
+			SqlIdentifierParameterSource source = new SqlIdentifierParameterSource(identifierProcessing);
+			source.addValue(SqlIdentifier.unquoted("id"), i);
+			source.addValue(SqlIdentifier.unquoted("name"), "name" + i);
+			sources[i] = source;
+		}
+
+		return sources;
+	}
+
+	private SqlParameterSource[] createSources(int count, int columns) {
+
+		SqlParameterSource[] sources = new SqlParameterSource[count];
+		for (int i = 0; i < count; i++) {
+
+			SqlIdentifierParameterSource source = new SqlIdentifierParameterSource(identifierProcessing);
+			for (int column = 0; column < columns; column++) {
+				source.addValue(SqlIdentifier.unquoted("column" + column), i);
+			}
+			sources[i] = source;
+		}
+
+		return sources;
+	}
+
+	private static Dialect createDialect(int maxRowsPerInsert, int maxBindParameters) {
+
+		return new AbstractDialect() {
+
+			@Override
+			public LimitClause limit() {
+				return null;
+			}
+
+			@Override
+			public LockClause lock() {
+				return null;
+			}
+
+			@Override
+			public int getMaxRowsPerInsert() {
+				return maxRowsPerInsert;
+			}
+
+			@Override
+			public int getMaxBindParameters() {
+				return maxBindParameters;
+			}
+		};
+	}
+}
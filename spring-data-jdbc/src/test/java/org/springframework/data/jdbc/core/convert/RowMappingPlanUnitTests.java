@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.RowMappingPlan.Kind;
+import org.springframework.data.jdbc.core.convert.RowMappingPlan.PropertyPlan;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link RowMappingPlan}.
+ *
+ * @author Jens Schauder
+ */
+class RowMappingPlanUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+
+	@Test
+	void precomputesColumnLabelsAndKinds() {
+
+		RowMappingPlan plan = createPlan(DummyEntity.class);
+
+		assertThat(plan.getColumnNames()).containsExactlyInAnyOrder("id", "name", "child_dummy_entity");
+		assertThat(plan.getIdProperty().getKind()).isEqualTo(Kind.VALUE);
+		assertThat(plan.getColumnNames()[plan.getIdProperty().getValueColumn()]).isEqualTo("id");
+
+		PropertyPlan children = plan.getRequiredProperty("children");
+		assertThat(children.getKind()).isEqualTo(Kind.RELATION);
+		assertThat(children.getPropertyPath().toDotPath()).isEqualTo("children");
+		assertThat(children.getReverseColumnName().getReference()).isEqualTo("dummy_entity");
+
+		PropertyPlan child = plan.getRequiredProperty("child");
+		assertThat(child.getKind()).isEqualTo(Kind.ENTITY);
+		assertThat(plan.getColumnNames()[child.getBackReferenceColumn()]).isEqualTo("child_dummy_entity");
+		assertThat(child.getNested().getColumnNames()).containsExactly("child_value");
+	}
+
+	@Test
+	void embeddedPlanUsesPrefixedColumns() {
+
+		PropertyPlan embedded = createPlan(DummyEntity.class).getRequiredProperty("embedded");
+
+		assertThat(embedded.getKind()).isEqualTo(Kind.EMBEDDED);
+		assertThat(embedded.getNested().getColumnNames()).containsExactly("prefix_value");
+	}
+
+	@Test
+	void unknownPropertyIsRejected() {
+
+		RowMappingPlan plan = createPlan(DummyEntity.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> plan.getRequiredProperty("unknown"));
+	}
+
+	private RowMappingPlan createPlan(Class<?> type) {
+		return new RowMappingPlan(context, IdentifierProcessing.NONE,
+				new PersistentPropertyPathExtension(context, context.getRequiredPersistentEntity(type)));
+	}
+
+	static class DummyEntity {
+
+		@Id Long id;
+		String name;
+		@Embedded.Nullable(prefix = "prefix_") Child embedded;
+		Child child;
+		List<Child> children;
+	}
+
+	static class Child {
+		String value;
+	}
+}
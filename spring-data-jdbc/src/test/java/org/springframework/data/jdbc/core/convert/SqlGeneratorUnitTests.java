@@ -15,17 +15,20 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 import static org.springframework.data.relational.core.mapping.ForeignKeyNaming.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.annotation.Version;
@@ -48,9 +51,13 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Aliased;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -453,6 +460,69 @@ class SqlGeneratorUnitTests {
 						"An empty SqlIdentifier can't be used in condition. Make sure that all composite primary keys are defined in the query");
 	}
 
+	@Test
+	void findAllByPathForAllRoots() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Element.class);
+
+		String sql = sqlGenerator.getFindAllByPath(getPath("mappedElements", DummyEntity.class),
+				singletonList(unquoted("dummy_entity")), org.springframework.data.relational.core.sql.Column::isNotNull);
+
+		assertThat(sql).isEqualTo("SELECT element.x_id AS x_id, element.x_content AS x_content, " //
+				+ "element.dummy_entity AS dummy_entity, element.dummy_entity_key AS dummy_entity_key " //
+				+ "FROM element " //
+				+ "WHERE element.dummy_entity IS NOT NULL");
+	}
+
+	@Test
+	void findAllByPathForRootIds() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Element.class);
+
+		String sql = sqlGenerator.getFindAllByPath(getPath("elements", DummyEntity.class),
+				singletonList(unquoted("dummy_entity")), this.sqlGenerator::isInRootIds);
+
+		assertThat(sql).isEqualTo("SELECT element.x_id AS x_id, element.x_content AS x_content, " //
+				+ "element.dummy_entity AS dummy_entity " //
+				+ "FROM element " //
+				+ "WHERE element.dummy_entity IN (:ids)");
+	}
+
+	@Test
+	void findAllByNestedPathUsesSubselect() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Chain0.class);
+
+		String sql = sqlGenerator.getFindAllByPath(getPath("chain3.chain2.chain1.chain0", Chain4.class),
+				singletonList(unquoted("chain1")), createSqlGenerator(Chain4.class)::isRootId);
+
+		assertThat(sql).isEqualTo("SELECT chain0.x_zero AS x_zero, chain0.x_zero_value AS x_zero_value, " //
+				+ "chain0.chain1 AS chain1 " //
+				+ "FROM chain0 " //
+				+ "WHERE chain0.chain1 IN (" //
+				+ "SELECT chain1.x_one FROM chain1 WHERE chain1.chain2 IN (" //
+				+ "SELECT chain2.x_two FROM chain2 WHERE chain2.chain3 IN (" //
+				+ "SELECT chain3.x_three FROM chain3 WHERE chain3.chain4 = :id)))");
+	}
+
+	@Test
+	void rootConditionByQuerySelectsIds() {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		Query query = Query.query(Criteria.where("name").is("Alfred"));
+
+		SqlGenerator elementSqlGenerator = createSqlGenerator(Element.class);
+		String sql = elementSqlGenerator.getFindAllByPath(getPath("elements", DummyEntity.class),
+				singletonList(unquoted("dummy_entity")), sqlGenerator.getRootCondition(query, parameterSource));
+
+		assertThat(sql).endsWith("WHERE element.dummy_entity IN (" //
+				+ "SELECT dummy_entity.id1 FROM dummy_entity " //
+				+ "LEFT OUTER JOIN referenced_entity ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity ref_further ON ref_further.referenced_entity = ref.x_l1id " //
+				+ "WHERE dummy_entity.x_name = :x_name)");
+		assertThat(parameterSource.getValue("x_name")).isEqualTo("Alfred");
+	}
+
 	@Test // DATAJDBC-219
 	void updateWithVersion() {
 
@@ -499,6 +569,17 @@ class SqlGeneratorUnitTests {
 				+ "(\"test\"\"_@123\") " + "VALUES (:test_123)");
 	}
 
+	@Test
+	void getMultiRowInsert() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithQuotedColumnName.class, AnsiDialect.INSTANCE);
+
+		String insert = sqlGenerator.getInsert(emptySet(), 3);
+
+		assertThat(insert).isEqualTo("INSERT INTO \"ENTITY_WITH_QUOTED_COLUMN_NAME\" " //
+				+ "(\"test\"\"_@123\") " + "VALUES (:test_123$0), (:test_123$1), (:test_123$2)");
+	}
+
 	@Test // DATAJDBC-266
 	void joinForOneToOneWithoutIdIncludesTheBackReferenceOfTheOuterJoin() {
 
@@ -523,6 +604,43 @@ class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	void updateByIdentifyingColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Element.class, AnsiDialect.INSTANCE);
+
+		String update = sqlGenerator.getUpdate(new LinkedHashSet<>(asList(unquoted("DUMMY_ENTITY"), quoted("X_ID"))));
+
+		assertThat(update).isEqualTo("UPDATE \"ELEMENT\" SET \"X_CONTENT\" = :x_content " //
+				+ "WHERE \"ELEMENT\".DUMMY_ENTITY = :DUMMY_ENTITY AND \"ELEMENT\".\"X_ID\" = :X_ID");
+	}
+
+	@Test
+	void updateByIdWritesAdditionalColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Element.class, AnsiDialect.INSTANCE);
+
+		String update = sqlGenerator.getUpdate(singleton(quoted("X_ID")),
+				new LinkedHashSet<>(asList(unquoted("DUMMY_ENTITY"), unquoted("DUMMY_ENTITY_KEY"), quoted("X_ID"))));
+
+		assertThat(update).startsWith("UPDATE \"ELEMENT\" SET \"X_CONTENT\" = :x_content") //
+				.contains("DUMMY_ENTITY = :DUMMY_ENTITY", "DUMMY_ENTITY_KEY = :DUMMY_ENTITY_KEY") //
+				.doesNotContain("\"X_ID\" = :X_ID,") //
+				.endsWith("WHERE \"ELEMENT\".\"X_ID\" = :X_ID");
+	}
+
+	@Test
+	void deleteByIdentifyingColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(Element.class, AnsiDialect.INSTANCE);
+
+		String delete = sqlGenerator
+				.getDelete(new LinkedHashSet<>(asList(unquoted("DUMMY_ENTITY"), unquoted("DUMMY_ENTITY_KEY"))));
+
+		assertThat(delete).isEqualTo("DELETE FROM \"ELEMENT\" " //
+				+ "WHERE \"ELEMENT\".DUMMY_ENTITY = :DUMMY_ENTITY AND \"ELEMENT\".DUMMY_ENTITY_KEY = :DUMMY_ENTITY_KEY");
+	}
+
 	@Test // DATAJDBC-324
 	void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
@@ -535,6 +653,17 @@ class SqlGeneratorUnitTests {
 		);
 	}
 
+	@Test
+	void upsertInsertsIdAndInsertableColumnsAndUpdatesUpdatableColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, PostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpsert()).isEqualToIgnoringCase( //
+				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_ID\", \"X_NAME\") VALUES (:X_ID, :X_NAME) " //
+						+ "ON CONFLICT (\"X_ID\") DO UPDATE SET \"X_NAME\" = EXCLUDED.\"X_NAME\"" //
+		);
+	}
+
 	@Test // DATAJDBC-334
 	void getUpdateForQuotedColumnName() {
 
@@ -771,6 +900,24 @@ class SqlGeneratorUnitTests {
 						SqlIdentifier.quoted("child"), SqlIdentifier.quoted("CHILD_PARENT_OF_NO_ID_CHILD"));
 	}
 
+	@Test
+	void cachesStatementsRenderedForDynamicArguments() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class);
+
+		String sorted = sqlGenerator.getFindAll(Sort.by("name"));
+		String paged = sqlGenerator.getFindAll(PageRequest.of(2, 10, Sort.by("name")));
+
+		assertThat(sqlGenerator.getFindAll(Sort.by("name"))).isSameAs(sorted);
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(2, 10, Sort.by("name")))).isSameAs(paged);
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(3, 10, Sort.by("name")))).isNotEqualTo(paged);
+		assertThat(sqlGenerator.getInsert(emptySet())).isSameAs(sqlGenerator.getInsert(new LinkedHashSet<>()));
+
+		StatementCacheStatistics statistics = sqlGenerator.getStatementCacheStatistics();
+		assertThat(statistics.hits()).isEqualTo(3);
+		assertThat(statistics.misses()).isEqualTo(4);
+	}
+
 	@Test // GH-1192
 	void selectByQueryValidTest() {
 
@@ -791,6 +938,72 @@ class SqlGeneratorUnitTests {
 				.containsOnly(entry("x_name", probe.name));
 	}
 
+	@Test
+	void selectByQueryAppliesLockAndWaitPolicy() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+		Query query = Query.query(Criteria.where("name").is("Diego")) //
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED);
+
+		String generatedSQL = sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+
+		assertThat(generatedSQL).endsWith("FOR UPDATE OF \"dummy_entity\" SKIP LOCKED");
+	}
+
+	@Test
+	void selectByKeysetQueryAppliesLockAndWaitPolicy() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, PostgresDialect.INSTANCE);
+		Query query = Query.empty().sort(Sort.by("name")).limit(10) //
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED);
+		Sort keysetSort = KeysetScrollDelegate.getKeysetSort(query.getSort(),
+				context.getRequiredPersistentEntity(DummyEntity.class));
+
+		String generatedSQL = sqlGenerator.selectByQuery(
+				KeysetScrollDelegate.createQuery(query, Keyset.of(Map.of("name", "Diego", "id", 23L)), keysetSort),
+				new MapSqlParameterSource());
+
+		assertThat(generatedSQL).endsWith("FOR UPDATE OF \"dummy_entity\" SKIP LOCKED");
+	}
+
+	@Test
+	void selectByQuerySelectsOnlyProjectedColumnsAndId() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego")).columns("name");
+
+		String sql = sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+
+		assertSoftly(softly -> softly //
+				.assertThat(sql) //
+				.startsWith("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name FROM dummy_entity") //
+				.endsWith("WHERE dummy_entity.x_name = :x_name") //
+				.doesNotContain("ref.x_content"));
+	}
+
+	@Test
+	void selectByQueryKeepsJoinsOfReferencesNotProjected() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego")).columns("name");
+
+		String sql = sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+
+		assertThat(sql).contains("LEFT OUTER JOIN referenced_entity ref ON ref.dummy_entity = dummy_entity.id1");
+	}
+
+	@Test
+	void selectByQuerySelectsOnlyProjectedReferences() {
+
+		Query query = Query.empty().columns("x_other", "ref");
+
+		String sql = sqlGenerator.selectByQuery(query, new MapSqlParameterSource(), PageRequest.of(0, 10));
+
+		assertSoftly(softly -> softly //
+				.assertThat(sql) //
+				.startsWith("SELECT dummy_entity.id1 AS id1, dummy_entity.x_other AS x_other, ref.x_l1id AS ref_x_l1id") //
+				.contains("LEFT OUTER JOIN referenced_entity ref ON ref.dummy_entity = dummy_entity.id1") //
+				.doesNotContain("x_name"));
+	}
+
 	@Test // GH-1329
 	void selectWithOutAnyCriteriaTest() {
 
@@ -873,6 +1086,95 @@ class SqlGeneratorUnitTests {
 				.containsOnly(entry("x_name", probe.name));
 	}
 
+	@Test
+	void updateByQuery() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+		Update update = Update.update("name", "Jens").set("other", null);
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String sql = sqlGenerator.updateByQuery(query, update, parameterSource);
+
+		assertThat(sql).isEqualTo(
+				"UPDATE dummy_entity SET x_name = :x_name, x_other = NULL WHERE dummy_entity.x_name = :x_name1");
+		assertThat(parameterSource.getValues()) //
+				.containsOnly(entry("x_name", "Jens"), entry("x_name1", "Diego"));
+	}
+
+	@Test
+	void updateByQueryWithoutCriteria() {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String sql = sqlGenerator.updateByQuery(Query.empty(), Update.update("name", "Jens"), parameterSource);
+
+		assertThat(sql).isEqualTo("UPDATE dummy_entity SET x_name = :x_name");
+	}
+
+	@Test
+	void updateByQueryRejectsEmptyUpdate() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> sqlGenerator.updateByQuery(Query.empty(),
+				Update.from(emptyMap()), new MapSqlParameterSource()));
+	}
+
+	@Test
+	void deleteByQuery() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String sql = sqlGenerator.deleteByQuery(query, parameterSource);
+
+		assertThat(sql).isEqualTo("DELETE FROM dummy_entity WHERE dummy_entity.x_name = :x_name");
+		assertThat(parameterSource.getValues()).containsOnly(entry("x_name", "Diego"));
+	}
+
+	@Test
+	void updateAndDeleteByQueryRejectCriteriaOnReferencedEntities() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego").and("ref.content").is("x"));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(
+				() -> sqlGenerator.updateByQuery(query, Update.update("name", "Jens"), new MapSqlParameterSource()));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> sqlGenerator.deleteByQuery(query, new MapSqlParameterSource()));
+	}
+
+	@Test
+	void cascadingDeleteByQueryFirstLevel() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String sql = sqlGenerator.deleteByQuery(query, parameterSource, getPath("ref", DummyEntity.class));
+
+		assertThat(sql).isEqualTo(
+				"DELETE FROM referenced_entity WHERE referenced_entity.dummy_entity IN (SELECT dummy_entity.id1 FROM dummy_entity WHERE dummy_entity.x_name = :x_name)");
+		assertThat(parameterSource.getValues()).containsOnly(entry("x_name", "Diego"));
+	}
+
+	@Test
+	void cascadingDeleteByQuerySecondLevel() {
+
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+
+		String sql = sqlGenerator.deleteByQuery(query, new MapSqlParameterSource(),
+				getPath("ref.further", DummyEntity.class));
+
+		assertThat(sql).isEqualTo(
+				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity IN (SELECT dummy_entity.id1 FROM dummy_entity WHERE dummy_entity.x_name = :x_name))");
+	}
+
+	@Test
+	void cascadingDeleteByQueryWithoutCriteria() {
+
+		String sql = sqlGenerator.deleteByQuery(Query.empty(), new MapSqlParameterSource(),
+				getPath("ref", DummyEntity.class));
+
+		assertThat(sql).isEqualTo("DELETE FROM referenced_entity WHERE referenced_entity.dummy_entity IS NOT NULL");
+	}
+
 	@Test // GH-1161
 	void backReferenceShouldConsiderRenamedParent() {
 
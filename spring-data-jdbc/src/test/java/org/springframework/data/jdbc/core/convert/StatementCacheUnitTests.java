@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatementCache}.
+ *
+ * @author Jens Schauder
+ */
+class StatementCacheUnitTests {
+
+	AtomicInteger renderCount = new AtomicInteger();
+
+	@Test
+	void rendersStatementOnlyOnce() {
+
+		StatementCache cache = new StatementCache();
+
+		String first = cache.get("select", () -> render("SELECT 1"), "a", 1);
+		String second = cache.get("select", () -> render("SELECT 1"), "a", 1);
+
+		assertThat(second).isSameAs(first);
+		assertThat(renderCount).hasValue(1);
+		assertThat(cache.getStatistics()).isEqualTo(new StatementCacheStatistics(1, 1, 1, 256));
+	}
+
+	@Test
+	void distinguishesStatementsByNameAndArguments() {
+
+		StatementCache cache = new StatementCache();
+
+		assertThat(cache.get("select", () -> render("one"), "a")).isEqualTo("one");
+		assertThat(cache.get("select", () -> render("two"), "b")).isEqualTo("two");
+		assertThat(cache.get("delete", () -> render("three"), "a")).isEqualTo("three");
+		assertThat(cache.get("delete", () -> render("four"), (Object) null)).isEqualTo("four");
+
+		assertThat(cache.getStatistics().misses()).isEqualTo(4);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedStatementWhenFull() {
+
+		StatementCache cache = new StatementCache(2);
+
+		cache.get("select", () -> render("one"), 1);
+		cache.get("select", () -> render("two"), 2);
+		cache.get("select", () -> render("one"), 1);
+		cache.get("select", () -> render("three"), 3);
+		cache.get("select", () -> render("one"), 1);
+		cache.get("select", () -> render("two"), 2);
+
+		assertThat(renderCount).hasValue(4);
+		assertThat(cache.getStatistics().size()).isEqualTo(2);
+	}
+
+	private String render(String statement) {
+
+		renderCount.incrementAndGet();
+		return statement;
+	}
+}
@@ -22,14 +22,25 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.PropertyPathTestingUtils;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
@@ -50,6 +61,7 @@ public class MyBatisDataAccessStrategyUnitTests {
 	RelationalMappingContext context = new JdbcMappingContext();
 
 	SqlSession session = mock(SqlSession.class);
+	Configuration configuration = mock(Configuration.class);
 	ArgumentCaptor<MyBatisContext> captor = ArgumentCaptor.forClass(MyBatisContext.class);
 
 	MyBatisDataAccessStrategy accessStrategy = new MyBatisDataAccessStrategy(session, IdentifierProcessing.ANSI);
@@ -60,9 +72,21 @@ public class MyBatisDataAccessStrategyUnitTests {
 	@BeforeEach
 	public void before() {
 
+		doReturn(configuration).when(session).getConfiguration();
+		doReturn(true).when(configuration).hasStatement(any());
 		doReturn(false).when(session).selectOne(any(), any());
 	}
 
+	@Test
+	public void executesOperationWithoutMappedStatement() {
+
+		doReturn(false).when(configuration).hasStatement("java.lang.StringMapper.findById");
+
+		accessStrategy.findById(23L, String.class);
+
+		verify(session).selectOne(eq("java.lang.StringMapper.findById"), any());
+	}
+
 	@Test // DATAJDBC-123
 	public void insert() {
 
@@ -86,6 +110,62 @@ public class MyBatisDataAccessStrategyUnitTests {
 				);
 	}
 
+	@Test
+	public void insertAllFlushesStatementsOnce() {
+
+		Identifier identifier = Identifier.from(singletonMap(unquoted("key"), "value"));
+
+		accessStrategy.insert(asList(InsertSubject.describedBy("x", identifier), InsertSubject.describedBy("y", identifier)),
+				String.class, IdValueSource.GENERATED);
+
+		verify(session, times(2)).insert(eq("java.lang.StringMapper.insert"), captor.capture());
+		verify(session).flushStatements();
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getInstance).containsExactly("x", "y");
+	}
+
+	@Test
+	public void updateAllUsesUpdateCountsOfFlushedBatch() {
+
+		List<Object> parameters = new ArrayList<>();
+		doAnswer(invocation -> {
+
+			parameters.add(invocation.getArgument(1));
+			return BatchExecutor.BATCH_UPDATE_RETURN_VALUE;
+		}).when(session).update(eq("java.lang.StringMapper.update"), any());
+		doAnswer(invocation -> {
+
+			BatchResult batchResult = new BatchResult(null, "UPDATE", parameters.get(0));
+			batchResult.addParameterObject(parameters.get(1));
+			batchResult.setUpdateCounts(new int[] { 1, 0 });
+			return singletonList(batchResult);
+		}).when(session).flushStatements();
+
+		boolean[] updated = accessStrategy.updateAll(asList("x", "y"), String.class);
+
+		assertThat(updated).containsExactly(true, false);
+	}
+
+	@Test
+	public void updateAllRejectsUnknownUpdateCounts() {
+
+		List<Object> parameters = new ArrayList<>();
+		doAnswer(invocation -> {
+
+			parameters.add(invocation.getArgument(1));
+			return BatchExecutor.BATCH_UPDATE_RETURN_VALUE;
+		}).when(session).update(eq("java.lang.StringMapper.update"), any());
+		doAnswer(invocation -> {
+
+			BatchResult batchResult = new BatchResult(null, "UPDATE", parameters.get(0));
+			batchResult.setUpdateCounts(new int[] { Statement.SUCCESS_NO_INFO });
+			return singletonList(batchResult);
+		}).when(session).flushStatements();
+
+		assertThatExceptionOfType(IncorrectUpdateSemanticsDataAccessException.class)
+				.isThrownBy(() -> accessStrategy.updateAll(asList("x", "y"), String.class));
+	}
+
 	@Test // DATAJDBC-123
 	public void update() {
 
@@ -220,6 +300,21 @@ public class MyBatisDataAccessStrategyUnitTests {
 				);
 	}
 
+	@Test
+	void streamAllReadsFromCursor() throws Exception {
+
+		Cursor<Object> cursor = mock(Cursor.class);
+		doReturn(singletonList("one").spliterator()).when(cursor).spliterator();
+		doReturn(cursor).when(session).selectCursor(eq("java.lang.StringMapper.findAll"), any());
+
+		try (Stream<String> stream = accessStrategy.streamAll(String.class)) {
+			assertThat(stream).containsExactly("one");
+		}
+
+		verify(session, never()).selectList(any(), any());
+		verify(cursor).close();
+	}
+
 	@Test // DATAJDBC-123
 	public void findAll() {
 
@@ -64,6 +64,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.jdbc.repository.query.QueryHints;
 import org.springframework.data.jdbc.repository.support.JdbcRepositoryFactory;
 import org.springframework.data.jdbc.testing.AssumeFeatureTestExecutionListener;
 import org.springframework.data.jdbc.testing.EnabledOnFeature;
@@ -383,6 +384,15 @@ public class JdbcRepositoryIntegrationTests {
 		assertThat(repository.findAllByName(dummyEntity.getName())).hasSize(1);
 	}
 
+	@Test
+	void queryHintsLimitTheNumberOfRows() {
+
+		repository.saveAll(asList(createDummyEntity(), createDummyEntity(), createDummyEntity()));
+
+		assertThat(repository.findAllWithSql()).hasSize(3);
+		assertThat(repository.findAllWithSqlAndMaxRows()).hasSize(2);
+	}
+
 	@Test // GH-1022
 	public void findAllByCustomQueryName() {
 
@@ -1325,6 +1335,10 @@ public class JdbcRepositoryIntegrationTests {
 		@Query("SELECT * FROM DUMMY_ENTITY")
 		List<DummyEntity> findAllWithSql();
 
+		@QueryHints(fetchSize = 1, maxRows = 2, timeout = 10)
+		@Query("SELECT * FROM DUMMY_ENTITY")
+		List<DummyEntity> findAllWithSqlAndMaxRows();
+
 		@Query("SELECT * FROM DUMMY_ENTITY")
 		<T> List<T> findProjectedWithSql(Class<T> targetType);
 
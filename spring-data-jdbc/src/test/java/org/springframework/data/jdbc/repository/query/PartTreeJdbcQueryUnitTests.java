@@ -26,12 +26,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
@@ -42,7 +45,10 @@ import org.springframework.data.relational.core.dialect.H2Dialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -119,6 +125,18 @@ public class PartTreeJdbcQueryUnitTests {
 		});
 	}
 
+	@Test
+	void createQueryWithLockSkippingLockedRows() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByLastName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Krupitza" }),
+				returnedType);
+
+		assertThat(query.getQuery().toUpperCase()).endsWith("FOR UPDATE SKIP LOCKED");
+	}
+
 	@Test // GH-922
 	void createQueryWithPessimisticReadLock() throws Exception {
 
@@ -611,6 +629,24 @@ public class PartTreeJdbcQueryUnitTests {
 		assertThat(query.getQuery()).isEqualTo(expectedSql);
 	}
 
+	@Test
+	void createsKeysetQueryReadingOneMoreRowThanTheLimit() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findTop3ByLastNameOrderByFirstName", String.class, Keyset.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		RelationalParametersParameterAccessor accessor = getAccessor(queryMethod,
+				new Object[] { "Doe", Keyset.of(Map.of("firstName", "Jane", "id", 42L)) });
+		ParametrizedQuery query = jdbcQuery.createQuery(accessor, returnedType);
+
+		String expectedSql = BASE_SELECT + " WHERE (" + TABLE + ".\"LAST_NAME\" = :last_name) AND (" + TABLE
+				+ ".\"FIRST_NAME\" >= :first_name AND (" + TABLE + ".\"FIRST_NAME\" > :first_name1 OR (" + TABLE
+				+ ".\"FIRST_NAME\" = :first_name2 AND " + TABLE + ".\"ID\" > :id))) ORDER BY " + TABLE
+				+ ".\"FIRST_NAME\" ASC, " + TABLE + ".\"ID\" ASC LIMIT 4";
+		assertThat(query.getQuery()).isEqualTo(expectedSql);
+		assertThat(query.getParameterSource().getValue("first_name2")).isEqualTo("Jane");
+		assertThat(query.getParameterSource().getValue("id")).isEqualTo(42L);
+	}
+
 	@Test // DATAJDBC-318
 	public void createsQueryToFindFirstEntityByStringAttribute() throws Exception {
 
@@ -669,6 +705,59 @@ public class PartTreeJdbcQueryUnitTests {
 				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	void reusesRenderedQueryForArgumentsOfSameShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(23, 42) }),
+				returnedType);
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(5, 7) }),
+				returnedType);
+		ParametrizedQuery third = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(5, 7, 9) }),
+				returnedType);
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(second.getQuery()).isSameAs(first.getQuery());
+			softly.assertThat(second.getParameterSource().getValue("age")).isEqualTo(5);
+			softly.assertThat(second.getParameterSource().getValue("age1")).isEqualTo(7);
+
+			softly.assertThat(third.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"AGE\" IN (:age, :age1, :age2)");
+			softly.assertThat(third.getParameterSource().getValue("age2")).isEqualTo(9);
+		});
+	}
+
+	@Test
+	void rendersQueryAgainForNullArgument() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery byValue = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery byNull = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }), returnedType);
+
+		assertThat(byValue.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+		assertThat(byNull.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+	}
+
+	@Test
+	void reusesRenderedQueryForOtherPages() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(0, 10) }), returnedType);
+		ParametrizedQuery second = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(3, 5) }), returnedType);
+
+		assertThat(first.getQuery()).endsWith("OFFSET 0 ROWS FETCH FIRST 10 ROWS ONLY");
+		assertThat(second.getQuery()).endsWith("OFFSET 15 ROWS FETCH FIRST 5 ROWS ONLY");
+		assertThat(second.getQuery()).startsWith(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -693,8 +782,13 @@ public class PartTreeJdbcQueryUnitTests {
 		@Lock(LockMode.PESSIMISTIC_READ)
 		List<User> findAllByFirstNameAndAge(String firstName, Integer age);
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.SKIP_LOCKED)
+		List<User> findAllByLastName(String lastName);
+
 		List<User> findAllByFirstName(String firstName);
 
+		List<User> findAllByFirstName(String firstName, Pageable pageable);
+
 		List<User> findAllByHated(Hobby hobby);
 
 		List<User> findAllByHatedName(String name);
@@ -765,6 +859,8 @@ public class PartTreeJdbcQueryUnitTests {
 
 		List<User> findTop3ByFirstName(String firstName);
 
+		KeysetWindow<User> findTop3ByLastNameOrderByFirstName(String lastName, Keyset keyset);
+
 		User findFirstByFirstName(String firstName);
 
 		User findByAddress(Address address);
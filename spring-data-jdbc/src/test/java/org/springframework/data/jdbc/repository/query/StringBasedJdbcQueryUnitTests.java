@@ -20,7 +20,9 @@ import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -55,6 +57,8 @@ import org.springframework.data.repository.core.support.PropertiesBasedNamedQuer
 import org.springframework.data.repository.query.ExtensionAwareQueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.spel.spi.EvaluationContextExtension;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -158,6 +162,27 @@ class StringBasedJdbcQueryUnitTests {
 		verify(operations).queryForStream(eq("some sql statement"), any(SqlParameterSource.class), any(RowMapper.class));
 	}
 
+	@Test
+	void streamQueryAppliesQueryHintsUsingConfiguredOperations() throws SQLException {
+
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(operations.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		JdbcQueryMethod queryMethod = createMethod("findAllWithStreamReturnTypeAndQueryHints");
+		StringBasedJdbcQuery query = createQuery(queryMethod);
+
+		query.execute(new Object[] {});
+
+		ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+		verify(jdbcOperations).queryForStream(eq("some sql statement"), setter.capture(), any(RowMapper.class));
+		setter.getValue().setValues(statement);
+
+		verify(statement).setFetchSize(100);
+		verify(statement).setQueryTimeout(5);
+		verify(statement, never()).setMaxRows(anyInt());
+	}
+
 	@Test // GH-578
 	void streamQueryFallsBackToCollectionQueryWhenCustomResultSetExtractorIsSpecified() {
 
@@ -320,6 +345,10 @@ class StringBasedJdbcQueryUnitTests {
 		@Query(value = "some sql statement", resultSetExtractorClass = CustomResultSetExtractor.class)
 		Stream<Object> findAllWithStreamReturnTypeAndResultSetExtractor();
 
+		@QueryHints(fetchSize = 100, timeout = 5)
+		@Query(value = "some sql statement")
+		Stream<Object> findAllWithStreamReturnTypeAndQueryHints();
+
 		List<Object> noAnnotation();
 
 		@Query(value = "some sql statement")
@@ -367,6 +396,33 @@ class StringBasedJdbcQueryUnitTests {
 		assertThat(paramSource.getValue().getValue("__$synthetic$__2")).isEqualTo("test-value2");
 	}
 
+	@Test
+	void reusesParsedQueryAcrossExecutions() {
+
+		JdbcQueryMethod queryMethod = createMethod("findBySpelExpression", Object.class);
+
+		QueryMethodEvaluationContextProvider evaluationContextProviderImpl = new ExtensionAwareQueryMethodEvaluationContextProvider(
+				List.of(new MyEvaluationContextProvider()));
+
+		StringBasedJdbcQuery sut = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter,
+				evaluationContextProviderImpl);
+
+		ArgumentCaptor<SqlParameterSource> paramSource = ArgumentCaptor.forClass(SqlParameterSource.class);
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+
+		sut.execute(new Object[] { "myValue" });
+		sut.execute(new Object[] { "otherValue" });
+
+		verify(this.operations, times(2)).queryForObject(query.capture(), paramSource.capture(), any(RowMapper.class));
+
+		assertThat(query.getAllValues().get(1)).isSameAs(query.getAllValues().get(0));
+		assertThat(paramSource.getAllValues()).allSatisfy(source -> {
+
+			assertThat(source.getValue("__$synthetic$__1")).isEqualTo("test-value1");
+			assertThat(source.getValue("__$synthetic$__2")).isEqualTo("test-value2");
+		});
+	}
+
 	private static class CustomRowMapper implements RowMapper<Object> {
 
 		@Override
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -50,5 +52,17 @@ public class SimpleJdbcRepositoryUnitTests {
 		assertThat(repository.save(new Sample())).isEqualTo(expected);
 	}
 
+	@Test
+	void streamAllStreamsAggregatesOfOperations() {
+
+		SimpleJdbcRepository<Sample, Object> repository = new SimpleJdbcRepository<>(operations, entity, converter);
+
+		Sample expected = new Sample();
+		when(entity.getType()).thenReturn(Sample.class);
+		when(operations.streamAll(Sample.class)).thenReturn(Stream.of(expected));
+
+		assertThat(repository.streamAll()).containsExactly(expected);
+	}
+
 	static class Sample {}
 }
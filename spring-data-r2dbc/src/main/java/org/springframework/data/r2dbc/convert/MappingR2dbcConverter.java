@@ -24,10 +24,15 @@ import io.r2dbc.spi.RowMetadata;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
@@ -58,6 +63,8 @@ import org.springframework.r2dbc.core.Parameter;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 
 /**
  * Converter for R2DBC.
@@ -67,6 +74,29 @@ import org.springframework.util.CollectionUtils;
  */
 public class MappingR2dbcConverter extends BasicRelationalConverter implements R2dbcConverter {
 
+	/**
+	 * Names of the columns of a {@link RowMetadata}. Drivers share the {@link RowMetadata} between the rows of a result,
+	 * so the names get collected once per result instead of scanning the columns for each property of each row. Entries
+	 * go away once the {@link RowMetadata} gets garbage collected.
+	 */
+	private final Map<RowMetadata, Set<String>> columnNames = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+
+	/**
+	 * Column names of properties, keyed by the prefix they get read with.
+	 */
+	private final Map<String, Map<RelationalPersistentProperty, String>> prefixedColumnNames = new ConcurrentHashMap<>();
+
+	/**
+	 * Column name prefixes of properties holding nested entities.
+	 */
+	private final Map<PersistentProperty<?>, String> prefixes = new ConcurrentHashMap<>();
+
+	/**
+	 * Row mappers per type to read, with everything that doesn't depend on the individual row resolved upfront.
+	 */
+	private final Map<Class<?>, BiFunction<Row, RowMetadata, ?>> rowMappers = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link MappingR2dbcConverter} given {@link MappingContext}.
 	 *
@@ -99,20 +129,25 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 
 	@Override
 	public <R> R read(Class<R> type, Row row, @Nullable RowMetadata metadata) {
+		return getRowMapper(type).apply(row, metadata);
+	}
 
-		TypeInformation<? extends R> typeInfo = TypeInformation.of(type);
-		Class<? extends R> rawType = typeInfo.getType();
+	@SuppressWarnings("unchecked")
+	private <R> BiFunction<Row, RowMetadata, R> getRowMapper(Class<R> type) {
+		return (BiFunction<Row, RowMetadata, R>) rowMappers.computeIfAbsent(type, this::createRowMapper);
+	}
+
+	private <R> BiFunction<Row, RowMetadata, R> createRowMapper(Class<R> type) {
 
-		if (Row.class.isAssignableFrom(rawType)) {
-			return type.cast(row);
+		if (Row.class.isAssignableFrom(type)) {
+			return (row, metadata) -> type.cast(row);
 		}
 
-		if (getConversions().hasCustomReadTarget(Row.class, rawType)
-				&& getConversionService().canConvert(Row.class, rawType)) {
-			return getConversionService().convert(row, rawType);
+		if (getConversions().hasCustomReadTarget(Row.class, type) && getConversionService().canConvert(Row.class, type)) {
+			return (row, metadata) -> getConversionService().convert(row, type);
 		}
 
-		return read(getRequiredPersistentEntity(type), row, metadata);
+		return new EntityRowReader<>(getRequiredPersistentEntity(type));
 	}
 
 	private <R> R read(RelationalPersistentEntity<R> entity, Row row, @Nullable RowMetadata metadata) {
@@ -154,20 +189,38 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 	private Object readFrom(Row row, @Nullable RowMetadata metadata, RelationalPersistentProperty property,
 			String prefix) {
 
-		String identifier = prefix + property.getColumnName().getReference();
+		String identifier = getColumnName(prefix, property);
 
-		try {
+		if (metadata != null && !containsColumn(metadata, identifier)) {
+			return null;
+		}
 
-			Object value = null;
-			if (metadata == null || RowMetadataUtils.containsColumn(metadata, identifier)) {
+		return readColumn(row, metadata, property, identifier);
+	}
 
-				if (property.getType().equals(Clob.class)) {
-					value = row.get(identifier, Clob.class);
-				} else if (property.getType().equals(Blob.class)) {
-					value = row.get(identifier, Blob.class);
-				} else {
-					value = row.get(identifier);
-				}
+	/**
+	 * Read a single value or a complete Entity from a column known to be contained in the {@link Row}.
+	 *
+	 * @param row the {@link Row} to extract the value from. Must not be {@literal null}.
+	 * @param metadata the {@link RowMetadata}. Can be {@literal null}.
+	 * @param property the {@link RelationalPersistentProperty} for which the value is intended. Must not be
+	 *          {@literal null}.
+	 * @param identifier the name of the column to read. Must not be {@literal null}.
+	 * @return the value read from the {@link Row}. May be {@literal null}.
+	 */
+	@Nullable
+	private Object readColumn(Row row, @Nullable RowMetadata metadata, RelationalPersistentProperty property,
+			String identifier) {
+
+		try {
+
+			Object value;
+			if (property.getType().equals(Clob.class)) {
+				value = row.get(identifier, Clob.class);
+			} else if (property.getType().equals(Blob.class)) {
+				value = row.get(identifier, Blob.class);
+			} else {
+				value = row.get(identifier);
 			}
 
 			if (value == null) {
@@ -282,7 +335,7 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 	@SuppressWarnings("unchecked")
 	private <S> S readEntityFrom(Row row, @Nullable RowMetadata metadata, PersistentProperty<?> property) {
 
-		String prefix = property.getName() + "_";
+		String prefix = prefixes.computeIfAbsent(property, it -> it.getName() + "_");
 
 		RelationalPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(property.getActualType());
 
@@ -320,7 +373,7 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 			SpELContext spELContext = new SpELContext(new RowPropertyAccessor(rowMetadata));
 			SpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(row, spELContext);
 			provider = new SpELExpressionParameterValueProvider<>(expressionEvaluator, getConversionService(),
-					new RowParameterValueProvider(row, rowMetadata, entity, this, prefix));
+					new RowParameterValueProvider(property -> readFrom(row, rowMetadata, property, prefix), entity, this));
 		} else {
 			provider = NoOpParameterValueProvider.INSTANCE;
 		}
@@ -643,7 +696,7 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 	@Nullable
 	private Object extractGeneratedIdentifier(Row row, RowMetadata metadata, String idColumnName) {
 
-		if (RowMetadataUtils.containsColumn(metadata, idColumnName)) {
+		if (containsColumn(metadata, idColumnName)) {
 			return row.get(idColumnName);
 		}
 
@@ -658,6 +711,16 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 		return null;
 	}
 
+	private boolean containsColumn(RowMetadata metadata, String name) {
+		return columnNames.computeIfAbsent(metadata, RowMetadataUtils::getColumnNames).contains(name);
+	}
+
+	private String getColumnName(String prefix, RelationalPersistentProperty property) {
+
+		return prefixedColumnNames.computeIfAbsent(prefix, it -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(property, it -> prefix + it.getColumnName().getReference());
+	}
+
 	private <R> RelationalPersistentEntity<R> getRequiredPersistentEntity(Class<R> type) {
 		return (RelationalPersistentEntity<R>) getMappingContext().getRequiredPersistentEntity(type);
 	}
@@ -690,21 +753,129 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 		}
 	}
 
-	private class RowParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
+	/**
+	 * Reads rows into instances of a {@link RelationalPersistentEntity}. Which of the properties are contained in a result
+	 * and the columns they get read from is resolved once per {@link RowMetadata} and reused for all rows sharing it.
+	 */
+	private class EntityRowReader<R> implements BiFunction<Row, RowMetadata, R> {
+
+		private final RelationalPersistentEntity<R> entity;
+		private final boolean creatorParameters;
+		private final boolean spelParameters;
+		private final boolean propertyPopulation;
+		private final Map<RowMetadata, ReadingPlan> plans = new ConcurrentReferenceHashMap<>(16, ReferenceType.WEAK);
+
+		EntityRowReader(RelationalPersistentEntity<R> entity) {
+
+			InstanceCreatorMetadata<RelationalPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+
+			this.entity = entity;
+			this.creatorParameters = creator != null && creator.hasParameters();
+			this.spelParameters = creatorParameters && creator.getParameters().stream()
+					.anyMatch(org.springframework.data.mapping.Parameter::hasSpelExpression);
+			this.propertyPopulation = entity.requiresPropertyPopulation();
+		}
+
+		@Override
+		public R apply(Row row, @Nullable RowMetadata metadata) {
+
+			if (metadata == null) {
+				return read(entity, row, null);
+			}
+
+			ReadingPlan plan = plans.computeIfAbsent(metadata, this::createPlan);
+			R result = createInstance(entity, getParameterValueProvider(row, metadata, plan)::getParameterValue);
+
+			if (propertyPopulation) {
+
+				ConvertingPropertyAccessor<R> propertyAccessor = new ConvertingPropertyAccessor<>(
+						entity.getPropertyAccessor(result), getConversionService());
+
+				for (PropertyColumn propertyColumn : plan.properties()) {
+
+					Object value = readColumn(row, metadata, propertyColumn.property(), propertyColumn.column());
+
+					if (value != null) {
+						propertyAccessor.setProperty(propertyColumn.property(), value);
+					}
+				}
+			}
+
+			return result;
+		}
+
+		private ParameterValueProvider<RelationalPersistentProperty> getParameterValueProvider(Row row,
+				RowMetadata metadata, ReadingPlan plan) {
+
+			if (!creatorParameters) {
+				return NoOpParameterValueProvider.INSTANCE;
+			}
+
+			RowParameterValueProvider provider = new RowParameterValueProvider(property -> {
+
+				String column = plan.columns().get(property);
+				return column == null ? null : readColumn(row, metadata, property, column);
+			}, entity, MappingR2dbcConverter.this);
+
+			if (!spelParameters) {
+				return provider;
+			}
+
+			SpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(row, plan.spELContext());
+			return new SpELExpressionParameterValueProvider<>(expressionEvaluator, getConversionService(), provider);
+		}
+
+		private ReadingPlan createPlan(RowMetadata metadata) {
+
+			Map<RelationalPersistentProperty, String> columns = new HashMap<>();
+			List<PropertyColumn> properties = new ArrayList<>();
+
+			for (RelationalPersistentProperty property : entity) {
+
+				String column = getColumnName("", property);
+
+				if (!containsColumn(metadata, column)) {
+					continue;
+				}
+
+				columns.put(property, column);
+
+				if (!entity.isCreatorArgument(property)) {
+					properties.add(new PropertyColumn(property, column));
+				}
+			}
+
+			SpELContext spELContext = spelParameters ? new SpELContext(new RowPropertyAccessor(metadata)) : null;
+
+			return new ReadingPlan(columns, properties, spELContext);
+		}
+	}
+
+	/**
+	 * The properties of an entity contained in a result.
+	 *
+	 * @param columns the columns of all contained properties.
+	 * @param properties the contained properties to populate after creating an instance.
+	 * @param spELContext context for evaluating SpEL expressions of creator parameters.
+	 */
+	private record ReadingPlan(Map<RelationalPersistentProperty, String> columns, List<PropertyColumn> properties,
+			@Nullable SpELContext spELContext) {
+	}
+
+	private record PropertyColumn(RelationalPersistentProperty property, String column) {
+	}
+
+	private static class RowParameterValueProvider implements ParameterValueProvider<RelationalPersistentProperty> {
 
-		private final Row resultSet;
-		private final RowMetadata metadata;
+		private final Function<RelationalPersistentProperty, Object> reader;
 		private final RelationalPersistentEntity<?> entity;
 		private final RelationalConverter converter;
-		private final String prefix;
 
-		public RowParameterValueProvider(Row resultSet, RowMetadata metadata, RelationalPersistentEntity<?> entity,
-				RelationalConverter converter, String prefix) {
-			this.resultSet = resultSet;
-			this.metadata = metadata;
+		public RowParameterValueProvider(Function<RelationalPersistentProperty, Object> reader,
+				RelationalPersistentEntity<?> entity, RelationalConverter converter) {
+			this.reader = reader;
 			this.entity = entity;
 			this.converter = converter;
-			this.prefix = prefix;
 		}
 
 		@Override
@@ -713,7 +884,7 @@ public class MappingR2dbcConverter extends BasicRelationalConverter implements R
 				org.springframework.data.mapping.Parameter<T, RelationalPersistentProperty> parameter) {
 
 			RelationalPersistentProperty property = this.entity.getRequiredPersistentProperty(parameter.getName());
-			Object value = readFrom(this.resultSet, this.metadata, property, this.prefix);
+			Object value = this.reader.apply(property);
 
 			if (value == null) {
 				return null;
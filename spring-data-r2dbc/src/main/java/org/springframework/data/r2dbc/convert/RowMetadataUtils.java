@@ -18,6 +18,11 @@ package org.springframework.data.r2dbc.convert;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.RowMetadata;
 
+import java.util.Collections;
+import java.util.Set;
+
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
 /**
  * Utility methods for {@link io.r2dbc.spi.RowMetadata}
  *
@@ -46,6 +51,26 @@ class RowMetadataUtils {
 		return false;
 	}
 
+	/**
+	 * Collect the names of all columns contained in {@link RowMetadata}. {@link Set#contains(Object)} on the returned set
+	 * checks case-insensitive and in constant time, so the set can replace repeated calls to
+	 * {@link #containsColumn(RowMetadata, String)} for the same {@link RowMetadata}.
+	 *
+	 * @param metadata the metadata object to inspect.
+	 * @return the column names. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	static Set<String> getColumnNames(RowMetadata metadata) {
+
+		Set<String> names = Collections.newSetFromMap(new LinkedCaseInsensitiveMap<>());
+
+		for (ColumnMetadata columnMetadata : getColumnMetadata(metadata)) {
+			names.add(columnMetadata.getName());
+		}
+
+		return names;
+	}
+
 	/**
 	 * Return the {@link Iterable} of {@link ColumnMetadata} from {@link RowMetadata}.
 	 *
@@ -18,6 +18,7 @@ package org.springframework.data.r2dbc.core;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -42,13 +43,31 @@ import org.springframework.data.relational.core.dialect.ArrayColumns;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.AssignValue;
+import org.springframework.data.relational.core.sql.Assignment;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.InsertBuilder;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.Parameter;
 import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindMarker;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.r2dbc.core.binding.BindTarget;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Default {@link ReactiveDataAccessStrategy} implementation.
@@ -59,12 +78,24 @@ import org.springframework.util.CollectionUtils;
  */
 public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStrategy {
 
+	/**
+	 * Maximum number of cached templates per kind of statement. Rows with varying sets of non-null columns render an
+	 * unbounded number of distinct insert and update statements, so the least recently used ones get evicted.
+	 */
+	private static final int TEMPLATE_CACHE_CAPACITY = 256;
+
 	private final R2dbcDialect dialect;
 	private final R2dbcConverter converter;
 	private final UpdateMapper updateMapper;
 	private final MappingContext<RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
 	private final StatementMapper statementMapper;
 	private final NamedParameterExpander expander = new NamedParameterExpander();
+	private final ConcurrentLruCache<InsertKey, StatementTemplate> insertTemplates = new ConcurrentLruCache<>(
+			TEMPLATE_CACHE_CAPACITY, this::createInsertTemplate);
+	private final ConcurrentLruCache<UpdateKey, StatementTemplate> updateTemplates = new ConcurrentLruCache<>(
+			TEMPLATE_CACHE_CAPACITY, this::createUpdateTemplate);
+	private final ConcurrentLruCache<DeleteKey, StatementTemplate> deleteTemplates = new ConcurrentLruCache<>(
+			TEMPLATE_CACHE_CAPACITY, this::createDeleteTemplate);
 
 	/**
 	 * Creates a new {@link DefaultReactiveDataAccessStrategy} given {@link R2dbcDialect} and optional
@@ -302,6 +333,198 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 		return dialect.renderForGeneratedValues(identifier);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The SQL gets rendered once per table and set of columns. Further invocations only convert and bind the values.
+	 */
+	@Override
+	public PreparedOperation<?> getInsertOperation(SqlIdentifier table, OutboundRow row) {
+
+		Assert.notNull(table, "Table must not be null");
+		Assert.notNull(row, "OutboundRow must not be null");
+
+		List<SqlIdentifier> columns = new ArrayList<>(row.size());
+		List<Parameter> values = new ArrayList<>(row.size());
+
+		row.forEach((column, value) -> {
+
+			if (value.hasValue()) {
+
+				columns.add(column);
+				values.add(getWriteValue(value));
+			}
+		});
+
+		StatementTemplate template = insertTemplates.get(new InsertKey(table, columns));
+
+		return template.bind(values);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The SQL gets rendered once per table, set of columns and kind of version check. Further invocations only convert
+	 * and bind the values.
+	 */
+	@Override
+	public PreparedOperation<?> getUpdateByIdOperation(SqlIdentifier table, OutboundRow row, SqlIdentifier idColumn,
+			Parameter id, @Nullable SqlIdentifier versionColumn, @Nullable Object version) {
+
+		Assert.notNull(table, "Table must not be null");
+		Assert.notNull(row, "OutboundRow must not be null");
+		Assert.notNull(idColumn, "Id column must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		Assert.isTrue(!row.isEmpty(), "UPDATE contains no assignments");
+
+		List<SqlIdentifier> columns = new ArrayList<>(row.size());
+		List<Parameter> values = new ArrayList<>(row.size() + 2);
+
+		row.forEach((column, value) -> {
+
+			columns.add(column);
+			values.add(getWriteValue(value));
+		});
+
+		values.add(getWriteValue(id));
+
+		boolean matchVersion = versionColumn != null && version != null;
+		if (matchVersion) {
+			values.add(getWriteValue(Parameter.from(version)));
+		}
+
+		StatementTemplate template = updateTemplates
+				.get(new UpdateKey(table, columns, idColumn, versionColumn, matchVersion));
+
+		return template.bind(values);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The SQL gets rendered once per entity type and table. Further invocations only convert and bind the id.
+	 */
+	@Override
+	public PreparedOperation<?> getDeleteByIdOperation(Class<?> entityType, SqlIdentifier table, Object id) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.notNull(table, "Table must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(entityType).getRequiredIdProperty();
+
+		StatementTemplate template = deleteTemplates.get(new DeleteKey(table, idProperty.getColumnName()));
+
+		Object value = this.converter.writeValue(id, getTypeHint(idProperty));
+		return template.bind(Collections.singletonList(Parameter.fromOrEmpty(value, idProperty.getActualType())));
+	}
+
+	/**
+	 * Type hint for converting a value of the property, following the rules the {@link UpdateMapper} applies to query
+	 * criteria.
+	 */
+	private static TypeInformation<?> getTypeHint(RelationalPersistentProperty property) {
+
+		Class<?> type = property.getType();
+
+		if (type.isPrimitive()) {
+			return TypeInformation.of(ClassUtils.resolvePrimitiveIfNecessary(type));
+		}
+
+		if (!type.isArray() && (type.isInterface() || Modifier.isAbstract(type.getModifiers()))) {
+			return TypeInformation.OBJECT;
+		}
+
+		return property.getTypeInformation();
+	}
+
+	private Parameter getWriteValue(Parameter parameter) {
+
+		Object value = parameter.getValue() == null ? null
+				: this.converter.writeValue(parameter.getValue(), TypeInformation.OBJECT);
+
+		return value == null ? Parameter.empty(parameter.getType()) : Parameter.from(value);
+	}
+
+	private StatementTemplate createInsertTemplate(InsertKey key) {
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		Table table = Table.create(toSql(key.table()));
+		List<BindMarker> markers = new ArrayList<>(key.columns().size());
+
+		InsertBuilder.InsertIntoColumnsAndValues insertBuilder = StatementBuilder.insert(table);
+		InsertBuilder.InsertValuesWithBuild withBuild = (InsertBuilder.InsertValuesWithBuild) insertBuilder;
+
+		for (SqlIdentifier column : key.columns()) {
+
+			BindMarker marker = bindMarkers.next(column.getReference());
+			markers.add(marker);
+
+			insertBuilder.column(table.column(column));
+			withBuild = insertBuilder.value(SQL.bindMarker(marker.getPlaceholder()));
+		}
+
+		Insert insert = withBuild.build();
+		return new StatementTemplate(SqlRenderer.create(this.statementMapper.getRenderContext()).render(insert), markers);
+	}
+
+	private StatementTemplate createUpdateTemplate(UpdateKey key) {
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		Table table = Table.create(toSql(key.table()));
+		List<BindMarker> markers = new ArrayList<>(key.columns().size() + 2);
+
+		List<Assignment> assignments = new ArrayList<>(key.columns().size());
+		for (SqlIdentifier column : key.columns()) {
+
+			BindMarker marker = bindMarkers.next(column.getReference());
+			markers.add(marker);
+			assignments.add(AssignValue.create(table.column(column), SQL.bindMarker(marker.getPlaceholder())));
+		}
+
+		Column idColumn = table.column(key.idColumn());
+		BindMarker idMarker = bindMarkers.next(key.idColumn().getReference());
+		markers.add(idMarker);
+
+		Condition condition = idColumn.isEqualTo(SQL.bindMarker(idMarker.getPlaceholder()));
+
+		if (key.versionColumn() != null) {
+
+			Column versionColumn = table.column(key.versionColumn());
+			Condition versionCondition;
+
+			if (key.matchVersion()) {
+
+				BindMarker versionMarker = bindMarkers.next(key.versionColumn().getReference());
+				markers.add(versionMarker);
+				versionCondition = versionColumn.isEqualTo(SQL.bindMarker(versionMarker.getPlaceholder()));
+			} else {
+				versionCondition = versionColumn.isNull();
+			}
+
+			condition = condition.and(Conditions.nest(versionCondition));
+		}
+
+		Update update = StatementBuilder.update(table).set(assignments).where(condition).build();
+		return new StatementTemplate(SqlRenderer.create(this.statementMapper.getRenderContext()).render(update), markers);
+	}
+
+	private StatementTemplate createDeleteTemplate(DeleteKey key) {
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		Table table = Table.create(toSql(key.table()));
+
+		BindMarker marker = bindMarkers.next(key.idColumn().getReference());
+
+		Delete delete = StatementBuilder.delete(table) //
+				.where(table.column(key.idColumn()).isEqualTo(SQL.bindMarker(marker.getPlaceholder()))) //
+				.build();
+
+		return new StatementTemplate(SqlRenderer.create(this.statementMapper.getRenderContext()).render(delete),
+				Collections.singletonList(marker));
+	}
+
 	private RelationalPersistentEntity<?> getRequiredPersistentEntity(Class<?> typeToRead) {
 		return this.mappingContext.getRequiredPersistentEntity(typeToRead);
 	}
@@ -310,4 +533,57 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 	private RelationalPersistentEntity<?> getPersistentEntity(Class<?> typeToRead) {
 		return this.mappingContext.getPersistentEntity(typeToRead);
 	}
+
+	private record InsertKey(SqlIdentifier table, List<SqlIdentifier> columns) {
+	}
+
+	private record UpdateKey(SqlIdentifier table, List<SqlIdentifier> columns, SqlIdentifier idColumn,
+			@Nullable SqlIdentifier versionColumn, boolean matchVersion) {
+	}
+
+	private record DeleteKey(SqlIdentifier table, SqlIdentifier idColumn) {
+	}
+
+	/**
+	 * Rendered SQL of a statement with the {@link BindMarker}s of its parameters in the order of their values.
+	 */
+	private record StatementTemplate(String sql, List<BindMarker> markers) {
+
+		PreparedOperation<String> bind(List<Parameter> values) {
+			return new BoundStatementTemplate(this, values);
+		}
+	}
+
+	/**
+	 * {@link PreparedOperation} binding values to the markers of a {@link StatementTemplate}.
+	 */
+	private record BoundStatementTemplate(StatementTemplate template,
+			List<Parameter> values) implements PreparedOperation<String> {
+
+		@Override
+		public String getSource() {
+			return template.sql();
+		}
+
+		@Override
+		public String toQuery() {
+			return template.sql();
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+
+			for (int i = 0; i < values.size(); i++) {
+
+				BindMarker marker = template.markers().get(i);
+				Parameter value = values.get(i);
+
+				if (value.hasValue()) {
+					marker.bind(target, value.getValue());
+				} else {
+					marker.bindNull(target, value.getType());
+				}
+			}
+		}
+	}
 }
@@ -16,7 +16,9 @@
 package org.springframework.data.r2dbc.core;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
@@ -84,7 +86,7 @@ class DefaultStatementMapper implements StatementMapper {
 
 	@Override
 	public PreparedOperation<?> getMappedObject(SelectSpec selectSpec) {
-		return getMappedObject(selectSpec, null);
+		return getMappedObject(selectSpec, (RelationalPersistentEntity<?>) null);
 	}
 
 	private PreparedOperation<Select> getMappedObject(SelectSpec selectSpec,
@@ -126,7 +128,7 @@ class DefaultStatementMapper implements StatementMapper {
 		}
 
 		if (selectSpec.getLock() != null) {
-			selectBuilder.lock(selectSpec.getLock());
+			selectBuilder.lock(selectSpec.getLock(), selectSpec.getLockWaitPolicy());
 		}
 
 		Select select = selectBuilder.build();
@@ -183,6 +185,59 @@ class DefaultStatementMapper implements StatementMapper {
 		return new DefaultPreparedOperation<>(withBuild.build(), this.renderContext, bindings);
 	}
 
+	@Override
+	public PreparedOperation<Upsert> getMappedObject(UpsertSpec upsertSpec) {
+		return getMappedObject(upsertSpec, null);
+	}
+
+	private PreparedOperation<Upsert> getMappedObject(UpsertSpec upsertSpec,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		Table table = Table.create(toSql(upsertSpec.getTable()));
+
+		BoundAssignments boundAssignments = this.updateMapper.getMappedObject(bindMarkers, upsertSpec.getAssignments(),
+				table, entity);
+
+		// assignments are mapped in the order of the spec, which allows to look up the mapped columns by their names
+		List<SqlIdentifier> columnNames = new ArrayList<>(upsertSpec.getAssignments().keySet());
+		Map<SqlIdentifier, Column> columns = new LinkedHashMap<>();
+		List<Expression> values = new ArrayList<>();
+
+		for (int i = 0; i < columnNames.size(); i++) {
+
+			AssignValue assignValue = (AssignValue) boundAssignments.getAssignments().get(i);
+
+			columns.put(columnNames.get(i), assignValue.getColumn());
+			values.add(assignValue.getValue());
+		}
+
+		UpsertBuilder.BuildUpsert upsert = StatementBuilder.upsert(table) //
+				.columns(columns.values()) //
+				.values(values) //
+				.onConflict(getColumns(upsertSpec.getConflictTarget(), columns));
+
+		List<SqlIdentifier> updateColumns = upsertSpec.getUpdateColumns();
+		if (updateColumns != null) {
+			upsert = upsert.update(getColumns(updateColumns, columns));
+		}
+
+		return new DefaultPreparedOperation<>(upsert.build(), this.renderContext, boundAssignments.getBindings());
+	}
+
+	private static List<Column> getColumns(List<SqlIdentifier> names, Map<SqlIdentifier, Column> columns) {
+
+		List<Column> result = new ArrayList<>(names.size());
+		for (SqlIdentifier name : names) {
+
+			Column column = columns.get(name);
+			Assert.notNull(column, () -> String.format("Column %s must be part of the upsert columns", name));
+			result.add(column);
+		}
+
+		return result;
+	}
+
 	@Override
 	public PreparedOperation<Update> getMappedObject(UpdateSpec updateSpec) {
 		return getMappedObject(updateSpec, null);
@@ -225,7 +280,7 @@ class DefaultStatementMapper implements StatementMapper {
 
 	@Override
 	public PreparedOperation<Delete> getMappedObject(DeleteSpec deleteSpec) {
-		return getMappedObject(deleteSpec, null);
+		return getMappedObject(deleteSpec, (RelationalPersistentEntity<?>) null);
 	}
 
 	@Override
@@ -260,6 +315,32 @@ class DefaultStatementMapper implements StatementMapper {
 		return new DefaultPreparedOperation<>(delete, this.renderContext, bindings);
 	}
 
+	@Override
+	public PreparedOperation<?> getMappedObject(SelectSpec selectSpec, String sql) {
+		return getMappedObject(selectSpec.getCriteria(), selectSpec.getTable(), sql, null);
+	}
+
+	@Override
+	public PreparedOperation<?> getMappedObject(DeleteSpec deleteSpec, String sql) {
+		return getMappedObject(deleteSpec.getCriteria(), Table.create(toSql(deleteSpec.getTable())), sql, null);
+	}
+
+	private PreparedOperation<String> getMappedObject(@Nullable CriteriaDefinition criteria, Table table, String sql,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(sql, "SQL must not be null");
+
+		Bindings bindings = Bindings.empty();
+
+		if (criteria != null && !criteria.isEmpty()) {
+
+			BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+			bindings = this.updateMapper.getMappedObject(bindMarkers, criteria, table, entity).getBindings();
+		}
+
+		return new PreRenderedOperation(sql, bindings);
+	}
+
 	private String toSql(SqlIdentifier identifier) {
 
 		Assert.notNull(identifier, "SqlIdentifier must not be null");
@@ -277,6 +358,7 @@ class DefaultStatementMapper implements StatementMapper {
 		private final T source;
 		private final RenderContext renderContext;
 		private final Bindings bindings;
+		private @Nullable String sql;
 
 		DefaultPreparedOperation(T source, RenderContext renderContext, Bindings bindings) {
 
@@ -293,6 +375,17 @@ class DefaultStatementMapper implements StatementMapper {
 		@Override
 		public String toQuery() {
 
+			String sql = this.sql;
+			if (sql == null) {
+				sql = render();
+				this.sql = sql;
+			}
+
+			return sql;
+		}
+
+		private String render() {
+
 			SqlRenderer sqlRenderer = SqlRenderer.create(this.renderContext);
 
 			if (this.source instanceof Select) {
@@ -307,6 +400,10 @@ class DefaultStatementMapper implements StatementMapper {
 				return sqlRenderer.render((Update) this.source);
 			}
 
+			if (this.source instanceof Upsert) {
+				return sqlRenderer.render((Upsert) this.source);
+			}
+
 			if (this.source instanceof Delete) {
 				return sqlRenderer.render((Delete) this.source);
 			}
@@ -321,6 +418,36 @@ class DefaultStatementMapper implements StatementMapper {
 
 	}
 
+	/**
+	 * {@link PreparedOperation} for SQL that was rendered before, binding only the values of the current invocation.
+	 */
+	static class PreRenderedOperation implements PreparedOperation<String> {
+
+		private final String sql;
+		private final Bindings bindings;
+
+		PreRenderedOperation(String sql, Bindings bindings) {
+
+			this.sql = sql;
+			this.bindings = bindings;
+		}
+
+		@Override
+		public String getSource() {
+			return this.sql;
+		}
+
+		@Override
+		public String toQuery() {
+			return this.sql;
+		}
+
+		@Override
+		public void bindTo(BindTarget to) {
+			this.bindings.apply(to);
+		}
+	}
+
 	class DefaultTypedStatementMapper<T> implements TypedStatementMapper<T> {
 
 		final RelationalPersistentEntity<T> entity;
@@ -349,11 +476,28 @@ class DefaultStatementMapper implements StatementMapper {
 			return DefaultStatementMapper.this.getMappedObject(updateSpec, this.entity);
 		}
 
+		@Override
+		public PreparedOperation<?> getMappedObject(UpsertSpec upsertSpec) {
+			return DefaultStatementMapper.this.getMappedObject(upsertSpec, this.entity);
+		}
+
 		@Override
 		public PreparedOperation<?> getMappedObject(DeleteSpec deleteSpec) {
 			return DefaultStatementMapper.this.getMappedObject(deleteSpec, this.entity);
 		}
 
+		@Override
+		public PreparedOperation<?> getMappedObject(SelectSpec selectSpec, String sql) {
+			return DefaultStatementMapper.this.getMappedObject(selectSpec.getCriteria(), selectSpec.getTable(), sql,
+					this.entity);
+		}
+
+		@Override
+		public PreparedOperation<?> getMappedObject(DeleteSpec deleteSpec, String sql) {
+			return DefaultStatementMapper.this.getMappedObject(deleteSpec.getCriteria(),
+					Table.create(toSql(deleteSpec.getTable())), sql, this.entity);
+		}
+
 		@Override
 		public RenderContext getRenderContext() {
 			return DefaultStatementMapper.this.getRenderContext();
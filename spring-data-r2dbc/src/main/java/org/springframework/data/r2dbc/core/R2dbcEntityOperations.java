@@ -23,9 +23,12 @@ import reactor.core.publisher.Mono;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -120,6 +123,22 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> selectOne(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query for the window of entities following the given {@link Keyset}. The entities are
+	 * sorted by the {@link org.springframework.data.domain.Sort} of the {@link Query} followed by the id, and the size of
+	 * the window is the limit of the {@link Query}. Rather than reading and skipping the entities of earlier windows as an
+	 * offset does, the query seeks to the {@link Keyset} position. An offset of the {@link Query} is not applied.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass the entity type must not be {@literal null}.
+	 * @param keyset the position to continue after, {@link Keyset#initial()} for the first window. Must not be
+	 *          {@literal null}.
+	 * @return the {@link KeysetWindow}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 */
+	<T> Mono<KeysetWindow<T>> scroll(Query query, Class<T> entityClass, Keyset keyset) throws DataAccessException;
+
 	/**
 	 * Update the queried entities and return {@literal true} if the update was applied.
 	 *
@@ -257,6 +276,60 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> update(T entity) throws DataAccessException;
 
+	/**
+	 * Insert the given entities and emit each entity once its insert was applied. Implementations may insert entities in
+	 * batches instead of issuing one statement per entity. The default implementation inserts the entities one after
+	 * another using {@link #insert(Object)}.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @return the inserted entities in the order of {@code entities}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 */
+	default <T> Flux<T> insertAll(Publisher<T> entities) throws DataAccessException {
+		return Flux.from(entities).concatMap(this::insert);
+	}
+
+	/**
+	 * Update the given entities and emit each entity once its update was applied. Implementations may update entities in
+	 * batches instead of issuing one statement per entity. The default implementation updates the entities one after
+	 * another using {@link #update(Object)}.
+	 *
+	 * @param entities the entities to update, must not be {@literal null}.
+	 * @return the updated entities in the order of {@code entities}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @throws TransientDataAccessResourceException if an update did not affect any rows.
+	 * @since 3.1
+	 */
+	default <T> Flux<T> updateAll(Publisher<T> entities) throws DataAccessException {
+		return Flux.from(entities).concatMap(this::update);
+	}
+
+	/**
+	 * Insert the given entity or update it if a row with the same id exists already, using a single statement. The id of
+	 * the entity must be set. Entities using optimistic locking are not supported.
+	 *
+	 * @param entity the entity to upsert, must not be {@literal null}.
+	 * @return the upserted entity.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 */
+	<T> Mono<T> upsert(T entity) throws DataAccessException;
+
+	/**
+	 * Upsert the given entities and emit each entity once its upsert was applied. Implementations may upsert entities in
+	 * batches instead of issuing one statement per entity. The default implementation upserts the entities one after
+	 * another using {@link #upsert(Object)}.
+	 *
+	 * @param entities the entities to upsert, must not be {@literal null}.
+	 * @return the upserted entities in the order of {@code entities}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 */
+	default <T> Flux<T> upsertAll(Publisher<T> entities) throws DataAccessException {
+		return Flux.from(entities).concatMap(this::upsert);
+	}
+
 	/**
 	 * Delete the given entity and emit the entity if the delete was applied.
 	 *
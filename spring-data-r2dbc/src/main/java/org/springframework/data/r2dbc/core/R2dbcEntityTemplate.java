@@ -16,16 +16,21 @@
 package org.springframework.data.r2dbc.core;
 
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 
 import java.beans.FeatureDescriptor;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -38,9 +43,10 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.TransientDataAccessResourceException;
-import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
@@ -57,8 +63,10 @@ import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
 import org.springframework.data.r2dbc.mapping.event.BeforeSaveCallback;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
-import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Expression;
@@ -72,6 +80,7 @@ import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.r2dbc.core.Parameter;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.r2dbc.core.binding.BindTarget;
 import org.springframework.util.Assert;
 
 /**
@@ -101,6 +110,10 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
+	private int batchSize = 100;
+
+	private Duration batchMaxWait = Duration.ofMillis(10);
+
 	/**
 	 * Create a new {@link R2dbcEntityTemplate} given {@link ConnectionFactory}.
 	 *
@@ -208,6 +221,35 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Set the maximum number of entities that {@link #insertAll(Publisher)} and {@link #updateAll(Publisher)} bind to a
+	 * single statement execution. Defaults to {@literal 100}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.1
+	 * @see #setBatchMaxWait(Duration)
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the maximum time {@link #insertAll(Publisher)} and {@link #updateAll(Publisher)} wait for further entities
+	 * before executing an incomplete batch. This bounds the delay for entities emitted by slow or never completing
+	 * publishers. Defaults to {@literal 10} milliseconds.
+	 *
+	 * @param batchMaxWait must not be {@literal null} and must be positive.
+	 * @since 3.1
+	 */
+	public void setBatchMaxWait(Duration batchMaxWait) {
+
+		Assert.notNull(batchMaxWait, "Batch max wait must not be null");
+		Assert.isTrue(!batchMaxWait.isNegative() && !batchMaxWait.isZero(), "Batch max wait must be positive");
+		this.batchMaxWait = batchMaxWait;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with org.springframework.data.r2dbc.core.FluentR2dbcOperations
 	// -------------------------------------------------------------------------
@@ -319,6 +361,23 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return doSelect(query, entityClass, tableName, entityClass, RowsFetchSpec::all);
 	}
 
+	@Override
+	public <T> Mono<KeysetWindow<T>> scroll(Query query, Class<T> entityClass, Keyset keyset)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity class must not be null");
+		Assert.notNull(keyset, "Keyset must not be null");
+
+		RelationalPersistentEntity<?> entity = getRequiredEntity(entityClass);
+		Sort keysetSort = KeysetScrollDelegate.getKeysetSort(query.getSort(), entity);
+
+		return select(KeysetScrollDelegate.createQuery(query, keyset, keysetSort), entityClass) //
+				.collectList() //
+				.map(result -> KeysetScrollDelegate.createWindow(result, query.isLimited() ? query.getLimit() : -1,
+						keysetSort, keyset, entity, mappingContext));
+	}
+
 	@SuppressWarnings("unchecked")
 	<T, P extends Publisher<T>> P doSelect(Query query, Class<?> entityClass, SqlIdentifier tableName,
 			Class<T> returnType, Function<RowsFetchSpec<T>, P> resultHandler) {
@@ -355,14 +414,23 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			selectSpec = selectSpec.withSort(query.getSort());
 		}
 
+		if (query.getLockMode() != null) {
+			selectSpec = selectSpec.lock(query.getLockMode(), query.getLockWaitPolicy());
+		}
+
 		Optional<CriteriaDefinition> criteria = query.getCriteria();
 		if (criteria.isPresent()) {
 			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
 		}
 
 		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+		DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.sql(operation);
+
+		if (query.getFetchSize() > 0) {
+			executeSpec = executeSpec.filter(statement -> statement.fetchSize(query.getFetchSize()));
+		}
 
-		return getRowsFetchSpec(databaseClient.sql(operation), entityClass, returnType);
+		return getRowsFetchSpec(executeSpec, entityClass, returnType);
 	}
 
 	@Override
@@ -469,6 +537,21 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	}
 
 	<T> Mono<T> doInsert(T entity, SqlIdentifier tableName) {
+		return prepareInsert(entity, tableName).flatMap(this::doInsert);
+	}
+
+	@Override
+	public <T> Flux<T> insertAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities) //
+				.concatMap(entity -> prepareInsert(entity, getRequiredEntity(entity).getQualifiedTableName())) //
+				.bufferTimeout(batchSize, batchMaxWait, true) //
+				.concatMap(operations -> executeBatches(operations, this::returnGeneratedValues, this::mapInsertResult));
+	}
+
+	private <T> Mono<EntityOperation<T>> prepareInsert(T entity, SqlIdentifier tableName) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
@@ -481,7 +564,8 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			potentiallyRemoveId(persistentEntity, outboundRow);
 
 			return maybeCallBeforeSave(initializedEntity, outboundRow, tableName) //
-					.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow));
+					.map(entityToSave -> new EntityOperation<>(entityToSave, tableName, outboundRow,
+							dataAccessStrategy.getInsertOperation(tableName, outboundRow)));
 		});
 	}
 
@@ -513,33 +597,35 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return false;
 	}
 
-	private <T> Mono<T> doInsert(T entity, SqlIdentifier tableName, OutboundRow outboundRow) {
+	private <T> Mono<T> doInsert(EntityOperation<T> insert) {
 
-		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
-		StatementMapper.InsertSpec insert = mapper.createInsert(tableName);
+		T entity = insert.entity();
 
-		for (SqlIdentifier column : outboundRow.keySet()) {
-			Parameter settableValue = outboundRow.get(column);
-			if (settableValue.hasValue()) {
-				insert = insert.withColumn(column, settableValue);
-			}
-		}
+		return this.databaseClient.sql(insert.operation()) //
+				.filter(statement -> returnGeneratedValues(statement, entity.getClass())) //
+				.map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
+				.all() //
+				.last(entity).flatMap(saved -> maybeCallAfterSave(saved, insert.outboundRow(), insert.tableName()));
+	}
 
-		PreparedOperation<?> operation = mapper.getMappedObject(insert);
+	private <T> Mono<T> mapInsertResult(EntityOperation<T> insert, Result result) {
 
-		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(entity.getClass());
+		T entity = insert.entity();
 
-		return this.databaseClient.sql(operation) //
-				.filter(statement -> {
+		return Flux.from(result.map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity))) //
+				.last(entity) //
+				.flatMap(saved -> maybeCallAfterSave(saved, insert.outboundRow(), insert.tableName()));
+	}
 
-					if (identifierColumns.isEmpty()) {
-						return statement.returnGeneratedValues();
-					}
+	private Statement returnGeneratedValues(Statement statement, Class<?> entityType) {
 
-					return statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
-				}).map(this.dataAccessStrategy.getConverter().populateIdIfNecessary(entity)) //
-				.all() //
-				.last(entity).flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
+		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(entityType);
+
+		if (identifierColumns.isEmpty()) {
+			return statement.returnGeneratedValues();
+		}
+
+		return statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -568,28 +654,49 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	}
 
 	private <T> Mono<T> doUpdate(T entity, SqlIdentifier tableName) {
+		return prepareUpdate(entity, tableName).flatMap(this::doUpdate);
+	}
+
+	@Override
+	public <T> Flux<T> updateAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities) //
+				.concatMap(entity -> prepareUpdate(entity, getRequiredEntity(entity).getQualifiedTableName())) //
+				.bufferTimeout(batchSize, batchMaxWait, true) //
+				.concatMap(operations -> executeBatches(operations, (statement, entityType) -> statement,
+						this::mapUpdateResult));
+	}
+
+	private <T> Mono<EntityOperation<T>> prepareUpdate(T entity, SqlIdentifier tableName) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
 		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
 
 			T entityToUse;
-			Criteria matchingVersionCriteria;
+			SqlIdentifier versionColumn;
+			Object previousVersion;
 
 			if (persistentEntity.hasVersionProperty()) {
 
-				matchingVersionCriteria = createMatchingVersionCriteria(onBeforeConvert, persistentEntity);
+				RelationalPersistentProperty versionProperty = persistentEntity.getRequiredVersionProperty();
+
+				versionColumn = versionProperty.getColumnName();
+				previousVersion = persistentEntity.getPropertyAccessor(onBeforeConvert).getProperty(versionProperty);
 				entityToUse = incrementVersion(persistentEntity, onBeforeConvert);
 			} else {
 
 				entityToUse = onBeforeConvert;
-				matchingVersionCriteria = null;
+				versionColumn = null;
+				previousVersion = null;
 			}
 
 			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(entityToUse);
 
 			return maybeCallBeforeSave(entityToUse, outboundRow, tableName) //
-					.flatMap(onBeforeSave -> {
+					.map(onBeforeSave -> {
 
 						SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
 						Parameter id = outboundRow.remove(idColumn);
@@ -600,45 +707,196 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 							}
 						});
 
-						Criteria criteria = Criteria.where(dataAccessStrategy.toSql(idColumn)).is(id);
+						return new EntityOperation<>(onBeforeSave, tableName, outboundRow, dataAccessStrategy
+								.getUpdateByIdOperation(tableName, outboundRow, idColumn, id, versionColumn, previousVersion));
+					});
+		});
+	}
 
-						if (matchingVersionCriteria != null) {
-							criteria = criteria.and(matchingVersionCriteria);
-						}
+	private <T> Mono<T> doUpdate(EntityOperation<T> update) {
 
-						return doUpdate(onBeforeSave, tableName, persistentEntity, criteria, outboundRow);
-					});
+		return this.databaseClient.sql(update.operation()) //
+				.fetch() //
+				.rowsUpdated() //
+				.handle((Long rowsUpdated, SynchronousSink<T> sink) -> verifyRowsUpdated(rowsUpdated, update.entity(), sink)) //
+				.then(maybeCallAfterSave(update.entity(), update.outboundRow(), update.tableName()));
+	}
+
+	private <T> Mono<T> mapUpdateResult(EntityOperation<T> update, Result result) {
+
+		return Mono.from(result.getRowsUpdated()) //
+				.handle((Long rowsUpdated, SynchronousSink<T> sink) -> verifyRowsUpdated(rowsUpdated, update.entity(), sink)) //
+				.then(Mono.defer(() -> maybeCallAfterSave(update.entity(), update.outboundRow(), update.tableName())));
+	}
+
+	@Override
+	public <T> Mono<T> upsert(T entity) throws DataAccessException {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return prepareUpsert(entity, getRequiredEntity(entity).getQualifiedTableName()).flatMap(this::doUpsert);
+	}
+
+	@Override
+	public <T> Flux<T> upsertAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities) //
+				.concatMap(entity -> prepareUpsert(entity, getRequiredEntity(entity).getQualifiedTableName())) //
+				.bufferTimeout(batchSize, batchMaxWait, true) //
+				.concatMap(operations -> executeBatches(operations, (statement, entityType) -> statement,
+						this::mapUpsertResult));
+	}
+
+	private <T> Mono<EntityOperation<T>> prepareUpsert(T entity, SqlIdentifier tableName) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
+		Assert.isTrue(!persistentEntity.hasVersionProperty(),
+				() -> String.format("Upserting versioned entities of type %s is not supported", persistentEntity.getType()));
+
+		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
+
+			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(onBeforeConvert);
+
+			return maybeCallBeforeSave(onBeforeConvert, outboundRow, tableName) //
+					.map(onBeforeSave -> new EntityOperation<>(onBeforeSave, tableName, outboundRow,
+							createUpsertOperation(persistentEntity, tableName, outboundRow)));
 		});
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private <T> Mono<T> doUpdate(T entity, SqlIdentifier tableName, RelationalPersistentEntity<T> persistentEntity,
-			Criteria criteria, OutboundRow outboundRow) {
+	private PreparedOperation<?> createUpsertOperation(RelationalPersistentEntity<?> persistentEntity,
+			SqlIdentifier tableName, OutboundRow outboundRow) {
 
-		Update update = Update.from((Map) outboundRow);
+		SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
+		Parameter id = outboundRow.get(idColumn);
+
+		Assert.state(id != null && id.hasValue(), "The id of an entity to upsert must not be null");
 
 		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
-		StatementMapper.UpdateSpec updateSpec = mapper.createUpdate(tableName, update).withCriteria(criteria);
+		StatementMapper.UpsertSpec upsert = mapper.createUpsert(tableName);
 
-		PreparedOperation<?> operation = mapper.getMappedObject(updateSpec);
+		List<SqlIdentifier> updateColumns = new ArrayList<>();
+		for (SqlIdentifier column : outboundRow.keySet()) {
 
-		return this.databaseClient.sql(operation) //
+			upsert = upsert.withColumn(column, outboundRow.get(column));
+
+			if (!column.equals(idColumn)) {
+				updateColumns.add(column);
+			}
+		}
+
+		persistentEntity.forEach(p -> {
+			if (p.isInsertOnly()) {
+				updateColumns.remove(p.getColumnName());
+			}
+		});
+
+		return mapper.getMappedObject(upsert.withConflictTarget(Collections.singletonList(idColumn)) //
+				.withUpdateColumns(updateColumns));
+	}
+
+	private <T> Mono<T> doUpsert(EntityOperation<T> upsert) {
+
+		return this.databaseClient.sql(upsert.operation()) //
 				.fetch() //
 				.rowsUpdated() //
-				.handle((rowsUpdated, sink) -> {
+				.then(maybeCallAfterSave(upsert.entity(), upsert.outboundRow(), upsert.tableName()));
+	}
+
+	private <T> Mono<T> mapUpsertResult(EntityOperation<T> upsert, Result result) {
+
+		return Mono.from(result.getRowsUpdated()) //
+				.then(Mono.defer(() -> maybeCallAfterSave(upsert.entity(), upsert.outboundRow(), upsert.tableName())));
+	}
+
+	private <T> void verifyRowsUpdated(long rowsUpdated, T entity, SynchronousSink<?> sink) {
+
+		if (rowsUpdated != 0) {
+			return;
+		}
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
+		if (persistentEntity.hasVersionProperty()) {
+			sink.error(
+					new OptimisticLockingFailureException(formatOptimisticLockingExceptionMessage(entity, persistentEntity)));
+		} else {
+			sink.error(
+					new TransientDataAccessResourceException(formatTransientEntityExceptionMessage(entity, persistentEntity)));
+		}
+	}
+
+	/**
+	 * Executes the given operations as batches, binding consecutive operations sharing the same SQL to a single
+	 * {@link Statement} via {@link Statement#add()}. Drivers emit one {@link Result} per binding, in the order of the
+	 * bindings. A batch emitting a different number of results fails with an
+	 * {@link IncorrectResultSizeDataAccessException} since results can't be assigned to entities.
+	 */
+	private <T> Flux<T> executeBatches(List<EntityOperation<T>> operations,
+			BiFunction<Statement, Class<?>, Statement> statementFilter,
+			BiFunction<EntityOperation<T>, Result, Mono<T>> resultMapper) {
+
+		List<List<EntityOperation<T>>> batches = new ArrayList<>();
+		List<EntityOperation<T>> current = Collections.emptyList();
+
+		for (EntityOperation<T> operation : operations) {
+
+			if (current.isEmpty() || !current.get(0).isCompatibleWith(operation)) {
+
+				current = new ArrayList<>();
+				batches.add(current);
+			}
+
+			current.add(operation);
+		}
+
+		return Flux.fromIterable(batches).concatMap(batch -> executeBatch(batch, statementFilter, resultMapper));
+	}
+
+	private <T> Flux<T> executeBatch(List<EntityOperation<T>> batch,
+			BiFunction<Statement, Class<?>, Statement> statementFilter,
+			BiFunction<EntityOperation<T>, Result, Mono<T>> resultMapper) {
+
+		EntityOperation<T> first = batch.get(0);
+
+		return databaseClient.inConnectionMany(connection -> {
+
+			Statement statement = connection.createStatement(first.sql());
+			BindTarget bindTarget = new StatementBindTarget(statement);
+
+			for (int i = 0; i < batch.size(); i++) {
+
+				if (i != 0) {
+					statement.add();
+				}
+
+				batch.get(i).operation().bindTo(bindTarget);
+			}
+
+			AtomicInteger results = new AtomicInteger();
+
+			return Flux.from(statementFilter.apply(statement, first.entity().getClass()).execute()) //
+					.concatMap(result -> {
+
+						int index = results.getAndIncrement();
+						return index < batch.size() //
+								? resultMapper.apply(batch.get(index), result) //
+								: Mono.error(unexpectedResultCount(first, batch.size(), index + 1));
+					}) //
+					.concatWith(Mono.defer(() -> results.get() == batch.size() //
+							? Mono.empty() //
+							: Mono.error(unexpectedResultCount(first, batch.size(), results.get()))));
+		});
+	}
 
-					if (rowsUpdated != 0) {
-						return;
-					}
+	private static IncorrectResultSizeDataAccessException unexpectedResultCount(EntityOperation<?> operation,
+			int expected, int actual) {
 
-					if (persistentEntity.hasVersionProperty()) {
-						sink.error(new OptimisticLockingFailureException(
-								formatOptimisticLockingExceptionMessage(entity, persistentEntity)));
-					} else {
-						sink.error(new TransientDataAccessResourceException(
-								formatTransientEntityExceptionMessage(entity, persistentEntity)));
-					}
-				}).then(maybeCallAfterSave(entity, outboundRow, tableName));
+		return new IncorrectResultSizeDataAccessException(
+				String.format("Statement [%s] emitted %d results for %d bindings", operation.sql(), actual, expected), expected,
+				actual);
 	}
 
 	private <T> String formatOptimisticLockingExceptionMessage(T entity, RelationalPersistentEntity<T> persistentEntity) {
@@ -671,20 +929,6 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return (T) propertyAccessor.getBean();
 	}
 
-	private <T> Criteria createMatchingVersionCriteria(T entity, RelationalPersistentEntity<T> persistentEntity) {
-
-		PersistentPropertyAccessor<?> propertyAccessor = persistentEntity.getPropertyAccessor(entity);
-		RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
-
-		Object version = propertyAccessor.getProperty(versionProperty);
-		Criteria.CriteriaStep versionColumn = Criteria.where(dataAccessStrategy.toSql(versionProperty.getColumnName()));
-		if (version == null) {
-			return versionColumn.isNull();
-		} else {
-			return versionColumn.is(version);
-		}
-	}
-
 	@Override
 	public <T> Mono<T> delete(T entity) throws DataAccessException {
 
@@ -692,7 +936,15 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		RelationalPersistentEntity<?> persistentEntity = getRequiredEntity(entity);
 
-		return delete(getByIdQuery(entity, persistentEntity), persistentEntity.getType()).thenReturn(entity);
+		if (!persistentEntity.hasIdProperty()) {
+			throw new MappingException("No id property found for object of type " + persistentEntity.getType());
+		}
+
+		Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+		PreparedOperation<?> operation = dataAccessStrategy.getDeleteByIdOperation(persistentEntity.getType(),
+				persistentEntity.getQualifiedTableName(), id);
+
+		return this.databaseClient.sql(operation).fetch().rowsUpdated().thenReturn(entity);
 	}
 
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, SqlIdentifier table) {
@@ -731,18 +983,6 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return Mono.just(object);
 	}
 
-	private <T> Query getByIdQuery(T entity, RelationalPersistentEntity<?> persistentEntity) {
-
-		if (!persistentEntity.hasIdProperty()) {
-			throw new MappingException("No id property found for object of type " + persistentEntity.getType());
-		}
-
-		IdentifierAccessor identifierAccessor = persistentEntity.getIdentifierAccessor(entity);
-		Object id = identifierAccessor.getRequiredIdentifier();
-
-		return Query.query(Criteria.where(persistentEntity.getRequiredIdProperty().getName()).is(id));
-	}
-
 	SqlIdentifier getTableName(Class<?> entityClass) {
 		return getRequiredEntity(entityClass).getQualifiedTableName();
 	}
@@ -807,6 +1047,47 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return executeSpec.map(rowMapper);
 	}
 
+	/**
+	 * An entity with its {@link OutboundRow} and the {@link PreparedOperation} to persist it.
+	 */
+	private record EntityOperation<T>(T entity, SqlIdentifier tableName, OutboundRow outboundRow,
+			PreparedOperation<?> operation) {
+
+		String sql() {
+			return operation.toQuery();
+		}
+
+		boolean isCompatibleWith(EntityOperation<?> other) {
+			return entity.getClass() == other.entity().getClass() && sql().equals(other.sql());
+		}
+	}
+
+	/**
+	 * {@link BindTarget} binding values to a {@link Statement}.
+	 */
+	private record StatementBindTarget(Statement statement) implements BindTarget {
+
+		@Override
+		public void bind(String identifier, Object value) {
+			statement.bind(identifier, value);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+			statement.bind(index, value);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			statement.bindNull(identifier, type);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			statement.bindNull(index, type);
+		}
+	}
+
 	/**
 	 * {@link RowsFetchSpec} adapter emitting values from {@link Optional} if they exist.
 	 *
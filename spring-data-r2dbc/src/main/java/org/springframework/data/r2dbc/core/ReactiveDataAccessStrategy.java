@@ -19,10 +19,14 @@ import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
@@ -140,6 +144,82 @@ public interface ReactiveDataAccessStrategy {
 		return identifier.toSql(IdentifierProcessing.NONE);
 	}
 
+	/**
+	 * Create a {@link PreparedOperation} inserting the values of an {@link OutboundRow} into a table. Columns without a
+	 * value are not part of the statement.
+	 *
+	 * @param table name of the table to insert into. Must not be {@literal null}.
+	 * @param row the values to insert. Must not be {@literal null}.
+	 * @return the INSERT operation. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	default PreparedOperation<?> getInsertOperation(SqlIdentifier table, OutboundRow row) {
+
+		StatementMapper mapper = getStatementMapper();
+		StatementMapper.InsertSpec insert = mapper.createInsert(table);
+
+		for (SqlIdentifier column : row.keySet()) {
+
+			Parameter settableValue = row.get(column);
+			if (settableValue.hasValue()) {
+				insert = insert.withColumn(column, settableValue);
+			}
+		}
+
+		return mapper.getMappedObject(insert);
+	}
+
+	/**
+	 * Create a {@link PreparedOperation} setting the values of an {@link OutboundRow} on the row with the given id. When
+	 * a version column is given, the row gets only updated if its version matches the expected version.
+	 *
+	 * @param table name of the table to update. Must not be {@literal null}.
+	 * @param row the values to set. Must not be {@literal null} and must not contain the id column.
+	 * @param idColumn the id column. Must not be {@literal null}.
+	 * @param id the id of the row to update. Must not be {@literal null}.
+	 * @param versionColumn the version column or {@literal null} if the table has no version column.
+	 * @param version the expected version. {@literal null} matches a row without version.
+	 * @return the UPDATE operation. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	default PreparedOperation<?> getUpdateByIdOperation(SqlIdentifier table, OutboundRow row, SqlIdentifier idColumn,
+			Parameter id, @Nullable SqlIdentifier versionColumn, @Nullable Object version) {
+
+		Criteria criteria = Criteria.where(toSql(idColumn)).is(id);
+
+		if (versionColumn != null) {
+
+			Criteria.CriteriaStep versionStep = Criteria.where(toSql(versionColumn));
+			criteria = criteria.and(version == null ? versionStep.isNull() : versionStep.is(version));
+		}
+
+		StatementMapper mapper = getStatementMapper();
+		StatementMapper.UpdateSpec updateSpec = mapper.createUpdate(table, Update.from((Map) row)).withCriteria(criteria);
+
+		return mapper.getMappedObject(updateSpec);
+	}
+
+	/**
+	 * Create a {@link PreparedOperation} deleting the row of an entity identified by its id.
+	 *
+	 * @param entityType the type of the entity. Must not be {@literal null} and must have an id property.
+	 * @param table name of the table to delete from. Must not be {@literal null}.
+	 * @param id the id of the entity. Must not be {@literal null}.
+	 * @return the DELETE operation. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	default PreparedOperation<?> getDeleteByIdOperation(Class<?> entityType, SqlIdentifier table, Object id) {
+
+		RelationalPersistentEntity<?> entity = getConverter().getMappingContext().getRequiredPersistentEntity(entityType);
+
+		StatementMapper mapper = getStatementMapper().forType(entityType);
+		StatementMapper.DeleteSpec deleteSpec = mapper.createDelete(table) //
+				.withCriteria(Criteria.where(entity.getRequiredIdProperty().getName()).is(id));
+
+		return mapper.getMappedObject(deleteSpec);
+	}
+
 	/**
 	 * Interface to retrieve parameters for named parameter processing.
 	 */
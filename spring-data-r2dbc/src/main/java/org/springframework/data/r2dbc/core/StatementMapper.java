@@ -34,6 +34,7 @@ import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.render.RenderContext;
@@ -99,6 +100,15 @@ public interface StatementMapper {
 	 */
 	PreparedOperation<?> getMappedObject(InsertSpec insertSpec);
 
+	/**
+	 * Map an upsert specification to a {@link PreparedOperation}.
+	 *
+	 * @param upsertSpec the upsert operation definition, must not be {@literal null}.
+	 * @return the {@link PreparedOperation} for {@link UpsertSpec}.
+	 * @since 3.1
+	 */
+	PreparedOperation<?> getMappedObject(UpsertSpec upsertSpec);
+
 	/**
 	 * Map a update specification to a {@link PreparedOperation}.
 	 *
@@ -115,6 +125,34 @@ public interface StatementMapper {
 	 */
 	PreparedOperation<?> getMappedObject(DeleteSpec deleteSpec);
 
+	/**
+	 * Map a select specification to a {@link PreparedOperation} using {@code sql} that was previously rendered for a
+	 * {@link SelectSpec} differing only in the values of its criteria. Implementations may skip building and rendering
+	 * the statement and only bind the criteria values.
+	 *
+	 * @param selectSpec the select operation definition, must not be {@literal null}.
+	 * @param sql the SQL rendered for an equivalent {@link SelectSpec}, must not be {@literal null}.
+	 * @return the {@link PreparedOperation} for {@link SelectSpec}.
+	 * @since 3.1
+	 */
+	default PreparedOperation<?> getMappedObject(SelectSpec selectSpec, String sql) {
+		return getMappedObject(selectSpec);
+	}
+
+	/**
+	 * Map a delete specification to a {@link PreparedOperation} using {@code sql} that was previously rendered for a
+	 * {@link DeleteSpec} differing only in the values of its criteria. Implementations may skip building and rendering
+	 * the statement and only bind the criteria values.
+	 *
+	 * @param deleteSpec the delete operation definition, must not be {@literal null}.
+	 * @param sql the SQL rendered for an equivalent {@link DeleteSpec}, must not be {@literal null}.
+	 * @return the {@link PreparedOperation} for {@link DeleteSpec}.
+	 * @since 3.1
+	 */
+	default PreparedOperation<?> getMappedObject(DeleteSpec deleteSpec, String sql) {
+		return getMappedObject(deleteSpec);
+	}
+
 	/**
 	 * Extension to {@link StatementMapper} that is associated with a type.
 	 *
@@ -164,6 +202,17 @@ public interface StatementMapper {
 		return InsertSpec.create(table);
 	}
 
+	/**
+	 * Create an upsert specification for {@code table}.
+	 *
+	 * @param table
+	 * @return the {@link UpsertSpec}.
+	 * @since 3.1
+	 */
+	default UpsertSpec createUpsert(SqlIdentifier table) {
+		return UpsertSpec.create(table);
+	}
+
 	/**
 	 * Create an {@code UPDATE} specification for {@code table}.
 	 *
@@ -230,9 +279,19 @@ public interface StatementMapper {
 		private final int limit;
 		private final boolean distinct;
 		private final LockMode lockMode;
+		private final LockWaitPolicy lockWaitPolicy;
 
 		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
 				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct, LockMode lockMode) {
+			this(table, projectedFields, selectList, criteria, sort, limit, offset, distinct, lockMode, LockWaitPolicy.WAIT);
+		}
+
+		/**
+		 * @since 3.1
+		 */
+		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
+				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct, LockMode lockMode,
+				LockWaitPolicy lockWaitPolicy) {
 			this.table = table;
 			this.projectedFields = projectedFields;
 			this.selectList = selectList;
@@ -242,6 +301,7 @@ public interface StatementMapper {
 			this.limit = limit;
 			this.distinct = distinct;
 			this.lockMode = lockMode;
+			this.lockWaitPolicy = lockWaitPolicy;
 		}
 
 		/**
@@ -308,7 +368,7 @@ public interface StatementMapper {
 			selectList.addAll(Arrays.asList(expressions));
 
 			return new SelectSpec(this.table, projectedFields, selectList, this.criteria, this.sort, this.limit, this.offset,
-					this.distinct, this.lockMode);
+					this.distinct, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -324,7 +384,7 @@ public interface StatementMapper {
 			selectList.addAll(projectedFields);
 
 			return new SelectSpec(this.table, this.projectedFields, selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -335,7 +395,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec withCriteria(CriteriaDefinition criteria) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -348,11 +408,11 @@ public interface StatementMapper {
 
 			if (sort.isSorted()) {
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, sort, this.limit,
-						this.offset, this.distinct, this.lockMode);
+						this.offset, this.distinct, this.lockMode, this.lockWaitPolicy);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -368,11 +428,12 @@ public interface StatementMapper {
 				Sort sort = page.getSort();
 
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria,
-						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode);
+						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode,
+						this.lockWaitPolicy);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -383,7 +444,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec offset(long offset) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					offset, this.distinct, this.lockMode);
+					offset, this.distinct, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -394,7 +455,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec limit(int limit) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -404,7 +465,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec distinct() {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, true, this.lockMode);
+					this.offset, true, this.lockMode, this.lockWaitPolicy);
 		}
 
 		/**
@@ -414,8 +475,24 @@ public interface StatementMapper {
 		 * @return the {@link SelectSpec}.
 		 */
 		public SelectSpec lock(LockMode lockMode) {
+			return lock(lockMode, LockWaitPolicy.WAIT);
+		}
+
+		/**
+		 * Associate a lock mode and a policy how to deal with rows locked already with the select and create a new
+		 * {@link SelectSpec}.
+		 *
+		 * @param lockMode the {@link LockMode} we want to use. This might be null
+		 * @param lockWaitPolicy the {@link LockWaitPolicy} to apply. Must not be {@literal null}.
+		 * @return the {@link SelectSpec}.
+		 * @since 3.1
+		 */
+		public SelectSpec lock(LockMode lockMode, LockWaitPolicy lockWaitPolicy) {
+
+			Assert.notNull(lockWaitPolicy, "LockWaitPolicy must not be null");
+
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, lockMode);
+					this.offset, this.distinct, lockMode, lockWaitPolicy);
 		}
 
 		/**
@@ -428,6 +505,14 @@ public interface StatementMapper {
 			return this.lockMode;
 		}
 
+		/**
+		 * @return how to deal with rows locked by other transactions.
+		 * @since 3.1
+		 */
+		public LockWaitPolicy getLockWaitPolicy() {
+			return this.lockWaitPolicy;
+		}
+
 		public Table getTable() {
 			return this.table;
 		}
@@ -539,6 +624,93 @@ public interface StatementMapper {
 		}
 	}
 
+	/**
+	 * Upsert specification: inserts a row or updates the row conflicting with it on the
+	 * {@link #getConflictTarget() conflict target}.
+	 *
+	 * @since 3.1
+	 */
+	class UpsertSpec {
+
+		private final SqlIdentifier table;
+		private final Map<SqlIdentifier, Parameter> assignments;
+		private final List<SqlIdentifier> conflictTarget;
+		private final @Nullable List<SqlIdentifier> updateColumns;
+
+		protected UpsertSpec(SqlIdentifier table, Map<SqlIdentifier, Parameter> assignments,
+				List<SqlIdentifier> conflictTarget, @Nullable List<SqlIdentifier> updateColumns) {
+
+			this.table = table;
+			this.assignments = assignments;
+			this.conflictTarget = conflictTarget;
+			this.updateColumns = updateColumns;
+		}
+
+		/**
+		 * Create an upsert specification for {@code table}.
+		 *
+		 * @param table
+		 * @return the {@link UpsertSpec}.
+		 */
+		public static UpsertSpec create(SqlIdentifier table) {
+			return new UpsertSpec(table, Collections.emptyMap(), Collections.emptyList(), null);
+		}
+
+		/**
+		 * Associate a column with a {@link Parameter} and create a new {@link UpsertSpec}.
+		 *
+		 * @param column
+		 * @param value
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withColumn(SqlIdentifier column, Parameter value) {
+
+			Map<SqlIdentifier, Parameter> values = new LinkedHashMap<>(this.assignments);
+			values.put(column, value);
+
+			return new UpsertSpec(this.table, values, this.conflictTarget, this.updateColumns);
+		}
+
+		/**
+		 * Define the columns identifying an existing row and create a new {@link UpsertSpec}. The columns must be part of
+		 * the {@link #withColumn(SqlIdentifier, Parameter) assigned columns}.
+		 *
+		 * @param columns
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withConflictTarget(Collection<SqlIdentifier> columns) {
+			return new UpsertSpec(this.table, this.assignments, new ArrayList<>(columns), this.updateColumns);
+		}
+
+		/**
+		 * Define the columns to update when a row exists already and create a new {@link UpsertSpec}. Defaults to all
+		 * assigned columns not being part of the conflict target.
+		 *
+		 * @param columns
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withUpdateColumns(Collection<SqlIdentifier> columns) {
+			return new UpsertSpec(this.table, this.assignments, this.conflictTarget, new ArrayList<>(columns));
+		}
+
+		public SqlIdentifier getTable() {
+			return this.table;
+		}
+
+		public Map<SqlIdentifier, Parameter> getAssignments() {
+			return Collections.unmodifiableMap(this.assignments);
+		}
+
+		public List<SqlIdentifier> getConflictTarget() {
+			return Collections.unmodifiableList(this.conflictTarget);
+		}
+
+		@Nullable
+		public List<SqlIdentifier> getUpdateColumns() {
+			return this.updateColumns;
+		}
+	}
+
 	/**
 	 * {@code UPDATE} specification.
 	 */
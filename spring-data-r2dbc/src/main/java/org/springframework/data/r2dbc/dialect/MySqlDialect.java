@@ -28,6 +28,8 @@ import java.util.UUID;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.relational.core.dialect.UpsertRenderContext;
+import org.springframework.data.relational.core.dialect.UpsertRenderContexts;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
 
@@ -48,6 +50,17 @@ public class MySqlDialect extends org.springframework.data.relational.core.diale
 	 */
 	public static final MySqlDialect INSTANCE = new MySqlDialect();
 
+	/**
+	 * Instance for MariaDB, which doesn't support row aliases in {@code INSERT … ON DUPLICATE KEY UPDATE}.
+	 */
+	static final MySqlDialect MARIADB = new MySqlDialect() {
+
+		@Override
+		public UpsertRenderContext getUpsertRenderContext() {
+			return UpsertRenderContexts.MARIADB;
+		}
+	};
+
 	private static final BindMarkersFactory ANONYMOUS = BindMarkersFactory.anonymous("?");
 
 	/**
@@ -18,6 +18,7 @@ package org.springframework.data.r2dbc.repository.query;
 import reactor.core.publisher.Mono;
 
 import org.reactivestreams.Publisher;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
@@ -29,6 +30,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.util.ReflectionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.FetchSpec;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.RowsFetchSpec;
@@ -93,8 +95,14 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 			fetchSpec = entityOperations.query(operation, resolveResultType(processor));
 		}
 
-		R2dbcQueryExecution execution = new ResultProcessingExecution(getExecutionToWrap(processor.getReturnedType()),
-				new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
+		ResultProcessingConverter resultProcessingConverter = new ResultProcessingConverter(processor,
+				converter.getMappingContext(), instantiators);
+		R2dbcQueryExecution execution = getKeysetQueryExecution(parameterAccessor, resultProcessingConverter);
+
+		if (execution == null) {
+			execution = new ResultProcessingExecution(getExecutionToWrap(processor.getReturnedType()),
+					resultProcessingConverter);
+		}
 
 		return execution.execute(RowsFetchSpec.class.cast(fetchSpec));
 	}
@@ -153,6 +161,21 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 		return RowsFetchSpec::one;
 	}
 
+	/**
+	 * Returns the {@link R2dbcQueryExecution} emitting a {@link org.springframework.data.relational.core.query.KeysetWindow}
+	 * if the query scrolls through its results by {@link org.springframework.data.relational.core.query.Keyset}.
+	 *
+	 * @param accessor the accessor for the query method arguments.
+	 * @param resultProcessingConverter converts the elements of the window into the returned type.
+	 * @return the {@link R2dbcQueryExecution} or {@literal null} if the query does not scroll by keyset.
+	 * @since 3.1
+	 */
+	@Nullable
+	R2dbcQueryExecution getKeysetQueryExecution(RelationalParameterAccessor accessor,
+			Converter<Object, Object> resultProcessingConverter) {
+		return null;
+	}
+
 	/**
 	 * Returns whether this query is a modifying one.
 	 *
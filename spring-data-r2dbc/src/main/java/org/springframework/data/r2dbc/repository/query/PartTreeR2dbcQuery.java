@@ -17,14 +17,24 @@ package org.springframework.data.r2dbc.repository.query;
 
 import reactor.core.publisher.Mono;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.repository.query.R2dbcQueryCreator.QueryTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParameters;
@@ -32,7 +42,9 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * An {@link AbstractR2dbcQuery} implementation based on a {@link PartTree}.
@@ -44,10 +56,14 @@ import org.springframework.r2dbc.core.PreparedOperation;
  */
 public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 
+	private static final int QUERY_CACHE_CAPACITY = 64;
+
 	private final ResultProcessor processor;
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
 	private final RelationalParameters parameters;
 	private final PartTree tree;
+	private final ConcurrentLruCache<QueryShape, AtomicReference<QueryTemplate>> queryCache = new ConcurrentLruCache<>(
+			QUERY_CACHE_CAPACITY, shape -> new AtomicReference<>());
 
 	/**
 	 * Creates new instance of this class with the given {@link R2dbcQueryMethod}, {@link DatabaseClient},
@@ -105,7 +121,16 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 			RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 			R2dbcQueryCreator queryCreator = new R2dbcQueryCreator(tree, dataAccessStrategy, entityMetadata, accessor,
 					projectedProperties, this.getQueryMethod().getLock());
-			return queryCreator.createQuery(getDynamicSort(accessor));
+
+			AtomicReference<QueryTemplate> cached = queryCache.get(QueryShape.of(accessor.getValues(), returnedType));
+			PreparedOperation<?> operation = queryCreator.createQuery(getDynamicSort(accessor), cached.get());
+
+			QueryTemplate template = queryCreator.getQueryTemplate();
+			if (template != null) {
+				cached.compareAndSet(null, template);
+			}
+
+			return operation;
 		});
 	}
 
@@ -113,6 +138,29 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 		return parameters.potentiallySortsDynamically() ? accessor.getSort() : Sort.unsorted();
 	}
 
+	@Nullable
+	@Override
+	R2dbcQueryExecution getKeysetQueryExecution(RelationalParameterAccessor accessor,
+			Converter<Object, Object> resultProcessingConverter) {
+
+		Keyset keyset = accessor.getKeyset();
+		if (keyset == null) {
+			return null;
+		}
+
+		RelationalPersistentEntity<?> entity = getQueryMethod().getEntityInformation().getTableEntity();
+		Sort keysetSort = KeysetScrollDelegate.getKeysetSort(tree.getSort().and(getDynamicSort(accessor)), entity);
+		int limit = tree.isLimiting() ? tree.getMaxResults() : -1;
+
+		// the elements are read as entities, so the keyset can be obtained from the last one, and converted afterwards
+		return fetchSpec -> fetchSpec.all() //
+				.collectList() //
+				.map(result -> KeysetScrollDelegate
+						.createWindow(result, limit, keysetSort, keyset, entity,
+								dataAccessStrategy.getConverter().getMappingContext()) //
+						.map(resultProcessingConverter::convert));
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
@@ -121,4 +169,55 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 		sb.append(']');
 		return sb.toString();
 	}
+
+	/**
+	 * The properties of the arguments of a query method invocation that determine the rendered SQL. These are the
+	 * arguments being {@literal null}, the number of elements of collections and arrays, each of which gets its own bind
+	 * marker, {@link Sort} and dynamic projection arguments, whether a {@link Pageable} is paged and its {@link Sort}, the
+	 * properties of a {@link Keyset}, and the returned type. Limit and offset of paged queries get rendered per invocation.
+	 */
+	private record QueryShape(List<Object> arguments, Class<?> returnedType) {
+
+		static QueryShape of(Object[] values, ReturnedType returnedType) {
+
+			List<Object> arguments = new ArrayList<>(values.length);
+			for (Object value : values) {
+				arguments.add(shapeOf(value));
+			}
+
+			return new QueryShape(arguments, returnedType.getReturnedType());
+		}
+
+		@Nullable
+		private static Object shapeOf(@Nullable Object value) {
+
+			if (value == null || value instanceof Sort || value instanceof Class) {
+				return value;
+			}
+
+			if (value instanceof Pageable pageable) {
+				return new PageableArgument(pageable.isPaged(), pageable.getSort());
+			}
+
+			if (value instanceof Collection<?> collection) {
+				return new SizedArgument(value.getClass(), collection.size());
+			}
+
+			if (value.getClass().isArray()) {
+				return new SizedArgument(value.getClass(), Array.getLength(value));
+			}
+
+			if (value instanceof Keyset keyset) {
+				return Set.copyOf(keyset.getKeys().keySet());
+			}
+
+			return value.getClass();
+		}
+	}
+
+	private record SizedArgument(Class<?> type, int size) {
+	}
+
+	private record PageableArgument(boolean paged, Sort sort) {
+	}
 }
@@ -28,12 +28,17 @@ import org.springframework.data.r2dbc.core.StatementMapper;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.RenderContext;
+import org.springframework.data.relational.core.sql.render.SelectTemplate;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
@@ -62,6 +67,8 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 	private final List<String> projectedProperties;
 	private final Class<?> entityToRead;
 	private final Optional<Lock> lock;
+	private @Nullable QueryTemplate renderedQuery;
+	private @Nullable QueryTemplate queryTemplate;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link ReactiveDataAccessStrategy},
@@ -88,6 +95,36 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		this.lock = lock;
 	}
 
+	/**
+	 * Creates a {@link PreparedOperation} reusing SQL that was rendered before for arguments of the same shape. Only the
+	 * criteria values, and limit and offset of paged queries, get bound in that case.
+	 *
+	 * @param dynamicSort sort option to be applied to query, must not be {@literal null}.
+	 * @param renderedQuery {@link #getQueryTemplate() template} previously rendered by a {@link R2dbcQueryCreator} for
+	 *          the same query method and arguments of the same shape. May be {@literal null} in which case the SQL gets
+	 *          rendered.
+	 * @return instance of {@link PreparedOperation}
+	 * @since 3.1
+	 */
+	PreparedOperation<?> createQuery(Sort dynamicSort, @Nullable QueryTemplate renderedQuery) {
+
+		this.renderedQuery = renderedQuery;
+		this.queryTemplate = null;
+		return createQuery(dynamicSort);
+	}
+
+	/**
+	 * Returns the SQL rendered by the last invocation of {@link #createQuery(Sort, QueryTemplate)} in a form that can be
+	 * reused for other invocations with arguments of the same shape, including other pages of paged queries.
+	 *
+	 * @return the template or {@literal null} if the SQL can't be reused or wasn't rendered.
+	 * @since 3.1
+	 */
+	@Nullable
+	QueryTemplate getQueryTemplate() {
+		return queryTemplate;
+	}
+
 	/**
 	 * Creates {@link PreparedOperation} applying the given {@link Criteria} and {@link Sort} definition.
 	 *
@@ -104,6 +141,13 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 			return delete(criteria, statementMapper);
 		}
 
+		Keyset keyset = accessor.getKeyset();
+		if (keyset != null) {
+
+			sort = KeysetScrollDelegate.getKeysetSort(sort, entityMetadata.getTableEntity());
+			criteria = KeysetScrollDelegate.combine(criteria, KeysetScrollDelegate.createCriteria(sort, keyset));
+		}
+
 		return select(criteria, sort, statementMapper);
 	}
 
@@ -112,18 +156,51 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		StatementMapper.DeleteSpec deleteSpec = statementMapper.createDelete(entityMetadata.getTableName())
 				.withCriteria(criteria);
 
-		return statementMapper.getMappedObject(deleteSpec);
+		if (renderedQuery != null) {
+			return statementMapper.getMappedObject(deleteSpec, renderedQuery.render(Pageable.unpaged()));
+		}
+
+		PreparedOperation<?> operation = statementMapper.getMappedObject(deleteSpec);
+		this.queryTemplate = new QueryTemplate(operation.toQuery(), null);
+
+		return operation;
 	}
 
 	private PreparedOperation<?> select(@Nullable Criteria criteria, Sort sort, StatementMapper statementMapper) {
 
+		Pageable pageable = accessor.getPageable();
+		StatementMapper.SelectSpec selectSpec = createSelectSpec(criteria, sort, statementMapper);
+
+		if (renderedQuery != null) {
+			return statementMapper.getMappedObject(selectSpec, renderedQuery.render(pageable));
+		}
+
+		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
+		RenderContext renderContext = statementMapper.getRenderContext();
+
+		if (operation.getSource() instanceof Select select && renderContext != null) {
+
+			SelectTemplate template = SelectTemplate.of(select, renderContext);
+			this.queryTemplate = new QueryTemplate(template.render(), template);
+		} else if (pageable.isUnpaged()) {
+			this.queryTemplate = new QueryTemplate(operation.toQuery(), null);
+		}
+
+		return operation;
+	}
+
+	private StatementMapper.SelectSpec createSelectSpec(@Nullable Criteria criteria, Sort sort,
+			StatementMapper statementMapper) {
+
 		StatementMapper.SelectSpec selectSpec = statementMapper.createSelect(entityMetadata.getTableName())
 				.withProjection(getSelectProjection());
 
 		if (tree.isExistsProjection()) {
 			selectSpec = selectSpec.limit(1);
 		} else if (tree.isLimiting()) {
-			selectSpec = selectSpec.limit(tree.getMaxResults());
+
+			// keyset queries read one more row, which tells whether there is a next window
+			selectSpec = selectSpec.limit(accessor.getKeyset() != null ? tree.getMaxResults() + 1 : tree.getMaxResults());
 		}
 
 		Pageable pageable = accessor.getPageable();
@@ -144,10 +221,10 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		}
 
 		if (this.lock.isPresent()) {
-			selectSpec = selectSpec.lock(this.lock.get().value());
+			selectSpec = selectSpec.lock(this.lock.get().value(), this.lock.get().waitPolicy());
 		}
 
-		return statementMapper.getMappedObject(selectSpec);
+		return selectSpec;
 	}
 
 	private Expression[] getSelectProjection() {
@@ -197,4 +274,25 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 
 		return Sort.by(orders);
 	}
+
+	/**
+	 * SQL rendered by a {@link R2dbcQueryCreator}, reusable for invocations with arguments of the same shape.
+	 *
+	 * @param sql the rendered SQL.
+	 * @param select the template of a {@code SELECT} rendering the SQL for other pages, {@literal null} for other
+	 *          statements.
+	 * @since 3.1
+	 */
+	record QueryTemplate(String sql, @Nullable SelectTemplate select) {
+
+		String render(Pageable pageable) {
+
+			if (select == null || pageable.isUnpaged()) {
+				return sql;
+			}
+
+			// like StatementMapper, which applies no offset of zero
+			return select.render(pageable.getPageSize(), pageable.getOffset() > 0 ? pageable.getOffset() : -1);
+		}
+	}
 }
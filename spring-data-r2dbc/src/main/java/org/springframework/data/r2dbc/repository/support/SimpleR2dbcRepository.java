@@ -128,7 +128,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Objects to save must not be null");
 
-		return Flux.fromIterable(objectsToSave).concatMap(this::save);
+		return saveAll(Flux.fromIterable(objectsToSave));
 	}
 
 	@Override
@@ -137,7 +137,16 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Object publisher must not be null");
 
-		return Flux.from(objectsToSave).concatMap(this::save);
+		return Flux.from(objectsToSave) //
+				.windowUntilChanged(this.entity::isNew) //
+				.concatMap(window -> window.switchOnFirst((first, objects) -> {
+
+					if (first.hasValue() && !this.entity.isNew(first.get())) {
+						return this.entityOperations.updateAll(objects);
+					}
+
+					return this.entityOperations.insertAll(objects);
+				}));
 	}
 
 	@Override
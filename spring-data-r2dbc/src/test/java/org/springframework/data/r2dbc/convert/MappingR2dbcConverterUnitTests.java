@@ -240,6 +240,45 @@ public class MappingR2dbcConverterUnitTests {
 		assertThat(result.world).isEqualTo("No, universe");
 	}
 
+	@Test
+	void shouldReadOnlyColumnsContainedInMetadataOfSubsequentRows() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("FIRSTNAME").type(R2dbcType.VARCHAR).build()).build();
+
+		ConstructorAndPropertyPopulation first = converter.read(ConstructorAndPropertyPopulation.class,
+				MockRow.builder().identified("firstname", Object.class, "Walter").build(), metadata);
+		ConstructorAndPropertyPopulation second = converter.read(ConstructorAndPropertyPopulation.class,
+				MockRow.builder().identified("firstname", Object.class, "Jesse").build(), metadata);
+
+		assertThat(first.getFirstname()).isEqualTo("Walter");
+		assertThat(first.getLastname()).isNull();
+		assertThat(second.getFirstname()).isEqualTo("Jesse");
+		assertThat(second.getLastname()).isNull();
+	}
+
+	@Test
+	void shouldResolveColumnsForEachRowMetadata() {
+
+		MockRowMetadata firstnameOnly = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("firstname").type(R2dbcType.VARCHAR).build()).build();
+		MockRowMetadata allColumns = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("firstname").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("lastname").type(R2dbcType.VARCHAR).build()).build();
+		MockRow row = MockRow.builder().identified("firstname", Object.class, "Walter")
+				.identified("lastname", Object.class, "White").build();
+
+		ConstructorAndPropertyPopulation partial = converter.read(ConstructorAndPropertyPopulation.class, row,
+				firstnameOnly);
+		ConstructorAndPropertyPopulation complete = converter.read(ConstructorAndPropertyPopulation.class, row,
+				allColumns);
+
+		assertThat(partial.getFirstname()).isEqualTo("Walter");
+		assertThat(partial.getLastname()).isNull();
+		assertThat(complete.getFirstname()).isEqualTo("Walter");
+		assertThat(complete.getLastname()).isEqualTo("White");
+	}
+
 	@Test // GH-670
 	void considersConverterBeforeEntityConstruction() {
 
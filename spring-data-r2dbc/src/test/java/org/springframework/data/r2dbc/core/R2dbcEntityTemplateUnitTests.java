@@ -26,18 +26,23 @@ import io.r2dbc.spi.test.MockRowMetadata;
 import lombok.Value;
 import lombok.With;
 import org.springframework.data.relational.core.mapping.InsertOnlyProperty;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -56,8 +61,11 @@ import org.springframework.data.r2dbc.mapping.event.ReactiveAuditingEntityCallba
 import org.springframework.data.r2dbc.testing.StatementRecorder;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -190,6 +198,20 @@ public class R2dbcEntityTemplateUnitTests {
         assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
     }
 
+    @Test
+    void shouldApplyFetchSizeOfQuery() {
+
+        recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+        entityTemplate.select(Query.query(Criteria.where("name").is("Walter")).withFetchSize(100), Person.class) //
+                .as(StepVerifier::create) //
+                .verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+        assertThat(statement.getFetchSize()).isEqualTo(100);
+    }
+
     @Test
         // gh-215
     void selectShouldInvokeCallback() {
@@ -252,6 +274,50 @@ public class R2dbcEntityTemplateUnitTests {
         assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
     }
 
+    @Test
+    void shouldScrollByKeyset() {
+
+        recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+        Keyset keyset = Keyset.of(Map.of("name", "Walter", "id", "42"));
+
+        entityTemplate.scroll(Query.empty().sort(Sort.by("name")).limit(2), Person.class, keyset) //
+                .as(StepVerifier::create) //
+                .assertNext(window -> {
+
+                    assertThat(window.isEmpty()).isTrue();
+                    assertThat(window.hasNext()).isFalse();
+                    assertThat(window.nextKeyset()).isEqualTo(keyset);
+                }).verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+        assertThat(statement.getSql()).isEqualTo("SELECT person.* FROM person WHERE person.THE_NAME >= $1 "
+                + "AND (person.THE_NAME > $2 OR (person.THE_NAME = $3 AND person.id > $4)) "
+                + "ORDER BY person.THE_NAME ASC, person.id ASC LIMIT 3");
+        assertThat(statement.getBindings()).hasSize(4).containsEntry(0, Parameter.from("Walter")).containsEntry(3,
+                Parameter.from("42"));
+    }
+
+    @Test
+    void shouldScrollByKeysetUsingLockOfQuery() {
+
+        recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+        Keyset keyset = Keyset.of(Map.of("name", "Walter", "id", "42"));
+        Query query = Query.empty().sort(Sort.by("name")).limit(2).lock(LockMode.PESSIMISTIC_WRITE,
+                LockWaitPolicy.SKIP_LOCKED);
+
+        entityTemplate.scroll(query, Person.class, keyset) //
+                .as(StepVerifier::create) //
+                .expectNextCount(1) //
+                .verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+        assertThat(statement.getSql()).endsWith("LIMIT 3 FOR UPDATE OF person SKIP LOCKED");
+    }
+
     @Test
         // gh-220
     void shouldUpdateByQuery() {
@@ -489,6 +555,32 @@ public class R2dbcEntityTemplateUnitTests {
                 Parameter.from(1L));
     }
 
+    @Test
+    void shouldUpsert() {
+
+        MockResult result = MockResult.builder().rowsUpdated(1).build();
+
+        recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+        Person person = new Person("the-id", "Walter", null);
+
+        entityTemplate.upsert(person).as(StepVerifier::create) //
+                .expectNext(person) //
+                .verifyComplete();
+
+        StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("INSERT"));
+
+        assertThat(statement.getSql()).isEqualTo("INSERT INTO person (id, THE_NAME, description) VALUES ($1, $2, $3)"
+                + " ON CONFLICT (id) DO UPDATE SET THE_NAME = EXCLUDED.THE_NAME, description = EXCLUDED.description");
+        assertThat(statement.getBindings()).hasSize(3).containsEntry(0, Parameter.from("the-id")).containsEntry(1,
+                Parameter.from("Walter"));
+    }
+
+    @Test
+    void shouldRejectUpsertOfVersionedEntity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> entityTemplate.upsert(new VersionedPerson("id", 1, "bar")));
+    }
+
     @Test
         // gh-215
     void updateShouldInvokeCallback() {
@@ -565,6 +657,101 @@ public class R2dbcEntityTemplateUnitTests {
                 .containsEntry(1, Parameter.from(23L));
     }
 
+    @Test
+    void insertAllBindsEntitiesToSingleStatement() {
+
+        recorder.addStubbing(s -> s.startsWith("INSERT"), List.of(updatedRows(1), updatedRows(1), updatedRows(1)));
+
+        entityTemplate.insertAll(Flux.just(new VersionedPerson("a", 0, "Alfred"), new VersionedPerson("b", 0, "Bruce"),
+                new VersionedPerson("c", 0, "Clark"))).as(StepVerifier::create) //
+                .assertNext(actual -> assertThat(actual).extracting("id", "version").containsExactly("a", 1L)) //
+                .assertNext(actual -> assertThat(actual).extracting("id", "version").containsExactly("b", 1L)) //
+                .assertNext(actual -> assertThat(actual).extracting("id", "version").containsExactly("c", 1L)) //
+                .verifyComplete();
+
+        assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+                .filteredOn(sql -> sql.startsWith("INSERT")) //
+                .containsExactly("INSERT INTO versioned_person (id, version, name) VALUES ($1, $2, $3)");
+    }
+
+    @Test
+    void insertAllSplitsEntitiesIntoBatches() {
+
+        recorder.addStubbing(s -> s.startsWith("INSERT"), List.of(updatedRows(1), updatedRows(1)));
+
+        entityTemplate.setBatchSize(2);
+        entityTemplate.insertAll(Flux.just(new VersionedPerson("a", 0, "Alfred"), new VersionedPerson("b", 0, "Bruce"),
+                new VersionedPerson("c", 0, "Clark"))).as(StepVerifier::create) //
+                .expectNextCount(3) //
+                .verifyComplete();
+
+        assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+                .filteredOn(sql -> sql.startsWith("INSERT")) //
+                .hasSize(2);
+    }
+
+    @Test
+    void insertAllWritesEntitiesOfNeverCompletingPublisher() {
+
+        recorder.addStubbing(s -> s.startsWith("INSERT"), List.of(updatedRows(1)));
+
+        entityTemplate.insertAll(Flux.concat(Flux.just(new VersionedPerson("a", 0, "Alfred")), Flux.never()))
+                .as(StepVerifier::create) //
+                .assertNext(actual -> assertThat(actual).extracting("id", "version").containsExactly("a", 1L)) //
+                .thenCancel() //
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void insertAllFailsForBatchEmittingSingleResult() {
+
+        recorder.addStubbing(s -> s.startsWith("INSERT"), List.of(updatedRows(2)));
+
+        entityTemplate.insertAll(Flux.just(new VersionedPerson("a", 0, "Alfred"), new VersionedPerson("b", 0, "Bruce")))
+                .as(StepVerifier::create) //
+                .expectNextCount(1) //
+                .verifyError(IncorrectResultSizeDataAccessException.class);
+    }
+
+    @Test
+    void insertAllHonorsBackpressureOfSlowSubscriber() {
+
+        recorder.addStubbing(s -> s.startsWith("INSERT"), List.of(updatedRows(1)));
+
+        entityTemplate.setBatchMaxWait(Duration.ofMillis(1));
+        Flux<VersionedPerson> people = Flux.range(0, 50) //
+                .delayElements(Duration.ofMillis(5)) //
+                .map(i -> new VersionedPerson("id-" + i, 0, "name-" + i));
+
+        StepVerifier.create(entityTemplate.insertAll(people), 0) //
+                .expectSubscription() //
+                .expectNoEvent(Duration.ofMillis(500)) //
+                .thenRequest(Long.MAX_VALUE) //
+                .expectNextCount(50) //
+                .expectComplete() //
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void updateAllFailsForOutdatedVersion() {
+
+        recorder.addStubbing(s -> s.startsWith("UPDATE"), List.of(updatedRows(1), updatedRows(0)));
+
+        entityTemplate.updateAll(Flux.just(new VersionedPerson("a", 1, "Alfred"), new VersionedPerson("b", 1, "Bruce")))
+                .as(StepVerifier::create) //
+                .assertNext(actual -> assertThat(actual).extracting("id", "version").containsExactly("a", 2L)) //
+                .verifyError(OptimisticLockingFailureException.class);
+
+        assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+                .filteredOn(sql -> sql.startsWith("UPDATE")) //
+                .containsExactly(
+                        "UPDATE versioned_person SET version = $1, name = $2 WHERE versioned_person.id = $3 AND (versioned_person.version = $4)");
+    }
+
+    private static MockResult updatedRows(long rowsUpdated) {
+        return MockResult.builder().rowMetadata(MockRowMetadata.builder().build()).rowsUpdated(rowsUpdated).build();
+    }
+
     @Value
     static class WithoutId {
 
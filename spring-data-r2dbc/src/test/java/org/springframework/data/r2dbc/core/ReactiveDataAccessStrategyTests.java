@@ -24,11 +24,14 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.r2dbc.dialect.MySqlDialect;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.r2dbc.core.Parameter;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.binding.BindTarget;
@@ -90,6 +93,71 @@ public class ReactiveDataAccessStrategyTests {
 		verify(bindTarget).bind(0, value.toString());
 	}
 
+	@Test
+	void insertOperationRendersStatementOncePerColumns() {
+
+		UUID value = UUID.randomUUID();
+		OutboundRow row = new OutboundRow("id", Parameter.from(value)).append("name", Parameter.empty(String.class));
+
+		PreparedOperation<?> first = strategy.getInsertOperation(SqlIdentifier.unquoted("foo"), row);
+		PreparedOperation<?> second = strategy.getInsertOperation(SqlIdentifier.unquoted("foo"), row);
+		first.bindTo(bindTarget);
+
+		assertThat(first.toQuery()).isEqualTo("INSERT INTO foo (id) VALUES (?)");
+		assertThat(second.toQuery()).isSameAs(first.toQuery());
+		verify(bindTarget).bind(0, value.toString());
+		verifyNoMoreInteractions(bindTarget);
+	}
+
+	@Test
+	void updateByIdOperationMatchesVersion() {
+
+		UUID value = UUID.randomUUID();
+		OutboundRow row = new OutboundRow("name", Parameter.empty(String.class)).append("version", Parameter.from(2));
+
+		PreparedOperation<?> operation = strategy.getUpdateByIdOperation(SqlIdentifier.unquoted("foo"), row,
+				SqlIdentifier.unquoted("id"), Parameter.from(value), SqlIdentifier.unquoted("version"), 1);
+		operation.bindTo(bindTarget);
+
+		assertThat(operation.toQuery())
+				.isEqualTo("UPDATE foo SET name = ?, version = ? WHERE foo.id = ? AND (foo.version = ?)");
+		verify(bindTarget).bindNull(0, String.class);
+		verify(bindTarget).bind(1, 2);
+		verify(bindTarget).bind(2, value.toString());
+		verify(bindTarget).bind(3, 1);
+	}
+
+	@Test
+	void updateByIdOperationWithoutPreviousVersionMatchesNullVersion() {
+
+		OutboundRow row = new OutboundRow("version", Parameter.from(1));
+
+		PreparedOperation<?> operation = strategy.getUpdateByIdOperation(SqlIdentifier.unquoted("foo"), row,
+				SqlIdentifier.unquoted("id"), Parameter.from(23L), SqlIdentifier.unquoted("version"), null);
+		operation.bindTo(bindTarget);
+
+		assertThat(operation.toQuery()).isEqualTo("UPDATE foo SET version = ? WHERE foo.id = ? AND (foo.version IS NULL)");
+		verify(bindTarget).bind(0, 1);
+		verify(bindTarget).bind(1, 23L);
+		verifyNoMoreInteractions(bindTarget);
+	}
+
+	@Test
+	void deleteByIdOperationConvertsId() {
+
+		UUID value = UUID.randomUUID();
+
+		PreparedOperation<?> operation = strategy.getDeleteByIdOperation(WithUuidId.class,
+				SqlIdentifier.unquoted("with_uuid_id"), value);
+		operation.bindTo(bindTarget);
+
+		assertThat(operation.toQuery()).isEqualTo("DELETE FROM with_uuid_id WHERE with_uuid_id.id = ?");
+		verify(bindTarget).bind(0, value.toString());
+	}
+
+	record WithUuidId(@Id UUID id) {
+	}
+
 	@WritingConverter
 	enum UuidToStringConverter implements Converter<UUID, String> {
 		INSTANCE;
@@ -28,6 +28,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
@@ -41,6 +43,8 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DefaultReactiveDataAccessStrategy;
@@ -52,7 +56,10 @@ import org.springframework.data.r2dbc.dialect.R2dbcDialect;
 import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.relational.core.query.KeysetWindow;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.Repository;
@@ -623,6 +630,23 @@ class PartTreeR2dbcQueryUnitTests {
 				.where(TABLE + ".first_name = $1 LIMIT 3");
 	}
 
+	@Test
+	void createsKeysetQueryReadingOneMoreRowThanTheLimit() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findTop3ByLastNameOrderByFirstName", String.class, Keyset.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+		RelationalParametersParameterAccessor accessor = getAccessor(queryMethod,
+				new Object[] { "Doe", Keyset.of(Map.of("firstName", "Jane", "id", 42L)) });
+		PreparedOperation<?> preparedOperation = createQuery(r2dbcQuery, accessor);
+
+		PreparedOperationAssert.assertThat(preparedOperation) //
+				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
+				.from(TABLE) //
+				.where("(" + TABLE + ".last_name = $1) AND (" + TABLE + ".first_name >= $2 AND (" + TABLE
+						+ ".first_name > $3 OR (" + TABLE + ".first_name = $4 AND " + TABLE + ".id > $5)))") //
+				.orderBy(TABLE + ".first_name ASC, " + TABLE + ".id ASC LIMIT 4");
+	}
+
 	@Test // GH-282
 	void createsQueryToFindFirstEntityByStringAttribute() throws Exception {
 
@@ -718,6 +742,20 @@ class PartTreeR2dbcQueryUnitTests {
 				.where("users.first_name = $1 AND (users.last_name = $2) FOR UPDATE OF users");
 	}
 
+	@Test
+	void createQueryWithLockFailingOnLockedRows() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByLastName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> query = createQuery(queryMethod, r2dbcQuery, "Krupitza");
+
+		PreparedOperationAssert.assertThat(query) //
+				.selects("users.id", "users.first_name", "users.last_name", "users.date_of_birth", "users.age", "users.active") //
+				.from(TABLE) //
+				.where("users.last_name = $1 FOR UPDATE OF users NOWAIT");
+	}
+
 	@Test // GH-1041
 	void createQueryWithPessimisticReadLock() throws Exception {
 
@@ -775,6 +813,81 @@ class PartTreeR2dbcQueryUnitTests {
 				.where(TABLE + ".first_name = $1 LIMIT 1");
 	}
 
+	@Test
+	void reusesRenderedQueryForArgumentsOfSameShape() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> first = createQuery(queryMethod, r2dbcQuery, List.of(23, 42));
+		PreparedOperation<?> second = createQuery(queryMethod, r2dbcQuery, List.of(5, 7));
+		PreparedOperation<?> third = createQuery(queryMethod, r2dbcQuery, List.of(5, 7, 9));
+
+		Assertions.assertThat(second.toQuery()).isSameAs(first.toQuery());
+		PreparedOperationAssert.assertThat(third) //
+				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
+				.from(TABLE) //
+				.where(TABLE + ".age IN ($1, $2, $3)");
+
+		BindTarget bindTarget = mock(BindTarget.class);
+		second.bindTo(bindTarget);
+
+		verify(bindTarget).bind(0, 5);
+		verify(bindTarget).bind(1, 7);
+		verifyNoMoreInteractions(bindTarget);
+	}
+
+	@Test
+	void rendersQueryAgainForNullArgument() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		createQuery(queryMethod, r2dbcQuery, "John");
+		PreparedOperation<?> preparedOperation = createQuery(queryMethod, r2dbcQuery, new Object[] { null });
+
+		PreparedOperationAssert.assertThat(preparedOperation) //
+				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
+				.from(TABLE) //
+				.where(TABLE + ".first_name IS NULL");
+	}
+
+	@Test
+	void reusesRenderedQueryForOtherPages() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, Pageable.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> first = createQuery(queryMethod, r2dbcQuery, "John", PageRequest.of(0, 10));
+		PreparedOperation<?> second = createQuery(queryMethod, r2dbcQuery, "John", PageRequest.of(3, 5));
+
+		Assertions.assertThat(first.toQuery()).endsWith("LIMIT 10");
+		PreparedOperationAssert.assertThat(second) //
+				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
+				.from(TABLE) //
+				.where(TABLE + ".first_name = $1 LIMIT 5 OFFSET 15");
+	}
+
+	@Test
+	void reusesRenderedDeleteQuery() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("deleteByFirstName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		createQuery(queryMethod, r2dbcQuery, "John");
+		PreparedOperation<?> preparedOperation = createQuery(queryMethod, r2dbcQuery, "Jane");
+
+		PreparedOperationAssert.assertThat(preparedOperation) //
+				.deletes() //
+				.from(TABLE) //
+				.where(TABLE + ".first_name = $1");
+
+		BindTarget bindTarget = mock(BindTarget.class);
+		preparedOperation.bindTo(bindTarget);
+
+		verify(bindTarget).bind(0, "Jane");
+	}
+
 	private PreparedOperation<?> createQuery(R2dbcQueryMethod queryMethod, PartTreeR2dbcQuery r2dbcQuery,
 			Object... parameters) {
 		return createQuery(r2dbcQuery, getAccessor(queryMethod, parameters));
@@ -898,8 +1011,13 @@ class PartTreeR2dbcQueryUnitTests {
 		@Lock(LockMode.PESSIMISTIC_READ)
 		Flux<User> findAllByFirstNameAndAge(String firstName, Integer age);
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWaitPolicy.NOWAIT)
+		Flux<User> findAllByLastName(String lastName);
+
 		Flux<User> findAllByFirstName(String firstName);
 
+		Flux<User> findAllByFirstName(String firstName, Pageable pageable);
+
 		Flux<User> findAllByLastNameAndFirstName(String lastName, String firstName);
 
 		Flux<User> findAllByLastNameOrFirstName(String lastName, String firstName);
@@ -962,6 +1080,8 @@ class PartTreeR2dbcQueryUnitTests {
 
 		Flux<User> findTop3ByFirstName(String firstName);
 
+		Mono<KeysetWindow<User>> findTop3ByLastNameOrderByFirstName(String lastName, Keyset keyset);
+
 		Mono<User> findFirstByFirstName(String firstName);
 
 		Mono<UserProjection> findDistinctByFirstName(String firstName);
@@ -268,6 +268,30 @@ public abstract class AbstractSimpleR2dbcRepositoryIntegrationTests extends R2db
 		assertThat(count).isEqualTo(2);
 	}
 
+	@Test
+	void shouldSaveNewAndExistingObjects() {
+
+		jdbc.execute("INSERT INTO legoset (name, manual) VALUES('SCHAUFELRADBAGGER', 12)");
+		Integer id = jdbc.queryForObject("SELECT id FROM legoset", Integer.class);
+
+		LegoSet existing = new LegoSet(id, "SCHAUFELRADBAGGER", 14);
+		LegoSet legoSet1 = new LegoSet(0, "FORSCHUNGSSCHIFF", 13);
+		LegoSet legoSet2 = new LegoSet(0, "RALLYEAUTO", 15);
+
+		repository.saveAll(Arrays.asList(legoSet1, existing, legoSet2)) //
+				.map(LegoSet::getId) //
+				.collectList() //
+				.as(StepVerifier::create) //
+				.consumeNextWith(actual -> {
+
+					assertThat(actual).hasSize(3).doesNotHaveDuplicates().doesNotContain(0);
+					assertThat(actual.get(1)).isEqualTo(id);
+				}).verifyComplete();
+
+		List<Integer> manuals = jdbc.queryForList("SELECT manual FROM legoset ORDER BY manual", Integer.class);
+		assertThat(manuals).containsExactly(13, 14, 15);
+	}
+
 	@Test
 	void shouldFindById() {
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.BatchingAggregateChange;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.conversion.RelationalEntityWriter;
+import org.springframework.data.relational.core.conversion.RootAggregateChange;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Benchmarks for planning the {@link org.springframework.data.relational.core.conversion.DbAction actions} required to
+ * save aggregates with three levels of entities.
+ *
+ * @author Jens Schauder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregateChangeBenchmarks {
+
+	@Param({ "1", "10" }) int aggregates;
+	@Param({ "10" }) int children;
+
+	RelationalMappingContext context;
+	RelationalEntityWriter<Root> writer;
+
+	List<Root> newAggregates;
+	List<Root> existingAggregates;
+
+	@Setup
+	public void setUp() {
+
+		context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(Root.class);
+		writer = new RelationalEntityWriter<>(context);
+
+		newAggregates = new ArrayList<>();
+		existingAggregates = new ArrayList<>();
+
+		for (int i = 0; i < aggregates; i++) {
+			newAggregates.add(createAggregate(null));
+			existingAggregates.add(createAggregate((long) i));
+		}
+	}
+
+	@Benchmark
+	public void insert(Blackhole blackhole) {
+		save(newAggregates, blackhole);
+	}
+
+	@Benchmark
+	public void update(Blackhole blackhole) {
+		save(existingAggregates, blackhole);
+	}
+
+	private void save(List<Root> aggregates, Blackhole blackhole) {
+
+		BatchingAggregateChange<Root, RootAggregateChange<Root>> batchingChange = BatchingAggregateChange
+				.forSave(Root.class);
+
+		for (Root aggregate : aggregates) {
+
+			RootAggregateChange<Root> change = MutableAggregateChange.forSave(aggregate);
+			writer.write(aggregate, change);
+			batchingChange.add(change);
+		}
+
+		batchingChange.forEachAction(blackhole::consume);
+	}
+
+	private Root createAggregate(Long id) {
+
+		List<Child> children = new ArrayList<>();
+		for (int i = 0; i < this.children; i++) {
+
+			List<GrandChild> grandChildren = new ArrayList<>();
+			for (int j = 0; j < this.children; j++) {
+				grandChildren.add(new GrandChild("grand child " + j));
+			}
+
+			children.add(new Child("child " + i, grandChildren));
+		}
+
+		return new Root(id, "root", children);
+	}
+
+	record Root(@Id Long id, String name, List<Child> children) {
+	}
+
+	record Child(String name, List<GrandChild> grandChildren) {
+	}
+
+	record GrandChild(String name) {
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.benchmarks;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Benchmarks for {@link BasicJdbcConverter#mapRow(RelationalPersistentEntity, java.sql.ResultSet, Object)} reading
+ * from an in-memory {@link java.sql.ResultSet}.
+ *
+ * @author Jens Schauder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicJdbcConverterBenchmarks {
+
+	BasicJdbcConverter converter;
+	CachedRowSet resultSet;
+
+	RelationalPersistentEntity<Person> person;
+	RelationalPersistentEntity<ImmutablePerson> immutablePerson;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() throws SQLException {
+
+		JdbcMappingContext context = new JdbcMappingContext();
+		converter = new BasicJdbcConverter(context, (identifier, path) -> Collections.emptyList());
+
+		person = (RelationalPersistentEntity<Person>) context.getRequiredPersistentEntity(Person.class);
+		immutablePerson = (RelationalPersistentEntity<ImmutablePerson>) context
+				.getRequiredPersistentEntity(ImmutablePerson.class);
+
+		RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+		metaData.setColumnCount(5);
+		addColumn(metaData, 1, "id", Types.BIGINT);
+		addColumn(metaData, 2, "firstname", Types.VARCHAR);
+		addColumn(metaData, 3, "lastname", Types.VARCHAR);
+		addColumn(metaData, 4, "birthday", Types.DATE);
+		addColumn(metaData, 5, "age", Types.INTEGER);
+
+		resultSet = RowSetProvider.newFactory().createCachedRowSet();
+		resultSet.setMetaData(metaData);
+		resultSet.moveToInsertRow();
+		resultSet.updateLong(1, 23L);
+		resultSet.updateString(2, "Walter");
+		resultSet.updateString(3, "White");
+		resultSet.updateDate(4, Date.valueOf(LocalDate.of(1958, 9, 7)));
+		resultSet.updateInt(5, 50);
+		resultSet.insertRow();
+		resultSet.moveToCurrentRow();
+		resultSet.beforeFirst();
+		resultSet.next();
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		resultSet.close();
+	}
+
+	@Benchmark
+	public Person mapRowUsingProperties() {
+		return converter.mapRow(person, resultSet, 23L);
+	}
+
+	@Benchmark
+	public ImmutablePerson mapRowUsingConstructor() {
+		return converter.mapRow(immutablePerson, resultSet, 23L);
+	}
+
+	private static void addColumn(RowSetMetaDataImpl metaData, int index, String name, int type) throws SQLException {
+
+		metaData.setColumnName(index, name);
+		metaData.setColumnLabel(index, name);
+		metaData.setColumnType(index, type);
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstname;
+		String lastname;
+		LocalDate birthday;
+		Integer age;
+	}
+
+	record ImmutablePerson(@Id Long id, String firstname, String lastname, LocalDate birthday, Integer age) {
+	}
+}
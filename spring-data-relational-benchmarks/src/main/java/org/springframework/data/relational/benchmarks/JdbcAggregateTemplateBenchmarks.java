@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.repository.config.AbstractJdbcConfiguration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * End to end benchmarks for saving and loading aggregates with {@link JdbcAggregateTemplate} using an embedded H2
+ * database.
+ *
+ * @author Jens Schauder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcAggregateTemplateBenchmarks {
+
+	@Param({ "10" }) int children;
+	@Param({ "100" }) int aggregates;
+
+	AnnotationConfigApplicationContext applicationContext;
+	JdbcAggregateTemplate template;
+
+	@Setup
+	public void setUp() {
+
+		applicationContext = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+		template = applicationContext.getBean(JdbcAggregateTemplate.class);
+
+		for (int i = 0; i < aggregates; i++) {
+			template.save(createAggregate());
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		applicationContext.close();
+	}
+
+	@Benchmark
+	public Root save() {
+		return template.save(createAggregate());
+	}
+
+	@Benchmark
+	public Iterable<Root> findAll() {
+		return template.findAll(Root.class);
+	}
+
+	private Root createAggregate() {
+
+		List<Child> children = new ArrayList<>();
+		for (int i = 0; i < this.children; i++) {
+			children.add(new Child("child " + i));
+		}
+
+		return new Root(null, "root", children);
+	}
+
+	record Root(@Id Long id, String name, List<Child> children) {
+	}
+
+	record Child(String name) {
+	}
+
+	@Configuration
+	static class BenchmarkConfiguration extends AbstractJdbcConfiguration {
+
+		@Bean
+		DataSource dataSource() {
+
+			return new EmbeddedDatabaseBuilder() //
+					.setType(EmbeddedDatabaseType.H2) //
+					.generateUniqueName(true) //
+					.addScript("jdbc-aggregate-template-benchmarks.sql") //
+					.build();
+		}
+
+		@Bean
+		NamedParameterJdbcOperations namedParameterJdbcOperations(DataSource dataSource) {
+			return new NamedParameterJdbcTemplate(dataSource);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.benchmarks;
+
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+/**
+ * Benchmarks for {@link MappingR2dbcConverter#read(Class, Row, RowMetadata)} reading from an in-memory {@link Row}.
+ *
+ * @author Jens Schauder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingR2dbcConverterBenchmarks {
+
+	MappingR2dbcConverter converter;
+	Row row;
+	RowMetadata metadata;
+
+	@Setup
+	public void setUp() {
+
+		converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+
+		metadata = MockRowMetadata.builder() //
+				.columnMetadata(column("id", R2dbcType.BIGINT)) //
+				.columnMetadata(column("firstname", R2dbcType.VARCHAR)) //
+				.columnMetadata(column("lastname", R2dbcType.VARCHAR)) //
+				.columnMetadata(column("birthday", R2dbcType.DATE)) //
+				.columnMetadata(column("age", R2dbcType.INTEGER)) //
+				.build();
+
+		row = MockRow.builder() //
+				.identified("id", Object.class, 23L) //
+				.identified("firstname", Object.class, "Walter") //
+				.identified("lastname", Object.class, "White") //
+				.identified("birthday", Object.class, LocalDate.of(1958, 9, 7)) //
+				.identified("age", Object.class, 50) //
+				.metadata(metadata) //
+				.build();
+	}
+
+	@Benchmark
+	public Person readUsingProperties() {
+		return converter.read(Person.class, row, metadata);
+	}
+
+	@Benchmark
+	public ImmutablePerson readUsingConstructor() {
+		return converter.read(ImmutablePerson.class, row, metadata);
+	}
+
+	private static MockColumnMetadata column(String name, Type type) {
+		return MockColumnMetadata.builder().name(name).type(type).build();
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstname;
+		String lastname;
+		LocalDate birthday;
+		Integer age;
+	}
+
+	record ImmutablePerson(@Id Long id, String firstname, String lastname, LocalDate birthday, Integer age) {
+	}
+}
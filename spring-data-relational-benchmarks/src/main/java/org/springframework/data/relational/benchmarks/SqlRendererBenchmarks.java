@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+
+/**
+ * Benchmarks for rendering {@link Select} statements typical for loading aggregates.
+ *
+ * @author Jens Schauder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlRendererBenchmarks {
+
+	SqlRenderer renderer;
+
+	Select selectById;
+	Select selectWithJoin;
+	Select selectPage;
+	Select count;
+
+	@Setup
+	public void setUp() {
+
+		renderer = SqlRenderer.create(new RenderContextFactory(PostgresDialect.INSTANCE).createRenderContext());
+
+		Table person = SQL.table("person");
+		Table address = SQL.table("address").as("address");
+
+		Column id = person.column("id");
+		Column firstname = person.column("firstname");
+		Column lastname = person.column("lastname");
+		Column age = person.column("age");
+
+		selectById = StatementBuilder.select(id, firstname, lastname, age) //
+				.from(person) //
+				.where(id.isEqualTo(SQL.bindMarker(":id"))) //
+				.build();
+
+		selectWithJoin = StatementBuilder.select(id, firstname, lastname, address.column("street").as("address_street"),
+				address.column("city").as("address_city")) //
+				.from(person) //
+				.leftOuterJoin(address).on(address.column("person")).equals(id) //
+				.where(lastname.isEqualTo(SQL.bindMarker(":lastname")) //
+						.and(age.isGreater(SQL.bindMarker(":age")))) //
+				.build();
+
+		selectPage = StatementBuilder.select(id, firstname, lastname, age) //
+				.from(person) //
+				.limitOffset(20, 40) //
+				.where(Conditions.in(lastname, SQL.bindMarker(":lastnames"))) //
+				.orderBy(OrderByField.from(lastname).asc(), OrderByField.from(firstname).desc()) //
+				.build();
+
+		count = StatementBuilder.select(Functions.count(id)) //
+				.from(person) //
+				.where(age.isGreater(SQL.bindMarker(":age"))) //
+				.build();
+	}
+
+	@Benchmark
+	public String renderSelectById() {
+		return renderer.render(selectById);
+	}
+
+	@Benchmark
+	public String renderSelectWithJoin() {
+		return renderer.render(selectWithJoin);
+	}
+
+	@Benchmark
+	public String renderSelectPage() {
+		return renderer.render(selectPage);
+	}
+
+	@Benchmark
+	public String renderCount() {
+		return renderer.render(count);
+	}
+}
@@ -0,0 +1,12 @@
+CREATE TABLE ROOT
+(
+    ID   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    NAME VARCHAR(100)
+);
+
+CREATE TABLE CHILD
+(
+    ROOT     BIGINT,
+    ROOT_KEY INTEGER,
+    NAME     VARCHAR(100)
+);
@@ -174,6 +174,158 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an upsert statement for the aggregate root, inserting the root or updating it if a row with the same id
+	 * exists already.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	class UpsertRoot<T> implements WithRoot<T> {
+
+		private T entity;
+
+		public UpsertRoot(T entity) {
+			this.entity = entity;
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		@Override
+		public void setEntity(T entity) {
+			this.entity = entity;
+		}
+
+		@Override
+		public IdValueSource getIdValueSource() {
+			return IdValueSource.PROVIDED;
+		}
+
+		public String toString() {
+			return "DbAction.UpsertRoot(entity=" + this.getEntity() + ")";
+		}
+	}
+
+	/**
+	 * Represents an update statement for a single entity that is not the root of an aggregate. The row to update is
+	 * identified by the id of the parent entity and the {@link #getQualifiers() qualifiers} or, if present, by the id of
+	 * the entity. In the latter case the qualifiers get written, so an entity can change its position in a
+	 * {@link java.util.List} or {@link java.util.Map}.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class Update<T> implements WithDependingOn<T> {
+
+		private final T entity;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		private final WithEntity<?> dependingOn;
+		private final Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers;
+		private final IdValueSource idValueSource;
+
+		public Update(T entity, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+				WithEntity<?> dependingOn, Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers,
+				IdValueSource idValueSource) {
+
+			this.entity = entity;
+			this.propertyPath = propertyPath;
+			this.dependingOn = dependingOn;
+			this.qualifiers = Map.copyOf(qualifiers);
+			this.idValueSource = idValueSource;
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return WithDependingOn.super.getEntityType();
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public WithEntity<?> getDependingOn() {
+			return this.dependingOn;
+		}
+
+		public Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> getQualifiers() {
+			return this.qualifiers;
+		}
+
+		public IdValueSource getIdValueSource() {
+			return idValueSource;
+		}
+
+		@Override
+		public String toString() {
+			return "DbAction.Update(entity=" + entity + ", propertyPath=" + propertyPath + ", qualifiers=" + qualifiers
+					+ ")";
+		}
+	}
+
+	/**
+	 * Represents a delete statement for a single entity that is not the root of an aggregate. The row to delete is
+	 * identified in the same way as for an {@link Update}.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class DeleteEntity<T> implements WithDependingOn<T> {
+
+		private final T entity;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+		private final WithEntity<?> dependingOn;
+		private final Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers;
+		private final IdValueSource idValueSource;
+
+		public DeleteEntity(T entity, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+				WithEntity<?> dependingOn, Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers,
+				IdValueSource idValueSource) {
+
+			this.entity = entity;
+			this.propertyPath = propertyPath;
+			this.dependingOn = dependingOn;
+			this.qualifiers = Map.copyOf(qualifiers);
+			this.idValueSource = idValueSource;
+		}
+
+		@Override
+		public Class<T> getEntityType() {
+			return WithDependingOn.super.getEntityType();
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public WithEntity<?> getDependingOn() {
+			return this.dependingOn;
+		}
+
+		public Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> getQualifiers() {
+			return this.qualifiers;
+		}
+
+		public IdValueSource getIdValueSource() {
+			return idValueSource;
+		}
+
+		@Override
+		public String toString() {
+			return "DbAction.DeleteEntity(entity=" + entity + ", propertyPath=" + propertyPath + ", qualifiers="
+					+ qualifiers + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for all entities that that a reachable via a give path from the aggregate root.
 	 *
@@ -418,6 +570,48 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch update statement for multiple entities that are aggregate roots. Either all or none of the
+	 * updates carry a previous version for optimistic locking.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class BatchUpdateRoot<T> extends BatchWithValue<T, UpdateRoot<T>, Class<T>> {
+
+		private final boolean versioned;
+
+		public BatchUpdateRoot(List<UpdateRoot<T>> actions) {
+
+			super(actions, UpdateRoot::getEntityType);
+
+			this.versioned = actions.get(0).getPreviousVersion() != null;
+
+			Assert.isTrue(actions.stream().allMatch(action -> (action.getPreviousVersion() != null) == versioned),
+					"Either all or none of the actions in the batch must have a previous version");
+		}
+
+		/**
+		 * @return {@literal true} if the updates must check the previous versions of the entities.
+		 */
+		public boolean isVersioned() {
+			return versioned;
+		}
+	}
+
+	/**
+	 * Represents a batch upsert statement for multiple entities that are aggregate roots.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 3.1
+	 */
+	final class BatchUpsertRoot<T> extends BatchWithValue<T, UpsertRoot<T>, Class<T>> {
+
+		public BatchUpsertRoot(List<UpsertRoot<T>> actions) {
+			super(actions, UpsertRoot::getEntityType);
+		}
+	}
+
 	/**
 	 * Represents a batch delete statement for multiple entities that are reachable via a given path from the aggregate
 	 * root.
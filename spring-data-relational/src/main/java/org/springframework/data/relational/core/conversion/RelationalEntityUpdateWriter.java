@@ -17,10 +17,14 @@ package org.springframework.data.relational.core.conversion;
 
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into a {@link RootAggregateChange}. Does not perform any isNew
  * check.
+ * <p>
+ * When created with the previous state of the aggregate, only entities that differ from that state get written.
+ * Otherwise all entities referenced by the aggregate root get deleted and reinserted.
  *
  * @author Thomas Lang
  * @author Jens Schauder
@@ -30,13 +34,35 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 public class RelationalEntityUpdateWriter<T> implements EntityWriter<T, RootAggregateChange<T>> {
 
 	private final RelationalMappingContext context;
+	@Nullable private final T previousState;
 
 	public RelationalEntityUpdateWriter(RelationalMappingContext context) {
+		this(context, null);
+	}
+
+	/**
+	 * Creates a {@link RelationalEntityUpdateWriter} writing only the differences to {@literal previousState}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param previousState the state of the aggregate as currently persisted in the database. May be {@literal null} in
+	 *          which case the complete aggregate gets written.
+	 * @since 3.1
+	 */
+	public RelationalEntityUpdateWriter(RelationalMappingContext context, @Nullable T previousState) {
+
 		this.context = context;
+		this.previousState = previousState;
 	}
 
 	@Override
 	public void write(T root, RootAggregateChange<T> aggregateChange) {
-		new WritingContext<>(context, root, aggregateChange).update();
+
+		WritingContext<T> writingContext = new WritingContext<>(context, root, aggregateChange);
+
+		if (previousState == null) {
+			writingContext.update();
+		} else {
+			writingContext.update(previousState);
+		}
 	}
 }
@@ -28,7 +28,9 @@ import org.springframework.util.Assert;
  * A {@link BatchingAggregateChange} implementation for save changes that can contain actions for any mix of insert and
  * update operations. When consumed, actions are yielded in the appropriate entity tree order with inserts carried out
  * from root to leaves and deletes in reverse. All operations that can be batched are grouped and combined to offer the
- * ability for an optimized batch operation to be used.
+ * ability for an optimized batch operation to be used. This includes consecutive inserts or updates of aggregate roots.
+ * Deletes and updates of single non-root entities are executed after the deletes of complete paths and before any
+ * insert.
  *
  * @author Chirag Tailor
  * @since 3.0
@@ -45,8 +47,19 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 	 * into a single batch.
 	 */
 	private final List<DbAction.InsertRoot<T>> insertRootBatchCandidates = new ArrayList<>();
+	/**
+	 * Holds a list of UpdateRoot actions that are compatible with each other, in the sense, that they might be combined
+	 * into a single batch.
+	 */
+	private final List<DbAction.UpdateRoot<T>> updateRootBatchCandidates = new ArrayList<>();
+	/**
+	 * Holds a list of UpsertRoot actions that might be combined into a single batch.
+	 */
+	private final List<DbAction.UpsertRoot<T>> upsertRootBatchCandidates = new ArrayList<>();
 	private final BatchedActions insertActions = BatchedActions.batchedInserts();
 	private final BatchedActions deleteActions = BatchedActions.batchedDeletes();
+	private final List<DbAction.DeleteEntity<?>> deleteEntityActions = new ArrayList<>();
+	private final List<DbAction.Update<?>> updateActions = new ArrayList<>();
 
 	SaveBatchingAggregateChange(Class<T> entityType) {
 		this.entityType = entityType;
@@ -73,7 +86,19 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		} else {
 			insertRootBatchCandidates.forEach(consumer);
 		}
+		if (updateRootBatchCandidates.size() > 1) {
+			consumer.accept(new DbAction.BatchUpdateRoot<>(updateRootBatchCandidates));
+		} else {
+			updateRootBatchCandidates.forEach(consumer);
+		}
+		if (upsertRootBatchCandidates.size() > 1) {
+			consumer.accept(new DbAction.BatchUpsertRoot<>(upsertRootBatchCandidates));
+		} else {
+			upsertRootBatchCandidates.forEach(consumer);
+		}
 		deleteActions.forEach(consumer);
+		deleteEntityActions.forEach(consumer);
+		updateActions.forEach(consumer);
 		insertActions.forEach(consumer);
 	}
 
@@ -85,19 +110,37 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 			if (action instanceof DbAction.UpdateRoot<?> rootAction) {
 
 				combineBatchCandidatesIntoSingleBatchRootAction();
-				rootActions.add(rootAction);
+				combineUpsertBatchCandidatesIntoSingleBatchRootAction();
+				if (!updateRootBatchCandidates.isEmpty()
+						&& isVersioned(updateRootBatchCandidates.get(0)) != isVersioned(rootAction)) {
+					combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+				}
+				// noinspection unchecked
+				updateRootBatchCandidates.add((DbAction.UpdateRoot<T>) rootAction);
 			} else if (action instanceof DbAction.InsertRoot<?> rootAction) {
 
+				combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+				combineUpsertBatchCandidatesIntoSingleBatchRootAction();
 				if (!insertRootBatchCandidates.isEmpty()
 						&& !insertRootBatchCandidates.get(0).getIdValueSource().equals(rootAction.getIdValueSource())) {
 					combineBatchCandidatesIntoSingleBatchRootAction();
 				}
 				// noinspection unchecked
 				insertRootBatchCandidates.add((DbAction.InsertRoot<T>) rootAction);
+			} else if (action instanceof DbAction.UpsertRoot<?> rootAction) {
+
+				combineBatchCandidatesIntoSingleBatchRootAction();
+				combineUpdateBatchCandidatesIntoSingleBatchRootAction();
+				// noinspection unchecked
+				upsertRootBatchCandidates.add((DbAction.UpsertRoot<T>) rootAction);
 			} else if (action instanceof DbAction.Insert<?> insertAction) {
 				insertActions.add(insertAction);
 			} else if (action instanceof DbAction.Delete<?> deleteAction) {
 				deleteActions.add(deleteAction);
+			} else if (action instanceof DbAction.DeleteEntity<?> deleteEntityAction) {
+				deleteEntityActions.add(deleteEntityAction);
+			} else if (action instanceof DbAction.Update<?> updateAction) {
+				updateActions.add(updateAction);
 			}
 		});
 	}
@@ -116,4 +159,36 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		insertRootBatchCandidates.clear();
 	}
 
+	/**
+	 * All actions gathered in {@link #updateRootBatchCandidates} are combined into a single root action and the list of
+	 * batch candidates is emptied.
+	 */
+	private void combineUpdateBatchCandidatesIntoSingleBatchRootAction() {
+
+		if (updateRootBatchCandidates.size() > 1) {
+			rootActions.add(new DbAction.BatchUpdateRoot<>(List.copyOf(updateRootBatchCandidates)));
+		} else {
+			rootActions.addAll(updateRootBatchCandidates);
+		}
+		updateRootBatchCandidates.clear();
+	}
+
+	/**
+	 * All actions gathered in {@link #upsertRootBatchCandidates} are combined into a single root action and the list of
+	 * batch candidates is emptied.
+	 */
+	private void combineUpsertBatchCandidatesIntoSingleBatchRootAction() {
+
+		if (upsertRootBatchCandidates.size() > 1) {
+			rootActions.add(new DbAction.BatchUpsertRoot<>(List.copyOf(upsertRootBatchCandidates)));
+		} else {
+			rootActions.addAll(upsertRootBatchCandidates);
+		}
+		upsertRootBatchCandidates.clear();
+	}
+
+	private static boolean isVersioned(DbAction.UpdateRoot<?> action) {
+		return action.getPreviousVersion() != null;
+	}
+
 }
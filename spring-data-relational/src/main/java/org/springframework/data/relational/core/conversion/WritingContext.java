@@ -20,9 +20,13 @@ import static java.util.Arrays.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -31,6 +35,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Holds context information for the current save operation.
@@ -90,6 +95,58 @@ class WritingContext<T> {
 		insertReferenced().forEach(aggregateChange::addAction);
 	}
 
+	/**
+	 * Inserts the aggregate root or updates it if it exists already. Referenced entities get replaced as for an
+	 * {@link #update()}, since there is nothing to delete for a new aggregate.
+	 */
+	void upsert() {
+
+		setRootAction(new DbAction.UpsertRoot<>(root));
+		deleteReferenced().forEach(aggregateChange::addAction);
+		insertReferenced().forEach(aggregateChange::addAction);
+	}
+
+	/**
+	 * Updates the aggregate root, but only writes those entities directly referenced by the root that differ from their
+	 * counterparts in {@literal previousRoot}, which must represent the state of the aggregate in the database. Entities
+	 * get matched by their key in a {@link List} or {@link Map}, by id for other collections, or by the property itself
+	 * for single valued references.
+	 * <p>
+	 * Paths that can't be compared this way, e.g. paths to entities that reference further entities or collections of
+	 * entities without id, are deleted and reinserted as by {@link #update()}.
+	 *
+	 * @param previousRoot the persisted state of the aggregate. Must not be {@literal null}.
+	 */
+	void update(T previousRoot) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(entityType);
+
+		Assert.isTrue(
+				ObjectUtils.nullSafeEquals(entity.getIdentifierAccessor(root).getIdentifier(),
+						entity.getIdentifierAccessor(previousRoot).getIdentifier()),
+				"The previous state must belong to the same aggregate");
+
+		setRootAction(new DbAction.UpdateRoot<>(root, previousVersion));
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> rewrittenPaths = new ArrayList<>();
+		List<DbAction<?>> deletes = new ArrayList<>();
+		List<DbAction<?>> updates = new ArrayList<>();
+		List<DbAction<?>> inserts = new ArrayList<>();
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : paths) {
+			if (!isComparable(path) || !compare(path, previousRoot, deletes, updates, inserts)) {
+				rewrittenPaths.add(path);
+			}
+		}
+
+		rewrittenPaths.forEach(path -> deletes.add(0, deleteReferenced(path)));
+		rewrittenPaths.forEach(path -> inserts.addAll(insertAll(path)));
+
+		deletes.forEach(aggregateChange::addAction);
+		updates.forEach(aggregateChange::addAction);
+		inserts.forEach(aggregateChange::addAction);
+	}
+
 	void save() {
 
 		if (isNew(root)) {
@@ -169,6 +226,190 @@ class WritingContext<T> {
 		return new DbAction.Delete<>(id, path);
 	}
 
+	/**
+	 * Creates the actions required to turn the entities at {@literal path} of {@literal previousRoot} into those of the
+	 * current root.
+	 *
+	 * @return {@literal false} if the path can't be updated by comparison, e.g. because new elements would receive a
+	 *         generated id that requires the aggregate to be recreated. No actions get added in that case.
+	 */
+	private boolean compare(PersistentPropertyPath<RelationalPersistentProperty> path, T previousRoot,
+			List<DbAction<?>> deletes, List<DbAction<?>> updates, List<DbAction<?>> inserts) {
+
+		RelationalPersistentEntity<?> persistentEntity = context
+				.getRequiredPersistentEntity(path.getRequiredLeafProperty());
+
+		Map<Object, Object> current = byKey(path, persistentEntity, getFromRootValue(root, path));
+		Map<Object, Object> previous = byKey(path, persistentEntity, getFromRootValue(previousRoot, path));
+
+		if (current == null || previous == null) {
+			return false;
+		}
+
+		// entities with an id in a List or Map keep their row when they change their position
+		Map<Object, Object> previousKeysById = new HashMap<>();
+		Set<Object> currentIds = new HashSet<>();
+		if (path.getRequiredLeafProperty().isQualified() && persistentEntity.hasIdProperty()) {
+
+			previous.forEach((key, previousValue) -> {
+
+				Object id = persistentEntity.getIdentifierAccessor(previousValue).getIdentifier();
+				if (id != null) {
+					previousKeysById.put(id, key);
+				}
+			});
+
+			for (Object currentValue : current.values()) {
+
+				Object id = persistentEntity.getIdentifierAccessor(currentValue).getIdentifier();
+				if (id != null && previousKeysById.containsKey(id) && !currentIds.add(id)) {
+					return false;
+				}
+			}
+		}
+
+		DbAction.WithEntity<?> rootAction = getAction(null);
+		List<DbAction<?>> pathDeletes = new ArrayList<>();
+		List<DbAction<?>> pathUpdates = new ArrayList<>();
+		List<DbAction<?>> pathInserts = new ArrayList<>();
+
+		previous.forEach((key, previousValue) -> {
+
+			Object currentValue = current.get(key);
+			if ((currentValue == null || !hasSameId(persistentEntity, currentValue, previousValue))
+					&& !currentIds.contains(persistentEntity.getIdentifierAccessor(previousValue).getIdentifier())) {
+				pathDeletes.add(new DbAction.DeleteEntity<>(previousValue, path, rootAction, qualifiers(path, key),
+						IdValueSource.forInstance(previousValue, persistentEntity)));
+			}
+		});
+
+		for (Map.Entry<Object, Object> entry : current.entrySet()) {
+
+			Object currentValue = entry.getValue();
+			Object previousValue = previous.get(entry.getKey());
+			IdValueSource idValueSource = IdValueSource.forInstance(currentValue, persistentEntity);
+
+			if (previousValue == null || !hasSameId(persistentEntity, currentValue, previousValue)) {
+
+				if (currentIds.contains(persistentEntity.getIdentifierAccessor(currentValue).getIdentifier())) {
+
+					pathUpdates.add(
+							new DbAction.Update<>(currentValue, path, rootAction, qualifiers(path, entry.getKey()), idValueSource));
+					continue;
+				}
+
+				if (IdValueSource.GENERATED.equals(idValueSource) && persistentEntity.getRequiredIdProperty().isImmutable()) {
+					return false;
+				}
+
+				pathInserts.add(
+						new DbAction.Insert<>(currentValue, path, rootAction, qualifiers(path, entry.getKey()), idValueSource));
+			} else if (!isEqual(persistentEntity, currentValue, previousValue)) {
+				pathUpdates.add(
+						new DbAction.Update<>(currentValue, path, rootAction, qualifiers(path, entry.getKey()), idValueSource));
+			}
+		}
+
+		deletes.addAll(pathDeletes);
+		updates.addAll(pathUpdates);
+		inserts.addAll(pathInserts);
+
+		return true;
+	}
+
+	/**
+	 * Only paths directly referenced by the aggregate root without any further entities referenced from them can be
+	 * updated by comparison.
+	 */
+	private boolean isComparable(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		return isDirectlyReferencedByRootIgnoringEmbeddables(path) && paths.stream()
+				.noneMatch(other -> other.getLength() > path.getLength() && path.isBasePathOf(other));
+	}
+
+	/**
+	 * Returns the entities at the end of {@literal path} by the key identifying them within the aggregate, or
+	 * {@literal null} if the entities can't be identified.
+	 */
+	@Nullable
+	private Map<Object, Object> byKey(PersistentPropertyPath<RelationalPersistentProperty> path,
+			RelationalPersistentEntity<?> persistentEntity, @Nullable Object value) {
+
+		RelationalPersistentProperty property = path.getRequiredLeafProperty();
+		Map<Object, Object> result = new LinkedHashMap<>();
+
+		if (value == null) {
+			return result;
+		}
+
+		if (property.isQualified()) {
+
+			createNodes(path, null, value).forEach(node -> {
+
+				Pair<?, ?> pair = (Pair<?, ?>) node.getValue();
+				result.put(pair.getFirst(), pair.getSecond());
+			});
+			return result;
+		}
+
+		if (!property.isCollectionLike()) {
+
+			result.put(path, value);
+			return result;
+		}
+
+		if (!persistentEntity.hasIdProperty()) {
+			return null;
+		}
+
+		for (PathNode node : createNodes(path, null, value)) {
+
+			Object element = node.getValue();
+			Object id = persistentEntity.getIdentifierAccessor(element).getIdentifier();
+			if (result.put(id == null ? new Object() : id, element) != null) {
+				return null;
+			}
+		}
+
+		return result;
+	}
+
+	private Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers(
+			PersistentPropertyPath<RelationalPersistentProperty> path, Object key) {
+
+		return path.getRequiredLeafProperty().isQualified() ? Map.of(path, key) : Collections.emptyMap();
+	}
+
+	private static boolean hasSameId(RelationalPersistentEntity<?> persistentEntity, Object current, Object previous) {
+
+		return !persistentEntity.hasIdProperty() || ObjectUtils.nullSafeEquals(
+				persistentEntity.getIdentifierAccessor(current).getIdentifier(),
+				persistentEntity.getIdentifierAccessor(previous).getIdentifier());
+	}
+
+	private boolean isEqual(RelationalPersistentEntity<?> persistentEntity, Object current, Object previous) {
+
+		PersistentPropertyAccessor<?> currentAccessor = persistentEntity.getPropertyAccessor(current);
+		PersistentPropertyAccessor<?> previousAccessor = persistentEntity.getPropertyAccessor(previous);
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+
+			Object currentValue = currentAccessor.getProperty(property);
+			Object previousValue = previousAccessor.getProperty(property);
+
+			if (property.isEmbedded() && currentValue != null && previousValue != null) {
+
+				if (!isEqual(context.getRequiredPersistentEntity(property), currentValue, previousValue)) {
+					return false;
+				}
+			} else if (!ObjectUtils.nullSafeEquals(currentValue, previousValue)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	//// methods not directly related to the creation of DbActions
 
 	private void setRootAction(DbAction.WithRoot<T> dbAction) {
@@ -243,12 +484,17 @@ class WritingContext<T> {
 
 	@Nullable
 	private Object getFromRootValue(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return getFromRootValue(root, path);
+	}
+
+	@Nullable
+	private Object getFromRootValue(Object root, PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		if (path.getLength() == 0) {
 			return root;
 		}
 
-		Object parent = getFromRootValue(path.getParentPath());
+		Object parent = getFromRootValue(root, path.getParentPath());
 		if (parent == null) {
 			return null;
 		}
@@ -61,7 +61,7 @@ public class AnsiDialect extends AbstractDialect {
 
 		@Override
 		public String getLock(LockOptions lockOptions) {
-			return "FOR UPDATE";
+			return "FOR UPDATE" + getLockWaitSuffix(lockOptions);
 		}
 
 		@Override
@@ -91,4 +91,21 @@ public class AnsiDialect extends AbstractDialect {
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IdentifierProcessing.ANSI;
 	}
+
+	/**
+	 * Returns the {@code NOWAIT} or {@code SKIP LOCKED} suffix, including a leading whitespace, to append to a
+	 * {@code FOR UPDATE} or similar clause as requested by the {@link LockOptions#getLockWaitPolicy() lock wait policy}.
+	 *
+	 * @param lockOptions the lock options to render.
+	 * @return the suffix, possibly empty. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	static String getLockWaitSuffix(LockOptions lockOptions) {
+
+		return switch (lockOptions.getLockWaitPolicy()) {
+			case NOWAIT -> " NOWAIT";
+			case SKIP_LOCKED -> " SKIP LOCKED";
+			default -> "";
+		};
+	}
 }
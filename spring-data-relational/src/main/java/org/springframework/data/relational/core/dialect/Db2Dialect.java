@@ -18,8 +18,10 @@ package org.springframework.data.relational.core.dialect;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * An SQL dialect for DB2.
@@ -83,7 +85,13 @@ public class Db2Dialect extends AbstractDialect {
 
 			@Override
 			public String getLock(LockOptions lockOptions) {
-				return "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS";
+
+				if (lockOptions.getLockWaitPolicy() == LockWaitPolicy.NOWAIT) {
+					throw new InvalidDataAccessApiUsageException("Db2 does not support NOWAIT locks");
+				}
+
+				String lock = "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS";
+				return lockOptions.getLockWaitPolicy() == LockWaitPolicy.SKIP_LOCKED ? lock + " SKIP LOCKED DATA" : lock;
 			}
 
 			@Override
@@ -93,6 +101,16 @@ public class Db2Dialect extends AbstractDialect {
 		};
 	}
 
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 32767;
+	}
+
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IdentifierProcessing.ANSI;
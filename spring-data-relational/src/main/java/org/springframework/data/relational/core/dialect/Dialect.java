@@ -96,6 +96,27 @@ public interface Dialect {
 		return IdGeneration.DEFAULT;
 	}
 
+	/**
+	 * Return the maximum number of rows to insert using a single multi-row {@code INSERT … VALUES (…), (…)} statement.
+	 * A value of {@literal 1} means that the database does not support multi-row inserts.
+	 *
+	 * @return the maximum number of rows per {@code INSERT} statement. Always greater than zero.
+	 * @since 3.1
+	 */
+	default int getMaxRowsPerInsert() {
+		return 1;
+	}
+
+	/**
+	 * Return the maximum number of bind parameters the database accepts for a single statement.
+	 *
+	 * @return the maximum number of bind parameters per statement. Always greater than zero.
+	 * @since 3.1
+	 */
+	default int getMaxBindParameters() {
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * Return a collection of converters for this dialect.
 	 *
@@ -125,6 +146,17 @@ public interface Dialect {
 		return InsertRenderContexts.DEFAULT;
 	}
 
+	/**
+	 * Returns the {@link UpsertRenderContext} rendering upserts using the syntax of the database. Defaults to the
+	 * {@code MERGE} statement of the SQL standard.
+	 *
+	 * @return the {@link UpsertRenderContext} for this dialect. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	default UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.STANDARD;
+	}
+
 	/**
 	 * Return the {@link OrderByNullPrecedence} used by this dialect.
 	 *
@@ -98,6 +98,11 @@ public class H2Dialect extends AbstractDialect {
 		}
 	}
 
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IdentifierProcessing.create(Quoting.ANSI, LetterCasing.UPPER_CASE);
@@ -108,4 +113,9 @@ public class H2Dialect extends AbstractDialect {
 
 		return Collections.emptySet();
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.H2;
+	}
 }
@@ -15,6 +15,10 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
+
 /**
  * A {@link Dialect} for HsqlDb.
  *
@@ -34,9 +38,33 @@ public class HsqlDbDialect extends AbstractDialect {
 
 	@Override
 	public LockClause lock() {
-		return AnsiDialect.LOCK_CLAUSE;
+		return LOCK_CLAUSE;
+	}
+
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
 	}
 
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		@Override
+		public String getLock(LockOptions lockOptions) {
+
+			if (lockOptions.getLockWaitPolicy() != LockWaitPolicy.WAIT) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("HsqlDb does not support lock wait policy %s", lockOptions.getLockWaitPolicy()));
+			}
+
+			return AnsiDialect.LOCK_CLAUSE.getLock(lockOptions);
+		}
+
+		@Override
+		public Position getClausePosition() {
+			return AnsiDialect.LOCK_CLAUSE.getClausePosition();
+		}
+	};
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.LockOptions;
 
 /**
  * A SQL dialect for MariaDb.
@@ -28,12 +29,45 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
  */
 public class MariaDbDialect extends MySqlDialect {
 
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		@Override
+		public String getLock(LockOptions lockOptions) {
+			switch (lockOptions.getLockMode()) {
+
+				case PESSIMISTIC_WRITE:
+					return "FOR UPDATE" + AnsiDialect.getLockWaitSuffix(lockOptions);
+
+				case PESSIMISTIC_READ:
+					return "LOCK IN SHARE MODE" + AnsiDialect.getLockWaitSuffix(lockOptions);
+
+				default:
+					return "";
+			}
+		}
+
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_ORDER_BY;
+		}
+	};
+
 	public MariaDbDialect(IdentifierProcessing identifierProcessing) {
 		super(identifierProcessing);
 	}
 
+	@Override
+	public LockClause lock() {
+		return LOCK_CLAUSE;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MARIADB;
+	}
 }
@@ -20,6 +20,7 @@ import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
 import org.springframework.util.Assert;
@@ -98,10 +99,13 @@ public class MySqlDialect extends AbstractDialect {
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE";
+					return "FOR UPDATE" + AnsiDialect.getLockWaitSuffix(lockOptions);
 
 				case PESSIMISTIC_READ:
-					return "LOCK IN SHARE MODE";
+					// LOCK IN SHARE MODE doesn't accept NOWAIT or SKIP LOCKED, its MySQL 8 successor FOR SHARE does.
+					return lockOptions.getLockWaitPolicy() == LockWaitPolicy.WAIT //
+							? "LOCK IN SHARE MODE" //
+							: "FOR SHARE" + AnsiDialect.getLockWaitSuffix(lockOptions);
 
 				default:
 					return "";
@@ -124,6 +128,16 @@ public class MySqlDialect extends AbstractDialect {
 		return LOCK_CLAUSE;
 	}
 
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 65535;
+	}
+
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
 		return identifierProcessing;
@@ -138,4 +152,9 @@ public class MySqlDialect extends AbstractDialect {
 	public OrderByNullPrecedence orderByNullHandling() {
 		return OrderByNullPrecedence.NONE;
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MYSQL;
+	}
 }
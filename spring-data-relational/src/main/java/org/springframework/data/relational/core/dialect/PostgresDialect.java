@@ -129,10 +129,10 @@ public class PostgresDialect extends AbstractDialect {
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "FOR UPDATE OF " + tableName;
+					return "FOR UPDATE OF " + tableName + AnsiDialect.getLockWaitSuffix(lockOptions);
 
 				case PESSIMISTIC_READ:
-					return "FOR SHARE OF " + tableName;
+					return "FOR SHARE OF " + tableName + AnsiDialect.getLockWaitSuffix(lockOptions);
 
 				default:
 					return "";
@@ -145,6 +145,16 @@ public class PostgresDialect extends AbstractDialect {
 		}
 	}
 
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 32767;
+	}
+
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IdentifierProcessing.create(Quoting.ANSI, LetterCasing.LOWER_CASE);
@@ -184,4 +194,9 @@ public class PostgresDialect extends AbstractDialect {
 	public SimpleFunction getExistsFunction() {
 		return Functions.least(Functions.count(SQL.literalOf(1)), SQL.literalOf(1));
 	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.POSTGRES;
+	}
 }
@@ -15,8 +15,10 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 import org.springframework.data.util.Lazy;
 
@@ -81,13 +83,27 @@ public class SqlServerDialect extends AbstractDialect {
 
 		@Override
 		public String getLock(LockOptions lockOptions) {
+
+			String waitHint = switch (lockOptions.getLockWaitPolicy()) {
+				case NOWAIT -> ", NOWAIT";
+				case SKIP_LOCKED -> ", READPAST";
+				default -> "";
+			};
+
 			switch (lockOptions.getLockMode()) {
 
 				case PESSIMISTIC_WRITE:
-					return "WITH (UPDLOCK, ROWLOCK)";
+					return "WITH (UPDLOCK, ROWLOCK" + waitHint + ")";
 
 				case PESSIMISTIC_READ:
-					return "WITH (HOLDLOCK, ROWLOCK)";
+
+					// HOLDLOCK implies SERIALIZABLE, which can't be combined with READPAST
+					if (lockOptions.getLockWaitPolicy() == LockWaitPolicy.SKIP_LOCKED) {
+						throw new InvalidDataAccessApiUsageException(
+								"SQL Server does not support SKIP_LOCKED for PESSIMISTIC_READ locks");
+					}
+
+					return "WITH (HOLDLOCK, ROWLOCK" + waitHint + ")";
 
 				default:
 					return "";
@@ -123,6 +139,16 @@ public class SqlServerDialect extends AbstractDialect {
 		return selectRenderContext.get();
 	}
 
+	@Override
+	public int getMaxRowsPerInsert() {
+		return 1000;
+	}
+
+	@Override
+	public int getMaxBindParameters() {
+		return 2000;
+	}
+
 	@Override
 	public IdentifierProcessing getIdentifierProcessing() {
 		return IDENTIFIER_PROCESSING;
@@ -133,6 +159,11 @@ public class SqlServerDialect extends AbstractDialect {
 		return InsertRenderContexts.MS_SQL_SERVER;
 	}
 
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.SQL_SERVER;
+	}
+
 	@Override
 	public OrderByNullPrecedence orderByNullHandling() {
 		return OrderByNullPrecedence.NONE;
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.List;
+
+import org.springframework.data.relational.core.sql.Upsert;
+import org.springframework.data.relational.core.sql.render.RenderContext;
+
+/**
+ * Renders an {@link Upsert} statement using the syntax of a database from its already rendered parts.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ * @see RenderContext
+ * @see UpsertRenderContexts
+ */
+public interface UpsertRenderContext {
+
+	/**
+	 * Renders an {@link Upsert} statement.
+	 *
+	 * @param table the rendered table name.
+	 * @param columns the rendered names of the columns to insert.
+	 * @param values the rendered values, one for each column.
+	 * @param conflictTarget the rendered names of the columns identifying an existing row.
+	 * @param updateColumns the rendered names of the columns to update when a row exists already. May be empty.
+	 * @return the rendered statement.
+	 */
+	String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+			List<CharSequence> conflictTarget, List<CharSequence> updateColumns);
+}
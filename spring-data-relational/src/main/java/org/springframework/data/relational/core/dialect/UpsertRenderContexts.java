@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link UpsertRenderContext upsert syntaxes} of the supported {@link Dialect dialects}.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+public enum UpsertRenderContexts implements UpsertRenderContext {
+
+	/**
+	 * {@code MERGE INTO … USING (VALUES …)} as defined by the SQL standard.
+	 */
+	STANDARD {
+
+		@Override
+		public String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+				List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+
+			String source = "(VALUES (" + join(values, v -> v) + ")) AS " + SOURCE + " (" + join(columns, c -> c) + ")";
+			return merge(table, source, columns, conflictTarget, updateColumns);
+		}
+	},
+
+	/**
+	 * SQL Server {@code MERGE}, which is the standard {@code MERGE} terminated by a semicolon. The target table gets
+	 * locked with {@code HOLDLOCK} until the end of the statement, since {@code MERGE} on its own doesn't prevent
+	 * concurrent inserts of the same key between matching and inserting.
+	 */
+	SQL_SERVER {
+
+		@Override
+		public String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+				List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+			return STANDARD.render(table + " WITH (HOLDLOCK)", columns, values, conflictTarget, updateColumns) + ";";
+		}
+	},
+
+	/**
+	 * Oracle {@code MERGE INTO … USING (SELECT … FROM DUAL)}.
+	 */
+	ORACLE {
+
+		@Override
+		public String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+				List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+
+			List<CharSequence> selectList = new ArrayList<>(columns.size());
+			for (int i = 0; i < columns.size(); i++) {
+				selectList.add(values.get(i) + " " + columns.get(i));
+			}
+
+			String source = "(SELECT " + join(selectList, v -> v) + " FROM DUAL) " + SOURCE;
+			return merge(table, source, columns, conflictTarget, updateColumns);
+		}
+	},
+
+	/**
+	 * H2 {@code MERGE INTO … KEY (…)}, which updates all columns of an existing row. Falls back to {@link #STANDARD} if
+	 * only some of the columns are to be updated.
+	 */
+	H2 {
+
+		@Override
+		public String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+				List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+
+			if (conflictTarget.size() + updateColumns.size() != columns.size()) {
+				return STANDARD.render(table, columns, values, conflictTarget, updateColumns);
+			}
+
+			return "MERGE INTO " + table + " (" + join(columns, c -> c) + ") KEY (" + join(conflictTarget, c -> c)
+					+ ") VALUES (" + join(values, v -> v) + ")";
+		}
+	},
+
+	/**
+	 * Postgres {@code INSERT … ON CONFLICT (…) DO UPDATE SET …}.
+	 */
+	POSTGRES {
+
+		@Override
+		public String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+				List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+
+			String action = updateColumns.isEmpty() //
+					? "DO NOTHING" //
+					: "DO UPDATE SET " + join(updateColumns, c -> c + " = EXCLUDED." + c);
+
+			return insert(table, columns, values) + " ON CONFLICT (" + join(conflictTarget, c -> c) + ") " + action;
+		}
+	},
+
+	/**
+	 * MySQL {@code INSERT … AS … ON DUPLICATE KEY UPDATE …}, referring to the inserted values by a row alias as
+	 * supported since MySQL 8.0.19. Note that the conflict target isn't part of the statement, so a conflict on any
+	 * unique key of the table results in an update.
+	 */
+	MYSQL {
+
+		@Override
+		public String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+				List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+
+			String assignments = updateColumns.isEmpty() //
+					? join(conflictTarget, c -> c + " = " + c) //
+					: join(updateColumns, c -> c + " = " + SOURCE + "." + c);
+
+			return insert(table, columns, values) + " AS " + SOURCE + " ON DUPLICATE KEY UPDATE " + assignments;
+		}
+	},
+
+	/**
+	 * MariaDB {@code INSERT … ON DUPLICATE KEY UPDATE …}, referring to the inserted values by {@code VALUES(…)} since
+	 * MariaDB doesn't support row aliases. Like for {@link #MYSQL}, a conflict on any unique key results in an update.
+	 */
+	MARIADB {
+
+		@Override
+		public String render(CharSequence table, List<CharSequence> columns, List<CharSequence> values,
+				List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+
+			String assignments = updateColumns.isEmpty() //
+					? join(conflictTarget, c -> c + " = " + c) //
+					: join(updateColumns, c -> c + " = VALUES(" + c + ")");
+
+			return insert(table, columns, values) + " ON DUPLICATE KEY UPDATE " + assignments;
+		}
+	};
+
+	private static final String TARGET = "tgt";
+	private static final String SOURCE = "src";
+
+	private static String insert(CharSequence table, List<CharSequence> columns, List<CharSequence> values) {
+		return "INSERT INTO " + table + " (" + join(columns, c -> c) + ") VALUES (" + join(values, v -> v) + ")";
+	}
+
+	private static String merge(CharSequence table, String source, List<CharSequence> columns,
+			List<CharSequence> conflictTarget, List<CharSequence> updateColumns) {
+
+		StringBuilder merge = new StringBuilder("MERGE INTO ").append(table).append(" ").append(TARGET) //
+				.append(" USING ").append(source) //
+				.append(" ON (").append(conflictTarget.stream() //
+						.map(c -> TARGET + "." + c + " = " + SOURCE + "." + c) //
+						.collect(Collectors.joining(" AND ")))
+				.append(")");
+
+		if (!updateColumns.isEmpty()) {
+			merge.append(" WHEN MATCHED THEN UPDATE SET ").append(join(updateColumns, c -> c + " = " + SOURCE + "." + c));
+		}
+
+		return merge.append(" WHEN NOT MATCHED THEN INSERT (").append(join(columns, c -> c)) //
+				.append(") VALUES (").append(join(columns, c -> SOURCE + "." + c)).append(")") //
+				.toString();
+	}
+
+	private static String join(List<CharSequence> parts, Function<CharSequence, CharSequence> mapper) {
+		return parts.stream().map(mapper).collect(Collectors.joining(", "));
+	}
+}
@@ -36,6 +36,7 @@ public class RelationalMappingContext
 
 	private final NamingStrategy namingStrategy;
 	private boolean forceQuote = true;
+	private boolean bulkLoadingEnabled = false;
 
 	/**
 	 * Creates a new {@link RelationalMappingContext}.
@@ -77,6 +78,29 @@ public class RelationalMappingContext
 		this.forceQuote = forceQuote;
 	}
 
+	/**
+	 * Return whether collections and maps of aggregates are loaded in bulk, i.e. with one {@code SELECT} per property
+	 * path for all aggregates of a read operation instead of one {@code SELECT} per referencing row. Bulk loading is
+	 * disabled by default.
+	 *
+	 * @return {@literal true} if bulk loading of aggregates is enabled.
+	 * @since 3.1
+	 */
+	public boolean isBulkLoadingEnabled() {
+		return bulkLoadingEnabled;
+	}
+
+	/**
+	 * Enable/disable bulk loading of collections and maps of aggregates. Stores that don't support bulk loading ignore
+	 * this setting.
+	 *
+	 * @param bulkLoadingEnabled
+	 * @since 3.1
+	 */
+	public void setBulkLoadingEnabled(boolean bulkLoadingEnabled) {
+		this.bulkLoadingEnabled = bulkLoadingEnabled;
+	}
+
 	@Override
 	protected <T> RelationalPersistentEntity<T> createPersistentEntity(TypeInformation<T> typeInformation) {
 
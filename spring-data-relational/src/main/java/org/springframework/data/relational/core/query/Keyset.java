@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Position within a sorted result used for keyset scrolling. A {@link Keyset} holds the values of the sort properties
+ * of the last element of a previously obtained {@link KeysetWindow}. Scrolling continues with the elements sorting after
+ * these values instead of skipping rows using an offset. The {@link #initial() initial} {@link Keyset} scrolls from the
+ * start.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ * @see KeysetWindow
+ */
+public final class Keyset {
+
+	private static final Keyset INITIAL = new Keyset(Collections.emptyMap());
+
+	private final Map<String, Object> keys;
+
+	private Keyset(Map<String, Object> keys) {
+		this.keys = keys;
+	}
+
+	/**
+	 * Returns the {@link Keyset} to start scrolling from the first element.
+	 *
+	 * @return the initial {@link Keyset}.
+	 */
+	public static Keyset initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Creates a {@link Keyset} from the values of the sort properties, keyed by property name.
+	 *
+	 * @param keys the values of the sort properties. Must not be {@literal null}.
+	 * @return a {@link Keyset} for the given values. The {@link #initial() initial} {@link Keyset} if {@code keys} is
+	 *         empty.
+	 */
+	public static Keyset of(Map<String, ?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+
+		return keys.isEmpty() ? INITIAL : new Keyset(Collections.unmodifiableMap(new LinkedHashMap<>(keys)));
+	}
+
+	/**
+	 * @return {@literal true} if this {@link Keyset} scrolls from the first element.
+	 */
+	public boolean isInitial() {
+		return keys.isEmpty();
+	}
+
+	/**
+	 * @return the values of the sort properties, keyed by property name. Guaranteed to be not {@literal null}.
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Keyset that)) {
+			return false;
+		}
+		return keys.equals(that.keys);
+	}
+
+	@Override
+	public int hashCode() {
+		return keys.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return isInitial() ? "Keyset [initial]" : "Keyset " + keys;
+	}
+}
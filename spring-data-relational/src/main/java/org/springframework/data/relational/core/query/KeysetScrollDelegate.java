@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Translates keyset scrolling into {@link Criteria} and {@link Sort} and creates {@link KeysetWindow windows} from the
+ * results. The sort is made unique by adding the identifier property, and the position after a {@link Keyset} is
+ * expressed as
+ *
+ * <pre class="code">
+ * a &gt;= :a AND (a &gt; :a OR (a = :a AND id &gt; :id))
+ * </pre>
+ *
+ * for a sort by {@code a} and {@code id}. The leading range condition on the first sort property lets the database
+ * seek into an index on the sort columns, so the cost of obtaining a window does not depend on its position. Values of
+ * the sort properties must not be {@literal null}.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+public final class KeysetScrollDelegate {
+
+	private KeysetScrollDelegate() {}
+
+	/**
+	 * Returns the {@link Sort} used for keyset scrolling, which is the given {@link Sort} followed by the identifier
+	 * property unless the {@link Sort} already contains it.
+	 *
+	 * @param sort the requested {@link Sort}. Must not be {@literal null}.
+	 * @param entity the entity to scroll through. Must not be {@literal null}.
+	 * @return the keyset {@link Sort}. Guaranteed to be not {@literal null}.
+	 */
+	public static Sort getKeysetSort(Sort sort, RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(entity, "Entity must not be null");
+
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty == null || sort.getOrderFor(idProperty.getName()) != null) {
+
+			Assert.isTrue(sort.isSorted(), "Keyset scrolling requires a sort or an identifier property");
+			return sort;
+		}
+
+		return sort.and(Sort.by(idProperty.getName()));
+	}
+
+	/**
+	 * Creates the {@link Criteria} selecting the elements sorting after the given {@link Keyset}.
+	 *
+	 * @param keysetSort the keyset {@link Sort} as obtained from {@link #getKeysetSort(Sort, RelationalPersistentEntity)}.
+	 *          Must not be {@literal null}.
+	 * @param keyset the position to scroll from. Must not be {@literal null}.
+	 * @return the {@link Criteria}. {@link Criteria#empty() Empty} for the {@link Keyset#initial() initial} keyset.
+	 */
+	public static Criteria createCriteria(Sort keysetSort, Keyset keyset) {
+
+		Assert.notNull(keysetSort, "Sort must not be null");
+		Assert.notNull(keyset, "Keyset must not be null");
+
+		if (keyset.isInitial()) {
+			return Criteria.empty();
+		}
+
+		List<Sort.Order> orders = keysetSort.toList();
+		Map<String, Object> keys = keyset.getKeys();
+
+		Criteria disjunction = null;
+		for (int i = 0; i < orders.size(); i++) {
+
+			Criteria equalPrefix = null;
+			for (int j = 0; j < i; j++) {
+
+				String property = orders.get(j).getProperty();
+				equalPrefix = equalPrefix == null //
+						? Criteria.where(property).is(getKey(keys, property)) //
+						: equalPrefix.and(property).is(getKey(keys, property));
+			}
+
+			Sort.Order order = orders.get(i);
+			Object value = getKey(keys, order.getProperty());
+			Criteria.CriteriaStep step = equalPrefix == null //
+					? Criteria.where(order.getProperty()) //
+					: equalPrefix.and(order.getProperty());
+			Criteria following = order.isAscending() ? step.greaterThan(value) : step.lessThan(value);
+
+			disjunction = disjunction == null ? following : disjunction.or(following);
+		}
+
+		Assert.state(disjunction != null, "Keyset sort must not be empty");
+
+		if (orders.size() == 1) {
+			return disjunction;
+		}
+
+		Sort.Order first = orders.get(0);
+		Object firstValue = getKey(keys, first.getProperty());
+		Criteria.CriteriaStep step = Criteria.where(first.getProperty());
+
+		return (first.isAscending() ? step.greaterThanOrEquals(firstValue) : step.lessThanOrEquals(firstValue))
+				.and(disjunction);
+	}
+
+	/**
+	 * Combines the {@link CriteriaDefinition} of a query with the {@link Criteria} of a keyset using {@code AND}.
+	 *
+	 * @param criteria the criteria of the query. May be {@literal null}.
+	 * @param keysetCriteria the criteria as obtained from {@link #createCriteria(Sort, Keyset)}. Must not be
+	 *          {@literal null}.
+	 * @return the combined criteria, {@literal null} if both are empty.
+	 */
+	@Nullable
+	public static Criteria combine(@Nullable CriteriaDefinition criteria, Criteria keysetCriteria) {
+
+		Assert.notNull(keysetCriteria, "Keyset criteria must not be null");
+
+		if (criteria == null || criteria.isEmpty()) {
+			return keysetCriteria.isEmpty() ? null : keysetCriteria;
+		}
+
+		// nest the criteria of the query, so a chain combined with OR doesn't take precedence over the keyset
+		Criteria nested = Criteria.empty().and(criteria);
+
+		return keysetCriteria.isEmpty() ? nested : nested.and(keysetCriteria);
+	}
+
+	/**
+	 * Creates the {@link Query} to obtain the window of the given {@link Query} after the given {@link Keyset}. It
+	 * requests one element more than the limit of the {@link Query}, which tells whether there are more elements after
+	 * the window. The offset of the {@link Query} is not applied, all other settings like columns, lock and fetch size
+	 * are kept.
+	 *
+	 * @param query the query to scroll through. Must not be {@literal null}.
+	 * @param keyset the position to scroll from. Must not be {@literal null}.
+	 * @param keysetSort the keyset {@link Sort} as obtained from {@link #getKeysetSort(Sort, RelationalPersistentEntity)}.
+	 *          Must not be {@literal null}.
+	 * @return the {@link Query} for the window.
+	 */
+	public static Query createQuery(Query query, Keyset keyset, Sort keysetSort) {
+
+		Assert.notNull(query, "Query must not be null");
+
+		Criteria criteria = combine(query.getCriteria().orElse(null), createCriteria(keysetSort, keyset));
+
+		// derive from the query, so settings like the lock and the fetch size apply to the window as well
+		Query keysetQuery = query.withCriteria(criteria) //
+				.withSort(keysetSort) //
+				.withoutOffset();
+
+		return query.isLimited() ? keysetQuery.limit(query.getLimit() + 1) : keysetQuery;
+	}
+
+	/**
+	 * Creates the {@link KeysetWindow} from the result of a query requesting one element more than {@code limit}.
+	 *
+	 * @param result the result of the query. Must not be {@literal null}.
+	 * @param limit the maximum number of elements of the window, a negative value for no limit.
+	 * @param keysetSort the keyset {@link Sort} the result is sorted by. Must not be {@literal null}.
+	 * @param keyset the {@link Keyset} the result was requested with. Must not be {@literal null}.
+	 * @param entity the entity scrolled through. Must not be {@literal null}.
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @return the {@link KeysetWindow}.
+	 */
+	public static <T> KeysetWindow<T> createWindow(List<T> result, int limit, Sort keysetSort, Keyset keyset,
+			RelationalPersistentEntity<?> entity,
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context) {
+
+		Assert.notNull(result, "Result must not be null");
+		Assert.notNull(keyset, "Keyset must not be null");
+
+		boolean hasNext = limit >= 0 && result.size() > limit;
+		List<T> content = hasNext ? new ArrayList<>(result.subList(0, limit)) : result;
+
+		Keyset nextKeyset = content.isEmpty() //
+				? keyset //
+				: getKeyset(content.get(content.size() - 1), keysetSort, entity, context);
+
+		return KeysetWindow.from(content, hasNext, nextKeyset);
+	}
+
+	private static Keyset getKeyset(Object element, Sort keysetSort, RelationalPersistentEntity<?> entity,
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		for (Sort.Order order : keysetSort) {
+
+			Object value;
+			if (entity.getType().isInstance(element)) {
+
+				PersistentPropertyPath<? extends RelationalPersistentProperty> path = context
+						.getPersistentPropertyPath(order.getProperty(), entity.getType());
+				value = entity.getPropertyPathAccessor(element).getProperty(path);
+			} else {
+				value = new DirectFieldAccessFallbackBeanWrapper(element).getPropertyValue(order.getProperty());
+			}
+
+			keys.put(order.getProperty(), value);
+		}
+
+		return Keyset.of(keys);
+	}
+
+	private static Object getKey(Map<String, Object> keys, String property) {
+
+		Object value = keys.get(property);
+
+		Assert.isTrue(value != null,
+				() -> String.format("Keyset must contain a non null value for sort property '%s'", property));
+
+		return value;
+	}
+}
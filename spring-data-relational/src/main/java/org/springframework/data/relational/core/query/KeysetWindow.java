@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
+
+/**
+ * A window of elements obtained by keyset scrolling, along with the {@link Keyset} to continue scrolling after its last
+ * element.
+ *
+ * @param <T> the type of the elements.
+ * @author Jens Schauder
+ * @since 3.1
+ * @see Keyset
+ */
+public final class KeysetWindow<T> implements Streamable<T> {
+
+	private final List<T> content;
+	private final boolean hasNext;
+	private final Keyset nextKeyset;
+
+	private KeysetWindow(List<T> content, boolean hasNext, Keyset nextKeyset) {
+
+		this.content = content;
+		this.hasNext = hasNext;
+		this.nextKeyset = nextKeyset;
+	}
+
+	/**
+	 * Creates a new {@link KeysetWindow}.
+	 *
+	 * @param content the elements of the window. Must not be {@literal null}.
+	 * @param hasNext whether there are more elements after the last element of the window.
+	 * @param nextKeyset the {@link Keyset} to continue scrolling after the last element. Must not be {@literal null}.
+	 * @return a new {@link KeysetWindow}.
+	 */
+	public static <T> KeysetWindow<T> from(List<T> content, boolean hasNext, Keyset nextKeyset) {
+
+		Assert.notNull(content, "Content must not be null");
+		Assert.notNull(nextKeyset, "Next keyset must not be null");
+
+		return new KeysetWindow<>(Collections.unmodifiableList(content), hasNext, nextKeyset);
+	}
+
+	/**
+	 * @return the elements of this window. Guaranteed to be not {@literal null}.
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * @return the number of elements in this window.
+	 */
+	public int size() {
+		return content.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+
+	/**
+	 * @return {@literal true} if there are more elements after the last element of this window.
+	 */
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/**
+	 * Returns the {@link Keyset} to obtain the next window. For an empty window this is the {@link Keyset} the window was
+	 * requested with, so polling for elements added later on continues at the same position.
+	 *
+	 * @return the {@link Keyset} to continue scrolling after the last element. Guaranteed to be not {@literal null}.
+	 */
+	public Keyset nextKeyset() {
+		return nextKeyset;
+	}
+
+	@Override
+	public <R> KeysetWindow<R> map(Function<? super T, ? extends R> converter) {
+
+		Assert.notNull(converter, "Function must not be null");
+
+		List<R> converted = new ArrayList<>(content.size());
+		for (T element : content) {
+			converted.add(converter.apply(element));
+		}
+
+		return new KeysetWindow<>(Collections.unmodifiableList(converted), hasNext, nextKeyset);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("KeysetWindow [size: %d, hasNext: %s, nextKeyset: %s]", content.size(), hasNext, nextKeyset);
+	}
+}
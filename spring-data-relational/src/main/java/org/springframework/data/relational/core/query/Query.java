@@ -25,6 +25,8 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -49,6 +51,9 @@ public class Query {
 	private final Sort sort;
 	private final int limit;
 	private final long offset;
+	private final @Nullable LockMode lockMode;
+	private final LockWaitPolicy lockWaitPolicy;
+	private final int fetchSize;
 
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
@@ -66,16 +71,20 @@ public class Query {
 	 * @param criteria must not be {@literal null}.
 	 */
 	private Query(@Nullable CriteriaDefinition criteria) {
-		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT);
+		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT, null, LockWaitPolicy.WAIT, 0);
 	}
 
-	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset) {
+	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset,
+			@Nullable LockMode lockMode, LockWaitPolicy lockWaitPolicy, int fetchSize) {
 
 		this.criteria = criteria;
 		this.columns = columns;
 		this.sort = sort;
 		this.limit = limit;
 		this.offset = offset;
+		this.lockMode = lockMode;
+		this.lockWaitPolicy = lockWaitPolicy;
+		this.fetchSize = fetchSize;
 	}
 
 	/**
@@ -139,7 +148,8 @@ public class Query {
 
 		List<SqlIdentifier> newColumns = new ArrayList<>(this.columns);
 		newColumns.addAll(columns);
-		return new Query(this.criteria, newColumns, this.sort, this.limit, offset);
+		return new Query(this.criteria, newColumns, this.sort, this.limit, offset, this.lockMode, this.lockWaitPolicy,
+				this.fetchSize);
 	}
 
 	/**
@@ -149,7 +159,8 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code offset} applied.
 	 */
 	public Query offset(long offset) {
-		return new Query(this.criteria, this.columns, this.sort, this.limit, offset);
+		return new Query(this.criteria, this.columns, this.sort, this.limit, offset, this.lockMode, this.lockWaitPolicy,
+				this.fetchSize);
 	}
 
 	/**
@@ -159,7 +170,8 @@ public class Query {
 	 * @return a new {@link Query} object containing the former settings with {@code limit} applied.
 	 */
 	public Query limit(int limit) {
-		return new Query(this.criteria, this.columns, this.sort, limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort, limit, this.offset, this.lockMode, this.lockWaitPolicy,
+				this.fetchSize);
 	}
 
 	/**
@@ -178,7 +190,7 @@ public class Query {
 		assertNoCaseSort(pageable.getSort());
 
 		return new Query(this.criteria, this.columns, this.sort.and(pageable.getSort()), pageable.getPageSize(),
-				pageable.getOffset());
+				pageable.getOffset(), this.lockMode, this.lockWaitPolicy, this.fetchSize);
 	}
 
 	/**
@@ -197,7 +209,90 @@ public class Query {
 
 		assertNoCaseSort(sort);
 
-		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset, this.lockMode,
+				this.lockWaitPolicy, this.fetchSize);
+	}
+
+	/**
+	 * Lock the selected rows using the given {@link LockMode}.
+	 *
+	 * @param lockMode must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with {@code lockMode} applied.
+	 * @since 3.1
+	 */
+	public Query lock(LockMode lockMode) {
+		return lock(lockMode, LockWaitPolicy.WAIT);
+	}
+
+	/**
+	 * Lock the selected rows using the given {@link LockMode}, dealing with rows locked by other transactions as defined
+	 * by {@code lockWaitPolicy}. Use {@link LockWaitPolicy#SKIP_LOCKED} to let concurrent consumers of a table used as a
+	 * queue pick different rows.
+	 *
+	 * @param lockMode must not be {@literal null}.
+	 * @param lockWaitPolicy must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with the lock applied.
+	 * @since 3.1
+	 */
+	public Query lock(LockMode lockMode, LockWaitPolicy lockWaitPolicy) {
+
+		Assert.notNull(lockMode, "LockMode must not be null");
+		Assert.notNull(lockWaitPolicy, "LockWaitPolicy must not be null");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, lockMode, lockWaitPolicy,
+				this.fetchSize);
+	}
+
+	/**
+	 * Hint to the driver how many rows to fetch from the database at once when reading the result. Many drivers read
+	 * the complete result into memory unless a fetch size is given.
+	 *
+	 * @param fetchSize the number of rows to fetch at once, {@code 0} to use the default of the driver. Must not be
+	 *          negative.
+	 * @return a new {@link Query} object containing the former settings with {@code fetchSize} applied.
+	 * @since 3.1
+	 */
+	public Query withFetchSize(int fetchSize) {
+
+		Assert.isTrue(fetchSize >= 0, "Fetch size must not be negative");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, this.lockMode,
+				this.lockWaitPolicy, fetchSize);
+	}
+
+	/**
+	 * Replace the criteria of the query, keeping all other settings.
+	 *
+	 * @param criteria the criteria to apply, {@literal null} for none.
+	 * @return a new {@link Query} object containing the former settings with {@code criteria} applied.
+	 */
+	Query withCriteria(@Nullable CriteriaDefinition criteria) {
+		return new Query(criteria, this.columns, this.sort, this.limit, this.offset, this.lockMode, this.lockWaitPolicy,
+				this.fetchSize);
+	}
+
+	/**
+	 * Replace the {@link Sort} of the query, keeping all other settings. Unlike {@link #sort(Sort)}, the current
+	 * {@link Sort} is discarded.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with {@code sort} applied.
+	 */
+	Query withSort(Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null");
+
+		return new Query(this.criteria, this.columns, sort, this.limit, this.offset, this.lockMode, this.lockWaitPolicy,
+				this.fetchSize);
+	}
+
+	/**
+	 * Remove the offset of the query, keeping all other settings.
+	 *
+	 * @return a new {@link Query} object containing the former settings without an offset.
+	 */
+	Query withoutOffset() {
+		return offset(NO_LIMIT);
 	}
 
 	/**
@@ -261,6 +356,38 @@ public class Query {
 		return getLimit() != NO_LIMIT;
 	}
 
+	/**
+	 * Return the {@link LockMode} to apply, if any.
+	 *
+	 * @return the {@link LockMode} or {@literal null} if the selected rows should not be locked.
+	 * @since 3.1
+	 */
+	@Nullable
+	public LockMode getLockMode() {
+		return this.lockMode;
+	}
+
+	/**
+	 * Return how to deal with rows locked by other transactions. Only relevant if a {@link #getLockMode() lock mode} is
+	 * set.
+	 *
+	 * @return the {@link LockWaitPolicy}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	public LockWaitPolicy getLockWaitPolicy() {
+		return this.lockWaitPolicy;
+	}
+
+	/**
+	 * Return the number of rows to fetch from the database at once.
+	 *
+	 * @return the fetch size, {@code 0} if the default of the driver should be used.
+	 * @since 3.1
+	 */
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
 	private static void assertNoCaseSort(Sort sort) {
 
 		for (Sort.Order order : sort) {
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.List;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The columns of an {@link Upsert} that get set to the inserted values when a row matching the {@link ConflictTarget}
+ * exists already. May be empty, in which case an existing row is left unchanged.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+public class ConflictUpdate extends AbstractSegment {
+
+	private final List<Column> columns;
+
+	ConflictUpdate(List<Column> columns) {
+
+		super(columns.toArray(new Column[0]));
+
+		this.columns = columns;
+	}
+
+	@Override
+	public String toString() {
+		return columns.isEmpty() ? "DO NOTHING"
+				: "DO UPDATE (" + StringUtils.collectionToDelimitedString(columns, ", ") + ")";
+	}
+}
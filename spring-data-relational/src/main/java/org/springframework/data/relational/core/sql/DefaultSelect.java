@@ -41,9 +41,11 @@ class DefaultSelect implements Select {
 	private final @Nullable Where where;
 	private final List<OrderByField> orderBy;
 	private final @Nullable LockMode lockMode;
+	private final LockWaitPolicy lockWaitPolicy;
 
 	DefaultSelect(boolean distinct, List<Expression> selectList, List<TableLike> from, long limit, long offset,
-			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode) {
+			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode,
+			LockWaitPolicy lockWaitPolicy) {
 
 		this.distinct = distinct;
 		this.selectList = new SelectList(new ArrayList<>(selectList));
@@ -54,6 +56,7 @@ class DefaultSelect implements Select {
 		this.orderBy = Collections.unmodifiableList(new ArrayList<>(orderBy));
 		this.where = where != null ? new Where(where) : null;
 		this.lockMode = lockMode;
+		this.lockWaitPolicy = lockWaitPolicy;
 	}
 
 	@Override
@@ -87,6 +90,11 @@ class DefaultSelect implements Select {
 		return lockMode;
 	}
 
+	@Override
+	public LockWaitPolicy getLockWaitPolicy() {
+		return lockWaitPolicy;
+	}
+
 	@Override
 	public void visit(Visitor visitor) {
 
@@ -25,6 +25,7 @@ import org.springframework.data.relational.core.sql.SelectBuilder.SelectAndFrom;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectWhereAndOr;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Default {@link SelectBuilder} implementation.
@@ -45,6 +46,7 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	private @Nullable Condition where;
 	private final List<OrderByField> orderBy = new ArrayList<>();
 	private @Nullable LockMode lockMode;
+	private LockWaitPolicy lockWaitPolicy = LockWaitPolicy.WAIT;
 
 	@Override
 	public SelectBuilder top(int count) {
@@ -194,8 +196,16 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 
 	@Override
 	public SelectLock lock(LockMode lockMode) {
+		return lock(lockMode, LockWaitPolicy.WAIT);
+	}
+
+	@Override
+	public SelectLock lock(LockMode lockMode, LockWaitPolicy lockWaitPolicy) {
+
+		Assert.notNull(lockWaitPolicy, "LockWaitPolicy must not be null");
 
 		this.lockMode = lockMode;
+		this.lockWaitPolicy = lockWaitPolicy;
 		return this;
 	}
 
@@ -203,7 +213,7 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	public Select build() {
 
 		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, joins, where, orderBy,
-				lockMode);
+				lockMode, lockWaitPolicy);
 		SelectValidator.validate(select);
 		return select;
 	}
@@ -358,6 +368,12 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			return selectBuilder.lock(lockMode);
 		}
 
+		@Override
+		public SelectLock lock(LockMode lockMode, LockWaitPolicy lockWaitPolicy) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.lock(lockMode, lockWaitPolicy);
+		}
+
 		@Override
 		public Select build() {
 			selectBuilder.join(finishJoin());
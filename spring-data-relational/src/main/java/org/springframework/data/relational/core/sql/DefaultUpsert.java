@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Default {@link Upsert} implementation.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class DefaultUpsert implements Upsert {
+
+	private final Into into;
+	private final List<Column> columns;
+	private final Values values;
+	private final ConflictTarget conflictTarget;
+	private final ConflictUpdate conflictUpdate;
+
+	DefaultUpsert(Table into, List<Column> columns, List<Expression> values, List<Column> conflictTarget,
+			List<Column> updateColumns) {
+
+		this.into = new Into(into);
+		this.columns = new ArrayList<>(columns);
+		this.values = new Values(new ArrayList<>(values));
+		this.conflictTarget = new ConflictTarget(new ArrayList<>(conflictTarget));
+		this.conflictUpdate = new ConflictUpdate(new ArrayList<>(updateColumns));
+	}
+
+	@Override
+	public void visit(Visitor visitor) {
+
+		Assert.notNull(visitor, "Visitor must not be null");
+
+		visitor.enter(this);
+
+		into.visit(visitor);
+		columns.forEach(it -> it.visit(visitor));
+		values.visit(visitor);
+		conflictTarget.visit(visitor);
+		conflictUpdate.visit(visitor);
+
+		visitor.leave(this);
+	}
+
+	@Override
+	public String toString() {
+
+		return "UPSERT " + this.into + " (" + StringUtils.collectionToDelimitedString(this.columns, ", ") + ") "
+				+ this.values + " " + this.conflictTarget + " " + this.conflictUpdate;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link UpsertBuilder} implementation.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class DefaultUpsertBuilder implements UpsertBuilder, UpsertBuilder.UpsertColumnsAndValues,
+		UpsertBuilder.UpsertValuesAndConflictTarget, UpsertBuilder.BuildUpsert {
+
+	private @Nullable Table into;
+	private final List<Column> columns = new ArrayList<>();
+	private final List<Expression> values = new ArrayList<>();
+	private final List<Column> conflictTarget = new ArrayList<>();
+	private @Nullable List<Column> updateColumns;
+
+	@Override
+	public UpsertColumns into(Table table) {
+
+		Assert.notNull(table, "Upsert Into Table must not be null");
+		Assert.isTrue(!(table instanceof Aliased), "Upsert Into Table must not be aliased");
+
+		this.into = table;
+		return this;
+	}
+
+	@Override
+	public UpsertColumnsAndValues column(Column column) {
+
+		Assert.notNull(column, "Column must not be null");
+
+		this.columns.add(column);
+
+		return this;
+	}
+
+	@Override
+	public UpsertColumnsAndValues columns(Column... columns) {
+
+		Assert.notNull(columns, "Columns must not be null");
+
+		return columns(Arrays.asList(columns));
+	}
+
+	@Override
+	public UpsertColumnsAndValues columns(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Columns must not be null");
+
+		this.columns.addAll(columns);
+
+		return this;
+	}
+
+	@Override
+	public UpsertValuesAndConflictTarget value(Expression value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		this.values.add(value);
+
+		return this;
+	}
+
+	@Override
+	public UpsertValuesAndConflictTarget values(Expression... values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		return values(Arrays.asList(values));
+	}
+
+	@Override
+	public UpsertValuesAndConflictTarget values(Collection<? extends Expression> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		this.values.addAll(values);
+
+		return this;
+	}
+
+	@Override
+	public BuildUpsert onConflict(Column... columns) {
+
+		Assert.notNull(columns, "Conflict target columns must not be null");
+
+		return onConflict(Arrays.asList(columns));
+	}
+
+	@Override
+	public BuildUpsert onConflict(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Conflict target columns must not be null");
+
+		this.conflictTarget.addAll(columns);
+
+		return this;
+	}
+
+	@Override
+	public BuildUpsert update(Column... columns) {
+
+		Assert.notNull(columns, "Update columns must not be null");
+
+		return update(Arrays.asList(columns));
+	}
+
+	@Override
+	public BuildUpsert update(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Update columns must not be null");
+
+		this.updateColumns = new ArrayList<>(columns);
+
+		return this;
+	}
+
+	@Override
+	public Upsert build() {
+
+		Assert.state(into != null, "Upsert Into Table must not be null");
+		Assert.state(columns.size() == values.size(), "Upsert must have exactly one value for each column");
+		Assert.state(!conflictTarget.isEmpty(), "Upsert must have a conflict target");
+		Assert.state(columns.containsAll(conflictTarget), "The conflict target must be part of the columns");
+
+		List<Column> updateColumns = this.updateColumns;
+		if (updateColumns == null) {
+
+			updateColumns = new ArrayList<>(columns);
+			updateColumns.removeAll(conflictTarget);
+		}
+
+		Assert.state(columns.containsAll(updateColumns), "The columns to update must be part of the columns");
+
+		return new DefaultUpsert(into, columns, values, conflictTarget, updateColumns);
+	}
+}
@@ -149,6 +149,15 @@ public interface InsertBuilder {
 		 */
 		@Override
 		InsertValuesWithBuild values(Collection<? extends Expression> values);
+
+		/**
+		 * Start a new row of {@link Expression values}, turning the statement into a multi-row
+		 * {@code INSERT … VALUES (…), (…)}. Values added afterwards get added to the new row.
+		 *
+		 * @return {@code this} builder.
+		 * @since 3.1
+		 */
+		InsertValuesWithBuild nextRow();
 	}
 
 	/**
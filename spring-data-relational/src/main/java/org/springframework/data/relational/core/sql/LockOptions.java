@@ -26,14 +26,27 @@ import org.springframework.util.Assert;
 public class LockOptions {
 
 	private final LockMode lockMode;
+	private final LockWaitPolicy lockWaitPolicy;
 	private final From from;
 
 	public LockOptions(LockMode lockMode, From from) {
+		this(lockMode, LockWaitPolicy.WAIT, from);
+	}
+
+	/**
+	 * @param lockMode the lock to acquire. Must not be {@literal null}.
+	 * @param lockWaitPolicy how to deal with rows locked by other transactions. Must not be {@literal null}.
+	 * @param from the tables to lock. Must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public LockOptions(LockMode lockMode, LockWaitPolicy lockWaitPolicy, From from) {
 
 		Assert.notNull(lockMode, "LockMode must not be null");
+		Assert.notNull(lockWaitPolicy, "LockWaitPolicy must not be null");
 		Assert.notNull(from, "From must not be null");
 
 		this.lockMode = lockMode;
+		this.lockWaitPolicy = lockWaitPolicy;
 		this.from = from;
 	}
 
@@ -41,6 +54,14 @@ public class LockOptions {
 		return this.lockMode;
 	}
 
+	/**
+	 * @return how to deal with rows locked by other transactions.
+	 * @since 3.1
+	 */
+	public LockWaitPolicy getLockWaitPolicy() {
+		return this.lockWaitPolicy;
+	}
+
 	public From getFrom() {
 		return this.from;
 	}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * Defines how a {@code SELECT} acquiring a lock behaves when rows are locked by another transaction already.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ * @see LockMode
+ */
+public enum LockWaitPolicy {
+
+	/**
+	 * Wait for the lock to be released, which is the default behavior of all databases.
+	 */
+	WAIT,
+
+	/**
+	 * Fail immediately if a row cannot be locked ({@code NOWAIT}).
+	 */
+	NOWAIT,
+
+	/**
+	 * Skip rows that cannot be locked ({@code SKIP LOCKED}, {@code READPAST} on SQL Server). Allows multiple consumers
+	 * to process rows of a table used as a queue concurrently.
+	 */
+	SKIP_LOCKED
+}
@@ -79,4 +79,13 @@ public interface Select extends Segment, Visitable {
 
 	@Nullable
 	LockMode getLockMode();
+
+	/**
+	 * Returns how to behave when rows to lock are locked already. Only relevant if a {@link #getLockMode() lock mode} is
+	 * set.
+	 *
+	 * @return the {@link LockWaitPolicy}. Guaranteed to be not {@literal null}.
+	 * @since 3.1
+	 */
+	LockWaitPolicy getLockWaitPolicy();
 }
@@ -566,6 +566,16 @@ public interface SelectBuilder {
 		 * @return {@code this} builder.
 		 */
 		SelectLock lock(LockMode lockMode);
+
+		/**
+		 * Apply lock to read, defining how to deal with rows locked by other transactions.
+		 *
+		 * @param lockMode lockMode to read.
+		 * @param lockWaitPolicy what to do if a row is locked already.
+		 * @return {@code this} builder.
+		 * @since 3.1
+		 */
+		SelectLock lock(LockMode lockMode, LockWaitPolicy lockWaitPolicy);
 	}
 
 	/**
@@ -22,6 +22,7 @@ import java.util.Collection;
 import org.springframework.data.relational.core.sql.DeleteBuilder.DeleteWhere;
 import org.springframework.data.relational.core.sql.InsertBuilder.InsertIntoColumnsAndValues;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectAndFrom;
+import org.springframework.data.relational.core.sql.UpsertBuilder.UpsertColumns;
 
 /**
  * Entrypoint to build SQL statements.
@@ -120,6 +121,29 @@ public abstract class StatementBuilder {
 		return Update.builder();
 	}
 
+	/**
+	 * Creates a new {@link UpsertBuilder} and declare the {@link Table} to upsert into.
+	 *
+	 * @param table the table to upsert into.
+	 * @return the new {@link UpsertBuilder}.
+	 * @see Table#create(String)
+	 * @since 3.1
+	 */
+	public static UpsertColumns upsert(Table table) {
+		return upsert().into(table);
+	}
+
+	/**
+	 * Creates a new {@link UpsertBuilder}.
+	 *
+	 * @return the new {@link UpsertBuilder}.
+	 * @see UpsertBuilder
+	 * @since 3.1
+	 */
+	public static UpsertBuilder upsert() {
+		return Upsert.builder();
+	}
+
 	/**
 	 * Creates a new {@link DeleteBuilder} and declares the {@link Table} to delete from.
 	 *
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * AST for an {@code UPSERT} statement, inserting a row unless a row with the same values in the
+ * {@link ConflictTarget conflict target} columns exists, in which case that row gets updated instead. There is no
+ * common syntax for this, so rendering is dialect specific, e.g. {@code INSERT … ON CONFLICT … DO UPDATE},
+ * {@code INSERT … ON DUPLICATE KEY UPDATE} or {@code MERGE}. Visiting order:
+ * <ol>
+ * <li>Self</li>
+ * <li>{@link Into INTO table} clause</li>
+ * <li>{@link Column columns}</li>
+ * <li>{@link Values VALUEs}</li>
+ * <li>{@link ConflictTarget conflict target}</li>
+ * <li>{@link ConflictUpdate columns to update}</li>
+ * </ol>
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ * @see StatementBuilder
+ * @see UpsertBuilder
+ * @see SQL
+ */
+public interface Upsert extends Segment, Visitable {
+
+	/**
+	 * Creates a new {@link UpsertBuilder}.
+	 *
+	 * @return a new {@link UpsertBuilder}.
+	 */
+	static UpsertBuilder builder() {
+		return new DefaultUpsertBuilder();
+	}
+}
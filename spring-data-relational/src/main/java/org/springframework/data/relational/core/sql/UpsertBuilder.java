@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Collection;
+
+/**
+ * Entry point to construct an {@link Upsert} statement.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ * @see StatementBuilder
+ */
+public interface UpsertBuilder {
+
+	/**
+	 * Declare a {@link Table} to upsert into. The {@link Table} must not be {@link Aliased aliased}.
+	 *
+	 * @param table the table to upsert into. Must not be {@literal null}.
+	 * @return {@code this} builder.
+	 * @see Into
+	 * @see SQL#table(String)
+	 */
+	UpsertColumns into(Table table);
+
+	/**
+	 * Interface exposing methods to add {@link Column columns}.
+	 */
+	interface UpsertColumns {
+
+		/**
+		 * Add a {@link Column} to the column list.
+		 *
+		 * @param column the column.
+		 * @return {@code this} builder.
+		 * @see Column
+		 */
+		UpsertColumnsAndValues column(Column column);
+
+		/**
+		 * Add one or more {@link Column columns} to the column list.
+		 *
+		 * @param columns the columns.
+		 * @return {@code this} builder.
+		 * @see Column
+		 */
+		UpsertColumnsAndValues columns(Column... columns);
+
+		/**
+		 * Add one or more {@link Column columns} to the column list.
+		 *
+		 * @param columns the columns.
+		 * @return {@code this} builder.
+		 * @see Column
+		 */
+		UpsertColumnsAndValues columns(Collection<Column> columns);
+	}
+
+	/**
+	 * Interface exposing methods to add {@link Column columns} and {@link Expression values}.
+	 */
+	interface UpsertColumnsAndValues extends UpsertColumns, UpsertValues {}
+
+	/**
+	 * Interface exposing methods to add {@link Expression values}, one for each column in the order of the columns.
+	 */
+	interface UpsertValues {
+
+		/**
+		 * Add a {@link Expression value} to the {@code VALUES} list.
+		 *
+		 * @param value the value to use.
+		 * @return {@code this} builder.
+		 */
+		UpsertValuesAndConflictTarget value(Expression value);
+
+		/**
+		 * Add one or more {@link Expression values} to the {@code VALUES} list.
+		 *
+		 * @param values the values.
+		 * @return {@code this} builder.
+		 */
+		UpsertValuesAndConflictTarget values(Expression... values);
+
+		/**
+		 * Add one or more {@link Expression values} to the {@code VALUES} list.
+		 *
+		 * @param values the values.
+		 * @return {@code this} builder.
+		 */
+		UpsertValuesAndConflictTarget values(Collection<? extends Expression> values);
+	}
+
+	/**
+	 * Interface exposing methods to add {@link Expression values} and to declare the {@link ConflictTarget}.
+	 */
+	interface UpsertValuesAndConflictTarget extends UpsertValues {
+
+		/**
+		 * Declare the columns identifying an existing row, typically the primary key. All of them must be part of the
+		 * column list. By default, all other columns of the column list get updated when a matching row exists.
+		 *
+		 * @param columns the columns. Must not be empty.
+		 * @return {@code this} builder.
+		 * @see ConflictTarget
+		 */
+		BuildUpsert onConflict(Column... columns);
+
+		/**
+		 * Declare the columns identifying an existing row, typically the primary key. All of them must be part of the
+		 * column list. By default, all other columns of the column list get updated when a matching row exists.
+		 *
+		 * @param columns the columns. Must not be empty.
+		 * @return {@code this} builder.
+		 * @see ConflictTarget
+		 */
+		BuildUpsert onConflict(Collection<Column> columns);
+	}
+
+	/**
+	 * Interface exposing the {@link Upsert} build method.
+	 */
+	interface BuildUpsert {
+
+		/**
+		 * Declare the columns to update when a matching row exists, replacing the default of all columns that are not part
+		 * of the {@link ConflictTarget}. All of them must be part of the column list. An empty list leaves existing rows
+		 * unchanged.
+		 *
+		 * @param columns the columns.
+		 * @return {@code this} builder.
+		 * @see ConflictUpdate
+		 */
+		BuildUpsert update(Column... columns);
+
+		/**
+		 * Declare the columns to update when a matching row exists, replacing the default of all columns that are not part
+		 * of the {@link ConflictTarget}. All of them must be part of the column list. An empty list leaves existing rows
+		 * unchanged.
+		 *
+		 * @param columns the columns.
+		 * @return {@code this} builder.
+		 * @see ConflictUpdate
+		 */
+		BuildUpsert update(Collection<Column> columns);
+
+		/**
+		 * Build the {@link Upsert} statement.
+		 *
+		 * @return the build and immutable {@link Upsert} statement.
+		 */
+		Upsert build();
+	}
+}
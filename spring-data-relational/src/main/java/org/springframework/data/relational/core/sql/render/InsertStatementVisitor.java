@@ -39,7 +39,6 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 
 	private final IntoClauseVisitor intoClauseVisitor;
 	private final ColumnVisitor columnVisitor;
-	private final ValuesVisitor valuesVisitor;
 	private final RenderContext renderContext;
 
 	InsertStatementVisitor(RenderContext renderContext) {
@@ -49,7 +48,6 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		this.renderContext = renderContext;
 		this.intoClauseVisitor = createIntoClauseVisitor(renderContext);
 		this.columnVisitor = createColumnVisitor(renderContext);
-		this.valuesVisitor = new ValuesVisitor(renderContext, values::append);
 	}
 
 	@Override
@@ -64,7 +62,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		}
 
 		if (segment instanceof Values) {
-			return Delegation.delegateTo(this.valuesVisitor);
+			return Delegation.delegateTo(createValuesVisitor(renderContext));
 		}
 
 		return Delegation.retain();
@@ -114,6 +112,18 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 		builder.append(renderContext.getInsertRenderContext().getDefaultValuesInsertPart());
 	}
 
+	private ValuesVisitor createValuesVisitor(RenderContext context) {
+
+		return new ValuesVisitor(context, it -> {
+
+			if (values.length() != 0) {
+				values.append("), (");
+			}
+
+			values.append(it);
+		});
+	}
+
 	private ColumnVisitor createColumnVisitor(RenderContext context) {
 
 		return new ColumnVisitor(context, false, it -> {
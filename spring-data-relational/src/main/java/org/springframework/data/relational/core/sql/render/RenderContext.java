@@ -16,6 +16,8 @@
 package org.springframework.data.relational.core.sql.render;
 
 import org.springframework.data.relational.core.dialect.InsertRenderContext;
+import org.springframework.data.relational.core.dialect.UpsertRenderContext;
+import org.springframework.data.relational.core.dialect.UpsertRenderContexts;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 
 /**
@@ -52,4 +54,12 @@ public interface RenderContext {
 	 * @return the {@link InsertRenderContext}
 	 */
 	InsertRenderContext getInsertRenderContext();
+
+	/**
+	 * @return the {@link UpsertRenderContext}.
+	 * @since 3.1
+	 */
+	default UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.STANDARD;
+	}
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.dialect.InsertRenderContext;
+import org.springframework.data.relational.core.dialect.UpsertRenderContext;
+import org.springframework.data.relational.core.sql.From;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.Visitor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Select} rendered once and reusable for different limits and offsets. The SQL up to the {@code ORDER BY}
+ * clause is rendered when creating the template. The clauses following it, i.e. limit, offset and lock, are rendered
+ * by the {@link SelectRenderContext#afterOrderBy(boolean)} hook of the dialect for the limit and offset of each
+ * invocation. The rendered SQL is never modified, so values in the statement can't be mistaken for limit or offset.
+ *
+ * @since 3.1
+ */
+public final class SelectTemplate {
+
+	private final Select select;
+	private final String sql;
+	private final Function<Select, ? extends CharSequence> afterOrderBy;
+
+	private SelectTemplate(Select select, String sql, Function<Select, ? extends CharSequence> afterOrderBy) {
+
+		this.select = select;
+		this.sql = sql;
+		this.afterOrderBy = afterOrderBy;
+	}
+
+	/**
+	 * Creates a {@link SelectTemplate} for the given {@link Select}.
+	 *
+	 * @param select the statement to render. Must not be {@literal null}.
+	 * @param context the context of the dialect to render the statement with. Must not be {@literal null}.
+	 * @return the {@link SelectTemplate}. Guaranteed to be not {@literal null}.
+	 */
+	public static SelectTemplate of(Select select, RenderContext context) {
+
+		Assert.notNull(select, "Select must not be null");
+		Assert.notNull(context, "RenderContext must not be null");
+
+		TemplateRenderContext templateContext = new TemplateRenderContext(context, select);
+		String sql = SqlRenderer.create(templateContext).render(select);
+
+		return new SelectTemplate(select, sql, templateContext.getAfterOrderBy());
+	}
+
+	/**
+	 * Renders the SQL of the {@link Select} the template was created for.
+	 *
+	 * @return the SQL. Guaranteed to be not {@literal null}.
+	 */
+	public String render() {
+		return sql + afterOrderBy.apply(select);
+	}
+
+	/**
+	 * Renders the SQL of the {@link Select} the template was created for, using the given limit and offset instead of
+	 * its own.
+	 *
+	 * @param limit the limit to apply, a negative value for none.
+	 * @param offset the offset to apply, a negative value for none.
+	 * @return the SQL. Guaranteed to be not {@literal null}.
+	 */
+	public String render(long limit, long offset) {
+		return sql + afterOrderBy.apply(new LimitOffsetSelect(select, limit, offset));
+	}
+
+	/**
+	 * {@link RenderContext} that renders nothing after the {@code ORDER BY} clause of the template statement, but keeps
+	 * the hook of the dialect that renders it. Nested statements are rendered as usual.
+	 */
+	private static class TemplateRenderContext implements RenderContext, SelectRenderContext {
+
+		private final RenderContext delegate;
+		private final SelectRenderContext selectRenderContext;
+		private final Select select;
+		private @Nullable Function<Select, ? extends CharSequence> afterOrderBy;
+
+		TemplateRenderContext(RenderContext delegate, Select select) {
+
+			this.delegate = delegate;
+			this.selectRenderContext = delegate.getSelectRenderContext();
+			this.select = select;
+		}
+
+		Function<Select, ? extends CharSequence> getAfterOrderBy() {
+
+			Assert.state(afterOrderBy != null, "Statement was not rendered");
+			return afterOrderBy;
+		}
+
+		@Override
+		public RenderNamingStrategy getNamingStrategy() {
+			return delegate.getNamingStrategy();
+		}
+
+		@Override
+		public IdentifierProcessing getIdentifierProcessing() {
+			return delegate.getIdentifierProcessing();
+		}
+
+		@Override
+		public SelectRenderContext getSelectRenderContext() {
+			return this;
+		}
+
+		@Override
+		public InsertRenderContext getInsertRenderContext() {
+			return delegate.getInsertRenderContext();
+		}
+
+		@Override
+		public UpsertRenderContext getUpsertRenderContext() {
+			return delegate.getUpsertRenderContext();
+		}
+
+		@Override
+		public Function<Select, ? extends CharSequence> afterSelectList() {
+			return selectRenderContext.afterSelectList();
+		}
+
+		@Override
+		public Function<Select, ? extends CharSequence> afterFromTable() {
+			return selectRenderContext.afterFromTable();
+		}
+
+		@Override
+		public Function<Select, ? extends CharSequence> afterOrderBy(boolean hasOrderBy) {
+
+			Function<Select, ? extends CharSequence> function = selectRenderContext.afterOrderBy(hasOrderBy);
+
+			return it -> {
+
+				if (it != select) {
+					return function.apply(it);
+				}
+
+				this.afterOrderBy = function;
+				return "";
+			};
+		}
+
+		@Override
+		public String evaluateOrderByNullHandling(Sort.NullHandling nullHandling) {
+			return selectRenderContext.evaluateOrderByNullHandling(nullHandling);
+		}
+	}
+
+	/**
+	 * {@link Select} exposing a different limit and offset than the {@link Select} it delegates to.
+	 */
+	private record LimitOffsetSelect(Select delegate, long limit, long offset) implements Select {
+
+		@Override
+		public From getFrom() {
+			return delegate.getFrom();
+		}
+
+		@Override
+		public List<OrderByField> getOrderBy() {
+			return delegate.getOrderBy();
+		}
+
+		@Override
+		public OptionalLong getLimit() {
+			return limit < 0 ? OptionalLong.empty() : OptionalLong.of(limit);
+		}
+
+		@Override
+		public OptionalLong getOffset() {
+			return offset < 0 ? OptionalLong.empty() : OptionalLong.of(offset);
+		}
+
+		@Override
+		public boolean isDistinct() {
+			return delegate.isDistinct();
+		}
+
+		@Nullable
+		@Override
+		public LockMode getLockMode() {
+			return delegate.getLockMode();
+		}
+
+		@Override
+		public LockWaitPolicy getLockWaitPolicy() {
+			return delegate.getLockWaitPolicy();
+		}
+
+		@Override
+		public void visit(Visitor visitor) {
+			delegate.visit(visitor);
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+	}
+}
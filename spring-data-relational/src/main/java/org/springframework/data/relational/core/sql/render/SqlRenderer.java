@@ -19,6 +19,7 @@ import org.springframework.data.relational.core.sql.Delete;
 import org.springframework.data.relational.core.sql.Insert;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.Upsert;
 import org.springframework.util.Assert;
 
 /**
@@ -89,6 +90,17 @@ public class SqlRenderer implements Renderer {
 		return create().render(update);
 	}
 
+	/**
+	 * Renders a {@link Upsert} statement into its SQL representation.
+	 *
+	 * @param upsert must not be {@literal null}.
+	 * @return the rendered statement.
+	 * @since 3.1
+	 */
+	public static String toString(Upsert upsert) {
+		return create().render(upsert);
+	}
+
 	/**
 	 * Renders a {@link Delete} statement into its SQL representation.
 	 *
@@ -125,6 +137,21 @@ public class SqlRenderer implements Renderer {
 		return visitor.getRenderedPart().toString();
 	}
 
+	/**
+	 * Render the {@link Upsert} AST into a SQL statement.
+	 *
+	 * @return the rendered statement.
+	 * @since 3.1
+	 */
+	@Override
+	public String render(Upsert upsert) {
+
+		UpsertStatementVisitor visitor = new UpsertStatementVisitor(context);
+		upsert.visit(visitor);
+
+		return visitor.getRenderedPart().toString();
+	}
+
 	/**
 	 * Render the {@link Update} AST into a SQL statement.
 	 *
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.relational.core.dialect.UpsertRenderContext;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.ConflictTarget;
+import org.springframework.data.relational.core.sql.ConflictUpdate;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Into;
+import org.springframework.data.relational.core.sql.Upsert;
+import org.springframework.data.relational.core.sql.Values;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PartRenderer} for {@link Upsert} statements. Renders table, columns and values and leaves composing the
+ * statement to the {@link UpsertRenderContext} of the {@link RenderContext}.
+ *
+ * @author Jens Schauder
+ * @since 3.1
+ */
+class UpsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
+
+	private final StringBuilder builder = new StringBuilder();
+	private final StringBuilder into = new StringBuilder();
+	private final List<CharSequence> columns = new ArrayList<>();
+	private final List<CharSequence> values = new ArrayList<>();
+	private final List<CharSequence> conflictTarget = new ArrayList<>();
+	private final List<CharSequence> updateColumns = new ArrayList<>();
+
+	private final RenderContext renderContext;
+	private final IntoClauseVisitor intoClauseVisitor;
+
+	private ColumnVisitor columnVisitor;
+	private boolean inValues = false;
+	private @Nullable ExpressionVisitor valueVisitor;
+
+	UpsertStatementVisitor(RenderContext renderContext) {
+
+		Assert.notNull(renderContext, "renderContext must not be null");
+
+		this.renderContext = renderContext;
+		this.intoClauseVisitor = new IntoClauseVisitor(renderContext, into::append);
+		this.columnVisitor = createColumnVisitor(columns);
+	}
+
+	@Override
+	public Delegation doEnter(Visitable segment) {
+
+		if (segment instanceof Into) {
+			return Delegation.delegateTo(this.intoClauseVisitor);
+		}
+
+		if (segment instanceof Values) {
+
+			inValues = true;
+			return Delegation.retain();
+		}
+
+		if (inValues && segment instanceof Expression) {
+
+			valueVisitor = new ExpressionVisitor(renderContext);
+			return Delegation.delegateTo(valueVisitor);
+		}
+
+		if (segment instanceof ConflictTarget) {
+
+			columnVisitor = createColumnVisitor(conflictTarget);
+			return Delegation.retain();
+		}
+
+		if (segment instanceof ConflictUpdate) {
+
+			columnVisitor = createColumnVisitor(updateColumns);
+			return Delegation.retain();
+		}
+
+		if (segment instanceof Column) {
+			return Delegation.delegateTo(columnVisitor);
+		}
+
+		return Delegation.retain();
+	}
+
+	@Override
+	public Delegation doLeave(Visitable segment) {
+
+		if (valueVisitor != null) {
+
+			values.add(valueVisitor.getRenderedPart().toString());
+			valueVisitor = null;
+		}
+
+		if (segment instanceof Values) {
+			inValues = false;
+		}
+
+		if (segment instanceof Upsert) {
+
+			builder.append(renderContext.getUpsertRenderContext().render(into, columns, values, conflictTarget,
+					updateColumns));
+
+			return Delegation.leave();
+		}
+
+		return Delegation.retain();
+	}
+
+	@Override
+	public CharSequence getRenderedPart() {
+		return builder;
+	}
+
+	private ColumnVisitor createColumnVisitor(List<CharSequence> target) {
+		return new ColumnVisitor(renderContext, false, it -> target.add(it.toString()));
+	}
+}
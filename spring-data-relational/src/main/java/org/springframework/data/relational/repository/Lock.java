@@ -17,6 +17,7 @@ package org.springframework.data.relational.repository;
 
 import org.springframework.data.annotation.QueryAnnotation;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 import java.lang.annotation.*;
 
@@ -36,4 +37,10 @@ public @interface Lock {
 	 */
 	LockMode value();
 
+	/**
+	 * Defines how to deal with rows locked by other transactions, e.g. {@link LockWaitPolicy#SKIP_LOCKED} to skip them.
+	 *
+	 * @since 3.1
+	 */
+	LockWaitPolicy waitPolicy() default LockWaitPolicy.WAIT;
 }
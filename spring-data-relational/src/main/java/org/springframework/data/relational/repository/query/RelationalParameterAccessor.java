@@ -15,8 +15,10 @@
  */
 package org.springframework.data.relational.repository.query;
 
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.lang.Nullable;
 
 /**
  * Relational-specific {@link ParameterAccessor}.
@@ -34,4 +36,14 @@ public interface RelationalParameterAccessor extends ParameterAccessor {
 	 * @return the bindable parameters.
 	 */
 	Parameters<?, ?> getBindableParameters();
+
+	/**
+	 * Returns the {@link Keyset} to scroll from.
+	 *
+	 * @return the {@link Keyset} argument of the query method, the {@link Keyset#initial() initial} {@link Keyset} if the
+	 *         argument is {@literal null}. {@literal null} if the method has no {@link Keyset} parameter.
+	 * @since 3.1
+	 */
+	@Nullable
+	Keyset getKeyset();
 }
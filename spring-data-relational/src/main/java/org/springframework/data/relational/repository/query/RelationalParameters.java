@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.relational.repository.query.RelationalParameters.RelationalParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
@@ -32,17 +33,54 @@ import org.springframework.data.util.TypeInformation;
  */
 public class RelationalParameters extends Parameters<RelationalParameters, RelationalParameter> {
 
+	private final int keysetIndex;
+
 	/**
 	 * Creates a new {@link RelationalParameters} instance from the given {@link Method}.
 	 *
 	 * @param method must not be {@literal null}.
 	 */
 	public RelationalParameters(Method method) {
+
 		super(method);
+		this.keysetIndex = findKeysetIndex();
 	}
 
 	private RelationalParameters(List<RelationalParameter> parameters) {
+
 		super(parameters);
+		this.keysetIndex = findKeysetIndex();
+	}
+
+	private int findKeysetIndex() {
+
+		for (RelationalParameter parameter : this) {
+			if (parameter.isKeysetParameter()) {
+				return parameter.getIndex();
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns whether the method the parameters were created for scrolls through its results by {@link Keyset}.
+	 *
+	 * @return {@literal true} if the method has a {@link Keyset} parameter.
+	 * @since 3.1
+	 */
+	public boolean hasKeysetParameter() {
+		return keysetIndex != -1;
+	}
+
+	/**
+	 * Returns the index of the {@link Keyset} parameter.
+	 *
+	 * @return the index of the {@link Keyset} parameter or {@literal -1} if there is none.
+	 * @since 3.1
+	 */
+	public int getKeysetIndex() {
+		return keysetIndex;
 	}
 
 	@Override
@@ -75,6 +113,22 @@ public class RelationalParameters extends Parameters<RelationalParameters, Relat
 			this.parameter = parameter;
 		}
 
+		/**
+		 * {@link Keyset} parameters are special parameters, that don't get bound to the query.
+		 */
+		@Override
+		public boolean isSpecialParameter() {
+			return super.isSpecialParameter() || isKeysetParameter();
+		}
+
+		/**
+		 * @return {@literal true} if this parameter defines the {@link Keyset} to scroll from.
+		 * @since 3.1
+		 */
+		public boolean isKeysetParameter() {
+			return Keyset.class.equals(getType());
+		}
+
 		public ResolvableType getResolvableType() {
 			return getTypeInformation().toTypeDescriptor().getResolvableType();
 		}
@@ -18,9 +18,11 @@ package org.springframework.data.relational.repository.query;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.lang.Nullable;
 
 /**
  * Relational-specific {@link ParametersParameterAccessor}.
@@ -53,4 +55,16 @@ public class RelationalParametersParameterAccessor extends ParametersParameterAc
 	public Parameters<?, ?> getBindableParameters() {
 		return getParameters().getBindableParameters();
 	}
+
+	@Nullable
+	@Override
+	public Keyset getKeyset() {
+
+		if (!(getParameters() instanceof RelationalParameters parameters) || !parameters.hasKeysetParameter()) {
+			return null;
+		}
+
+		Object keyset = getValues()[parameters.getKeysetIndex()];
+		return keyset instanceof Keyset ? (Keyset) keyset : Keyset.initial();
+	}
 }
@@ -20,13 +20,16 @@ import static org.assertj.core.api.Assertions.*;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Unit tests for the {@link RelationalEntityUpdateWriter}
@@ -59,6 +62,129 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	void onlyChangedListElementsGetWritten() {
+
+		ListEntity previous = new ListEntity(SOME_ENTITY_ID);
+		previous.elements.add(new NoIdElement("unchanged"));
+		previous.elements.add(new NoIdElement("changed"));
+		previous.elements.add(new NoIdElement("removed"));
+
+		ListEntity entity = new ListEntity(SOME_ENTITY_ID);
+		entity.elements.add(new NoIdElement("unchanged"));
+		entity.elements.add(new NoIdElement("changed!"));
+
+		RootAggregateChange<ListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath, this::extractQualifier) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, "", null), //
+						tuple(DbAction.DeleteEntity.class, "elements", 2), //
+						tuple(DbAction.Update.class, "elements", 1) //
+				);
+	}
+
+	@Test
+	void setElementsGetMatchedById() {
+
+		SetEntity previous = new SetEntity(SOME_ENTITY_ID);
+		previous.elements.add(new Element(1L, "unchanged"));
+		previous.elements.add(new Element(2L, "changed"));
+		previous.elements.add(new Element(3L, "removed"));
+
+		SetEntity entity = new SetEntity(SOME_ENTITY_ID);
+		entity.elements.add(new Element(1L, "unchanged"));
+		entity.elements.add(new Element(2L, "changed!"));
+		entity.elements.add(new Element(null, "new"));
+
+		RootAggregateChange<SetEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, this::extractName) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, null), //
+						tuple(DbAction.DeleteEntity.class, "removed"), //
+						tuple(DbAction.Update.class, "changed!"), //
+						tuple(DbAction.Insert.class, "new") //
+				);
+	}
+
+	@Test
+	void movedListElementsWithIdGetUpdated() {
+
+		ListWithIdEntity previous = new ListWithIdEntity(SOME_ENTITY_ID);
+		previous.elements.add(new Element(1L, "removed"));
+		previous.elements.add(new Element(2L, "moved"));
+
+		ListWithIdEntity entity = new ListWithIdEntity(SOME_ENTITY_ID);
+		entity.elements.add(new Element(2L, "moved"));
+
+		RootAggregateChange<ListWithIdEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, this::extractName, this::extractQualifier) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, null, null), //
+						tuple(DbAction.DeleteEntity.class, "removed", 0), //
+						tuple(DbAction.Update.class, "moved", 0) //
+				);
+	}
+
+	@Test
+	void pathsWithNestedEntitiesGetRewritten() {
+
+		NestedEntity previous = new NestedEntity(SOME_ENTITY_ID);
+		previous.single = new SingleReferenceEntity(1L);
+
+		NestedEntity entity = new NestedEntity(SOME_ENTITY_ID);
+		entity.single = new SingleReferenceEntity(1L);
+
+		RootAggregateChange<NestedEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<>(context, previous).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ""), //
+						tuple(DbAction.Delete.class, "single.other"), //
+						tuple(DbAction.Delete.class, "single"), //
+						tuple(DbAction.Insert.class, "single") //
+				);
+	}
+
+	@Test
+	void previousStateOfOtherAggregateIsRejected() {
+
+		ListEntity entity = new ListEntity(SOME_ENTITY_ID);
+		RootAggregateChange<ListEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new RelationalEntityUpdateWriter<>(context,
+				new ListEntity(SOME_ENTITY_ID + 1)).write(entity, aggregateChange));
+	}
+
+	@Nullable
+	private Object extractQualifier(DbAction<?> action) {
+
+		return action instanceof DbAction.WithDependingOn<?> withDependingOn && withDependingOn.getQualifier() != null
+				? withDependingOn.getQualifier().getSecond()
+				: null;
+	}
+
+	@Nullable
+	private String extractName(DbAction<?> action) {
+		return action instanceof DbAction.WithDependingOn<?> withDependingOn
+				? ((Element) withDependingOn.getEntity()).name
+				: null;
+	}
+
 	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -75,9 +201,48 @@ public class RelationalEntityUpdateWriterUnitTests {
 		String name;
 	}
 
-	@RequiredArgsConstructor
 	private static class Element {
+
+		@Id Long id;
+		String name;
+
+		Element(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@RequiredArgsConstructor
+	static class ListEntity {
+
 		@Id final Long id;
+		List<NoIdElement> elements = new ArrayList<>();
+	}
+
+	@RequiredArgsConstructor
+	static class ListWithIdEntity {
+
+		@Id final Long id;
+		List<Element> elements = new ArrayList<>();
+	}
+
+	@RequiredArgsConstructor
+	static class SetEntity {
+
+		@Id final Long id;
+		Set<Element> elements = new HashSet<>();
+	}
+
+	@RequiredArgsConstructor
+	static class NestedEntity {
+
+		@Id final Long id;
+		SingleReferenceEntity single;
+	}
+
+	@RequiredArgsConstructor
+	static class NoIdElement {
+		final String name;
 	}
 
 }
@@ -63,6 +63,84 @@ class SaveBatchingAggregateChangeTest {
 			assertThat(extractActions(change)).containsExactly(rootUpdate);
 		}
 
+		@Test
+		void yieldsMultipleUpdateRoot_asBatchUpdateRootAction() {
+
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(new Root(1L, null), null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(new Root(2L, null), null);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(rootChange(root1Update));
+			change.add(rootChange(root2Update));
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass).containsExactly(DbAction.BatchUpdateRoot.class);
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpdateRoot.class).getActions())
+					.containsExactly(root1Update, root2Update);
+		}
+
+		@Test
+		void yieldsMultipleUpdateRoot_followedByInsertRoot_inOrderOfAddition() {
+
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(new Root(1L, null), null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(new Root(2L, null), null);
+			DbAction.InsertRoot<Root> root3Insert = new DbAction.InsertRoot<>(new Root(null, null), IdValueSource.GENERATED);
+			DbAction.UpdateRoot<Root> root4Update = new DbAction.UpdateRoot<>(new Root(4L, null), null);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(rootChange(root1Update));
+			change.add(rootChange(root2Update));
+			change.add(rootChange(root3Insert));
+			change.add(rootChange(root4Update));
+
+			assertThat(extractActions(change)).extracting(DbAction::getClass).containsExactly( //
+					DbAction.BatchUpdateRoot.class, //
+					DbAction.InsertRoot.class, //
+					DbAction.UpdateRoot.class);
+		}
+
+		@Test
+		void yieldsUpdateRoot_withAndWithoutVersion_asSeparateActions() {
+
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(new Root(1L, null), null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(new Root(2L, null), null);
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(new Root(3L, null), 1L);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(rootChange(root1Update));
+			change.add(rootChange(root2Update));
+			change.add(rootChange(root3Update));
+
+			assertThat(extractActions(change)).extracting(DbAction::getClass)
+					.containsExactly(DbAction.BatchUpdateRoot.class, DbAction.UpdateRoot.class);
+		}
+
+		@Test
+		void yieldsMultipleUpsertRoot_asBatchUpsertRootAction_separatedFromUpdates() {
+
+			DbAction.UpsertRoot<Root> root1Upsert = new DbAction.UpsertRoot<>(new Root(1L, null));
+			DbAction.UpsertRoot<Root> root2Upsert = new DbAction.UpsertRoot<>(new Root(2L, null));
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(new Root(3L, null), null);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(rootChange(root1Upsert));
+			change.add(rootChange(root2Upsert));
+			change.add(rootChange(root3Update));
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass).containsExactly(DbAction.BatchUpsertRoot.class,
+					DbAction.UpdateRoot.class);
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpsertRoot.class).getActions())
+					.containsExactly(root1Upsert, root2Upsert);
+		}
+
+		private RootAggregateChange<Root> rootChange(DbAction.WithRoot<Root> rootAction) {
+
+			RootAggregateChange<Root> aggregateChange = MutableAggregateChange.forSave(rootAction.getEntity());
+			aggregateChange.setRootAction(rootAction);
+			return aggregateChange;
+		}
+
 		@Test // GH-537
 		void yieldsSingleInsertRoot_followedByUpdateRoot_asIndividualActions() {
 
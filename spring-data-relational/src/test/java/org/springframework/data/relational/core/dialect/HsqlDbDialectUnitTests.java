@@ -16,11 +16,14 @@
 package org.springframework.data.relational.core.dialect;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -82,4 +85,14 @@ public class HsqlDbDialectUnitTests {
 		assertThat(limit.getLock(lockOptions)).isEqualTo("FOR UPDATE");
 		assertThat(limit.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	void shouldRejectLockWaitPolicy() {
+
+		LockClause lock = HsqlDbDialect.INSTANCE.lock();
+		From from = mock(From.class);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(
+				() -> lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED, from)));
+	}
 }
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -83,4 +84,16 @@ public class MySqlDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("LOCK IN SHARE MODE");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	void shouldRenderLockWaitPolicy() {
+
+		LockClause lock = MySqlDialect.INSTANCE.lock();
+		From from = mock(From.class);
+
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED, from)))
+				.isEqualTo("FOR UPDATE SKIP LOCKED");
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, LockWaitPolicy.NOWAIT, from)))
+				.isEqualTo("FOR SHARE NOWAIT");
+	}
 }
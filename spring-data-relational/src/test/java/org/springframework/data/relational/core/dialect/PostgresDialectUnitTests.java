@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 import org.springframework.data.relational.core.sql.Table;
 
 import java.util.Collections;
@@ -91,4 +92,17 @@ public class PostgresDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("FOR SHARE OF dummy_table");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	void shouldRenderLockWaitPolicy() {
+
+		LockClause lock = PostgresDialect.INSTANCE.lock();
+		From from = mock(From.class);
+		when(from.getTables()).thenReturn(Collections.singletonList(Table.create("dummy_table")));
+
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED, from)))
+				.isEqualTo("FOR UPDATE OF dummy_table SKIP LOCKED");
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, LockWaitPolicy.NOWAIT, from)))
+				.isEqualTo("FOR SHARE OF dummy_table NOWAIT");
+	}
 }
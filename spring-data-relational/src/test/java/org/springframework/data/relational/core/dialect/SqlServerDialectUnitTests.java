@@ -20,9 +20,11 @@ import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
 
 /**
  * Unit tests for {@link SqlServerDialect}.
@@ -76,4 +78,26 @@ public class SqlServerDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("WITH (HOLDLOCK, ROWLOCK)");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_FROM_TABLE);
 	}
+
+	@Test
+	void shouldRenderLockWaitPolicyAsTableHint() {
+
+		LockClause lock = SqlServerDialect.INSTANCE.lock();
+		From from = mock(From.class);
+
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED, from)))
+				.isEqualTo("WITH (UPDLOCK, ROWLOCK, READPAST)");
+		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, LockWaitPolicy.NOWAIT, from)))
+				.isEqualTo("WITH (HOLDLOCK, ROWLOCK, NOWAIT)");
+	}
+
+	@Test
+	void shouldRejectSkipLockedForPessimisticRead() {
+
+		LockClause lock = SqlServerDialect.INSTANCE.lock();
+		From from = mock(From.class);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(
+				() -> lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, LockWaitPolicy.SKIP_LOCKED, from)));
+	}
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWaitPolicy;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Unit tests for {@link KeysetScrollDelegate}.
+ *
+ * @author Jens Schauder
+ */
+class KeysetScrollDelegateUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Person.class);
+
+	@Test
+	void keysetSortEndsWithId() {
+
+		assertThat(KeysetScrollDelegate.getKeysetSort(Sort.unsorted(), entity)).isEqualTo(Sort.by("id"));
+		assertThat(KeysetScrollDelegate.getKeysetSort(Sort.by("lastName").descending(), entity))
+				.isEqualTo(Sort.by(Sort.Order.desc("lastName"), Sort.Order.asc("id")));
+		assertThat(KeysetScrollDelegate.getKeysetSort(Sort.by("id").descending(), entity))
+				.isEqualTo(Sort.by("id").descending());
+	}
+
+	@Test
+	void initialKeysetCreatesEmptyCriteria() {
+		assertThat(KeysetScrollDelegate.createCriteria(Sort.by("id"), Keyset.initial()).isEmpty()).isTrue();
+	}
+
+	@Test
+	void createsCriteriaForSingleSortProperty() {
+
+		Criteria criteria = KeysetScrollDelegate.createCriteria(Sort.by("id"), keyset("id", 23));
+
+		assertThat(criteria).hasToString("id > 23");
+	}
+
+	@Test
+	void createsCriteriaWithLeadingRangeForMultipleSortProperties() {
+
+		Sort sort = Sort.by(Sort.Order.desc("lastName"), Sort.Order.asc("firstName"), Sort.Order.asc("id"));
+
+		Criteria criteria = KeysetScrollDelegate.createCriteria(sort,
+				keyset("lastName", "Doe", "firstName", "Jane", "id", 23));
+
+		assertThat(criteria).hasToString("lastName <= 'Doe' AND (lastName < 'Doe' OR (lastName = 'Doe' AND firstName > 'Jane') "
+				+ "OR (lastName = 'Doe' AND firstName = 'Jane' AND id > 23))");
+	}
+
+	@Test
+	void rejectsKeysetWithoutValueForSortProperty() {
+
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> KeysetScrollDelegate.createCriteria(Sort.by("lastName", "id"), keyset("lastName", "Doe")));
+	}
+
+	@Test
+	void nestsCriteriaOfQuery() {
+
+		Criteria queryCriteria = Criteria.where("lastName").is("Doe").or("firstName").is("Jane");
+
+		Criteria criteria = KeysetScrollDelegate.combine(queryCriteria,
+				KeysetScrollDelegate.createCriteria(Sort.by("id"), keyset("id", 23)));
+
+		assertThat(criteria).hasToString("(lastName = 'Doe' OR firstName = 'Jane') AND (id > 23)");
+	}
+
+	@Test
+	void createsQueryReadingOneMoreRowThanTheLimit() {
+
+		Query query = Query.query(Criteria.where("lastName").is("Doe")).sort(Sort.by("firstName")).limit(10).offset(20);
+		Sort keysetSort = KeysetScrollDelegate.getKeysetSort(query.getSort(), entity);
+
+		Query keysetQuery = KeysetScrollDelegate.createQuery(query, keyset("firstName", "Jane", "id", 23), keysetSort);
+
+		assertThat(keysetQuery.getLimit()).isEqualTo(11);
+		assertThat(keysetQuery.getOffset()).isEqualTo(-1);
+		assertThat(keysetQuery.getSort()).isEqualTo(Sort.by("firstName", "id"));
+		assertThat(keysetQuery.getCriteria()).isPresent();
+	}
+
+	@Test
+	void createsQueryKeepingLockAndFetchSize() {
+
+		Query query = Query.empty().sort(Sort.by("firstName")).limit(10).columns("firstName")
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWaitPolicy.SKIP_LOCKED).withFetchSize(50);
+		Sort keysetSort = KeysetScrollDelegate.getKeysetSort(query.getSort(), entity);
+
+		Query keysetQuery = KeysetScrollDelegate.createQuery(query, keyset("firstName", "Jane", "id", 23), keysetSort);
+
+		assertThat(keysetQuery.getLockMode()).isEqualTo(LockMode.PESSIMISTIC_WRITE);
+		assertThat(keysetQuery.getLockWaitPolicy()).isEqualTo(LockWaitPolicy.SKIP_LOCKED);
+		assertThat(keysetQuery.getFetchSize()).isEqualTo(50);
+		assertThat(keysetQuery.getColumns()).containsExactly(SqlIdentifier.unquoted("firstName"));
+	}
+
+	@Test
+	void createsWindowWithKeysetOfLastElement() {
+
+		Person jane = new Person(1L, "Jane", "Doe");
+		Person john = new Person(2L, "John", "Doe");
+		Person max = new Person(3L, "Max", "Mustermann");
+		Sort keysetSort = Sort.by("lastName", "id");
+
+		KeysetWindow<Person> window = KeysetScrollDelegate.createWindow(List.of(jane, john, max), 2, keysetSort,
+				Keyset.initial(), entity, context);
+
+		assertThat(window.getContent()).containsExactly(jane, john);
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.nextKeyset()).isEqualTo(keyset("lastName", "Doe", "id", 2L));
+	}
+
+	@Test
+	void createsLastWindow() {
+
+		Person jane = new Person(1L, "Jane", "Doe");
+
+		KeysetWindow<Person> window = KeysetScrollDelegate.createWindow(List.of(jane), 2, Sort.by("id"), Keyset.initial(),
+				entity, context);
+
+		assertThat(window.getContent()).containsExactly(jane);
+		assertThat(window.hasNext()).isFalse();
+		assertThat(window.nextKeyset()).isEqualTo(keyset("id", 1L));
+	}
+
+	@Test
+	void emptyWindowKeepsKeyset() {
+
+		Keyset keyset = keyset("id", 1L);
+
+		KeysetWindow<Person> window = KeysetScrollDelegate.createWindow(List.of(), 2, Sort.by("id"), keyset, entity,
+				context);
+
+		assertThat(window.isEmpty()).isTrue();
+		assertThat(window.hasNext()).isFalse();
+		assertThat(window.nextKeyset()).isEqualTo(keyset);
+	}
+
+	@Test
+	void obtainsKeysetFromProjection() {
+
+		KeysetWindow<Name> window = KeysetScrollDelegate.createWindow(List.of(new Name(5L, "Doe")), 2,
+				Sort.by("lastName", "id"), Keyset.initial(), entity, context);
+
+		assertThat(window.nextKeyset()).isEqualTo(keyset("lastName", "Doe", "id", 5L));
+	}
+
+	private static Keyset keyset(Object... keysAndValues) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			keys.put((String) keysAndValues[i], keysAndValues[i + 1]);
+		}
+
+		return Keyset.of(keys);
+	}
+
+	record Person(@Id Long id, String firstName, String lastName) {
+	}
+
+	record Name(Long id, String lastName) {
+	}
+}
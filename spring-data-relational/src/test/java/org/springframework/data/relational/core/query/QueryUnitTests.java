@@ -62,4 +62,22 @@ public class QueryUnitTests {
 				.extracting(Sort.Order::getProperty) //
 				.containsExactly("alpha");
 	}
+
+	@Test
+	void fetchSizeIsRetainedByFurtherModifications() {
+
+		Query query = Query.empty() //
+				.withFetchSize(100) //
+				.sort(Sort.by("alpha")) //
+				.with(PageRequest.of(2, 20)) //
+				.columns("alpha");
+
+		assertThat(query.getFetchSize()).isEqualTo(100);
+		assertThat(Query.empty().getFetchSize()).isZero();
+	}
+
+	@Test
+	void rejectsNegativeFetchSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> Query.empty().withFetchSize(-1));
+	}
 }
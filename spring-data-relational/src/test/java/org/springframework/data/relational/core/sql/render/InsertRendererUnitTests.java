@@ -71,4 +71,19 @@ public class InsertRendererUnitTests {
 		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar VALUES (DEFAULT)");
 	}
 
+	@Test
+	void shouldRenderMultiRowInsert() {
+
+		Table bar = SQL.table("bar");
+
+		Insert insert = Insert.builder().into(bar).columns(bar.columns("foo", "baz")) //
+				.values(SQL.bindMarker(":foo0"), SQL.bindMarker(":baz0")) //
+				.nextRow() //
+				.values(SQL.bindMarker(":foo1"), SQL.bindMarker(":baz1")) //
+				.build();
+
+		assertThat(SqlRenderer.toString(insert))
+				.isEqualTo("INSERT INTO bar (foo, baz) VALUES (:foo0, :baz0), (:foo1, :baz1)");
+	}
+
 }
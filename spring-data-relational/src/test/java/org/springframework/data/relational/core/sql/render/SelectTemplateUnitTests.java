@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+
+/**
+ * Unit tests for {@link SelectTemplate}.
+ */
+class SelectTemplateUnitTests {
+
+	Table table = Table.create("foo");
+
+	@Test
+	void rendersSelectForOtherLimitAndOffset() {
+
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10).offset(20)
+				.where(table.column("id").isEqualTo(SQL.literalOf(2_123_456_789))).orderBy(table.column("id"))
+				.lock(LockMode.PESSIMISTIC_WRITE).build();
+		Select otherPage = StatementBuilder.select(table.asterisk()).from(table).limit(5).offset(15)
+				.where(table.column("id").isEqualTo(SQL.literalOf(2_123_456_789))).orderBy(table.column("id"))
+				.lock(LockMode.PESSIMISTIC_WRITE).build();
+
+		SelectTemplate template = SelectTemplate.of(select, renderContext(PostgresDialect.INSTANCE));
+
+		assertThat(template.render()).isEqualTo(render(select, PostgresDialect.INSTANCE));
+		assertThat(template.render(5, 15)).isEqualTo(render(otherPage, PostgresDialect.INSTANCE))
+				.contains("2123456789");
+	}
+
+	@Test
+	void rendersPaginationOfDialectRequiringOrderBy() {
+
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10).offset(0).build();
+		Select otherPage = StatementBuilder.select(table.asterisk()).from(table).limit(5).offset(15).build();
+
+		SelectTemplate template = SelectTemplate.of(select, renderContext(SqlServerDialect.INSTANCE));
+
+		assertThat(template.render(5, 15)).isEqualTo(render(otherPage, SqlServerDialect.INSTANCE));
+	}
+
+	@Test
+	void keepsClausesOfNestedSelects() {
+
+		Table other = Table.create("other");
+		Select subselect = StatementBuilder.select(other.column("id")).from(other).limit(1).build();
+		Select select = StatementBuilder.select(table.asterisk()).from(table).limit(10)
+				.where(Conditions.in(table.column("id"), subselect)).build();
+		Select otherPage = StatementBuilder.select(table.asterisk()).from(table).limit(5)
+				.where(Conditions.in(table.column("id"), subselect)).build();
+
+		SelectTemplate template = SelectTemplate.of(select, renderContext(PostgresDialect.INSTANCE));
+
+		assertThat(template.render(5, -1)).isEqualTo(render(otherPage, PostgresDialect.INSTANCE));
+	}
+
+	private static RenderContext renderContext(Dialect dialect) {
+		return new RenderContextFactory(dialect).createRenderContext();
+	}
+
+	private static String render(Select select, Dialect dialect) {
+		return SqlRenderer.create(renderContext(dialect)).render(select);
+	}
+}
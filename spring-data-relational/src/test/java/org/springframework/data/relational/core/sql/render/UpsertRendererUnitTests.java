@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.MariaDbDialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Upsert;
+
+/**
+ * Unit tests for rendering {@link Upsert} statements.
+ *
+ * @author Jens Schauder
+ */
+class UpsertRendererUnitTests {
+
+	Table table = SQL.table("person");
+	Column id = table.column("id");
+	Column name = table.column("name");
+	Column created = table.column("created");
+
+	Upsert upsert = StatementBuilder.upsert(table) //
+			.columns(id, name) //
+			.values(SQL.bindMarker(":id"), SQL.bindMarker(":name")) //
+			.onConflict(id) //
+			.build();
+
+	@Test
+	void rendersStandardMerge() {
+
+		assertThat(SqlRenderer.toString(upsert)).isEqualTo("MERGE INTO person tgt" //
+				+ " USING (VALUES (:id, :name)) AS src (id, name) ON (tgt.id = src.id)" //
+				+ " WHEN MATCHED THEN UPDATE SET name = src.name" //
+				+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void rendersPostgresInsertOnConflict() {
+
+		assertThat(render(PostgresDialect.INSTANCE, upsert)).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+	}
+
+	@Test
+	void rendersPostgresDoNothingWithoutColumnsToUpdate() {
+
+		Upsert upsert = StatementBuilder.upsert(table).column(id).value(SQL.bindMarker(":id")).onConflict(id).build();
+
+		assertThat(render(PostgresDialect.INSTANCE, upsert))
+				.isEqualTo("INSERT INTO person (id) VALUES (:id) ON CONFLICT (id) DO NOTHING");
+	}
+
+	@Test
+	void rendersMySqlOnDuplicateKeyUpdate() {
+
+		assertThat(render(MySqlDialect.INSTANCE, upsert)).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) AS src ON DUPLICATE KEY UPDATE name = src.name");
+	}
+
+	@Test
+	void rendersMariaDbOnDuplicateKeyUpdateWithValuesFunction() {
+
+		Dialect dialect = new MariaDbDialect(MySqlDialect.MYSQL_IDENTIFIER_PROCESSING);
+
+		assertThat(render(dialect, upsert)).isEqualTo(
+				"INSERT INTO person (id, name) VALUES (:id, :name) ON DUPLICATE KEY UPDATE name = VALUES(name)");
+	}
+
+	@Test
+	void rendersH2MergeKey() {
+
+		assertThat(render(H2Dialect.INSTANCE, upsert))
+				.isEqualTo("MERGE INTO person (id, name) KEY (id) VALUES (:id, :name)");
+	}
+
+	@Test
+	void rendersH2StandardMergeWhenOnlySomeColumnsGetUpdated() {
+
+		Upsert upsert = StatementBuilder.upsert(table) //
+				.columns(id, name, created) //
+				.values(SQL.bindMarker(":id"), SQL.bindMarker(":name"), SQL.bindMarker(":created")) //
+				.onConflict(id) //
+				.update(name) //
+				.build();
+
+		assertThat(render(H2Dialect.INSTANCE, upsert)).isEqualTo("MERGE INTO person tgt" //
+				+ " USING (VALUES (:id, :name, :created)) AS src (id, name, created) ON (tgt.id = src.id)" //
+				+ " WHEN MATCHED THEN UPDATE SET name = src.name" //
+				+ " WHEN NOT MATCHED THEN INSERT (id, name, created) VALUES (src.id, src.name, src.created)");
+	}
+
+	@Test
+	void rendersSqlServerMerge() {
+
+		assertThat(render(SqlServerDialect.INSTANCE, upsert)).startsWith("MERGE INTO person WITH (HOLDLOCK) tgt USING (VALUES")
+				.endsWith("VALUES (src.id, src.name);");
+	}
+
+	@Test
+	void rendersOracleMergeFromDual() {
+
+		assertThat(render(OracleDialect.INSTANCE, upsert)).isEqualTo("MERGE INTO person tgt" //
+				+ " USING (SELECT :id id, :name name FROM DUAL) src ON (tgt.id = src.id)" //
+				+ " WHEN MATCHED THEN UPDATE SET name = src.name" //
+				+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (src.id, src.name)");
+	}
+
+	@Test
+	void rendersCompositeConflictTarget() {
+
+		Upsert upsert = StatementBuilder.upsert(table) //
+				.columns(id, name, created) //
+				.values(SQL.bindMarker(":id"), SQL.bindMarker(":name"), SQL.bindMarker(":created")) //
+				.onConflict(id, name) //
+				.build();
+
+		assertThat(SqlRenderer.toString(upsert)).contains("ON (tgt.id = src.id AND tgt.name = src.name)")
+				.contains("UPDATE SET created = src.created");
+	}
+
+	@Test
+	void rejectsConflictTargetNotPartOfTheColumns() {
+
+		assertThatIllegalStateException().isThrownBy(() -> StatementBuilder.upsert(table) //
+				.column(name) //
+				.value(SQL.bindMarker(":name")) //
+				.onConflict(id) //
+				.build());
+	}
+
+	@Test
+	void rejectsMissingValues() {
+
+		assertThatIllegalStateException().isThrownBy(() -> StatementBuilder.upsert(table) //
+				.columns(id, name) //
+				.value(SQL.bindMarker(":id")) //
+				.onConflict(id) //
+				.build());
+	}
+
+	private static String render(Dialect dialect, Upsert upsert) {
+		return SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext()).render(upsert);
+	}
+}